@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+# =====================================================================================
+# Startzeit-Benchmark: Zeit vom Prozessstart bis zur ersten erfolgreichen Antwort
+# (time-to-first-request) und Speicherbedarf (RSS) danach für verschiedene Startvarianten.
+#
+# Voraussetzungen:
+#   - PostgreSQL läuft (backend/docker/docker-compose.yml)
+#   - DB_USERNAME, DB_PASSWORD und JWT_SECRET sind gesetzt
+#   - ./mvnw -Pfast-start package wurde ausgeführt
+#   - für die Variante native: ./mvnw -Pnative native:compile -DskipTests (GraalVM)
+#
+# Aufruf (im Verzeichnis backend):
+#   scripts/startup-time.sh [anzahl-läufe] [varianten...]
+#   scripts/startup-time.sh 5 plain lazy aot aot-cds native
+#
+# Varianten:
+#   plain    Fat-Jar ohne Optimierungen
+#   lazy     Fat-Jar mit Profil fast-start (verzögerte Initialisierung)
+#   aot      entpacktes Jar, Profil fast-start, Spring AOT
+#   aot-cds  wie aot, zusätzlich mit AppCDS-Archiv
+#   native   GraalVM Native Image (target/backend)
+# =====================================================================================
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+shift || true
+if [ "$#" -gt 0 ]; then
+    VARIANTS=("$@")
+else
+    VARIANTS=(plain lazy aot aot-cds)
+fi
+
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/api/events/filter?status=open"
+JAR="target/backend-0.0.1-SNAPSHOT.jar"
+FAST_START_DIR="target/fast-start"
+
+: "${DB_USERNAME:?DB_USERNAME muss gesetzt sein}"
+: "${DB_PASSWORD:?DB_PASSWORD muss gesetzt sein}"
+: "${JWT_SECRET:?JWT_SECRET muss gesetzt sein}"
+
+command_for() {
+    case "$1" in
+        plain)   echo "java -jar ${JAR}" ;;
+        lazy)    echo "java -Dspring.profiles.active=fast-start -jar ${JAR}" ;;
+        aot)     echo "java -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start -jar ${FAST_START_DIR}/backend-0.0.1-SNAPSHOT.jar" ;;
+        aot-cds) echo "java -XX:SharedArchiveFile=${FAST_START_DIR}/application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start -jar ${FAST_START_DIR}/backend-0.0.1-SNAPSHOT.jar" ;;
+        native)  echo "target/backend" ;;
+        *)       echo "Unbekannte Variante: $1" >&2; exit 1 ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Startet die Anwendung, wartet auf die erste Antwort und gibt Dauer (ms) und RSS (MB) aus
+measure() {
+    local command="$1" start pid elapsed rss
+    start=$(now_ms)
+    $command --server.port="${PORT}" > /tmp/startup-time.log 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "Anwendung beendet, siehe /tmp/startup-time.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(( $(awk '/^VmRSS:/ { print $2 }' "/proc/${pid}/status") / 1024 ))
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed} ${rss}"
+}
+
+median() {
+    local sorted
+    sorted=($(printf "%s\n" "$@" | sort -n))
+    echo "${sorted[$(( $# / 2 ))]}"
+}
+
+printf "%-10s %10s %10s %10s %10s\n" "Variante" "Median ms" "Min ms" "Max ms" "RSS MB"
+for variant in "${VARIANTS[@]}"; do
+    command=$(command_for "${variant}")
+    times=()
+    rss=()
+    for _ in $(seq "${RUNS}"); do
+        read -r elapsed memory <<< "$(measure "${command}")"
+        times+=("${elapsed}")
+        rss+=("${memory}")
+    done
+    sorted=($(printf "%s\n" "${times[@]}" | sort -n))
+    printf "%-10s %10s %10s %10s %10s\n" "${variant}" "$(median "${times[@]}")" "${sorted[0]}" \
+        "${sorted[$(( RUNS - 1 ))]}" "$(median "${rss[@]}")"
+done
@@ -1,9 +1,12 @@
 package com.wiss.backend;
 
+import com.wiss.backend.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class EonetBackendApplication {
 
 	public static void main(String[] args) {
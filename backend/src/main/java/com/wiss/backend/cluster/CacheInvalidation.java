@@ -0,0 +1,58 @@
+package com.wiss.backend.cluster;
+
+/**
+ * <h2>
+ *     Invalidierungsnachricht zwischen Knoten
+ * </h2>
+ *
+ * <p>
+ *     Wird über den {@link ClusterTransport} an alle Knoten verteilt. Der Schlüssel
+ *     wird als Text übertragen; jeder Cache wandelt ihn beim Empfang in seinen eigenen
+ *     Schlüsseltyp um (siehe {@link CacheInvalidationBroadcaster#register}).
+ * </p>
+ *
+ * <p>
+ *     Auf der Leitung hat die Nachricht die Form {@code origin|cache|key}. Der Schlüssel
+ *     steht am Ende und darf daher selbst {@code |} enthalten; ein leerer Schlüssel steht
+ *     für den ganzen Cache.
+ * </p>
+ *
+ * @param origin ID des sendenden Knotens
+ * @param cache  Name des Caches
+ * @param key    Schlüssel als Text oder {@code null} für alle Einträge
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see CacheInvalidationBroadcaster
+ */
+public record CacheInvalidation(String origin, String cache, String key) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return Textform für den Transport
+     */
+    public String toPayload() {
+        return origin + SEPARATOR + cache + SEPARATOR + (key == null ? "" : key);
+    }
+
+    /**
+     * Liest eine Nachricht aus ihrer Textform.
+     *
+     * @param payload Textform aus {@link #toPayload()}
+     * @return Nachricht
+     * @throws IllegalArgumentException bei ungültigem Format
+     */
+    public static CacheInvalidation fromPayload(String payload) {
+        int first = payload.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("Ungültige Invalidierung: " + payload);
+        }
+        String key = payload.substring(second + 1);
+        return new CacheInvalidation(payload.substring(0, first), payload.substring(first + 1, second),
+                key.isEmpty() ? null : key);
+    }
+}
@@ -0,0 +1,174 @@
+package com.wiss.backend.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * <h2>
+ *     Verteilte Invalidierung prozesslokaler Caches
+ * </h2>
+ *
+ * <p>
+ *     Laufen mehrere Instanzen des Backends hinter einem Load Balancer, hält jede ihre
+ *     eigenen Caches. Nach einer Änderung meldet der schreibende Knoten den betroffenen
+ *     Schlüssel über den {@link ClusterTransport}; alle anderen Knoten entfernen ihn
+ *     aus ihrem Cache und laden ihn beim nächsten Zugriff neu.
+ * </p>
+ *
+ * <h3>Verwendung:</h3>
+ * <ul>
+ *     <li>Caches melden sich mit {@link #register(String, Target)} unter ihrem Namen an</li>
+ *     <li>{@link #invalidate(String, Object)} entfernt den Schlüssel lokal und auf allen
+ *         anderen Knoten</li>
+ *     <li>{@link #invalidateOthers(String, Object)} benachrichtigt nur die anderen Knoten,
+ *         z. B. wenn der lokale Cache die Änderung bereits selbst übernommen hat</li>
+ *     <li>Meldet der Transport eine Lücke, werden alle angemeldeten Caches geleert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see CacheInvalidationListener
+ * @see ClusterConfig
+ */
+@Component
+public class CacheInvalidationBroadcaster {
+
+    /**
+     * Ein Cache, der über den Broadcaster invalidiert werden kann.
+     */
+    public interface Target {
+
+        /**
+         * @param key Schlüssel in Textform
+         */
+        void evict(String key);
+
+        /**
+         * Entfernt alle Einträge.
+         */
+        void clear();
+
+        /**
+         * @param evict entfernt einen Schlüssel in Textform
+         * @param clear entfernt alle Einträge
+         * @return Target aus zwei Funktionen
+         */
+        static Target of(Consumer<String> evict, Runnable clear) {
+            return new Target() {
+                @Override
+                public void evict(String key) {
+                    evict.accept(key);
+                }
+
+                @Override
+                public void clear() {
+                    clear.run();
+                }
+            };
+        }
+    }
+
+    private final ClusterTransport transport;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    /**
+     * @param transport Transportweg zu den anderen Knoten
+     * @param channel   Kanal für Invalidierungen
+     */
+    public CacheInvalidationBroadcaster(ClusterTransport transport,
+                                        @Value("${cluster.invalidation-channel:cache_invalidation}") String channel) {
+        this.transport = transport;
+        this.channel = channel;
+    }
+
+    /**
+     * Startet den Empfang von Invalidierungen anderer Knoten.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        transport.subscribe(channel, payload -> receive(CacheInvalidation.fromPayload(payload)), this::clearAll);
+    }
+
+    /**
+     * Meldet einen Cache an.
+     *
+     * @param cache  Name des Caches
+     * @param target Zugriff auf den Cache
+     */
+    public void register(String cache, Target target) {
+        targets.put(cache, target);
+    }
+
+    /**
+     * Entfernt einen Schlüssel lokal und auf allen anderen Knoten.
+     *
+     * @param cache Name des Caches
+     * @param key   Schlüssel oder {@code null} für alle Einträge
+     * @return {@code false}, wenn die anderen Knoten nicht benachrichtigt werden konnten
+     */
+    public boolean invalidate(String cache, Object key) {
+        invalidateLocal(cache, key);
+        return invalidateOthers(cache, key);
+    }
+
+    /**
+     * Entfernt einen Schlüssel nur auf diesem Knoten.
+     *
+     * @param cache Name des Caches
+     * @param key   Schlüssel oder {@code null} für alle Einträge
+     */
+    public void invalidateLocal(String cache, Object key) {
+        apply(cache, key == null ? null : key.toString());
+    }
+
+    /**
+     * Entfernt einen Schlüssel nur auf den anderen Knoten.
+     *
+     * @param cache Name des Caches
+     * @param key   Schlüssel oder {@code null} für alle Einträge
+     * @return {@code false}, wenn die Nachricht nicht gesendet werden konnte
+     */
+    public boolean invalidateOthers(String cache, Object key) {
+        return transport.send(channel, new CacheInvalidation(nodeId, cache, key == null ? null : key.toString()).toPayload());
+    }
+
+    /**
+     * @return ID dieses Knotens
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void receive(CacheInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.origin())) {
+            apply(invalidation.cache(), invalidation.key());
+        }
+    }
+
+    private void apply(String cache, String key) {
+        Target target = targets.get(cache);
+        if (target == null) {
+            return;
+        }
+        if (key == null) {
+            target.clear();
+        } else {
+            target.evict(key);
+        }
+    }
+
+    private void clearAll() {
+        targets.values().forEach(Target::clear);
+    }
+}
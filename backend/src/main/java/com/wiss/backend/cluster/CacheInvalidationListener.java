@@ -0,0 +1,131 @@
+package com.wiss.backend.cluster;
+
+import com.wiss.backend.config.CacheConfig;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.model.UserChange;
+import com.wiss.backend.outbox.EventOutboxConsumer;
+import com.wiss.backend.store.UserFavoritesCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <h2>
+ *     Verbindung zwischen Änderungsereignissen und Cache-Invalidierung
+ * </h2>
+ *
+ * <p>
+ *     Meldet die Caches beim {@link CacheInvalidationBroadcaster} an und übersetzt
+ *     Änderungen in Invalidierungen:
+ * </p>
+ * <ul>
+ *     <li>{@link EventChange} – Eintrag im Cache {@value CacheConfig#EVENTS}, lokal direkt
+ *         nach dem Commit. Auf allen Knoten erst, wenn die Änderung als
+ *         {@link EventOutboxConsumer} aus dem Outbox kommt; so geht die Invalidierung nach
+ *         einem Absturz nicht verloren. Pro Stapel wird höchstens {@value #MAX_KEYS_PER_BATCH}
+ *         Mal einzeln invalidiert, bei mehr Events, etwa nach Massenänderungen, wird der
+ *         Cache einmal geleert.</li>
+ *     <li>{@link UserChange} – Eintrag im Cache {@value CacheConfig#USERS}, lokal und auf
+ *         allen anderen Knoten</li>
+ *     <li>{@link FavoriteChange} – Favoriten der Benutzer:in im {@link UserFavoritesCache}
+ *         der anderen Knoten; der lokale Cache übernimmt die Änderung selbst</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see CacheInvalidationBroadcaster
+ * @see CacheConfig
+ */
+@Component
+public class CacheInvalidationListener implements EventOutboxConsumer {
+
+    /**
+     * Name, unter dem der {@link UserFavoritesCache} angemeldet ist.
+     */
+    public static final String FAVORITES = "favorites";
+
+    /**
+     * Höchstzahl einzelner Invalidierungen pro Outbox-Stapel.
+     */
+    public static final int MAX_KEYS_PER_BATCH = 16;
+
+    private final CacheInvalidationBroadcaster broadcaster;
+
+    /**
+     * @param broadcaster    Broadcaster für die Invalidierungen
+     * @param cacheManager   Verwaltung der Caffeine-Caches
+     * @param favoritesCache Favoriten pro Benutzer:in
+     */
+    public CacheInvalidationListener(CacheInvalidationBroadcaster broadcaster, CacheManager cacheManager,
+                                     UserFavoritesCache favoritesCache) {
+        this.broadcaster = broadcaster;
+        broadcaster.register(CacheConfig.EVENTS, springCache(cacheManager, CacheConfig.EVENTS, Long::valueOf));
+        broadcaster.register(CacheConfig.USERS, springCache(cacheManager, CacheConfig.USERS, Function.identity()));
+        broadcaster.register(FAVORITES, CacheInvalidationBroadcaster.Target.of(
+                key -> favoritesCache.invalidate(Long.valueOf(key)), favoritesCache::clear));
+    }
+
+    /**
+     * @param change Änderung eines Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        broadcaster.invalidateLocal(CacheConfig.EVENTS, change.eventId());
+    }
+
+    /**
+     * Invalidiert die Events eines Outbox-Stapels auf allen Knoten, auch auf diesem, da er
+     * die Änderungen anderer Knoten abarbeiten kann.
+     *
+     * @param batch Event-Änderungen aus dem Outbox
+     * @throws IllegalStateException wenn die anderen Knoten nicht benachrichtigt werden konnten
+     */
+    @Override
+    public void accept(List<Message> batch) {
+        Set<Long> eventIds = new LinkedHashSet<>();
+        batch.forEach(message -> eventIds.add(message.change().eventId()));
+        boolean sent = true;
+        if (eventIds.size() > MAX_KEYS_PER_BATCH) {
+            sent = broadcaster.invalidate(CacheConfig.EVENTS, null);
+        } else {
+            for (Long eventId : eventIds) {
+                sent &= broadcaster.invalidate(CacheConfig.EVENTS, eventId);
+            }
+        }
+        if (!sent) {
+            throw new IllegalStateException("Invalidierung von " + eventIds.size() + " Events nicht gesendet");
+        }
+    }
+
+    /**
+     * @param change Änderung einer Benutzer:in
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChange(UserChange change) {
+        broadcaster.invalidate(CacheConfig.USERS, change.username());
+    }
+
+    /**
+     * @param change Änderung eines Favoriten
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        broadcaster.invalidateOthers(FAVORITES, change.userId());
+    }
+
+    private static CacheInvalidationBroadcaster.Target springCache(CacheManager cacheManager, String name,
+                                                                   Function<String, ?> keyType) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(name), "Cache fehlt: " + name);
+        return CacheInvalidationBroadcaster.Target.of(key -> cache.evict(keyType.apply(key)), cache::clear);
+    }
+}
@@ -0,0 +1,261 @@
+package com.wiss.backend.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventStreamDTO;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.outbox.EventOutboxConsumer;
+import com.wiss.backend.service.EventStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>
+ *     Weiterleitung von Änderungen an die Live-Streams aller Knoten
+ * </h2>
+ *
+ * <p>
+ *     Jede Änderung erhält eine auf allen Knoten gleiche ID, geht sofort an die lokalen
+ *     Clients des {@link EventStreamService} und über den {@link ClusterTransport} an alle
+ *     anderen Knoten, die sie an ihre eigenen Clients weitergeben.
+ * </p>
+ *
+ * <h3>Quellen:</h3>
+ * <ul>
+ *     <li>Event-Änderungen kommen als {@link EventOutboxConsumer} aus dem Outbox, auf dem
+ *         Knoten, der ihn gerade abarbeitet. Die ID ist {@value #OUTBOX_ORIGIN} mit der
+ *         Outbox-ID. Kann eine Nachricht nicht gesendet werden, wirft das Relay, damit der
+ *         Stapel erneut zugestellt wird.</li>
+ *     <li>Favoritenänderungen aus dem {@link com.wiss.backend.service.EventFavoriteService}
+ *         kommen nach dem Commit; die ID besteht aus Knoten und fortlaufender Nummer.</li>
+ * </ul>
+ *
+ * <h3>Zustellung:</h3>
+ * <ul>
+ *     <li>Eigene Nachrichten, die der Transport zurückliefert, werden am Absender erkannt
+ *         und ignoriert</li>
+ *     <li>Doppelt zugestellte Nachrichten, auch erneut zugestellte Outbox-Stapel, erkennt
+ *         ein {@link SequenceWindow} pro Herkunft mit {@code cluster.sequence-window} Nummern;
+ *         gemerkt werden höchstens {@value #MAX_ORIGINS} Herkünfte</li>
+ *     <li>Einträge aus dem eigenen Outbox werden immer angewendet, ausser das Fenster hat
+ *         ihre ID bereits angenommen: Sie sind genau einmal committet, und ein Commit kann
+ *         viele grössere IDs überholen (z. B. eine Massenänderung)</li>
+ *     <li>Liegt eine Nachricht eines anderen Knotens ausserhalb des Fensters, lässt sich
+ *         nicht entscheiden, ob sie doppelt oder verspätet ist. Wie bei einer Lücke im
+ *         Transport erhalten dann alle Clients die Aufforderung, ihren Stand neu zu laden,
+ *         und die In-Memory-Strukturen laden über ein {@link EventResync} neu</li>
+ * </ul>
+ *
+ * <h3>In-Memory-Strukturen:</h3>
+ * <p>
+ *     Jede Event-Änderung, die an die lokalen Clients geht, wird
+ *     zusätzlich als {@link EventChangeBatch} lokal veröffentlicht: auf dem abarbeitenden
+ *     Knoten ein Stapel pro Outbox-Stapel, auf den anderen Knoten pro empfangener Nachricht.
+ *     So sehen Suchindex, Spaltenspeicher und Feeds die Änderungen aller Knoten, ohne den
+ *     Request zu verlängern. Fehler dieser Listener werden protokolliert und halten die
+ *     Weiterleitung nicht auf.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventStreamService
+ * @see RelayedChange
+ * @see com.wiss.backend.outbox.EventOutboxRelay
+ */
+@Component
+public class ChangeRelay implements EventOutboxConsumer {
+
+    /**
+     * Maximale Anzahl sendender Knoten, deren Sequenznummern gemerkt werden.
+     */
+    public static final int MAX_ORIGINS = 64;
+
+    /**
+     * Herkunft der Änderungen aus dem Outbox, unabhängig vom abarbeitenden Knoten.
+     */
+    public static final String OUTBOX_ORIGIN = "outbox";
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeRelay.class);
+
+    private final ClusterTransport transport;
+    private final EventStreamService streamService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final int windowSize;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, SequenceWindow> windows = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SequenceWindow> eldest) {
+            return size() > MAX_ORIGINS;
+        }
+    };
+
+    /**
+     * @param transport     Transportweg zu den anderen Knoten
+     * @param streamService Live-Stream dieses Knotens
+     * @param objectMapper  JSON-Serialisierung der Nachrichten
+     * @param eventPublisher Publisher für {@link EventChangeBatch} an die In-Memory-Strukturen
+     * @param channel       Kanal für Änderungen
+     * @param windowSize    Anzahl Sequenznummern pro Herkunft, die als Duplikat erkannt werden
+     */
+    public ChangeRelay(ClusterTransport transport, EventStreamService streamService, ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${cluster.change-channel:event_changes}") String channel,
+                       @Value("${cluster.sequence-window:4096}") int windowSize) {
+        this.transport = transport;
+        this.streamService = streamService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Startet den Empfang von Änderungen anderer Knoten.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        transport.subscribe(channel, this::receive, () -> resync("Lücke im Transport"));
+    }
+
+    /**
+     * @param batch Event-Änderungen aus dem Outbox
+     * @throws IllegalStateException wenn eine Änderung nicht an die anderen Knoten ging
+     */
+    @Override
+    public void accept(List<Message> batch) {
+        List<EventChange> accepted = new ArrayList<>(batch.size());
+        try {
+            for (Message entry : batch) {
+                RelayedChange message = new RelayedChange(OUTBOX_ORIGIN, entry.id(), nodeId,
+                        EventStreamDTO.of(entry.change()));
+                SequenceWindow.Result result = window(OUTBOX_ORIGIN).accept(entry.id());
+                if (result != SequenceWindow.Result.DUPLICATE) {
+                    if (result == SequenceWindow.Result.OUT_OF_WINDOW) {
+                        log.debug("Outbox-Eintrag {} nach dem Fenster committet, wird angewendet", entry.id());
+                    }
+                    streamService.publish(message.id(), message.change());
+                    accepted.add(entry.change());
+                }
+                if (!send(message)) {
+                    throw new IllegalStateException("Änderung " + message.id() + " nicht an andere Knoten gesendet");
+                }
+            }
+        } finally {
+            publishLocally(accepted);
+        }
+    }
+
+    /**
+     * @param change Änderung eines Favoriten; weitergegeben wird nur die neue Anzahl
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        EventStreamDTO favorites = EventStreamDTO.favorites(change.eventId(), change.favoritesCount());
+        RelayedChange message = new RelayedChange(nodeId, sequence.incrementAndGet(), nodeId, favorites);
+        streamService.publish(message.id(), message.change());
+        send(message);
+    }
+
+    /**
+     * Fordert Clients und In-Memory-Strukturen dieses Knotens auf, ihren Stand neu zu laden.
+     *
+     * @param reason Anlass, für das Protokoll
+     */
+    void resync(String reason) {
+        log.warn("Änderungen anderer Knoten können fehlen ({}), Stand wird neu geladen", reason);
+        streamService.resync();
+        try {
+            eventPublisher.publishEvent(new EventResync(reason));
+        } catch (RuntimeException e) {
+            log.warn("In-Memory-Strukturen nicht neu geladen", e);
+        }
+    }
+
+    /**
+     * @return {@code false}, wenn der Transport die Nachricht nicht senden konnte
+     */
+    private boolean send(RelayedChange message) {
+        try {
+            return transport.send(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("Änderung an Event {} nicht weitergeleitet: {}", message.change().getEventId(), e.getMessage());
+            return true;
+        }
+    }
+
+    void receive(String payload) {
+        RelayedChange message;
+        try {
+            message = objectMapper.readValue(payload, RelayedChange.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ungültige Änderung empfangen: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(message.sender())) {
+            return;
+        }
+        switch (window(message.origin()).accept(message.sequence())) {
+            case DUPLICATE -> {
+                return;
+            }
+            case OUT_OF_WINDOW -> {
+                resync("Änderung " + message.id() + " ausserhalb des Fensters");
+                return;
+            }
+            case ACCEPTED -> streamService.publish(message.id(), message.change());
+        }
+        EventChange change = toEventChange(message.change());
+        if (change != null) {
+            publishLocally(List.of(change));
+        }
+    }
+
+    /**
+     * Veröffentlicht angenommene Event-Änderungen für die In-Memory-Strukturen dieses Knotens.
+     */
+    private void publishLocally(List<EventChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new EventChangeBatch(changes));
+        } catch (RuntimeException e) {
+            log.warn("{} Änderungen nicht in die In-Memory-Strukturen übernommen", changes.size(), e);
+        }
+    }
+
+    /**
+     * @return Event-Änderung oder {@code null} für Favoriten
+     */
+    private static EventChange toEventChange(EventStreamDTO change) {
+        if (change.getType() == EventStreamDTO.Type.FAVORITES) {
+            return null;
+        }
+        return new EventChange(EventChange.Type.valueOf(change.getType().name()), change.getEventId(), change.getEvent());
+    }
+
+    private synchronized SequenceWindow window(String origin) {
+        return windows.computeIfAbsent(origin, key -> new SequenceWindow(windowSize));
+    }
+}
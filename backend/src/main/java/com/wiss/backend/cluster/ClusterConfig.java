@@ -0,0 +1,58 @@
+package com.wiss.backend.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * <h2>
+ *     Auswahl des Transportwegs zwischen Backend-Instanzen
+ * </h2>
+ *
+ * <ul>
+ *     <li>{@code cluster.transport=local} (Standard) – {@link InMemoryClusterTransport}
+ *         für den Betrieb mit einer Instanz</li>
+ *     <li>{@code cluster.transport=postgres} – {@link PostgresClusterTransport}, sobald
+ *         mehrere Instanzen dieselbe Datenbank verwenden</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see CacheInvalidationBroadcaster
+ * @see ChangeRelay
+ */
+@Configuration
+public class ClusterConfig {
+
+    /**
+     * @return Transport innerhalb des Prozesses
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "local", matchIfMissing = true)
+    public ClusterTransport localClusterTransport() {
+        return new InMemoryClusterTransport();
+    }
+
+    /**
+     * @param dataSource      Pool für das Senden
+     * @param properties      Verbindungsdaten für die lauschende Verbindung
+     * @param pollMillis      maximale Wartezeit pro Abfrage neuer Nachrichten
+     * @param reconnectMillis Wartezeit vor einem neuen Verbindungsversuch
+     * @return Transport über PostgreSQL LISTEN/NOTIFY
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cluster.transport", havingValue = "postgres")
+    public ClusterTransport postgresClusterTransport(
+            DataSource dataSource, DataSourceProperties properties,
+            @Value("${cluster.poll-ms:500}") int pollMillis,
+            @Value("${cluster.reconnect-ms:2000}") long reconnectMillis) {
+        return new PostgresClusterTransport(dataSource, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), pollMillis, reconnectMillis);
+    }
+}
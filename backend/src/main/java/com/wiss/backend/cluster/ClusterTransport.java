@@ -0,0 +1,60 @@
+package com.wiss.backend.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * <h2>
+ *     Nachrichtenweg zwischen Backend-Instanzen
+ * </h2>
+ *
+ * <p>
+ *     Verteilt Textnachrichten pro Kanal an alle Knoten, einschliesslich des sendenden;
+ *     Empfänger filtern eigene Nachrichten selbst heraus. Die Zustellung ist „höchstens
+ *     einmal“: Gehen Nachrichten verloren, etwa während einer Verbindungsunterbrechung,
+ *     meldet der Transport eine Lücke.
+ * </p>
+ *
+ * <h3>Verwendete Kanäle:</h3>
+ * <ul>
+ *     <li>{@code cluster.invalidation-channel} – {@link CacheInvalidationBroadcaster}</li>
+ *     <li>{@code cluster.change-channel} – {@link ChangeRelay}</li>
+ * </ul>
+ *
+ * <h3>Implementierungen:</h3>
+ * <ul>
+ *     <li>{@link InMemoryClusterTransport} – innerhalb eines Prozesses (ein Knoten, Tests)</li>
+ *     <li>{@link PostgresClusterTransport} – PostgreSQL {@code LISTEN/NOTIFY}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ClusterConfig
+ */
+public interface ClusterTransport extends AutoCloseable {
+
+    /**
+     * Sendet eine Nachricht an alle Knoten. Fehler werden protokolliert, nicht geworfen.
+     *
+     * @param channel Kanal (Kleinbuchstaben, Ziffern, {@code _})
+     * @param payload Nachricht
+     * @return {@code false}, wenn die Nachricht nicht gesendet werden konnte
+     */
+    boolean send(String channel, String payload);
+
+    /**
+     * Meldet einen Empfänger für einen Kanal an.
+     *
+     * @param channel  Kanal
+     * @param receiver erhält jede empfangene Nachricht
+     * @param onGap    wird aufgerufen, wenn Nachrichten verloren gegangen sein können
+     */
+    void subscribe(String channel, Consumer<String> receiver, Runnable onGap);
+
+    /**
+     * Beendet den Empfang und gibt Verbindungen frei.
+     */
+    @Override
+    void close();
+}
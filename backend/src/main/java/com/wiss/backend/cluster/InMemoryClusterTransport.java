@@ -0,0 +1,48 @@
+package com.wiss.backend.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * <h2>
+ *     Nachrichten innerhalb eines Prozesses
+ * </h2>
+ *
+ * <p>
+ *     Stellt Nachrichten synchron an alle Empfänger zu, die sich auf derselben Instanz für
+ *     den Kanal angemeldet haben. Standard für den Betrieb mit einem Knoten
+ *     ({@code cluster.transport=local}); in Tests teilen sich mehrere Empfänger eine Instanz
+ *     und verhalten sich wie getrennte Knoten.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ClusterTransport
+ */
+public class InMemoryClusterTransport implements ClusterTransport {
+
+    private final Map<String, List<Consumer<String>>> receivers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean send(String channel, String payload) {
+        for (Consumer<String> receiver : receivers.getOrDefault(channel, List.of())) {
+            receiver.accept(payload);
+        }
+        return true;
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> receiver, Runnable onGap) {
+        receivers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(receiver);
+    }
+
+    @Override
+    public void close() {
+        receivers.clear();
+    }
+}
@@ -0,0 +1,177 @@
+package com.wiss.backend.cluster;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>
+ *     Nachrichten über PostgreSQL LISTEN/NOTIFY
+ * </h2>
+ *
+ * <p>
+ *     Jeder Knoten hält eine eigene Verbindung ausserhalb des Pools, die auf allen
+ *     angemeldeten Kanälen lauscht. Gesendet wird mit {@code pg_notify} über eine Verbindung
+ *     aus dem Pool; PostgreSQL stellt die Nachricht sofort nach dem Commit allen lauschenden
+ *     Verbindungen zu, typischerweise innerhalb weniger Millisekunden. Eine Nachricht darf
+ *     höchstens 8000 Byte lang sein.
+ * </p>
+ *
+ * <h3>Verhalten bei Fehlern:</h3>
+ * <ul>
+ *     <li>Bricht die lauschende Verbindung ab, wird nach {@code reconnectMillis} neu
+ *         verbunden. Nachrichten aus der Zwischenzeit sind verloren; deshalb wird nach jedem
+ *         (Neu-)Aufbau allen Empfängern eine Lücke gemeldet.</li>
+ *     <li>Schlägt das Senden fehl, wird protokolliert und {@code false} zurückgegeben.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ClusterTransport
+ * @see ClusterConfig
+ */
+public class PostgresClusterTransport implements ClusterTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresClusterTransport.class);
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private record Subscription(Consumer<String> receiver, Runnable onGap) {}
+
+    private final DataSource dataSource;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollMillis;
+    private final long reconnectMillis;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    /**
+     * @param dataSource      Pool für das Senden
+     * @param url             JDBC-URL für die lauschende Verbindung
+     * @param username        Benutzer für die lauschende Verbindung
+     * @param password        Passwort für die lauschende Verbindung
+     * @param pollMillis      maximale Wartezeit pro Abfrage neuer Nachrichten
+     * @param reconnectMillis Wartezeit vor einem neuen Verbindungsversuch
+     */
+    public PostgresClusterTransport(DataSource dataSource, String url, String username, String password,
+                                    int pollMillis, long reconnectMillis) {
+        this.dataSource = dataSource;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollMillis = pollMillis;
+        this.reconnectMillis = reconnectMillis;
+    }
+
+    @Override
+    public boolean send(String channel, String payload) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, payload);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Nachricht auf Kanal {} nicht gesendet: {}", channel, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Meldet einen Empfänger an und startet beim ersten Aufruf die lauschende Verbindung.
+     *
+     * @throws IllegalArgumentException bei ungültigem Kanalnamen
+     */
+    @Override
+    public synchronized void subscribe(String channel, Consumer<String> receiver, Runnable onGap) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Ungültiger Kanalname: " + channel);
+        }
+        subscriptions.put(channel, new Subscription(receiver, onGap));
+        if (listener == null) {
+            running = true;
+            listener = new Thread(this::listen, "cluster-listen");
+            listener.setDaemon(true);
+            listener.start();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            Set<String> listening = new HashSet<>();
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // neu angemeldete Kanäle auf diesem Thread nachziehen
+                    for (Map.Entry<String, Subscription> entry : subscriptions.entrySet()) {
+                        if (listening.add(entry.getKey())) {
+                            try (Statement statement = connection.createStatement()) {
+                                statement.execute("LISTEN " + entry.getKey());
+                            }
+                            entry.getValue().onGap().run();
+                        }
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Verbindung für Cluster-Nachrichten unterbrochen: {}", e.getMessage());
+                try {
+                    Thread.sleep(reconnectMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        Subscription subscription = subscriptions.get(notification.getName());
+        if (subscription == null) {
+            return;
+        }
+        try {
+            subscription.receiver().accept(notification.getParameter());
+        } catch (RuntimeException e) {
+            log.warn("Nachricht auf Kanal {} nicht verarbeitet: {}", notification.getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.wiss.backend.cluster;
+
+import com.wiss.backend.dto.EventStreamDTO;
+
+/**
+ * <h2>
+ *     Nachricht des {@link ChangeRelay}
+ * </h2>
+ *
+ * <p>
+ *     Wird als JSON über den {@link ClusterTransport} verteilt. Herkunft und Sequenznummer
+ *     bilden zusammen die ID der Änderung; sie ist auf allen Knoten gleich. Der Absender
+ *     erkennt daran seine eigenen Nachrichten, die der Transport zurückliefert. Im Live-Stream
+ *     stellt der {@link com.wiss.backend.service.EventStreamService} ihr die Kennung des
+ *     ausliefernden Knotens voran, da die Reihenfolge pro Knoten verschieden sein kann.
+ * </p>
+ *
+ * @param origin   Herkunft der Sequenznummer: {@link ChangeRelay#OUTBOX_ORIGIN} oder ID eines Knotens
+ * @param sequence fortlaufende Nummer pro Herkunft, ab 1 (beim Outbox die Outbox-ID)
+ * @param sender   ID des Knotens, der die Nachricht gesendet hat
+ * @param change   Änderung
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ChangeRelay
+ */
+public record RelayedChange(String origin, long sequence, String sender, EventStreamDTO change) {
+
+    /**
+     * @return ID der Änderung, auf allen Knoten gleich
+     */
+    public String id() {
+        return origin + ":" + sequence;
+    }
+}
@@ -0,0 +1,104 @@
+package com.wiss.backend.cluster;
+
+import java.util.Arrays;
+
+/**
+ * <h2>
+ *     Duplikaterkennung über ein gleitendes Fenster
+ * </h2>
+ *
+ * <p>
+ *     Merkt sich für eine Herkunft die höchste gesehene Sequenznummer und, als Bitmaske,
+ *     welche der {@code size} Nummern darunter bereits angekommen sind. So werden doppelt
+ *     zugestellte Nachrichten verworfen, vertauschte aber noch angenommen – mit einem Bit
+ *     pro Nummer im Fenster.
+ * </p>
+ *
+ * <p>
+ *     Als Duplikat gilt nur eine Nummer, die im Fenster bereits angenommen wurde. Über
+ *     Nummern, die mehr als {@code size} hinter der höchsten liegen, ist nichts mehr bekannt:
+ *     Sie können doppelt oder verspätet sein und werden als {@link Result#OUT_OF_WINDOW}
+ *     gemeldet, damit der Aufrufer entscheidet.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ChangeRelay
+ */
+public class SequenceWindow {
+
+    /**
+     * Ergebnis der Prüfung einer Sequenznummer.
+     */
+    public enum Result {
+        /** Zum ersten Mal angekommen, jetzt gemerkt. */
+        ACCEPTED,
+        /** Im Fenster bereits angenommen. */
+        DUPLICATE,
+        /** Zu weit hinter der höchsten Nummer, um es zu entscheiden. */
+        OUT_OF_WINDOW
+    }
+
+    private final int size;
+    private final long[] seen;
+    private long highest;
+
+    /**
+     * @param size Anzahl Sequenznummern bis zur höchsten, die noch unterschieden werden;
+     *             wird auf ein Vielfaches von 64 aufgerundet
+     */
+    public SequenceWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Fenstergrösse muss positiv sein: " + size);
+        }
+        this.seen = new long[(size + 63) / 64];
+        this.size = seen.length * 64;
+    }
+
+    /**
+     * @return Anzahl Sequenznummern im Fenster
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prüft eine Sequenznummer und merkt sie sich.
+     *
+     * @param sequence Sequenznummer (ab 1)
+     * @return {@link Result#ACCEPTED} beim ersten Eintreffen, {@link Result#DUPLICATE} bei
+     *         einer bereits angenommenen Nummer, sonst {@link Result#OUT_OF_WINDOW}
+     */
+    public synchronized Result accept(long sequence) {
+        if (sequence > highest) {
+            if (sequence - highest >= size) {
+                Arrays.fill(seen, 0);
+            } else {
+                for (long skipped = highest + 1; skipped < sequence; skipped++) {
+                    seen[word(skipped)] &= ~bit(skipped);
+                }
+            }
+            seen[word(sequence)] |= bit(sequence);
+            highest = sequence;
+            return Result.ACCEPTED;
+        }
+        if (highest - sequence >= size) {
+            return Result.OUT_OF_WINDOW;
+        }
+        if ((seen[word(sequence)] & bit(sequence)) != 0) {
+            return Result.DUPLICATE;
+        }
+        seen[word(sequence)] |= bit(sequence);
+        return Result.ACCEPTED;
+    }
+
+    private int word(long sequence) {
+        return (int) (Math.floorMod(sequence, size) >>> 6);
+    }
+
+    private static long bit(long sequence) {
+        return 1L << sequence;
+    }
+}
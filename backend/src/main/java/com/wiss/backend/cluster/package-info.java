@@ -0,0 +1,44 @@
+/**
+ * <h2>
+ *     Abgleich mehrerer Backend-Instanzen
+ * </h2>
+ *
+ * <p>
+ *     Laufen mehrere Instanzen hinter einem Load Balancer, hält jede ihre eigenen Caches.
+ *     Dieses Paket verteilt Invalidierungen nach Änderungen an alle Instanzen, damit keine
+ *     veralteten Events, Rollen oder Favoriten ausgeliefert werden, und leitet
+ *     Änderungen an die Live-Streams und In-Memory-Strukturen aller Instanzen weiter.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Komponenten:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.backend.cluster.CacheInvalidationBroadcaster} –
+ *         Anmeldung der Caches, lokales und verteiltes Invalidieren.</li>
+ *     <li>{@link com.wiss.backend.cluster.CacheInvalidationListener} –
+ *         Übersetzt Änderungsereignisse nach dem Commit in Invalidierungen.</li>
+ *     <li>{@link com.wiss.backend.cluster.CacheInvalidation} –
+ *         Nachricht mit Knoten, Cache und Schlüssel.</li>
+ *     <li>{@link com.wiss.backend.cluster.ChangeRelay} –
+ *         Leitet Event- und Favoritenänderungen an die Live-Streams aller Knoten weiter und
+ *         speist die In-Memory-Strukturen jedes Knotens.</li>
+ *     <li>{@link com.wiss.backend.cluster.RelayedChange} –
+ *         Nachricht des Relays mit Herkunft, Sequenznummer und Absender.</li>
+ *     <li>{@link com.wiss.backend.cluster.SequenceWindow} –
+ *         Erkennt doppelt zugestellte Nachrichten einer Herkunft und meldet zu alte.</li>
+ *     <li>{@link com.wiss.backend.cluster.ClusterTransport} –
+ *         Schnittstelle des Transportwegs mit Kanälen.</li>
+ *     <li>{@link com.wiss.backend.cluster.InMemoryClusterTransport} –
+ *         Transport innerhalb eines Prozesses (eine Instanz, Tests).</li>
+ *     <li>{@link com.wiss.backend.cluster.PostgresClusterTransport} –
+ *         Transport über PostgreSQL {@code LISTEN/NOTIFY}.</li>
+ *     <li>{@link com.wiss.backend.cluster.ClusterConfig} –
+ *         Auswahl des Transports über {@code cluster.transport}.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.backend.cluster;
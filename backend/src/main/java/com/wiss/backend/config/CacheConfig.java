@@ -0,0 +1,47 @@
+package com.wiss.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * <h2>
+ *     Prozesslokale Caches (Caffeine)
+ * </h2>
+ *
+ * <p>
+ *     Aktiviert {@code @Cacheable}. Die Caches selbst legt Spring Boot aus
+ *     {@code spring.cache.cache-names} und {@code spring.cache.caffeine.spec} an:
+ * </p>
+ * <ul>
+ *     <li>{@value #EVENTS} – einzelne Events als DTO, Schlüssel ist die Event-ID</li>
+ *     <li>{@value #USERS} – {@code UserDetails} für die JWT-Prüfung, Schlüssel ist der Username</li>
+ * </ul>
+ *
+ * <p>
+ *     Nach Änderungen werden die Einträge über den
+ *     {@link com.wiss.backend.cluster.CacheInvalidationBroadcaster} auf allen Knoten
+ *     verworfen. Der Cache-Interceptor liegt vor dem Transaktions-Interceptor, damit ein
+ *     Treffer keine Transaktion öffnet.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.cluster.CacheInvalidationListener
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Name des Caches für Events.
+     */
+    public static final String EVENTS = "events";
+
+    /**
+     * Name des Caches für Benutzer:innen.
+     */
+    public static final String USERS = "users";
+}
@@ -0,0 +1,54 @@
+package com.wiss.backend.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * <h2>
+ *     FastStartConfig
+ * </h2>
+ * <p>
+ *     Ergänzt das Profil {@code fast-start} ({@code application-fast-start.properties}),
+ *     das {@code spring.main.lazy-initialization} aktiviert. Verzögert werden sollen nur
+ *     Beans, die für die ersten Requests nicht gebraucht werden – vor allem Springdoc und
+ *     die {@link SwaggerConfig}, die beim ersten Aufruf von {@code /v3/api-docs} entstehen.
+ * </p>
+ *
+ * <p>
+ *     Alle übrigen Beans der Anwendung ({@code com.wiss.backend.*}) bleiben eager. Damit
+ *     werden auch die von ihnen benötigten Repositories, die {@code EntityManagerFactory}
+ *     und die Security-Filterkette beim Start aufgebaut, und der erste Request zahlt
+ *     diese Kosten nicht.
+ * </p>
+ *
+ * <h3>Weitere Startoptimierungen (siehe Profil {@code fast-start} in der {@code pom.xml}):</h3>
+ * <ul>
+ *     <li>Spring AOT: Bean-Definitionen werden beim Build generiert
+ *         ({@code -Dspring.aot.enabled=true} beim Start)</li>
+ *     <li>AppCDS: beim Build erzeugtes Class-Data-Sharing-Archiv
+ *         ({@code target/fast-start/application.jsa})</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    /**
+     * Nimmt die Beans der Anwendung (ausser der Swagger-Konfiguration) von der
+     * verzögerten Initialisierung aus.
+     *
+     * @return Filter für {@code LazyInitializationBeanFactoryPostProcessor}
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && beanType.getName().startsWith("com.wiss.backend.")
+                && !SwaggerConfig.class.isAssignableFrom(beanType);
+    }
+}
@@ -0,0 +1,76 @@
+package com.wiss.backend.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.NativeDetector;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * <h2>
+ *     JacksonConfig
+ * </h2>
+ * <p>
+ *     Optimiert die JSON-Serialisierung der REST-API, insbesondere für grosse
+ *     Event-Listen ({@code EventDTO}, {@code EventFormDTO}).
+ * </p>
+ *
+ * <h3>Massnahmen:</h3>
+ * <ul>
+ *     <li><b>Blackbird</b>: ersetzt reflektive Getter-Aufrufe durch generierte
+ *         {@code LambdaMetafactory}-Zugriffe (Nachfolger von Afterburner für Java 11+)</li>
+ *     <li><b>Enums</b>: Jackson serialisiert {@code EventCategory}/{@code EventStatus}
+ *         bereits über vorab kodierte Namen ({@code SerializedString}); es wird daher
+ *         bewusst kein {@code toString()}-basiertes Schreiben aktiviert</li>
+ *     <li><b>Datumswerte</b>: {@code LocalDate} wird als kompaktes ISO-Datum
+ *         ({@code "2025-07-18"}) statt als Array geschrieben
+ *         ({@code spring.jackson.serialization.write-dates-as-timestamps=false})</li>
+ *     <li><b>CBOR</b>: binäres Format für spaltenorientierte Event-Listen</li>
+ * </ul>
+ *
+ * <p>
+ *     Spring Boot registriert alle {@link Module}-Beans automatisch im zentralen
+ *     {@code ObjectMapper}. Die Kompression der Antworten wird über
+ *     {@code server.compression.*} in {@code application.properties} gesteuert.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registriert das Blackbird-Modul für schnellere Property-Zugriffe.
+     * Im GraalVM Native Image können zur Laufzeit keine Klassen erzeugt werden; dort
+     * bleibt es beim reflektiven Zugriff (leeres Modul).
+     *
+     * @return Jackson-Modul
+     */
+    @Bean
+    public Module blackbirdModule() {
+        if (NativeDetector.inNativeImage()) {
+            return new SimpleModule("blackbird-disabled");
+        }
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Registriert einen CBOR-Konverter für {@code application/cbor}, damit spaltenorientierte
+     * Event-Listen auch binär ausgeliefert werden können. Er verwendet dieselben Module
+     * und Einstellungen wie der JSON-Mapper.
+     *
+     * @param builder von Spring Boot vorkonfigurierter Builder
+     * @return HTTP-Message-Konverter für CBOR
+     * @see com.wiss.backend.dto.EventColumnsDTO
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
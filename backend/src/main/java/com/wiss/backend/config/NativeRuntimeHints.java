@@ -0,0 +1,112 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.cluster.RelayedChange;
+import com.wiss.backend.controller.EventFavoriteController;
+import com.wiss.backend.dto.ErrorResponseDTO;
+import com.wiss.backend.dto.EventBulkResultDTO;
+import com.wiss.backend.dto.EventColumnsDTO;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.EventSearchResultDTO;
+import com.wiss.backend.dto.EventStatusUpdateDTO;
+import com.wiss.backend.dto.EventStreamDTO;
+import com.wiss.backend.dto.EventSuggestionDTO;
+import com.wiss.backend.dto.FavoriteStatusDTO;
+import com.wiss.backend.dto.LoginRequestDTO;
+import com.wiss.backend.dto.LoginResponseDTO;
+import com.wiss.backend.dto.RegisterRequestDTO;
+import com.wiss.backend.dto.RegisterResponseDTO;
+import com.wiss.backend.dto.TrendingEventDTO;
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.EventFavorite;
+import com.wiss.backend.entity.EventOutboxEntry;
+import com.wiss.backend.entity.Role;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.security.access.expression.SecurityExpressionRoot;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     NativeRuntimeHints
+ * </h2>
+ * <p>
+ *     Ergänzt die von Spring AOT erkannten Hinweise für das GraalVM Native Image
+ *     ({@code ./mvnw -Pnative native:compile}). Spring AOT leitet die meisten Hinweise aus
+ *     den Bean-Definitionen ab; hier stehen nur die Fälle, die es nicht sieht.
+ * </p>
+ *
+ * <h3>Registrierte Hinweise:</h3>
+ * <ul>
+ *     <li><b>JPA-Entities</b>: Hibernate greift reflektiv auf Felder und Konstruktoren zu</li>
+ *     <li><b>DTOs</b>: Jackson-Bindings auch für Typen, die nicht direkt als Rückgabewert
+ *         eines Controllers vorkommen (z. B. {@link ErrorResponseDTO} im Exception-Handler)</li>
+ *     <li><b>JJWT 0.11.5</b>: {@code Jwts} instanziiert die Implementierungen per
+ *         {@code Class.forName}, Serializer und Kompression werden über den
+ *         {@code ServiceLoader} gefunden</li>
+ *     <li><b>Method Security</b>: die SpEL-Ausdrücke von {@code @PreAuthorize}
+ *         (z. B. {@code hasAnyRole}) rufen Methoden der Expression-Root reflektiv auf</li>
+ *     <li><b>Flyway</b>: Migrationen liegen in Unterordnern pro Datenbank
+ *         ({@code db/migration/{vendor}})</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.EonetBackendApplication
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Event.class, AppUser.class, EventFavorite.class, EventOutboxEntry.class, Role.class,
+            EventCategory.class, EventStatus.class);
+
+    private static final List<Class<?>> DTOS = List.of(
+            ErrorResponseDTO.class, EventBulkResultDTO.class, EventColumnsDTO.class, EventDTO.class, EventFormDTO.class,
+            EventSearchResultDTO.class, EventStatusUpdateDTO.class, EventStreamDTO.class, EventSuggestionDTO.class,
+            FavoriteStatusDTO.class, LoginRequestDTO.class, LoginResponseDTO.class, RegisterRequestDTO.class,
+            RegisterResponseDTO.class, TrendingEventDTO.class,
+            EventFavoriteController.FavoriteResponse.class, EventFavoriteController.FavoriteCountResponse.class,
+            RelayedChange.class);
+
+    private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), DTOS.toArray(Class<?>[]::new));
+
+        JJWT_IMPLEMENTATIONS.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        hints.reflection().registerType(SecurityExpressionRoot.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(MethodSecurityExpressionOperations.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources().registerPattern("db/migration/**/*.sql");
+    }
+}
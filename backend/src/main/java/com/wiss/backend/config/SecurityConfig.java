@@ -1,6 +1,8 @@
 package com.wiss.backend.config;
 
 import com.wiss.backend.security.JwtAuthenticationFilter;
+import com.wiss.backend.security.RateLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +29,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  *     <li>Passwortverschlüsselung (BCrypt)</li>
  *     <li>Konfiguration der HTTP-Sicherheitsregeln</li>
  *     <li>Integration des JWT-Filters</li>
+ *     <li>Rate-Limiting der öffentlichen und Authentifizierungs-Endpunkte</li>
  *     <li>Aktivierung von rollenbasierten Berechtigungen</li>
  *     <li>Definition des AuthenticationManagers</li>
  * </ul>
@@ -42,6 +45,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * @since 2025-12-12
  *
  * @see com.wiss.backend.security.JwtAuthenticationFilter
+ * @see com.wiss.backend.security.RateLimitFilter
  * @see org.springframework.security.config.annotation.web.builders.HttpSecurity
  */
 @Configuration
@@ -50,28 +54,35 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
-     * Konstruktor injiziert den benutzerdefinierten JWT-Filter.
+     * Konstruktor injiziert die benutzerdefinierten Filter.
      *
      * @param jwtAuthFilter Filter, der bei jedem Request den Authorization-Header prüft
+     * @param rateLimitFilter Filter, der öffentliche und Auth-Endpunkte pro Client begrenzt
      */
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthFilter, RateLimitFilter rateLimitFilter) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     /**
      * <h3>PasswordEncoder Bean</h3>
      *
      * <p>
-     *     Verwendet <b>BCrypt</b>, um Passwörter sicher zu hashen.
+     *     Verwendet <b>BCrypt</b>, um Passwörter sicher zu hashen. Der Kostenfaktor ist
+     *     über {@code auth.password.bcrypt-strength} konfigurierbar; bestehende Hashes mit
+     *     anderem Kostenfaktor werden beim nächsten Login neu kodiert.
      * </p>
      *
+     * @param strength BCrypt-Kostenfaktor für neue Hashes
      * @return sicherer PasswordEncoder
+     * @see com.wiss.backend.service.PasswordHashingService
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -104,6 +115,7 @@ public class SecurityConfig {
      *     <li>Alle anderen Endpoints benötigen JWT-Authentifizierung</li>
      *     <li>Session-Management auf <b>STATELESS</b></li>
      *     <li>JWT-Filter wird vor dem UsernamePasswordAuthenticationFilter ausgeführt</li>
+     *     <li>Rate-Limit-Filter folgt direkt auf den JWT-Filter (Benutzer bereits bekannt)</li>
      * </ul>
      *
      * @param http HTTP-Sicherheitsobjekt
@@ -135,7 +147,10 @@ public class SecurityConfig {
                 )
 
                 // JWT-Filter vor den Standard-Authentifizierungsfilter einfügen
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Rate-Limiting nach der JWT-Prüfung (pro Benutzer oder pro IP)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -20,8 +20,20 @@
  *     <li>{@link com.wiss.backend.config.SwaggerConfig} –
  *         Einrichtung der OpenAPI/Swagger-Dokumentation für alle REST-Endpunkte.</li>
  *
+ *     <li>{@link com.wiss.backend.config.JacksonConfig} –
+ *         Optimierte JSON-Serialisierung (Blackbird) für grosse Event-Listen.</li>
+ *
  *     <li>{@link com.wiss.backend.config.WebConfig} –
  *         Globale CORS-Konfiguration für Frontend-Backend-Kommunikation.</li>
+ *
+ *     <li>{@link com.wiss.backend.config.FastStartConfig} –
+ *         Verzögerte Initialisierung nicht benötigter Beans im Profil {@code fast-start}.</li>
+ *
+ *     <li>{@link com.wiss.backend.config.NativeRuntimeHints} –
+ *         Reflection- und Ressourcen-Hinweise für das GraalVM Native Image.</li>
+ *
+ *     <li>{@link com.wiss.backend.config.CacheConfig} –
+ *         Prozesslokale Caffeine-Caches für Events und Benutzer:innen.</li>
  * </ul>
  *
  * <p>
@@ -6,6 +6,7 @@ import com.wiss.backend.dto.RegisterRequestDTO;
 import com.wiss.backend.dto.RegisterResponseDTO;
 import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.entity.Role;
+import com.wiss.backend.exception.ServiceOverloadedException;
 import com.wiss.backend.service.AppUserService;
 import com.wiss.backend.service.JwtService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -92,6 +93,10 @@ public class AuthController {
             // HTTP 200 OK mit Response Body
             return ResponseEntity.ok(response);
 
+        } catch (ServiceOverloadedException e) {
+            // Worker-Pool für Passwort-Hashing ausgelastet → schnell abweisen
+            throw e;
+
         } catch (IllegalArgumentException e) {
             // HTTP 400 Bad Request bei Validation Errors
             Map<String, String> error = new HashMap<>();
@@ -112,6 +117,7 @@ public class AuthController {
      *
      * @param request Login-Daten (Username/Email + Passwort)
      * @return {@link LoginResponseDTO} mit JWT-Token oder 401/500-Fehler
+     * @throws ServiceOverloadedException wenn die Passwortprüfung ausgelastet ist (503)
      */
     @PostMapping("/login")
     @Operation(
@@ -121,39 +127,23 @@ public class AuthController {
     @ApiResponse(responseCode = "200", description = "Login erfolgreich, Token generiert")
     @ApiResponse(responseCode = "401", description = "Ungültige Anmeldedaten")
     @ApiResponse(responseCode = "500", description = "Interner Fehler bei der Authentifizierung")
+    @ApiResponse(responseCode = "503", description = "Zu viele gleichzeitige Anmeldungen")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDTO request) {
         try {
-            // User finden (Username oder Email)
-            Optional<AppUser> userOpt;
-
-            // Prüfen ob Email oder Username
-            if (request.getUsernameOrEmail().contains("@")) {
-                userOpt = appUserService.findByEmail(request.getUsernameOrEmail());
-            } else {
-                userOpt = appUserService.findByUsername(request.getUsernameOrEmail());
-            }
-
-            // User existiert nicht
-            if (userOpt.isEmpty()) {
-                return ResponseEntity
-                        .status(HttpStatus.UNAUTHORIZED)
-                        .body(Map.of("error", "Ungültige Anmeldedaten"));
-            }
-
-            AppUser user = userOpt.get();
-
-            // Passwort prüfen
+            // User laden und Passwort prüfen (genau ein Lookup)
             Optional<AppUser> authenticatedUser =
-                    appUserService.authenticateUser(user.getUsername(),
+                    appUserService.authenticateUser(request.getUsernameOrEmail(),
                             request.getPassword());
 
             if (authenticatedUser.isEmpty()) {
-                // Passwort falsch
+                // User existiert nicht oder Passwort falsch
                 return ResponseEntity
                         .status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "Ungültige Anmeldedaten"));
             }
 
+            AppUser user = authenticatedUser.get();
+
             // JWT Token generieren
             String token = jwtService.generateToken(
                     user.getUsername(),
@@ -173,6 +163,10 @@ public class AuthController {
             // Success Response
             return ResponseEntity.ok(response);
 
+        } catch (ServiceOverloadedException e) {
+            // Worker-Pool für Passwortprüfung ausgelastet → schnell abweisen
+            throw e;
+
         } catch (Exception e) {
             // Unerwartete Fehler
             return ResponseEntity
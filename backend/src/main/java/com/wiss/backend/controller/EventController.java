@@ -1,20 +1,31 @@
 package com.wiss.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wiss.backend.dto.EventBulkResultDTO;
+import com.wiss.backend.dto.EventColumnsDTO;
 import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.EventStatusUpdateDTO;
+import com.wiss.backend.dto.EventStreamDTO;
 import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.InvalidEventDataException;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
 import com.wiss.backend.service.EventService;
+import com.wiss.backend.service.EventStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -33,12 +44,24 @@ import java.util.List;
  *     Funktionsgruppen:
  * </h3>
  * <ul>
- *     <li><b>DTO</b>: Standard-CRUD über EventDTO</li>
- *     <li><b>Filter</b>: Filterung nach Kategorie, Status, Datum</li>
+ *     <li><b>DTO</b>: Standard-CRUD über EventDTO, Teiländerung per JSON Merge Patch,
+ *         Statusänderung und Löschen mehrerer Events</li>
+ *     <li><b>Filter</b>: Filterung nach Kategorie, Status, Datum und Kartenausschnitt</li>
  *     <li><b>Statistiken</b>: Anzahl- und Statistikabfragen</li>
  *     <li><b>Formulardaten</b>: Verarbeitung von Event-Entitäten für Frontend-Formulare</li>
+ *     <li><b>Spaltenorientiert</b>: kompakte Listen ({@value EventColumnsDTO#MEDIA_TYPE} oder CBOR)</li>
  * </ul>
  *
+ * <h3>
+ *     Gleichzeitige Bearbeitung:
+ * </h3>
+ * <p>
+ *     Einzelne Events werden mit ihrer Version als {@code ETag} geliefert. Enthält eine
+ *     Änderung {@code If-Match} mit einer veralteten Version, antwortet der Controller mit
+ *     412; verliert eine Änderung das Rennen gegen eine gleichzeitige, mit 409. In beiden
+ *     Fällen wird nichts überschrieben.
+ * </p>
+ *
  * @author Natascha Blumer
  * @version 2.0
  * @since 2025-12-12
@@ -54,15 +77,23 @@ import java.util.List;
 @RequestMapping("/api/events")
 public class EventController {
 
+    /**
+     * Medientyp für JSON Merge Patch (RFC 7386).
+     */
+    public static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
     private final EventService eventService;
+    private final EventStreamService eventStreamService;
 
     /**
      * Konstruktor mit Abhängigkeitsinjektion für den EventService
      *
      * @param eventService Serviceklasse zur Geschäftslogik von Events
+     * @param eventStreamService Live-Stream der Änderungen
      */
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventStreamService eventStreamService) {
         this.eventService = eventService;
+        this.eventStreamService = eventStreamService;
     }
 
     /**
@@ -82,11 +113,56 @@ public class EventController {
         return eventService.getAllEventsAsDTO();
     }
 
+    /**
+     * Gibt alle Events spaltenorientiert zurück (Content Negotiation über den {@code Accept}-Header).
+     *
+     * @return alle Events als {@link EventColumnsDTO}
+     */
+    @GetMapping(produces = {EventColumnsDTO.MEDIA_TYPE, EventColumnsDTO.CBOR_MEDIA_TYPE})
+    @Operation(
+            summary = "Alle Events spaltenorientiert abrufen",
+            description = "Kompakte Darstellung mit parallelen Arrays für Karten- und Analyse-Clients"
+    )
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @ApiResponse(responseCode = "200", description = "Events erfolgreich abgerufen")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public EventColumnsDTO getAllEventsAsColumns() {
+        return eventService.getAllEventsAsColumns();
+    }
+
+    /**
+     * Öffnet einen Live-Stream aller Änderungen an Events und Favoritenzahlen.
+     *
+     * <p>
+     *     Jede Änderung wird als Server-Sent Event {@code change} mit einem
+     *     {@link EventStreamDTO} gesendet, unabhängig davon, auf welcher Instanz sie
+     *     geschrieben wurde. Nach einem Verbindungsabbruch setzt der Browser mit
+     *     {@code Last-Event-ID} fort; ist das nicht möglich (z. B. auf einer anderen Instanz),
+     *     folgt ein {@code resync}-Event.
+     * </p>
+     *
+     * @param lastEventId zuletzt empfangene ID oder {@code null}
+     * @return offener Stream
+     * @throws com.wiss.backend.exception.ServiceOverloadedException bei zu vielen Verbindungen (503)
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Live-Änderungen abonnieren",
+            description = "Server-Sent Events für erstellte, geänderte und gelöschte Events sowie Favoritenzahlen"
+    )
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @ApiResponse(responseCode = "200", description = "Stream geöffnet")
+    @ApiResponse(responseCode = "503", description = "Zu viele offene Verbindungen")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventStreamService.subscribe(lastEventId);
+    }
+
     /**
      * Gibt ein einzelnes Event basierend auf der übergebenen ID zurück.
      *
      * @param id ID des gesuchten Events
-     * @return EventDTO mit den Details des Events
+     * @return EventDTO mit den Details des Events, Version als {@code ETag}
      * @throws MethodArgumentTypeMismatchException bei ungültiger ID (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
      */
@@ -100,10 +176,10 @@ public class EventController {
     @ApiResponse(responseCode = "400", description = "Ungültige ID übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
-    public EventDTO getEventById(
+    public ResponseEntity<EventDTO> getEventById(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id) {
-        return eventService.getEventByIdAsDTO(id);
+        return withETag(eventService.getEventByIdAsDTO(id));
     }
 
     /**
@@ -215,11 +291,13 @@ public class EventController {
      * Aktualisiert ein bestehendes Event anhand der ID und der übergebenen {@link EventDTO}-Daten.
      *
      * @param id ID des zu aktualisierenden Events
+     * @param ifMatch erwartete Version als {@code ETag}, optional
      * @param eventDTO Neue Eventdaten
-     * @return Aktualisiertes Event
+     * @return Aktualisiertes Event, neue Version als {@code ETag}
      * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
      * @throws org.springframework.http.converter.HttpMessageNotReadableException bei ungültigen Daten (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionMismatchException bei veralteter Version (412)
      */
     @PutMapping("/{id}")
     @Operation(
@@ -230,12 +308,49 @@ public class EventController {
     @ApiResponse(responseCode = "200", description = "Event erfolgreich aktualisiert")
     @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "409", description = "Gleichzeitige Änderung, bitte neu laden")
+    @ApiResponse(responseCode = "412", description = "If-Match entspricht nicht der aktuellen Version")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
-    public EventDTO updateEvent(
+    public ResponseEntity<EventDTO> updateEvent(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "Erwartete Version (ETag)", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EventDTO eventDTO) {
-        return eventService.updateEvent(id, eventDTO);
+        return withETag(eventService.updateEvent(id, eventDTO, parseIfMatch(ifMatch)));
+    }
+
+    /**
+     * Ändert einzelne Felder eines Events per JSON Merge Patch (RFC 7386), z. B.
+     * {@code {"status": "closed"}}. Nicht enthaltene Felder bleiben unverändert.
+     *
+     * @param id ID des zu ändernden Events
+     * @param ifMatch erwartete Version als {@code ETag}, optional
+     * @param patch Merge Patch als JSON-Objekt
+     * @return Event nach der Änderung, neue Version als {@code ETag}
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei unbekannten Feldern oder ungültigem Ergebnis (400)
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionMismatchException bei veralteter Version (412)
+     */
+    @PatchMapping(path = "/{id}", consumes = {MERGE_PATCH_MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Event teilweise ändern",
+            description = "Übernimmt nur die im JSON Merge Patch enthaltenen Felder"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @ApiResponse(responseCode = "200", description = "Event erfolgreich geändert")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Patch oder ungültiges Ergebnis")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "409", description = "Gleichzeitige Änderung, bitte neu laden")
+    @ApiResponse(responseCode = "412", description = "If-Match entspricht nicht der aktuellen Version")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public ResponseEntity<EventDTO> patchEvent(
+            @Parameter(description = "ID des Events", example = "1", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Erwartete Version (ETag)", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        return withETag(eventService.patchEvent(id, patch, parseIfMatch(ifMatch)));
     }
 
     /**
@@ -260,11 +375,59 @@ public class EventController {
         eventService.deleteEvent(id);
     }
 
+    /**
+     * Setzt den Status mehrerer Events mit einer einzigen Anfrage, z. B. um nach einer
+     * Saison alle Waldbrände zu schliessen. IDs ohne Event werden übersprungen.
+     *
+     * @param update IDs und neuer Status
+     * @return Anzahl angefragter und geänderter Events
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei fehlenden Daten oder
+     *         mehr als {@value EventService#MAX_BULK_SIZE} IDs (400)
+     */
+    @PatchMapping("/status")
+    @Operation(
+            summary = "Status mehrerer Events setzen",
+            description = "Setzt den Status aller übergebenen Events mit einer einzigen Datenbankanweisung"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @ApiResponse(responseCode = "200", description = "Status erfolgreich gesetzt")
+    @ApiResponse(responseCode = "400", description = "Ungültige oder zu viele IDs, oder Status fehlt")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public EventBulkResultDTO updateEventStatuses(@RequestBody EventStatusUpdateDTO update) {
+        return eventService.updateEventStatuses(update.getIds(), update.getStatus());
+    }
+
+    /**
+     * Löscht mehrere Events mit einer einzigen Anfrage. IDs ohne Event werden übersprungen.
+     *
+     * @param ids IDs der Events, z. B. {@code ?ids=1,2,3}
+     * @return Anzahl angefragter und gelöschter Events
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei fehlenden oder mehr
+     *         als {@value EventService#MAX_BULK_SIZE} IDs (400)
+     */
+    @DeleteMapping
+    @Operation(
+            summary = "Mehrere Events löschen",
+            description = "Löscht alle übergebenen Events mit einer einzigen Datenbankanweisung"
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @ApiResponse(responseCode = "200", description = "Events erfolgreich gelöscht")
+    @ApiResponse(responseCode = "400", description = "Ungültige oder zu viele IDs")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public EventBulkResultDTO deleteEvents(
+            @Parameter(description = "IDs der Events", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids) {
+        return eventService.deleteEvents(ids);
+    }
+
     /**
      * Filtert Events nach Kombination von Kategorie, Status und Zeitraum.
-     * Gibt alle Events zurück, falls keine Filter gesetzt sind.
+     * Gibt alle Events zurück, falls keine Filter gesetzt sind. Jedes gesetzte Kriterium
+     * schränkt ein, auch allein (z. B. {@code ?status=open}). Mehrere Kategorien oder Status
+     * gelten als ODER-Verknüpfung (z. B. {@code ?category=wildfires&category=floods}); ein
+     * einzelnes Start- oder Enddatum lässt den Zeitraum auf der anderen Seite offen.
      *
-     * @param category Kategorie
+     * @param category Kategorie(n)
      * @param status Status
      * @param start Startdatum
      * @param end Enddatum
@@ -274,33 +437,55 @@ public class EventController {
     @GetMapping("/filter")
     @Operation(
             summary = "Events filtern",
-            description = "Filtert bestehende Events"
+            description = "Filtert bestehende Events; mehrere Werte pro Feld werden ODER-verknüpft"
     )
     @ApiResponse(responseCode = "200", description = "Events erfolgreich gefiltert")
     @ApiResponse(responseCode = "400", description = "Ungültige Daten übergeben")
     @Tag(name = "Events – Filter", description = "Filterfunktionen für Kategorie, Status, Datum & Kombinationen")
     public List<EventDTO> getEventsByFilter(
-            @Parameter(description = "Kategorie", example = "wildfires")
-            @RequestParam(required = false) EventCategory category,
-            @Parameter(description = "Status", example = "open")
-            @RequestParam(required = false) EventStatus status,
+            @Parameter(description = "Kategorie (mehrfach möglich)", example = "wildfires")
+            @RequestParam(name = "category", required = false) List<EventCategory> categories,
+            @Parameter(description = "Status (mehrfach möglich)", example = "open")
+            @RequestParam(name = "status", required = false) List<EventStatus> statuses,
             @Parameter(description = "Startdatum", example = "2025-07-01")
             @RequestParam(required = false) LocalDate start,
             @Parameter(description = "Enddatum", example = "2025-07-15")
             @RequestParam(required = false) LocalDate end) {
-        if (category != null && status != null && start != null && end != null) {
-            return eventService.getEventsByCategoryAndStatusAndDateBetween(category, status, start, end);
-        } else if (category != null && start != null && end != null) {
-            return eventService.getEventsByCategoryAndDateBetween(category, start, end);
-        } else if (category != null && status != null) {
-            return eventService.getEventsByCategoryAndStatus(category, status);
-        } else if (status != null && start != null && end != null) {
-            return eventService.getEventsByStatusAndDateBetween(status, start, end);
-        } else if (start != null && end != null) {
-            return eventService.getEventsByDateBetween(start, end);
-        } else {
+        if (size(categories) == 0 && size(statuses) == 0 && start == null && end == null) {
             return eventService.getAllEventsAsDTO();
         }
+        return eventService.getEventsByFilter(categories, statuses, start, end);
+    }
+
+    /**
+     * Gibt alle Events innerhalb eines geografischen Rechtecks (Bounding Box) zurück.
+     *
+     * @param minLat südliche Grenze
+     * @param maxLat nördliche Grenze
+     * @param minLon westliche Grenze
+     * @param maxLon östliche Grenze
+     * @return Liste der Events im Rechteck
+     * @throws com.wiss.backend.exception.CoordinateOutOfRangeException bei ungültigen Koordinaten (400)
+     */
+    @GetMapping("/geo")
+    @Operation(
+            summary = "Events in einem Kartenausschnitt abrufen",
+            description = "Gibt alle Events innerhalb der angegebenen Breiten- und Längengrade zurück"
+    )
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @ApiResponse(responseCode = "200", description = "Events erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Ungültige Koordinaten übergeben")
+    @Tag(name = "Events – Filter", description = "Filterfunktionen für Kategorie, Status, Datum & Kombinationen")
+    public List<EventDTO> getEventsWithinBounds(
+            @Parameter(description = "Südliche Grenze", example = "30.0", required = true)
+            @RequestParam double minLat,
+            @Parameter(description = "Nördliche Grenze", example = "45.0", required = true)
+            @RequestParam double maxLat,
+            @Parameter(description = "Westliche Grenze", example = "-125.0", required = true)
+            @RequestParam double minLon,
+            @Parameter(description = "Östliche Grenze", example = "-110.0", required = true)
+            @RequestParam double maxLon) {
+        return eventService.getEventsWithinBounds(minLat, maxLat, minLon, maxLon);
     }
 
     /**
@@ -372,6 +557,38 @@ public class EventController {
         return eventService.getTotalEventsByDateBetween(start, end);
     }
 
+    /**
+     * Gibt die Anzahl aller Events für eine beliebige Filterkombination zurück:
+     * mehrere Werte pro Feld werden ODER-, die Felder untereinander UND-verknüpft.
+     *
+     * @param categories Kategorien
+     * @param statuses Status
+     * @param start Startdatum
+     * @param end Enddatum
+     * @return Anzahl passender Events
+     * @throws MethodArgumentTypeMismatchException bei ungültigen Daten (400)
+     */
+    @GetMapping("/stats/filter")
+    @Operation(
+            summary = "Anzahl Events einer Filterkombination abrufen",
+            description = "Zählt Events nach Kategorien, Status und Zeitraum (ODER pro Feld, UND zwischen Feldern)"
+    )
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @ApiResponse(responseCode = "200", description = "Anzahl Events erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Ungültige Daten übergeben")
+    @Tag(name = "Events – Statistiken", description = "Zählfunktionen nach Kategorie, Status oder Zeitraum")
+    public long getEventCountByFilter(
+            @Parameter(description = "Kategorie (mehrfach möglich)", example = "wildfires")
+            @RequestParam(name = "category", required = false) List<EventCategory> categories,
+            @Parameter(description = "Status (mehrfach möglich)", example = "open")
+            @RequestParam(name = "status", required = false) List<EventStatus> statuses,
+            @Parameter(description = "Startdatum", example = "2025-07-01")
+            @RequestParam(required = false) LocalDate start,
+            @Parameter(description = "Enddatum", example = "2025-07-15")
+            @RequestParam(required = false) LocalDate end) {
+        return eventService.getTotalEventsByFilter(categories, statuses, start, end);
+    }
+
     /**
      * Gibt alle Events als Formulardaten zurück (für das Frontend optimiert).
      *
@@ -389,6 +606,24 @@ public class EventController {
         return eventService.getAllEventsAsFormDTO();
     }
 
+    /**
+     * Gibt alle Events inkl. Ersteller:in spaltenorientiert zurück
+     * (Content Negotiation über den {@code Accept}-Header).
+     *
+     * @return alle Events als {@link EventColumnsDTO} mit Ersteller:innen-Spalten
+     */
+    @GetMapping(value = "/all", produces = {EventColumnsDTO.MEDIA_TYPE, EventColumnsDTO.CBOR_MEDIA_TYPE})
+    @Operation(
+            summary = "Alle Events als Formulardaten spaltenorientiert abrufen",
+            description = "Kompakte Darstellung mit parallelen Arrays inkl. Ersteller:in"
+    )
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @ApiResponse(responseCode = "200", description = "Events erfolgreich abgerufen")
+    @Tag(name = "Events – Formulardaten (Frontend)", description = "Spezielle Endpunkte für die Formularverwendung im Frontend")
+    public EventColumnsDTO getAllFormEventsAsColumns() {
+        return eventService.getAllEventsAsFormColumns();
+    }
+
     /**
      * Gibt ein spezifisches Event als EventFormDTO zurück.
      *
@@ -440,12 +675,19 @@ public class EventController {
     /**
      * Aktualisiert ein Event über das Frontend-Formular.
      *
+     * <p>
+     *     Die erwartete Version kommt aus {@code If-Match} oder, falls der Header fehlt, aus
+     *     dem Feld {@code version} des Formulars.
+     * </p>
+     *
      * @param id ID des Events
+     * @param ifMatch erwartete Version als {@code ETag}, optional
      * @param event neue Eventdaten
      * @return aktualisiertes Event als EventFormDTO
      * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
      * @throws org.springframework.http.converter.HttpMessageNotReadableException bei ungültigen Daten (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionMismatchException bei veralteter Version (412)
      */
     @PutMapping("/{id}/update")
     @Operation(
@@ -456,12 +698,88 @@ public class EventController {
     @ApiResponse(responseCode = "200", description = "Event erfolgreich aktualisiert")
     @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "409", description = "Gleichzeitige Änderung, bitte neu laden")
+    @ApiResponse(responseCode = "412", description = "Version entspricht nicht der aktuellen Version")
     @Tag(name = "Events – Formulardaten (Frontend)", description = "Spezielle Endpunkte für die Formularverwendung im Frontend")
     public EventFormDTO updateEventFromForm(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "Erwartete Version (ETag)", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Event-Daten", required = true)
             @Valid @RequestBody Event event) {
-        return eventService.updateEventFromForm(id, event);
+        Long expectedVersion = ifMatch != null ? parseIfMatch(ifMatch) : event.getVersion();
+        return eventService.updateEventFromForm(id, event, expectedVersion);
+    }
+
+    /**
+     * Liefert ein Event mit seiner Version als {@code ETag}.
+     */
+    private static ResponseEntity<EventDTO> withETag(EventDTO event) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (event.getVersion() != null) {
+            response.eTag(String.valueOf(event.getVersion()));
+        }
+        return response.body(event);
+    }
+
+    /**
+     * Version, die nie mit einem Event übereinstimmt (Versionen beginnen bei 0). Wird für
+     * {@code If-Match}-Werte verwendet, die laut RFC 9110 nie passen können.
+     */
+    static final long NO_MATCHING_VERSION = -1L;
+
+    /**
+     * Liest die erwartete Version aus {@code If-Match}, z. B. {@code "3"}.
+     *
+     * <p>
+     *     {@code If-Match} vergleicht stark (RFC 9110, Abschnitt 13.1.1): Schwache ETags
+     *     ({@code W/"3"}) und fremde ETags passen nie. Sie führen daher wie eine veraltete
+     *     Version zu 412 mit der aktuellen Version als {@code ETag}, nicht zu 400.
+     * </p>
+     *
+     * @param ifMatch Header-Wert oder {@code null}
+     * @return Version; {@link #NO_MATCHING_VERSION}, wenn kein ETag passen kann; {@code null}
+     *         ohne Header bzw. bei {@code *}
+     * @throws InvalidEventDataException wenn der Header syntaktisch ungültig ist oder mehrere
+     *         Versionen nennt (400)
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Long version = null;
+        for (String member : ifMatch.split(",")) {
+            String tag = member.trim();
+            boolean weak = tag.startsWith("W/");
+            String opaque = weak ? tag.substring(2) : tag;
+            if (opaque.length() < 2 || !opaque.startsWith("\"") || !opaque.endsWith("\"")) {
+                throw new InvalidEventDataException("Ungültiger If-Match-Header: " + ifMatch);
+            }
+            Long candidate = weak ? null : parseVersion(opaque.substring(1, opaque.length() - 1));
+            if (candidate != null) {
+                if (version != null && !version.equals(candidate)) {
+                    throw new InvalidEventDataException("If-Match darf nur eine Version enthalten: " + ifMatch);
+                }
+                version = candidate;
+            }
+        }
+        return version != null ? version : NO_MATCHING_VERSION;
+    }
+
+    /**
+     * @return Version oder {@code null}, wenn der ETag nicht von dieser API stammt
+     */
+    private static Long parseVersion(String opaque) {
+        try {
+            long version = Long.parseLong(opaque);
+            return version >= 0 ? version : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int size(List<?> values) {
+        return values != null ? values.size() : 0;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,11 @@
 package com.wiss.backend.controller;
 
+import com.wiss.backend.dto.FavoriteStatusDTO;
+import com.wiss.backend.dto.TrendingEventDTO;
 import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.service.EventFavoriteService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +13,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * <h2>
  *     Controller für Favoritenfunktionen
@@ -26,6 +31,17 @@ import org.springframework.web.bind.annotation.*;
  *     beim Zählen und Ändern der Favoriten zu vermeiden.
  * </p>
  *
+ * <p>
+ *     Für Listen- und Kartenansichten liefert {@code /favorites/status} Status und Zähler
+ *     vieler Events in einer Anfrage statt einer Anfrage pro Event. {@code /trending}
+ *     liefert die zuletzt am häufigsten favorisierten Events.
+ * </p>
+ *
+ * <p>
+ *     Neben dem Toggle ({@code POST}) gibt es idempotente Endpunkte: {@code PUT} setzt,
+ *     {@code DELETE} entfernt den Favoriten. Clients mit Retries sollten diese verwenden.
+ * </p>
+ *
  * @author Natascha Blumer
  * @version 1.0
  * @since 2025-12-12
@@ -73,6 +89,56 @@ public class EventFavoriteController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Markiert ein Event als Favorit. Idempotent: Ist das Event bereits favorisiert,
+     * bleibt alles unverändert und der aktuelle Status wird geliefert.
+     *
+     * @param eventId ID des Events
+     * @param user    aktuell eingeloggter Benutzer (von Spring Security gesetzt)
+     * @return Favoritenstatus und Gesamtanzahl der Favoriten
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn das Event nicht existiert (404)
+     */
+    @PutMapping("/{eventId}/favorite")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Favorit setzen",
+            description = "Markiert ein Event als Favorit. Wiederholte Anfragen ändern nichts."
+    )
+    @ApiResponse(responseCode = "200", description = "Event ist favorisiert")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    public ResponseEntity<FavoriteResponse> addFavorite(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        return ResponseEntity.ok(FavoriteResponse.of(favoriteService.setFavorite(user.getId(), eventId, true)));
+    }
+
+    /**
+     * Entfernt die Favoriten-Markierung eines Events. Idempotent: Ist das Event nicht
+     * favorisiert, bleibt alles unverändert.
+     *
+     * @param eventId ID des Events
+     * @param user    aktuell eingeloggter Benutzer (von Spring Security gesetzt)
+     * @return Favoritenstatus und Gesamtanzahl der Favoriten
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn das Event nicht existiert (404)
+     */
+    @DeleteMapping("/{eventId}/favorite")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Favorit entfernen",
+            description = "Entfernt die Favoriten-Markierung eines Events. Wiederholte Anfragen ändern nichts."
+    )
+    @ApiResponse(responseCode = "200", description = "Event ist nicht (mehr) favorisiert")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    public ResponseEntity<FavoriteResponse> removeFavorite(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        return ResponseEntity.ok(FavoriteResponse.of(favoriteService.setFavorite(user.getId(), eventId, false)));
+    }
+
     /**
      * Liefert die Anzahl aller Benutzer:innen, die ein bestimmtes Event
      * favorisiert haben. Dieser Endpunkt ist öffentlich, da die Anzahl
@@ -92,6 +158,59 @@ public class EventFavoriteController {
         return ResponseEntity.ok(new FavoriteCountResponse(eventId, favoritesCount));
     }
 
+    /**
+     * Liefert für mehrere Events, ob der eingeloggte Benutzer sie favorisiert hat,
+     * und wie oft sie insgesamt favorisiert wurden.
+     *
+     * @param ids  Event-IDs, kommagetrennt oder als wiederholter Parameter
+     * @param user aktuell eingeloggter Benutzer (von Spring Security gesetzt)
+     * @return ein Eintrag pro bekanntem Event, in der Reihenfolge der Anfrage
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei fehlenden oder zu vielen IDs (400)
+     */
+    @GetMapping("/favorites/status")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Favoritenstatus mehrerer Events",
+            description = "Gibt Favoritenstatus und Favoritenanzahl für bis zu "
+                    + EventFavoriteService.MAX_STATUS_IDS + " Events in einer Anfrage zurück. Unbekannte IDs fehlen in der Antwort."
+    )
+    @ApiResponse(responseCode = "200", description = "Status erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Keine oder zu viele Event-IDs")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    public ResponseEntity<List<FavoriteStatusDTO>> getFavoriteStatus(
+            @Parameter(description = "Event-IDs", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        return ResponseEntity.ok(favoriteService.getFavoriteStatus(user.getId(), ids));
+    }
+
+    /**
+     * Liefert die Events, die im gewählten Zeitfenster am häufigsten favorisiert wurden.
+     *
+     * @param window Zeitfenster ({@code 1h}, {@code 24h} oder {@code 7d})
+     * @param k      Anzahl Events
+     * @return Events mit Trend-Punkten, höchste zuerst
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei unbekanntem Zeitfenster oder ungültiger Anzahl (400)
+     */
+    @GetMapping("/trending")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Trendende Events",
+            description = "Rangliste nach Favorisierungen im Zeitfenster; ältere Favorisierungen zählen exponentiell weniger."
+    )
+    @ApiResponse(responseCode = "200", description = "Rangliste erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Unbekanntes Zeitfenster oder ungültige Anzahl")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    public ResponseEntity<List<TrendingEventDTO>> getTrendingEvents(
+            @Parameter(description = "Zeitfenster (1h, 24h, 7d)", example = "24h")
+            @RequestParam(defaultValue = "24h") String window,
+            @Parameter(description = "Anzahl Events (max. " + EventFavoriteService.MAX_TRENDING + ")", example = "50")
+            @RequestParam(defaultValue = "50") int k
+    ) {
+        return ResponseEntity.ok(favoriteService.getTrendingEvents(window, k));
+    }
+
     /**
      * Kompakte Response für Favoriten-Toggling.
      *
@@ -103,7 +222,12 @@ public class EventFavoriteController {
             Long eventId,
             boolean favorite,
             int favoritesCount
-    ) {}
+    ) {
+
+        static FavoriteResponse of(FavoriteStatusDTO status) {
+            return new FavoriteResponse(status.getEventId(), status.isFavorite(), status.getFavoritesCount());
+        }
+    }
 
     /**
      * Response nur zur Rückgabe des Favoritenzählers.
@@ -0,0 +1,116 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.dto.EventSearchResultDTO;
+import com.wiss.backend.dto.EventSuggestionDTO;
+import com.wiss.backend.service.EventService;
+import com.wiss.backend.store.EventSuggestionIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Controller für Titelsuche und Autovervollständigung
+ * </h2>
+ * <p>
+ *     Stellt die Volltextsuche über Event-Titel bereit. Die Anfrage wird in Begriffe
+ *     zerlegt; jeder Begriff wird als Präfix gesucht, sodass sich der Endpunkt auch für
+ *     Eingaben während des Tippens eignet (z. B. {@code ?q=waldb}).
+ * </p>
+ *
+ * <p>
+ *     Die Treffer stammen aus einem In-Memory-Index
+ *     ({@link com.wiss.backend.store.EventSearchIndex}) statt aus einer
+ *     {@code LIKE}-Abfrage über die gesamte Tabelle.
+ * </p>
+ *
+ * <p>
+ *     Für Eingabefelder liefert {@code /suggest} zusätzlich Vervollständigungen ganzer
+ *     Titel und Kategorienamen aus einem Präfixbaum
+ *     ({@link com.wiss.backend.store.EventSuggestionIndex}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventService#searchEvents(String, int, int)
+ * @see EventService#getSuggestions(String, int)
+ */
+@RestController
+@RequestMapping("/api/events")
+@Tag(name = "Events – Suche", description = "Volltextsuche und Autovervollständigung über Event-Titel")
+public class EventSearchController {
+
+    private final EventService eventService;
+
+    /**
+     * Konstruktor mit Abhängigkeitsinjektion für den EventService
+     *
+     * @param eventService Serviceklasse für Suche und Autovervollständigung über Event-Titel
+     */
+    public EventSearchController(EventService eventService) {
+        this.eventService = eventService;
+    }
+
+    /**
+     * Sucht Events nach Titel, sortiert nach Relevanz und seitenweise.
+     *
+     * @param q    Suchanfrage
+     * @param page Seitennummer (ab 0)
+     * @param size Seitengrösse
+     * @return Ergebnisseite mit Gesamtanzahl der Treffer
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei leerer Anfrage oder ungültiger Seite (400)
+     * @throws com.wiss.backend.exception.ServiceOverloadedException solange der Index aufgebaut wird (503)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(
+            summary = "Events nach Titel suchen",
+            description = "Präfixsuche über alle Begriffe des Titels; exakte Treffer und kurze Titel werden bevorzugt."
+    )
+    @ApiResponse(responseCode = "200", description = "Suche erfolgreich ausgeführt")
+    @ApiResponse(responseCode = "400", description = "Leere Anfrage oder ungültige Seitenangaben")
+    @ApiResponse(responseCode = "503", description = "Suchindex wird noch aufgebaut")
+    public EventSearchResultDTO searchEvents(
+            @Parameter(description = "Suchanfrage", example = "waldbrand kal", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Seitennummer (ab 0)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Seitengrösse (max. " + EventService.MAX_SEARCH_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return eventService.searchEvents(q, page, size);
+    }
+
+    /**
+     * Liefert Vervollständigungen für Titel und Kategorien, gewichtet nach Favoriten.
+     *
+     * @param prefix eingegebener Text
+     * @param limit  gewünschte Anzahl Vorschläge
+     * @return Vorschläge, bester zuerst
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei leerem Präfix oder ungültiger Anzahl (400)
+     */
+    @GetMapping("/suggest")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(
+            summary = "Vorschläge für Titel und Kategorien",
+            description = "Vervollständigt den Anfang eines Titels oder Kategorienamens; häufig favorisierte Events zuerst."
+    )
+    @ApiResponse(responseCode = "200", description = "Vorschläge erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Leerer Präfix oder ungültige Anzahl")
+    public List<EventSuggestionDTO> getSuggestions(
+            @Parameter(description = "Eingegebener Text", example = "waldb", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Anzahl Vorschläge (max. " + EventSuggestionIndex.MAX_SUGGESTIONS + ")", example = "5")
+            @RequestParam(defaultValue = "5") int limit) {
+        return eventService.getSuggestions(prefix, limit);
+    }
+}
@@ -0,0 +1,90 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.service.EventFavoriteService;
+import com.wiss.backend.service.UserFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Controller für Daten der eingeloggten Benutzer:in
+ * </h2>
+ * <p>
+ *     Stellt Endpunkte unter {@code /api/users/me} bereit, die sich immer auf die
+ *     Benutzer:in des mitgesendeten JWT beziehen. Fremde Benutzer-IDs können darüber
+ *     nicht abgefragt werden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventFavoriteService
+ * @see UserFeedService
+ */
+@RestController
+@RequestMapping("/api/users/me")
+@Tag(name = "Benutzer", description = "Endpunkte für die eingeloggte Benutzer:in")
+public class UserController {
+
+    private final EventFavoriteService favoriteService;
+    private final UserFeedService feedService;
+
+    /**
+     * Konstruktor mit Abhängigkeitsinjektion für Favoriten und Feed
+     *
+     * @param favoriteService Serviceklasse für die Favoriten der Benutzer:in
+     * @param feedService Serviceklasse für den persönlichen Event-Feed
+     */
+    public UserController(EventFavoriteService favoriteService, UserFeedService feedService) {
+        this.favoriteService = favoriteService;
+        this.feedService = feedService;
+    }
+
+    /**
+     * Liefert alle Events, die die eingeloggte Benutzer:in favorisiert hat.
+     *
+     * @param user aktuell eingeloggter Benutzer (von Spring Security gesetzt)
+     * @return favorisierte Events, sortiert nach ID
+     */
+    @GetMapping("/favorites")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Eigene Favoriten",
+            description = "Gibt alle Events zurück, die die eingeloggte Benutzer:in als Favorit markiert hat."
+    )
+    @ApiResponse(responseCode = "200", description = "Favoriten erfolgreich abgerufen")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    public ResponseEntity<List<EventDTO>> getMyFavorites(@AuthenticationPrincipal AppUser user) {
+        return ResponseEntity.ok(favoriteService.getFavoriteEvents(user.getId()));
+    }
+
+    /**
+     * Liefert den persönlichen Feed: Favoriten und neueste offene Events in deren Kategorien.
+     *
+     * @param user aktuell eingeloggter Benutzer (von Spring Security gesetzt)
+     * @return Events des Feeds, zuletzt hinzugekommene zuerst
+     */
+    @GetMapping("/feed")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    @Operation(
+            summary = "Persönlicher Feed",
+            description = "Favoriten und neueste offene Events in den Kategorien der Favoriten, aus dem Arbeitsspeicher."
+    )
+    @ApiResponse(responseCode = "200", description = "Feed erfolgreich abgerufen")
+    @ApiResponse(responseCode = "401", description = "Nicht authentifiziert")
+    public ResponseEntity<List<EventDTO>> getMyFeed(@AuthenticationPrincipal AppUser user) {
+        return ResponseEntity.ok(feedService.getFeed(user.getId()));
+    }
+}
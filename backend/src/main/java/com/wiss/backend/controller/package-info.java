@@ -22,6 +22,13 @@
  *
  *     <li>{@link com.wiss.backend.controller.EventFavoriteController} –
  *         Endpunkte zum Markieren von Favoriten sowie zum Auslesen des Favoritenzählers.</li>
+ *
+ *     <li>{@link com.wiss.backend.controller.EventSearchController} –
+ *         Volltextsuche über Event-Titel mit Präfix-Treffern, Ranking und Paginierung
+ *         sowie Vorschläge für die Autovervollständigung.</li>
+ *
+ *     <li>{@link com.wiss.backend.controller.UserController} –
+ *         Daten der eingeloggten Benutzer:in: eigene Favoritenliste und persönlicher Feed.</li>
  * </ul>
  *
  * <h3>
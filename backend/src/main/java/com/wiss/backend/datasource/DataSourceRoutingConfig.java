@@ -0,0 +1,138 @@
+package com.wiss.backend.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>
+ *     Konfiguration der Lese-Replikate
+ * </h2>
+ *
+ * <p>
+ *     Aktiv mit {@code datasource.replicas.enabled=true}. Ersetzt die von Spring Boot
+ *     erzeugte DataSource durch drei Beans:
+ * </p>
+ * <ul>
+ *     <li>{@code primaryDataSource} – Hikari-Pool aus {@code spring.datasource.*}; auch
+ *         Flyway migriert über diesen Pool</li>
+ *     <li>{@link ReplicaRoutingDataSource} – je ein Pool pro URL in
+ *         {@code datasource.replicas.urls}, mit denselben Pool-Einstellungen wie der Primary
+ *         und {@code readOnly}-Verbindungen</li>
+ *     <li>{@code dataSource} ({@link Primary}) – {@link LazyConnectionDataSourceProxy} um die
+ *         Routing-DataSource; wird von JPA, {@code JdbcTemplate} und den Transaktionen
+ *         verwendet</li>
+ * </ul>
+ *
+ * <p>
+ *     Lokal lässt sich das Routing mit zwei Datenbanken testen, z. B. einer zweiten
+ *     PostgreSQL-Instanz oder zwei H2-Datenbanken; für H2 muss
+ *     {@code datasource.replicas.lag-query} auf eine Abfrage ohne PostgreSQL-Funktionen
+ *     (z. B. {@code SELECT 0}) gesetzt werden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ReplicaRoutingDataSource
+ * @see ReplicaLagMonitor
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Verbindungspool des Primary.
+     *
+     * @param properties Verbindungsdaten aus {@code spring.datasource.*}
+     * @return Hikari-Pool, konfiguriert über {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Routing-DataSource mit je einem Pool pro Replikat.
+     *
+     * @param primary      Pool des Primary
+     * @param urls         JDBC-URLs der Replikate
+     * @param username     Benutzer für die Replikate
+     * @param password     Passwort für die Replikate
+     * @param maxLagMillis maximal tolerierter Rückstand
+     * @return Routing-DataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            @Value("${datasource.replicas.urls:}") List<String> urls,
+            @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replicas.max-lag-ms:1000}") long maxLagMillis) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setReadOnly(true);
+            config.setPoolName("replica-" + replicas.size());
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLagMillis);
+    }
+
+    /**
+     * Von der Anwendung verwendete DataSource.
+     *
+     * @param routingDataSource Routing-DataSource
+     * @param primary           Pool des Primary (für die Standardwerte der Verbindungen)
+     * @return Proxy, der die Verbindung erst beim ersten Statement holt
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource,
+                                 @Qualifier("primaryDataSource") HikariDataSource primary) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource);
+        proxy.setDefaultAutoCommit(primary.isAutoCommit());
+        return proxy;
+    }
+
+    /**
+     * Periodische Messung des Replikationsrückstands.
+     *
+     * @param routingDataSource Routing-DataSource
+     * @param lagQuery          Abfrage für den Rückstand in Millisekunden (leer = PostgreSQL)
+     * @param intervalMillis    Intervall der Messung
+     * @return Monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                                               @Value("${datasource.replicas.lag-query:}") String lagQuery,
+                                               @Value("${datasource.replicas.lag-check-interval-ms:1000}") long intervalMillis) {
+        return new ReplicaLagMonitor(routingDataSource,
+                lagQuery.isBlank() ? ReplicaLagMonitor.POSTGRES_LAG_QUERY : lagQuery, intervalMillis);
+    }
+}
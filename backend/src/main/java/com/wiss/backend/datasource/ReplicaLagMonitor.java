@@ -0,0 +1,119 @@
+package com.wiss.backend.datasource;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     Überwachung des Replikationsrückstands
+ * </h2>
+ *
+ * <p>
+ *     Fragt alle {@code datasource.replicas.lag-check-interval-ms} jedes Replikat nach seinem
+ *     Rückstand in Millisekunden ({@code datasource.replicas.lag-query}) und meldet ihn an die
+ *     {@link ReplicaRoutingDataSource}. Ein Replikat, das nicht antwortet, gilt bis zur
+ *     nächsten erfolgreichen Messung als nicht verfügbar.
+ * </p>
+ *
+ * <p>
+ *     Die Standardabfrage für PostgreSQL meldet 0, wenn alle empfangenen WAL-Einträge
+ *     eingespielt sind – sonst die Zeit seit der letzten eingespielten Transaktion. So wirkt
+ *     ein ruhiger Primary ohne neue Schreibzugriffe nicht wie ein Rückstand.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see ReplicaRoutingDataSource
+ * @see DataSourceRoutingConfig
+ */
+public class ReplicaLagMonitor {
+
+    /**
+     * Rückstand eines PostgreSQL-Standby in Millisekunden.
+     */
+    public static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * @param routingDataSource Routing-DataSource, an die der Rückstand gemeldet wird
+     * @param lagQuery          Abfrage, die den Rückstand in Millisekunden liefert
+     * @param intervalMillis    Intervall der Messung
+     */
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, String lagQuery, long intervalMillis) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.intervalMillis = intervalMillis;
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Startet die periodische Messung.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Misst den Rückstand aller Replikate einmal.
+     */
+    void check() {
+        List<DataSource> replicas = routingDataSource.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            long lag;
+            try {
+                lag = measure(replicas.get(i));
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Replikat {} nicht erreichbar: {}", i, e.getMessage());
+                lag = Long.MAX_VALUE;
+            }
+            routingDataSource.updateLag(i, lag);
+        }
+    }
+
+    /**
+     * Beendet den Hintergrund-Thread beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long measure(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            return result.next() ? Math.round(result.getDouble(1)) : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.wiss.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h2>
+ *     Routing-DataSource für Lese-Replikate
+ * </h2>
+ *
+ * <p>
+ *     Verbindungen für {@code @Transactional(readOnly = true)} gehen reihum an ein
+ *     Replikat, alle übrigen an den Primary. Ein Replikat wird nur verwendet, solange der
+ *     {@link ReplicaLagMonitor} es als erreichbar und mit höchstens
+ *     {@code datasource.replicas.max-lag-ms} Rückstand gemeldet hat; ist keines verfügbar,
+ *     liest auch die Transaktion vom Primary.
+ * </p>
+ *
+ * <p>
+ *     Die Entscheidung fällt beim Holen der Verbindung. Damit das Read-only-Flag der
+ *     Transaktion dann bereits gesetzt ist, wird diese DataSource in einen
+ *     {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} gehüllt
+ *     (siehe {@link DataSourceRoutingConfig}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see DataSourceRoutingConfig
+ * @see ReplicaLagMonitor
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final long maxLagMillis;
+    private final AtomicLongArray lagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary      DataSource für Schreibzugriffe (und Rückfall für Lesezugriffe)
+     * @param replicas     DataSources der Replikate
+     * @param maxLagMillis maximal tolerierter Replikationsrückstand
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long maxLagMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        // bis zur ersten Messung gilt jedes Replikat als nicht verfügbar
+        for (int i = 0; i < replicas.size(); i++) {
+            lagMillis.set(i, Long.MAX_VALUE);
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @return DataSources der Replikate, in Konfigurationsreihenfolge
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Meldet den gemessenen Rückstand eines Replikats.
+     *
+     * @param index     Position des Replikats
+     * @param lagMillis Rückstand in Millisekunden, {@link Long#MAX_VALUE} = nicht erreichbar
+     */
+    public void updateLag(int index, long lagMillis) {
+        this.lagMillis.set(index, lagMillis);
+    }
+
+    /**
+     * @return Anzahl Replikate, die aktuell Lesezugriffe erhalten
+     */
+    public int availableReplicas() {
+        int available = 0;
+        for (int i = 0; i < lagMillis.length(); i++) {
+            if (lagMillis.get(i) <= maxLagMillis) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = (start + i) % replicas.size();
+            if (lagMillis.get(index) <= maxLagMillis) {
+                return replicaKey(index);
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Schliesst die Verbindungspools der Replikate. Der Primary gehört dem Spring-Context.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+}
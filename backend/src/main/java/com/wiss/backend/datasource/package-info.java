@@ -0,0 +1,36 @@
+/**
+ * <h2>
+ *     Routing zwischen Primary und Lese-Replikaten
+ * </h2>
+ *
+ * <p>
+ *     Dieses Paket verteilt Datenbankverbindungen auf den Primary und optionale
+ *     Lese-Replikate ({@code datasource.replicas.enabled}). Transaktionen mit
+ *     {@code @Transactional(readOnly = true)} lesen von einem Replikat, alle anderen
+ *     arbeiten auf dem Primary.
+ * </p>
+ *
+ * <h3>Enthaltene Komponenten:</h3>
+ * <ul>
+ *     <li>{@link com.wiss.backend.datasource.DataSourceRoutingConfig} – Verbindungspools für
+ *         Primary und Replikate sowie die von JPA verwendete DataSource.</li>
+ *     <li>{@link com.wiss.backend.datasource.ReplicaRoutingDataSource} – wählt pro Verbindung
+ *         Primary oder ein verfügbares Replikat (reihum).</li>
+ *     <li>{@link com.wiss.backend.datasource.ReplicaLagMonitor} – misst periodisch den
+ *         Replikationsrückstand und nimmt zurückliegende Replikate aus der Verteilung.</li>
+ * </ul>
+ *
+ * <p>
+ *     Lesezugriffe, deren Ergebnis in einen Cache im Arbeitsspeicher übernommen wird
+ *     (z. B. {@link com.wiss.backend.store.UserFavoritesCache}), laufen weiterhin auf dem
+ *     Primary, damit ein zurückliegendes Replikat keinen veralteten Stand festschreibt.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.EventService
+ * @see com.wiss.backend.service.EventFavoriteService
+ */
+package com.wiss.backend.datasource;
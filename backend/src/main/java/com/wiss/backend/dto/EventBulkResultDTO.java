@@ -0,0 +1,48 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     Ergebnis einer Massenänderung von Events
+ * </h2>
+ *
+ * <p>
+ *     Rückgabe von {@code PATCH /api/events/status} und {@code DELETE /api/events?ids=…}.
+ *     IDs ohne Event werden übersprungen; {@code affected} kann deshalb kleiner als
+ *     {@code requested} sein.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.controller.EventController
+ * @see EventStatusUpdateDTO
+ */
+@Schema(description = "Anzahl angefragter und tatsächlich geänderter Events")
+public class EventBulkResultDTO {
+
+    @Schema(description = "Anzahl verschiedener angefragter IDs", example = "40")
+    private final int requested;
+
+    @Schema(description = "Anzahl geänderter bzw. gelöschter Events", example = "38")
+    private final int affected;
+
+    /**
+     * @param requested Anzahl verschiedener angefragter IDs
+     * @param affected  Anzahl geänderter bzw. gelöschter Events
+     */
+    public EventBulkResultDTO(int requested, int affected) {
+        this.requested = requested;
+        this.affected = affected;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+}
@@ -0,0 +1,125 @@
+package com.wiss.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     EventColumnsDTO
+ * </h2>
+ * <p>
+ *     Spaltenorientierte Darstellung einer Event-Liste für Karten- und Analyse-Clients.
+ *     Statt eines JSON-Objekts pro Event (mit wiederholten Feldnamen) enthält die Antwort
+ *     ein paralleles Array pro Feld; Index {@code i} aller Arrays beschreibt dasselbe Event.
+ * </p>
+ *
+ * <h3>
+ *     Kodierung:
+ * </h3>
+ * <ul>
+ *   <li>{@code dates}: Tage seit 1970-01-01 ({@code LocalDate.toEpochDay()})</li>
+ *   <li>{@code categories}/{@code statuses}: Ordinalzahlen, aufzulösen über
+ *       {@code categoryNames}/{@code statusNames}</li>
+ *   <li>{@code longitudes}/{@code latitudes}: 32-Bit-Gleitkommazahlen (Genauigkeit im Meterbereich)</li>
+ *   <li>{@code creatorIds}/{@code creatorUsernames}: nur bei Formulardaten, sonst nicht enthalten;
+ *       Events ohne Ersteller:in haben die ID {@code 0} und den Namen {@code null}</li>
+ * </ul>
+ *
+ * <h3>
+ *     Verwendung:
+ * </h3>
+ * <p>
+ *     Wird ausgeliefert, wenn der Client {@value #MEDIA_TYPE} oder {@value #CBOR_MEDIA_TYPE}
+ *     im {@code Accept}-Header anfordert. Die Arrays werden direkt aus den Zeilen der
+ *     Repository-Abfrage befüllt, ohne Entitäten oder {@link EventDTO}-Objekte zu erzeugen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventController
+ * @see com.wiss.backend.mapper.EventMapper#toColumns(java.util.List, boolean)
+ */
+@Schema(description = "Spaltenorientierte Event-Liste")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventColumnsDTO {
+
+    /**
+     * Media Type für die spaltenorientierte JSON-Darstellung.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.eonet.columnar+json";
+
+    /**
+     * Media Type für die spaltenorientierte Darstellung in CBOR (binär).
+     */
+    public static final String CBOR_MEDIA_TYPE = "application/cbor";
+
+    private static final String[] CATEGORY_NAMES = enumNames(EventCategory.values());
+    private static final String[] STATUS_NAMES = enumNames(EventStatus.values());
+
+    private final long[] ids;
+    private final String[] titles;
+    private final int[] dates;
+    private final int[] categories;
+    private final int[] statuses;
+    private final float[] longitudes;
+    private final float[] latitudes;
+    private final long[] creatorIds;
+    private final String[] creatorUsernames;
+
+    /**
+     * Erstellt leere Spalten für die angegebene Anzahl Events.
+     *
+     * @param count       Anzahl Events
+     * @param withCreator ob die Ersteller:innen-Spalten angelegt werden
+     */
+    public EventColumnsDTO(int count, boolean withCreator) {
+        this.ids = new long[count];
+        this.titles = new String[count];
+        this.dates = new int[count];
+        this.categories = new int[count];
+        this.statuses = new int[count];
+        this.longitudes = new float[count];
+        this.latitudes = new float[count];
+        this.creatorIds = withCreator ? new long[count] : null;
+        this.creatorUsernames = withCreator ? new String[count] : null;
+    }
+
+    @Schema(description = "Anzahl Events", example = "2")
+    public int getCount() { return ids.length; }
+
+    @Schema(description = "Namen der Kategorien in Ordinal-Reihenfolge")
+    public String[] getCategoryNames() { return CATEGORY_NAMES; }
+
+    @Schema(description = "Namen der Status in Ordinal-Reihenfolge")
+    public String[] getStatusNames() { return STATUS_NAMES; }
+
+    public long[] getIds() { return ids; }
+
+    public String[] getTitles() { return titles; }
+
+    @Schema(description = "Datum als Tage seit 1970-01-01")
+    public int[] getDates() { return dates; }
+
+    public int[] getCategories() { return categories; }
+
+    public int[] getStatuses() { return statuses; }
+
+    public float[] getLongitudes() { return longitudes; }
+
+    public float[] getLatitudes() { return latitudes; }
+
+    public long[] getCreatorIds() { return creatorIds; }
+
+    public String[] getCreatorUsernames() { return creatorUsernames; }
+
+    private static String[] enumNames(Enum<?>[] values) {
+        String[] names = new String[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = value.name();
+        }
+        return names;
+    }
+}
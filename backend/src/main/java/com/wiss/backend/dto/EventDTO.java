@@ -1,5 +1,6 @@
 package com.wiss.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -62,7 +63,7 @@ public class EventDTO {
      * @apiNote Darf nicht in der Zukunft liegen.
      * @see #getDate()
      */
-    @NotBlank(message = "Datum darf nicht leer sein")
+    @NotNull(message = "Datum darf nicht leer sein")
     @PastOrPresent(message = "Datum darf nicht in der Zukunft liegen")
     @Schema(description = "Datum des Events", example = "2025-07-01")
     private LocalDate date;
@@ -105,6 +106,15 @@ public class EventDTO {
     @Schema(description = "Status des Events", example = "open")
     private EventStatus status;
 
+    /**
+     * Version des Events für optimistische Sperren; wird auch als {@code ETag} geliefert.
+     * Fehlt in Listen aus dem In-Memory-Spaltenspeicher.
+     * @see #getVersion()
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Version des Events (wie ETag)", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     /**
      * Leerer Konstruktor (benötigt für JSON-Deserialisierung).
      */
@@ -152,4 +162,7 @@ public class EventDTO {
 
     public EventStatus getStatus() { return status; }
     public void setStatus(EventStatus status) { this.status = status; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.wiss.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
@@ -118,6 +119,15 @@ public class EventFormDTO {
     @Schema(description = "ID der Ersteller:in", example = "42")
     private Long creatorId;
 
+    /**
+     * Version des Events für optimistische Sperren. Das Formular sendet sie beim
+     * Speichern zurück, damit gleichzeitige Bearbeitungen erkannt werden.
+     * @see #getVersion()
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Version des Events (wie ETag)", example = "3")
+    private Long version;
+
     /**
      * Leerer Konstruktor (benötigt für JSON-Deserialisierung).
      */
@@ -199,6 +209,9 @@ public class EventFormDTO {
     public Long getCreatorId() { return creatorId; }
     public void setCreatorId(Long creatorId) { this.creatorId = creatorId; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     /**
      * Konvertiert dieses Formular-DTO zu einem {@link EventDTO}, z. B. zur Weitergabe an den Service.
      *
@@ -0,0 +1,82 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     EventSearchResultDTO
+ * </h2>
+ * <p>
+ *     Eine Seite von Suchtreffern der Titelsuche, sortiert nach Relevanz.
+ * </p>
+ *
+ * <h3>
+ *     Verwendung:
+ * </h3>
+ * <ul>
+ *   <li>Rückgabeobjekt von {@code GET /api/events/search}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventSearchController
+ * @see com.wiss.backend.store.EventSearchIndex
+ */
+@Schema(description = "Seite von Suchtreffern der Titelsuche")
+public class EventSearchResultDTO {
+
+    @Schema(description = "Suchanfrage", example = "waldbrand kal")
+    private final String query;
+
+    @Schema(description = "Anzahl aller Treffer", example = "42")
+    private final long total;
+
+    @Schema(description = "Seitennummer (ab 0)", example = "0")
+    private final int page;
+
+    @Schema(description = "Seitengrösse", example = "20")
+    private final int size;
+
+    @Schema(description = "Treffer dieser Seite, nach Relevanz sortiert")
+    private final List<EventDTO> events;
+
+    /**
+     * Erstellt eine Ergebnisseite.
+     *
+     * @param query  Suchanfrage
+     * @param total  Anzahl aller Treffer
+     * @param page   Seitennummer (ab 0)
+     * @param size   Seitengrösse
+     * @param events Treffer dieser Seite
+     */
+    public EventSearchResultDTO(String query, long total, int page, int size, List<EventDTO> events) {
+        this.query = query;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.events = events;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<EventDTO> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,66 @@
+package com.wiss.backend.dto;
+
+import com.wiss.backend.model.EventStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     DTO für Statusänderungen mehrerer Events
+ * </h2>
+ *
+ * <p>
+ *     Eingabe von {@code PATCH /api/events/status}, z. B. um nach einer Saison alle
+ *     Waldbrände auf einmal zu schliessen. Geprüft wird im
+ *     {@link com.wiss.backend.service.EventService} in einem Durchgang: mindestens eine
+ *     und höchstens {@value com.wiss.backend.service.EventService#MAX_BULK_SIZE} IDs, keine
+ *     davon leer, und ein Status.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.controller.EventController#updateEventStatuses(EventStatusUpdateDTO)
+ * @see EventBulkResultDTO
+ */
+@Schema(description = "Neuer Status für mehrere Events")
+public class EventStatusUpdateDTO {
+
+    @Schema(description = "IDs der Events", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Neuer Status", example = "closed")
+    private EventStatus status;
+
+    /**
+     * Leerer Standardkonstruktor (z. B. für JSON-Deserialisierung).
+     */
+    public EventStatusUpdateDTO() {}
+
+    /**
+     * @param ids    IDs der Events
+     * @param status neuer Status
+     */
+    public EventStatusUpdateDTO(List<Long> ids, EventStatus status) {
+        this.ids = ids;
+        this.status = status;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public EventStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EventStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,113 @@
+package com.wiss.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wiss.backend.model.EventChange;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     EventStreamDTO
+ * </h2>
+ * <p>
+ *     Eine Änderung im Live-Stream {@code GET /api/events/stream}. Wird als Server-Sent
+ *     Event mit dem Namen {@value #EVENT_NAME} an alle verbundenen Clients gesendet.
+ * </p>
+ *
+ * <h3>
+ *     Inhalt je nach Typ:
+ * </h3>
+ * <ul>
+ *   <li>{@code CREATED}/{@code UPDATED}: {@code event} enthält den gespeicherten Stand</li>
+ *   <li>{@code DELETED}: nur {@code eventId}</li>
+ *   <li>{@code FAVORITES}: {@code eventId} und die neue {@code favoritesCount}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventStreamService
+ * @see com.wiss.backend.cluster.ChangeRelay
+ */
+@Schema(description = "Änderung im Live-Stream der Events")
+public class EventStreamDTO {
+
+    /**
+     * Name der Server-Sent Events für Änderungen.
+     */
+    public static final String EVENT_NAME = "change";
+
+    /**
+     * Art der Änderung.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        FAVORITES
+    }
+
+    @Schema(description = "Art der Änderung", example = "UPDATED")
+    private final Type type;
+
+    @Schema(description = "ID des betroffenen Events", example = "42")
+    private final Long eventId;
+
+    @Schema(description = "Gespeicherter Stand bei CREATED und UPDATED")
+    private final EventDTO event;
+
+    @Schema(description = "Anzahl Favoriten bei FAVORITES", example = "12")
+    private final Integer favoritesCount;
+
+    /**
+     * Erstellt eine Änderung.
+     *
+     * @param type           Art der Änderung
+     * @param eventId        ID des Events
+     * @param event          gespeicherter Stand oder {@code null}
+     * @param favoritesCount Anzahl Favoriten oder {@code null}
+     */
+    @JsonCreator
+    public EventStreamDTO(@JsonProperty("type") Type type,
+                          @JsonProperty("eventId") Long eventId,
+                          @JsonProperty("event") EventDTO event,
+                          @JsonProperty("favoritesCount") Integer favoritesCount) {
+        this.type = type;
+        this.eventId = eventId;
+        this.event = event;
+        this.favoritesCount = favoritesCount;
+    }
+
+    /**
+     * @param change Änderung eines Events
+     * @return Stream-Eintrag mit gleichem Typ
+     */
+    public static EventStreamDTO of(EventChange change) {
+        return new EventStreamDTO(Type.valueOf(change.type().name()), change.eventId(), change.event(), null);
+    }
+
+    /**
+     * @param eventId        ID des Events
+     * @param favoritesCount neue Anzahl Favoriten
+     * @return Stream-Eintrag vom Typ {@code FAVORITES}
+     */
+    public static EventStreamDTO favorites(Long eventId, int favoritesCount) {
+        return new EventStreamDTO(Type.FAVORITES, eventId, null, favoritesCount);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public EventDTO getEvent() {
+        return event;
+    }
+
+    public Integer getFavoritesCount() {
+        return favoritesCount;
+    }
+}
@@ -0,0 +1,83 @@
+package com.wiss.backend.dto;
+
+import com.wiss.backend.model.EventCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     EventSuggestionDTO
+ * </h2>
+ * <p>
+ *     Ein Vorschlag für die Autovervollständigung im Event-Formular: entweder ein
+ *     bestehender Event-Titel oder der Name einer {@link EventCategory}.
+ * </p>
+ *
+ * <h3>
+ *     Verwendung:
+ * </h3>
+ * <ul>
+ *   <li>Rückgabeobjekt von {@code GET /api/events/suggest}</li>
+ *   <li>Bei Titeln enthält {@code category} die Kategorie des meistfavorisierten Events
+ *       mit diesem Titel, damit das Formular sie vorbelegen kann</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventSearchController
+ * @see com.wiss.backend.store.EventSuggestionIndex
+ */
+@Schema(description = "Vorschlag für die Autovervollständigung")
+public class EventSuggestionDTO {
+
+    /**
+     * Art eines Vorschlags.
+     */
+    public enum Type {
+        title,
+        category
+    }
+
+    @Schema(description = "Vorgeschlagener Text", example = "Waldbrand Kalifornien")
+    private final String text;
+
+    @Schema(description = "Art des Vorschlags", example = "title")
+    private final Type type;
+
+    @Schema(description = "Zugehörige Kategorie", example = "wildfires")
+    private final EventCategory category;
+
+    @Schema(description = "Gewicht (Summe der Favoriten)", example = "12")
+    private final long weight;
+
+    /**
+     * Erstellt einen Vorschlag.
+     *
+     * @param text     vorgeschlagener Text
+     * @param type     Art des Vorschlags
+     * @param category zugehörige Kategorie
+     * @param weight   Gewicht (Summe der Favoriten)
+     */
+    public EventSuggestionDTO(String text, Type type, EventCategory category, long weight) {
+        this.text = text;
+        this.type = type;
+        this.category = category;
+        this.weight = weight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public EventCategory getCategory() {
+        return category;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,64 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     FavoriteStatusDTO
+ * </h2>
+ * <p>
+ *     Favoritenstatus eines Events aus Sicht der eingeloggten Benutzer:in zusammen mit
+ *     der globalen Favoritenanzahl.
+ * </p>
+ *
+ * <h3>
+ *     Verwendung:
+ * </h3>
+ * <ul>
+ *   <li>Rückgabeobjekt von {@code GET /api/events/favorites/status}, ein Eintrag pro Event</li>
+ *   <li>Ersetzt einzelne Abfragen von Status und Zähler pro angezeigter Event-Karte</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventFavoriteController
+ * @see com.wiss.backend.service.EventFavoriteService#getFavoriteStatus(Long, java.util.Collection)
+ */
+@Schema(description = "Favoritenstatus und Favoritenanzahl eines Events")
+public class FavoriteStatusDTO {
+
+    @Schema(description = "ID des Events", example = "42")
+    private final Long eventId;
+
+    @Schema(description = "Von der eingeloggten Benutzer:in favorisiert", example = "true")
+    private final boolean favorite;
+
+    @Schema(description = "Anzahl Favoriten insgesamt", example = "12")
+    private final int favoritesCount;
+
+    /**
+     * Erstellt einen Statuseintrag.
+     *
+     * @param eventId        ID des Events
+     * @param favorite       true, wenn favorisiert
+     * @param favoritesCount Anzahl Favoriten insgesamt
+     */
+    public FavoriteStatusDTO(Long eventId, boolean favorite, int favoritesCount) {
+        this.eventId = eventId;
+        this.favorite = favorite;
+        this.favoritesCount = favoritesCount;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public boolean isFavorite() {
+        return favorite;
+    }
+
+    public int getFavoritesCount() {
+        return favoritesCount;
+    }
+}
@@ -0,0 +1,55 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     TrendingEventDTO
+ * </h2>
+ * <p>
+ *     Ein Eintrag der Trend-Rangliste: das Event und seine aktuellen Trend-Punkte.
+ * </p>
+ *
+ * <h3>
+ *     Verwendung:
+ * </h3>
+ * <ul>
+ *   <li>Rückgabeobjekt von {@code GET /api/events/trending}</li>
+ *   <li>{@code score} entspricht der Anzahl Favorisierungen, wobei ältere Favorisierungen
+ *       exponentiell weniger zählen</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventFavoriteController
+ * @see com.wiss.backend.store.TrendingEventsTracker
+ */
+@Schema(description = "Event mit Trend-Punkten")
+public class TrendingEventDTO {
+
+    @Schema(description = "Das Event")
+    private final EventDTO event;
+
+    @Schema(description = "Abklingende Anzahl Favorisierungen im Zeitfenster", example = "4.73")
+    private final double score;
+
+    /**
+     * Erstellt einen Eintrag der Trend-Rangliste.
+     *
+     * @param event das Event
+     * @param score aktuelle Trend-Punkte
+     */
+    public TrendingEventDTO(EventDTO event, double score) {
+        this.event = event;
+        this.score = score;
+    }
+
+    public EventDTO getEvent() {
+        return event;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -21,6 +21,14 @@
  *     <li>{@link com.wiss.backend.dto.RegisterResponseDTO} – Ausgabeobjekt für erfolgreiche Registrierungen</li>
  *     <li>{@link com.wiss.backend.dto.EventDTO} – DTO zur Anzeige und Rückgabe eines Naturereignisses</li>
  *     <li>{@link com.wiss.backend.dto.EventFormDTO} – Eingabe-DTO für Formulare zum Erstellen oder Bearbeiten von Events</li>
+ *     <li>{@link com.wiss.backend.dto.EventColumnsDTO} – Spaltenorientierte Darstellung aller Events (JSON/CBOR)</li>
+ *     <li>{@link com.wiss.backend.dto.EventStatusUpdateDTO} – Neuer Status für mehrere Events</li>
+ *     <li>{@link com.wiss.backend.dto.EventBulkResultDTO} – Ergebnis einer Massenänderung oder -löschung</li>
+ *     <li>{@link com.wiss.backend.dto.EventSearchResultDTO} – Seite von Suchtreffern der Titelsuche</li>
+ *     <li>{@link com.wiss.backend.dto.EventStreamDTO} – Änderung im Live-Stream {@code /api/events/stream}</li>
+ *     <li>{@link com.wiss.backend.dto.EventSuggestionDTO} – Vorschlag für die Autovervollständigung (Titel oder Kategorie)</li>
+ *     <li>{@link com.wiss.backend.dto.FavoriteStatusDTO} – Favoritenstatus und Favoritenanzahl eines Events</li>
+ *     <li>{@link com.wiss.backend.dto.TrendingEventDTO} – Event mit Trend-Punkten für die Trend-Rangliste</li>
  *     <li>{@link com.wiss.backend.dto.ErrorResponseDTO} – Einheitliches Fehlerformat für alle API-Fehler</li>
  * </ul>
  *
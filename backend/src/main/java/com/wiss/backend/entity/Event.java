@@ -3,6 +3,7 @@ package com.wiss.backend.entity;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -19,6 +20,19 @@ import java.time.LocalDate;
  *     Ein Event besteht aus Metadaten wie Titel, Datum, Kategorie, geografischen Koordinaten und Status.
  * </p>
  *
+ * <p>
+ *     Mit {@code @DynamicUpdate} enthält ein {@code UPDATE} nur die geänderten Spalten. Eine
+ *     Änderung am Titel überschreibt so z. B. keine gleichzeitig per JPQL erhöhte
+ *     Favoritenanzahl.
+ * </p>
+ *
+ * <p>
+ *     Das Feld {@code version} ({@code @Version}) erkennt gleichzeitige Bearbeitungen: Jedes
+ *     {@code UPDATE} prüft die zuvor gelesene Version, ein verlorenes Rennen endet mit einer
+ *     {@link OptimisticLockException} statt eines stillen Überschreibens. Die Favoritenanzahl
+ *     wird per JPQL ohne Versionserhöhung geändert, damit Favorisieren keine Bearbeitung stört.
+ * </p>
+ *
  * @author Natascha Blumer
  * @version 2.0
  * @since 2025-12-12
@@ -28,6 +42,7 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "events")
+@DynamicUpdate
 public class Event {
 
     /**
@@ -100,6 +115,17 @@ public class Event {
     @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
     private int favoritesCount = 0;
 
+    /**
+     * Versionsfeld für optimistische Sperren.
+     * <p>
+     *     Wird von JPA bei jeder Änderung erhöht und dient der REST-API als ETag.
+     * </p>
+     * @see #getVersion()
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Leerer Standard-Konstruktor (für JPA erforderlich).
      */
@@ -200,6 +226,9 @@ public class Event {
 
     public int getFavoritesCount() { return favoritesCount; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     /**
      * Erhöht den Favoritenzähler des Events um 1.
      * <p>
@@ -2,6 +2,8 @@ package com.wiss.backend.entity;
 
 import jakarta.persistence.*;
 
+import java.time.Instant;
+
 /**
  * <h2>
  *     Entity-Klasse zur Repräsentation von Event-Favorisierungen
@@ -25,8 +27,15 @@ import jakarta.persistence.*;
  *     <li>Favoriten hinzufügen und entfernen</li>
  *     <li>Prüfung, ob ein Event vom User bereits favorisiert wurde</li>
  *     <li>Auslesen aller Favoriten eines Users</li>
+ *     <li>Berechnung der Trend-Rangliste nach Favorisierungszeitpunkt</li>
  * </ul>
  *
+ * <p>
+ *     Pro User und Event gibt es höchstens einen Eintrag (Unique-Constraint
+ *     {@code uk_event_favorites_user_event}); gleichzeitige Anfragen können so keine
+ *     doppelten Favoriten anlegen.
+ * </p>
+ *
  * @author Natascha Blumer
  * @version 1.0
  * @since 2025-12-12
@@ -36,7 +45,8 @@ import jakarta.persistence.*;
  * @see com.wiss.backend.repository.EventFavoriteRepository
  */
 @Entity
-@Table(name = "event_favorites")
+@Table(name = "event_favorites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_favorites_user_event", columnNames = {"user_id", "event_id"}))
 public class EventFavorite {
 
     /**
@@ -63,6 +73,13 @@ public class EventFavorite {
     @Column(nullable = false)
     private Long eventId;
 
+    /**
+     * Zeitpunkt der Favorisierung. Bei Einträgen aus der Zeit vor Einführung der Spalte
+     * {@code null}.
+     */
+    @Column(name = "created_at")
+    private Instant createdAt;
+
     /**
      * Geschützter Standardkonstruktor für JPA.
      */
@@ -77,6 +94,7 @@ public class EventFavorite {
     public EventFavorite(Long userId, Long eventId) {
         this.userId = userId;
         this.eventId = eventId;
+        this.createdAt = Instant.now();
     }
 
     // Getter und Setter
@@ -88,4 +106,7 @@ public class EventFavorite {
 
     public Long getEventId() { return eventId; }
     public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
 }
@@ -0,0 +1,81 @@
+package com.wiss.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * <h2>
+ *     Eintrag im Outbox der Event-Änderungen
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.outbox.EventOutbox} in derselben Transaktion wie die
+ *     Änderung am {@link Event} geschrieben und vom
+ *     {@link com.wiss.backend.outbox.EventOutboxRelay} nach der Zustellung wieder gelöscht.
+ *     Die ID legt die Reihenfolge der Zustellung fest.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.repository.EventOutboxRepository
+ */
+@Entity
+@Table(name = "event_outbox")
+public class EventOutboxEntry {
+
+    /**
+     * Fortlaufende ID; bestimmt die Reihenfolge der Zustellung.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID des geänderten Events.
+     */
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    /**
+     * Art der Änderung ({@link com.wiss.backend.model.EventChange.Type}).
+     */
+    @Column(name = "change_type", nullable = false, length = 20)
+    private String changeType;
+
+    /**
+     * Neuer Stand des Events als JSON; {@code null} bei gelöschten Events.
+     */
+    @Column(length = 4000)
+    private String payload;
+
+    /**
+     * Zeitpunkt der Änderung.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Geschützter Standardkonstruktor für JPA. Einträge werden nur per JDBC-Batch
+     * angelegt, siehe {@link com.wiss.backend.outbox.EventOutbox#appendAll(java.util.List)}.
+     */
+    protected EventOutboxEntry() {}
+
+    // Getter
+    public Long getId() { return id; }
+
+    public Long getEventId() { return eventId; }
+
+    public String getChangeType() { return changeType; }
+
+    public String getPayload() { return payload; }
+
+    public Instant getCreatedAt() { return createdAt; }
+}
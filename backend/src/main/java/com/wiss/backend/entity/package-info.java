@@ -30,6 +30,9 @@
  *         – Modelliert die Beziehung "User favorisiert Event". Dient zur Verwaltung
  *         einer N:M-ähnlichen Relation im System.</li>
  *
+ *     <li>{@link com.wiss.backend.entity.EventOutboxEntry}
+ *         – Noch nicht zugestellte Änderung eines Events im transaktionalen Outbox.</li>
+ *
  *     <li>{@link com.wiss.backend.entity.Role}
  *         – Enum mit den verfügbaren Systemrollen (ADMIN, USER).</li>
  * </ul>
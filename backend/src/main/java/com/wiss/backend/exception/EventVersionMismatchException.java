@@ -0,0 +1,65 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für veraltete Versionen eines Events
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn ein Client mit {@code If-Match} (oder der
+ *     Version aus dem Formular) ein Event ändern will, das inzwischen geändert wurde.
+ *     Die Änderung wird nicht ausgeführt; der Client lädt den aktuellen Stand neu.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 412 Precondition Failed umgewandelt.
+ *     </li>
+ *     <li>
+ *         Die aktuelle Version wird als {@code ETag} mitgeliefert.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleVersionMismatch(EventVersionMismatchException, WebRequest)
+ */
+public class EventVersionMismatchException extends RuntimeException {
+
+    /**
+     * Die ID des geänderten Events.
+     */
+    private final Long eventId;
+
+    /**
+     * Die aktuelle Version des Events in der Datenbank.
+     */
+    private final Long currentVersion;
+
+    /**
+     * Erstellt eine neue EventVersionMismatchException.
+     *
+     * @param eventId Die ID des Events.
+     * @param currentVersion Die aktuelle Version des Events.
+     */
+    public EventVersionMismatchException(Long eventId, Long currentVersion) {
+        super("Event mit ID " + eventId + " wurde inzwischen geändert (aktuelle Version: " + currentVersion + ")");
+        this.eventId = eventId;
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * @return Die ID des Events.
+     */
+    public Long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * @return Die aktuelle Version des Events.
+     */
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
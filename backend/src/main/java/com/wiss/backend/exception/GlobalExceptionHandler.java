@@ -2,6 +2,9 @@ package com.wiss.backend.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.wiss.backend.dto.ErrorResponseDTO;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -136,6 +139,69 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Behandelt {@link EventVersionMismatchException}, wenn die Version aus {@code If-Match}
+     * oder dem Formular nicht mehr aktuell ist. Die aktuelle Version wird als {@code ETag}
+     * mitgeliefert.
+     *
+     * @param ex Die ausgelöste EventVersionMismatchException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 412 (Precondition Failed).
+     */
+    @ExceptionHandler(EventVersionMismatchException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVersionMismatch(EventVersionMismatchException ex, WebRequest request) {
+        ResponseEntity<ErrorResponseDTO> error = buildError(
+                "PRECONDITION_FAILED",
+                ex.getMessage(),
+                412,
+                request
+        );
+        return ResponseEntity.status(error.getStatusCode())
+                .eTag(String.valueOf(ex.getCurrentVersion()))
+                .body(error.getBody());
+    }
+
+    /**
+     * Behandelt verlorene optimistische Sperren: Zwei Änderungen am selben Datensatz liefen
+     * gleichzeitig und die andere wurde zuerst geschrieben. Nichts wurde überschrieben; der
+     * Client lädt neu und versucht es erneut.
+     *
+     * @param ex Die ausgelöste Exception (Spring- oder JPA-Variante).
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 409 (Conflict).
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLock(RuntimeException ex, WebRequest request) {
+        return buildError(
+                "CONFLICT",
+                "Der Datensatz wurde gleichzeitig geändert. Bitte neu laden und erneut versuchen.",
+                409,
+                request
+        );
+    }
+
+    /**
+     * Behandelt {@link ServiceOverloadedException}, wenn eine begrenzte Ressource
+     * (z. B. der Worker-Pool für die Passwortprüfung) ausgelastet ist.
+     * Der Header {@code Retry-After} teilt dem Client mit, wann ein neuer Versuch sinnvoll ist.
+     *
+     * @param ex Die ausgelöste ServiceOverloadedException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 503 (Service Unavailable).
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        ResponseEntity<ErrorResponseDTO> error = buildError(
+                "SERVICE_OVERLOADED",
+                ex.getMessage(),
+                503,
+                request
+        );
+        return ResponseEntity.status(error.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error.getBody());
+    }
+
     /**
      * Behandelt {@link MethodArgumentTypeMismatchException}, die auftritt, wenn z. B.
      * eine ungültige ID oder ein ungültiger Enum-Wert in einem {@code @PathVariable}
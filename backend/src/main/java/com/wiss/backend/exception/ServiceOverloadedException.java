@@ -0,0 +1,52 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für überlastete Ressourcen
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn eine begrenzte Ressource (z. B. der
+ *     Worker-Pool für die Passwortprüfung) keine weiteren Aufträge annehmen kann.
+ *     Der Request wird sofort abgewiesen, statt einen Request-Thread zu blockieren.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 503 Service Unavailable umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleServiceOverloaded(ServiceOverloadedException, WebRequest)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Empfohlene Wartezeit in Sekunden bis zum nächsten Versuch.
+     * <p>
+     *     Wird dem Client im Header {@code Retry-After} mitgeteilt.
+     * </p>
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Erstellt eine neue ServiceOverloadedException.
+     *
+     * @param message Beschreibung der überlasteten Ressource.
+     * @param retryAfterSeconds Empfohlene Wartezeit in Sekunden.
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * @return Empfohlene Wartezeit in Sekunden.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
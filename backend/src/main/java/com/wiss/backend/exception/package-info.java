@@ -17,6 +17,8 @@
  *     <li>{@link com.wiss.backend.exception.InvalidEventDataException} – Wird geworfen, wenn Event-Daten unvollständig oder ungültig sind (HTTP 400).</li>
  *     <li>{@link com.wiss.backend.exception.FutureDateException} – Wird geworfen, wenn ein Event-Datum in der Zukunft liegt (HTTP 400).</li>
  *     <li>{@link com.wiss.backend.exception.CoordinateOutOfRangeException} – Wird geworfen, wenn Longitude oder Latitude ausserhalb des erlaubten Bereichs liegt (HTTP 400).</li>
+ *     <li>{@link com.wiss.backend.exception.EventVersionMismatchException} – Wird geworfen, wenn die Version aus {@code If-Match} nicht mehr aktuell ist (HTTP 412).</li>
+ *     <li>{@link com.wiss.backend.exception.ServiceOverloadedException} – Wird geworfen, wenn eine begrenzte Ressource ausgelastet ist und der Request sofort abgewiesen wird (HTTP 503).</li>
  *     <li>{@link com.wiss.backend.exception.GlobalExceptionHandler} – Wandelt alle obigen Fehler in strukturierte JSON-Antworten im {@link com.wiss.backend.dto.ErrorResponseDTO}-Format um.</li>
  * </ul>
  *
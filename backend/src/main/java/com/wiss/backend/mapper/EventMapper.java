@@ -1,11 +1,21 @@
 package com.wiss.backend.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.wiss.backend.dto.EventColumnsDTO;
 import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.dto.EventFormDTO;
 import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <h2>
@@ -23,6 +33,8 @@ import java.util.List;
  *   <li>Konvertierung von Entitäten zu DTOs für API-Antworten</li>
  *   <li>Konvertierung von DTOs zu Entitäten für Service- oder Repository-Schichten</li>
  *   <li>Transformation von DTOs für Formulareingaben und -ausgaben</li>
+ *   <li>Spaltenorientierte Darstellung direkt aus Projektionsabfragen</li>
+ *   <li>Übernahme geänderter Felder in eine geladene Entität und JSON Merge Patch (RFC 7386)</li>
  * </ul>
  *
  * <h3>
@@ -55,7 +67,7 @@ public class EventMapper {
             return null;
         }
 
-        return new EventDTO(
+        EventDTO dto = new EventDTO(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDate(),
@@ -64,6 +76,8 @@ public class EventMapper {
                 entity.getLatitude(),
                 entity.getStatus()
         );
+        dto.setVersion(entity.getVersion());
+        return dto;
     }
 
     /**
@@ -83,7 +97,7 @@ public class EventMapper {
         String creatorUsername = (creator != null) ? creator.getUsername() : "Unknown";
         Long creatorId = (creator != null) ? creator.getId() : null;
 
-        return new EventFormDTO(
+        EventFormDTO dto = new EventFormDTO(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDate(),
@@ -94,6 +108,8 @@ public class EventMapper {
                 creatorUsername,
                 creatorId
         );
+        dto.setVersion(entity.getVersion());
+        return dto;
     }
 
     /**
@@ -124,6 +140,71 @@ public class EventMapper {
         );
     }
 
+    /**
+     * Übernimmt die fachlichen Felder eines {@link EventDTO} in eine geladene Entität.
+     * <p>
+     *     ID, Version, Ersteller:in und Favoritenanzahl bleiben unverändert. Da die Entität verwaltet
+     *     wird, schreibt Hibernate beim Flush nur tatsächlich geänderte Spalten
+     *     ({@code @DynamicUpdate}); sind alle Werte gleich, entfällt das {@code UPDATE}.
+     * </p>
+     *
+     * @param target geladene Entität
+     * @param source neue Werte
+     */
+    public static void updateEntity(Event target, EventDTO source) {
+        target.setTitle(source.getTitle());
+        target.setDate(source.getDate());
+        target.setCategory(source.getCategory());
+        target.setLongitude(source.getLongitude());
+        target.setLatitude(source.getLatitude());
+        target.setStatus(source.getStatus());
+    }
+
+    /**
+     * Wendet einen JSON Merge Patch (RFC 7386) auf ein {@link EventDTO} an.
+     * <p>
+     *     Vorhandene Felder ersetzen den bisherigen Wert, {@code null} entfernt ihn, fehlende
+     *     Felder bleiben unverändert. Die Pflichtfelder prüft anschliessend der Service.
+     *     Eine {@code version} im Patch wird nicht übernommen; Vorbedingungen laufen über
+     *     {@code If-Match}.
+     * </p>
+     *
+     * @param current      aktueller Stand
+     * @param patch        Merge Patch, muss ein JSON-Objekt sein
+     * @param objectMapper JSON-Konvertierung
+     * @return neuer Stand; {@code current} bleibt unverändert
+     * @throws InvalidEventDataException bei unbekannten Feldern, geänderter ID oder ungültigen Werten
+     */
+    public static EventDTO applyMergePatch(EventDTO current, JsonNode patch, ObjectMapper objectMapper) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidEventDataException("Merge Patch muss ein JSON-Objekt sein.");
+        }
+        ObjectNode merged = objectMapper.valueToTree(current);
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            String name = field.getKey();
+            if (!merged.has(name)) {
+                throw new InvalidEventDataException("Unbekanntes Feld: " + name);
+            }
+            if ("id".equals(name) && !isSameId(field.getValue(), current.getId())) {
+                throw new InvalidEventDataException("ID darf nicht geändert werden.");
+            }
+            if (field.getValue().isNull()) {
+                merged.putNull(name);
+            } else {
+                merged.set(name, field.getValue());
+            }
+        }
+        try {
+            return objectMapper.treeToValue(merged, EventDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidEventDataException("Ungültiger Wert im Merge Patch: " + e.getOriginalMessage());
+        }
+    }
+
+    private static boolean isSameId(JsonNode id, Long currentId) {
+        return id.isIntegralNumber() && currentId != null && id.asLong() == currentId;
+    }
+
     /**
      * Konvertiert eine Liste von {@link Event}-Entitäten in eine Liste von {@link EventDTO}s.
      *
@@ -151,4 +232,37 @@ public class EventMapper {
                 .map(EventMapper::toFormDTO)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Befüllt ein {@link EventColumnsDTO} direkt aus den Zeilen einer Projektionsabfrage.
+     * <p>
+     *     Erwartete Spaltenreihenfolge: {@code id, title, date, category, longitude, latitude, status}
+     *     und bei {@code withCreator} zusätzlich {@code creatorId, creatorUsername}.
+     * </p>
+     *
+     * @param rows        Ergebniszeilen aus dem {@link com.wiss.backend.repository.EventRepository}
+     * @param withCreator ob die Ersteller:innen-Spalten enthalten sind
+     * @return spaltenorientierte Event-Liste, niemals {@code null}
+     * @see EventColumnsDTO Ziel-Klasse
+     */
+    public static EventColumnsDTO toColumns(List<Object[]> rows, boolean withCreator) {
+        EventColumnsDTO columns = new EventColumnsDTO(rows.size(), withCreator);
+
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            columns.getIds()[i] = (Long) row[0];
+            columns.getTitles()[i] = (String) row[1];
+            columns.getDates()[i] = (int) ((LocalDate) row[2]).toEpochDay();
+            columns.getCategories()[i] = ((EventCategory) row[3]).ordinal();
+            columns.getLongitudes()[i] = ((Double) row[4]).floatValue();
+            columns.getLatitudes()[i] = ((Double) row[5]).floatValue();
+            columns.getStatuses()[i] = ((EventStatus) row[6]).ordinal();
+
+            if (withCreator) {
+                columns.getCreatorIds()[i] = row[7] != null ? (Long) row[7] : 0L;
+                columns.getCreatorUsernames()[i] = (String) row[8];
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,66 @@
+package com.wiss.backend.model;
+
+import com.wiss.backend.dto.EventDTO;
+
+/**
+ * <h2>
+ *     Änderungsereignis für Naturereignisse
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.service.EventService} nach jedem Erstellen,
+ *     Aktualisieren oder Löschen eines Events über den {@code ApplicationEventPublisher}
+ *     veröffentlicht. Komponenten, die Events ausserhalb der Datenbank vorhalten
+ *     (z. B. In-Memory-Indizes), halten sich damit synchron.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code CREATED}/{@code UPDATED}: {@code event} enthält den gespeicherten Stand</li>
+ *     <li>{@code DELETED}: {@code event} ist {@code null}, nur {@code eventId} ist gesetzt</li>
+ * </ul>
+ *
+ * @param type    Art der Änderung
+ * @param eventId ID des betroffenen Events
+ * @param event   gespeicherter Stand des Events oder {@code null} beim Löschen
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.EventService
+ */
+public record EventChange(Type type, Long eventId, EventDTO event) {
+
+    /**
+     * Art der Änderung.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * @param event neu gespeichertes Event
+     * @return Änderungsereignis vom Typ {@code CREATED}
+     */
+    public static EventChange created(EventDTO event) {
+        return new EventChange(Type.CREATED, event.getId(), event);
+    }
+
+    /**
+     * @param event aktualisiertes Event
+     * @return Änderungsereignis vom Typ {@code UPDATED}
+     */
+    public static EventChange updated(EventDTO event) {
+        return new EventChange(Type.UPDATED, event.getId(), event);
+    }
+
+    /**
+     * @param eventId ID des gelöschten Events
+     * @return Änderungsereignis vom Typ {@code DELETED}
+     */
+    public static EventChange deleted(Long eventId) {
+        return new EventChange(Type.DELETED, eventId, null);
+    }
+}
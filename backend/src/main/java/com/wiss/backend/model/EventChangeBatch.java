@@ -0,0 +1,27 @@
+package com.wiss.backend.model;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Stapel committeter Event-Änderungen für die In-Memory-Strukturen eines Knotens
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.cluster.ChangeRelay} auf jedem Knoten veröffentlicht,
+ *     sobald Änderungen aus dem Outbox oder von einem anderen Knoten eintreffen, und zwar
+ *     pro Änderung höchstens einmal. Die Listener laufen im Thread des Outbox-Relays bzw.
+ *     des Cluster-Transports, nicht im Request. Suchindex, Bitmap-Index, Spaltenspeicher,
+ *     Vorschläge, Feeds und Trends sehen damit die Änderungen aller Knoten.
+ * </p>
+ *
+ * @param changes Änderungen in der Reihenfolge des Outbox, nie leer
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventChange
+ * @see com.wiss.backend.cluster.ChangeRelay
+ */
+public record EventChangeBatch(List<EventChange> changes) {}
@@ -0,0 +1,24 @@
+package com.wiss.backend.model;
+
+/**
+ * <h2>
+ *     Aufforderung, die In-Memory-Strukturen eines Knotens neu zu laden
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.cluster.ChangeRelay} veröffentlicht, wenn Änderungen
+ *     anderer Knoten verloren gegangen sein können: bei einer Lücke im Transport oder einer
+ *     Nachricht, die zu weit hinter den bereits angenommenen liegt. Die Listener verwerfen
+ *     ihren Stand und laden ihn aus der Datenbank, statt bis zum Neustart veraltet zu bleiben.
+ * </p>
+ *
+ * @param reason Anlass, für das Protokoll
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventChangeBatch
+ * @see com.wiss.backend.cluster.ChangeRelay
+ */
+public record EventResync(String reason) {}
@@ -0,0 +1,27 @@
+package com.wiss.backend.model;
+
+/**
+ * <h2>
+ *     Änderungsereignis für Favoriten
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.service.EventFavoriteService} veröffentlicht, nachdem
+ *     ein Benutzer ein Event favorisiert oder die Markierung entfernt hat. Komponenten, die
+ *     Favoriten im Arbeitsspeicher vorhalten, reagieren darauf erst nach dem Commit der
+ *     Transaktion.
+ * </p>
+ *
+ * @param userId         ID des Benutzers
+ * @param eventId        ID des Events
+ * @param favorite       {@code true}, wenn das Event danach favorisiert ist
+ * @param favoritesCount Anzahl Favoriten des Events nach der Änderung
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.EventFavoriteService
+ * @see EventChange
+ */
+public record FavoriteChange(Long userId, Long eventId, boolean favorite, int favoritesCount) {}
@@ -0,0 +1,64 @@
+package com.wiss.backend.model;
+
+import java.time.Duration;
+
+/**
+ * <h2>
+ *     Zeitfenster der Trend-Rangliste
+ * </h2>
+ *
+ * <p>
+ *     Jede Favorisierung zählt beim Eintreffen 1 und verliert danach exponentiell an
+ *     Gewicht. Die {@link #getDuration() Dauer} ist die mittlere Lebensdauer: nach einem
+ *     Fenster zählt eine Favorisierung noch rund 37 %, nach drei Fenstern rund 5 %.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.store.TrendingEventsTracker
+ */
+public enum TrendingWindow {
+
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("24h", Duration.ofHours(24)),
+    WEEK("7d", Duration.ofDays(7));
+
+    private final String label;
+    private final Duration duration;
+
+    TrendingWindow(String label, Duration duration) {
+        this.label = label;
+        this.duration = duration;
+    }
+
+    /**
+     * @return Bezeichnung im API-Parameter, z. B. {@code "24h"}
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return mittlere Lebensdauer einer Favorisierung
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Sucht das Zeitfenster zu einer Bezeichnung.
+     *
+     * @param label Bezeichnung, z. B. {@code "24h"}
+     * @return Zeitfenster oder {@code null}, wenn unbekannt
+     */
+    public static TrendingWindow fromLabel(String label) {
+        for (TrendingWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        return null;
+    }
+}
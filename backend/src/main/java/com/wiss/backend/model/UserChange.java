@@ -0,0 +1,25 @@
+package com.wiss.backend.model;
+
+/**
+ * <h2>
+ *     Änderungsereignis für Benutzer:innen
+ * </h2>
+ *
+ * <p>
+ *     Wird vom {@link com.wiss.backend.service.AppUserService} veröffentlicht, nachdem sich
+ *     sicherheitsrelevante Daten einer Benutzer:in geändert haben (z. B. der neu kodierte
+ *     Passwort-Hash nach einem Login).
+ *     Zwischengespeicherte {@code UserDetails} werden danach auf allen Knoten verworfen.
+ * </p>
+ *
+ * @param userId   ID der Benutzer:in
+ * @param username Username, unter dem die {@code UserDetails} geladen werden
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.AppUserService
+ * @see EventChange
+ */
+public record UserChange(Long userId, String username) {}
@@ -17,6 +17,12 @@
  *         gemäss der NASA-EONET-API (z. B. floods, volcanoes).</li>
  *     <li>{@link com.wiss.backend.model.EventStatus} – Gibt an, ob ein Event aktuell <code>open</code>
  *         oder bereits <code>closed</code> ist.</li>
+ *     <li>{@link com.wiss.backend.model.TrendingWindow} – Zeitfenster (1h, 24h, 7d) der Trend-Rangliste.</li>
+ *     <li>{@link com.wiss.backend.model.EventChange} – Änderungsereignis nach Erstellen, Ändern oder Löschen eines Events.</li>
+ *     <li>{@link com.wiss.backend.model.EventChangeBatch} – Committete Event-Änderungen, die jeder Knoten genau einmal erhält.</li>
+ *     <li>{@link com.wiss.backend.model.EventResync} – Aufforderung, die In-Memory-Strukturen neu zu laden, wenn Änderungen verloren gegangen sein können.</li>
+ *     <li>{@link com.wiss.backend.model.FavoriteChange} – Änderungsereignis nach dem Setzen oder Entfernen eines Favoriten.</li>
+ *     <li>{@link com.wiss.backend.model.UserChange} – Änderungsereignis nach einer Änderung sicherheitsrelevanter Daten einer Benutzer:in, z. B. des Passwort-Hashes.</li>
  * </ul>
  *
  * <p>
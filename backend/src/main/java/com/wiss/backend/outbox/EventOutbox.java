@@ -0,0 +1,122 @@
+package com.wiss.backend.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.EventOutboxEntry;
+import com.wiss.backend.model.EventChange;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Schreibseite des Outbox für Event-Änderungen
+ * </h2>
+ *
+ * <p>
+ *     Der {@link com.wiss.backend.service.EventService} hängt jede Änderung in derselben
+ *     Transaktion an, in der er das Event speichert oder löscht. Damit wird eine Änderung
+ *     genau dann zugestellt, wenn sie auch committet wurde, selbst wenn der Knoten direkt
+ *     nach dem Commit abstürzt. Die Zustellung übernimmt der {@link EventOutboxRelay}.
+ * </p>
+ *
+ * <h3>Reihenfolge:</h3>
+ * <p>
+ *     Vor dem Eintrag werden ausstehende Änderungen geschrieben. Die Zeilensperre auf dem
+ *     Event wird so vor der Vergabe der Outbox-ID gesetzt; zwei Änderungen desselben Events
+ *     erhalten ihre IDs deshalb in der Reihenfolge ihrer Commits.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventOutboxRelay
+ * @see EventOutboxEntry
+ */
+@Component
+public class EventOutbox {
+
+    private static final String INSERT =
+            "INSERT INTO event_outbox (event_id, change_type, payload, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param jdbcTemplate  Einfügen der Einträge; nimmt an der laufenden JPA-Transaktion teil
+     * @param entityManager zum Schreiben ausstehender Änderungen vor dem Eintrag
+     * @param objectMapper  JSON-Serialisierung des Events
+     */
+    public EventOutbox(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Hängt eine Änderung an; nur innerhalb einer laufenden Transaktion erlaubt.
+     *
+     * @param change Änderung eines Events
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EventChange change) {
+        appendAll(List.of(change));
+    }
+
+    /**
+     * Hängt mehrere Änderungen als ein JDBC-Batch an, z. B. nach Massenänderungen; nur
+     * innerhalb einer laufenden Transaktion erlaubt. Die IDs folgen der Reihenfolge der Liste.
+     *
+     * @param changes Änderungen von Events
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<EventChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+            statement.setLong(1, change.eventId());
+            statement.setString(2, change.type().name());
+            statement.setString(3, toJson(change.event()));
+        });
+    }
+
+    /**
+     * Liest einen Eintrag zurück in eine Änderung.
+     *
+     * @param entry Eintrag aus {@code event_outbox}
+     * @return Änderung mit der ID des Eintrags
+     * @throws IllegalArgumentException wenn der Eintrag nicht lesbar ist
+     */
+    EventOutboxConsumer.Message toMessage(EventOutboxEntry entry) {
+        EventChange.Type type = EventChange.Type.valueOf(entry.getChangeType());
+        EventDTO event = null;
+        if (entry.getPayload() != null) {
+            try {
+                event = objectMapper.readValue(entry.getPayload(), EventDTO.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Outbox-Eintrag " + entry.getId() + " nicht lesbar", e);
+            }
+        }
+        return new EventOutboxConsumer.Message(entry.getId(), new EventChange(type, entry.getEventId(), event));
+    }
+
+    private String toJson(EventDTO event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Event " + event.getId() + " nicht serialisierbar", e);
+        }
+    }
+}
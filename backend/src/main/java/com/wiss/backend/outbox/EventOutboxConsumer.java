@@ -0,0 +1,44 @@
+package com.wiss.backend.outbox;
+
+import com.wiss.backend.model.EventChange;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Abnehmer der Event-Änderungen aus dem Outbox
+ * </h2>
+ *
+ * <p>
+ *     Jede Spring-Bean mit dieser Schnittstelle erhält vom {@link EventOutboxRelay} die
+ *     committeten Änderungen stapelweise und aufsteigend nach ID. Die Zustellung ist
+ *     „mindestens einmal“: Wirft ein Abnehmer, bleibt der ganze Stapel im Outbox und wird
+ *     erneut zugestellt, auch an die Abnehmer, die ihn bereits erhalten hatten. Abnehmer
+ *     müssen Wiederholungen deshalb anhand der ID erkennen oder unempfindlich dagegen sein.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventOutboxRelay
+ * @see com.wiss.backend.cluster.ChangeRelay
+ */
+public interface EventOutboxConsumer {
+
+    /**
+     * Eine Änderung mit ihrer ID aus dem Outbox.
+     *
+     * @param id     fortlaufende ID, auf allen Knoten gleich
+     * @param change Änderung
+     */
+    record Message(long id, EventChange change) {}
+
+    /**
+     * Verarbeitet einen Stapel Änderungen.
+     *
+     * @param batch Änderungen aufsteigend nach ID, nie leer
+     * @throws RuntimeException wenn der Stapel später erneut zugestellt werden soll
+     */
+    void accept(List<Message> batch);
+}
@@ -0,0 +1,184 @@
+package com.wiss.backend.outbox;
+
+import com.wiss.backend.entity.EventOutboxEntry;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.repository.EventOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>
+ *     Zustellung der Event-Änderungen aus dem Outbox
+ * </h2>
+ *
+ * <p>
+ *     Liest die Tabelle {@code event_outbox} in Stapeln von {@code outbox.batch-size}
+ *     Einträgen aufsteigend nach ID, gibt jeden Stapel an alle {@link EventOutboxConsumer}
+ *     weiter und löscht ihn in derselben Transaktion. Die Abnehmer laufen damit auf einem
+ *     eigenen Thread statt im Request; ein Absturz vor dem Commit führt nur zu einer
+ *     erneuten Zustellung, nie zu einem Verlust.
+ * </p>
+ *
+ * <h3>Ablauf:</h3>
+ * <ul>
+ *     <li>Nach jeder Änderung dieses Knotens sofort, sonst alle {@code outbox.interval-ms}
+ *         für Einträge anderer Knoten oder aus abgebrochenen Durchläufen</li>
+ *     <li>Pro Stapel wird die Zeile in {@code event_outbox_relay} gesperrt
+ *         ({@code FOR UPDATE SKIP LOCKED}). Arbeitet bereits ein anderer Knoten ab, wird
+ *         der Durchlauf übersprungen; so bleibt die Reihenfolge über alle Knoten erhalten.</li>
+ *     <li>Wirft ein Abnehmer, wird die Transaktion zurückgerollt und der Stapel beim
+ *         nächsten Durchlauf erneut zugestellt. Nicht lesbare Einträge werden protokolliert
+ *         und verworfen, damit sie den Outbox nicht blockieren.</li>
+ * </ul>
+ *
+ * <p>
+ *     Geliefert werden nur committete Einträge. Commits können IDs überholen; eine kleinere
+ *     ID kann also nach einer grösseren zugestellt werden, für dasselbe Event aber nie
+ *     (siehe {@link EventOutbox}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventOutbox
+ * @see EventOutboxConsumer
+ */
+@Component
+public class EventOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(EventOutboxRelay.class);
+
+    private final EventOutboxRepository repository;
+    private final EventOutbox outbox;
+    private final List<EventOutboxConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param repository         Zugriff auf die Tabelle {@code event_outbox}
+     * @param outbox             Umwandlung der Einträge in Änderungen
+     * @param consumers          alle Abnehmer
+     * @param transactionManager Transaktion pro Stapel
+     * @param batchSize          maximale Anzahl Einträge pro Stapel
+     * @param intervalMillis     Intervall der regelmässigen Durchläufe
+     */
+    public EventOutboxRelay(EventOutboxRepository repository,
+                            EventOutbox outbox,
+                            List<EventOutboxConsumer> consumers,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.interval-ms:1000}") long intervalMillis) {
+        this.repository = repository;
+        this.outbox = outbox;
+        this.consumers = consumers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "event-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plant die regelmässigen Durchläufe ein; der erste arbeitet Einträge aus der Zeit vor
+     * dem Start ab.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::drain, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stösst nach dem Commit einer Änderung einen Durchlauf an. Mehrere Änderungen kurz
+     * hintereinander werden zu einem Durchlauf zusammengefasst.
+     *
+     * @param change Änderung eines Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChange(EventChange change) {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                scheduled.set(false);
+                drain();
+            });
+        }
+    }
+
+    /**
+     * Stellt zu, bis der Outbox leer ist, ein anderer Knoten abarbeitet oder ein Abnehmer
+     * fehlschlägt.
+     */
+    void drain() {
+        try {
+            while (drainBatch() == batchSize) {
+                // nächsten Stapel sofort holen
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox-Zustellung abgebrochen, wird wiederholt: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stellt einen Stapel in einer Transaktion zu und löscht ihn.
+     *
+     * @return Anzahl verarbeiteter Einträge; 0, wenn leer oder ein anderer Knoten abarbeitet
+     */
+    int drainBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            if (repository.lockRelay().isEmpty()) {
+                return 0;
+            }
+            List<EventOutboxEntry> entries = repository.findByOrderByIdAsc(Limit.of(batchSize));
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            List<EventOutboxConsumer.Message> batch = new ArrayList<>(entries.size());
+            for (EventOutboxEntry entry : entries) {
+                try {
+                    batch.add(outbox.toMessage(entry));
+                } catch (IllegalArgumentException e) {
+                    log.error("Outbox-Eintrag {} verworfen: {}", entry.getId(), e.getMessage());
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumers.forEach(consumer -> consumer.accept(batch));
+            }
+            repository.deleteAllInBatch(entries);
+            return entries.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Beendet den Hintergrund-Thread beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
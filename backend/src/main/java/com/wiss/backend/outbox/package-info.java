@@ -0,0 +1,29 @@
+/**
+ * <h2>
+ *     Transaktionaler Outbox für Event-Änderungen
+ * </h2>
+ *
+ * <p>
+ *     Änderungen an Events werden in derselben Transaktion wie das Event in die Tabelle
+ *     {@code event_outbox} geschrieben und danach im Hintergrund, in Reihenfolge und
+ *     stapelweise an die Abnehmer zugestellt. Abnehmer hängen so nicht an der Antwortzeit
+ *     der Requests, und nach einem Absturz geht keine committete Änderung verloren.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Komponenten:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.backend.outbox.EventOutbox} –
+ *         Hängt Änderungen in der laufenden Transaktion an.</li>
+ *     <li>{@link com.wiss.backend.outbox.EventOutboxRelay} –
+ *         Stellt die Einträge stapelweise zu und löscht sie danach.</li>
+ *     <li>{@link com.wiss.backend.outbox.EventOutboxConsumer} –
+ *         Schnittstelle der Abnehmer, z. B. {@link com.wiss.backend.cluster.ChangeRelay}.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.backend.outbox;
@@ -2,7 +2,11 @@ package com.wiss.backend.repository;
 
 import com.wiss.backend.entity.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -67,4 +71,18 @@ public interface AppUserRepository extends JpaRepository<AppUser, Long> {
      * @return true, wenn Email vergeben ist
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Ersetzt den Passwort-Hash eines Benutzers mit einem einzelnen UPDATE,
+     * ohne die Entität vorher zu laden. Die Version wird dabei erhöht.
+     *
+     * @param id       ID des Benutzers
+     * @param password neuer Passwort-Hash
+     * @return Anzahl geänderter Zeilen
+     * @see com.wiss.backend.service.AppUserService#authenticateUser(String, String)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AppUser u SET u.password = :password, u.version = u.version + 1 WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
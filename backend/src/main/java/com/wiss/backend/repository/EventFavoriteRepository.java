@@ -2,8 +2,12 @@ package com.wiss.backend.repository;
 
 import com.wiss.backend.entity.EventFavorite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -19,7 +23,7 @@ import java.util.List;
  *
  * <h3>Hauptfunktionen:</h3>
  * <ul>
- *     <li>Abrufen aller Favoriten eines bestimmten Users</li>
+ *     <li>Abrufen aller Favoriten eines bestimmten Users (auch nur als Event-IDs)</li>
  *     <li>Prüfen, ob ein Event bereits favorisiert wurde</li>
  *     <li>Entfernen eines Favoriten</li>
  *     <li>Zählen, wie oft ein Event favorisiert wurde</li>
@@ -42,6 +46,26 @@ public interface EventFavoriteRepository extends JpaRepository<EventFavorite, Lo
      */
     List<EventFavorite> findByUserId(Long userId);
 
+    /**
+     * Liefert nur die IDs der favorisierten Events eines Users.
+     *
+     * @param userId ID des Users
+     * @return Event-IDs in beliebiger Reihenfolge
+     * @see com.wiss.backend.store.UserFavoritesCache
+     */
+    @Query("SELECT f.eventId FROM EventFavorite f WHERE f.userId = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Lädt Event-ID und Zeitpunkt aller Favorisierungen seit einem Zeitpunkt.
+     *
+     * @param since frühester Zeitpunkt
+     * @return Zeilen {@code [eventId, createdAt]}
+     * @see com.wiss.backend.store.TrendingEventsTracker#load()
+     */
+    @Query("SELECT f.eventId, f.createdAt FROM EventFavorite f WHERE f.createdAt >= :since")
+    List<Object[]> findCreatedSince(@Param("since") Instant since);
+
     /**
      * Prüft, ob ein bestimmter User ein bestimmtes Event bereits favorisiert hat.
      *
@@ -59,6 +83,18 @@ public interface EventFavoriteRepository extends JpaRepository<EventFavorite, Lo
      */
     void deleteByUserIdAndEventId(Long userId, Long eventId);
 
+    /**
+     * Löscht die Favoriten-Markierung mit einer einzigen {@code DELETE}-Anweisung, ohne
+     * die Entity vorher zu laden.
+     *
+     * @param userId  ID des Users
+     * @param eventId ID des Events
+     * @return Anzahl gelöschter Einträge (0 oder 1)
+     */
+    @Modifying
+    @Query("DELETE FROM EventFavorite f WHERE f.userId = :userId AND f.eventId = :eventId")
+    int deleteFavorite(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
     /**
      * Zählt, wie oft ein Event insgesamt favorisiert wurde.
      *
@@ -0,0 +1,46 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.EventOutboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Repository für den Outbox der Event-Änderungen
+ * </h2>
+ *
+ * <p>
+ *     Einträge werden vom {@link com.wiss.backend.outbox.EventOutbox} geschrieben und vom
+ *     {@link com.wiss.backend.outbox.EventOutboxRelay} stapelweise gelesen und gelöscht.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventOutboxEntry
+ */
+@Repository
+public interface EventOutboxRepository extends JpaRepository<EventOutboxEntry, Long> {
+
+    /**
+     * Liefert die ältesten Einträge.
+     *
+     * @param limit maximale Anzahl
+     * @return Einträge aufsteigend nach ID
+     */
+    List<EventOutboxEntry> findByOrderByIdAsc(Limit limit);
+
+    /**
+     * Sperrt die Zeile in {@code event_outbox_relay} bis zum Ende der Transaktion. Hält
+     * bereits ein anderer Knoten die Sperre, kommt ohne zu warten nichts zurück.
+     *
+     * @return {@code [1]}, wenn die Sperre erhalten wurde, sonst leer
+     */
+    @Query(value = "SELECT id FROM event_outbox_relay WHERE id = 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Integer> lockRelay();
+}
@@ -0,0 +1,161 @@
+package com.wiss.backend.repository;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     Pflege der Monatspartitionen der Tabelle {@code events}
+ * </h2>
+ *
+ * <p>
+ *     In PostgreSQL ist {@code events} nach {@code date} monatlich partitioniert
+ *     (Flyway-Migration {@code db/migration/postgresql/V2__partition_events.sql}). Abfragen mit
+ *     Datumsbereich wie {@link EventRepository#findByDateBetween} lesen dadurch nur die
+ *     betroffenen Monate.
+ * </p>
+ *
+ * <h3>Aufgaben (beim Start und danach alle {@code event-partitioning.interval-ms}):</h3>
+ * <ul>
+ *     <li>Partitionen für die nächsten {@code event-partitioning.months-ahead} Monate anlegen,
+ *         damit neue Events nie in der Auffangpartition landen</li>
+ *     <li>Ist {@code event-partitioning.archive-tablespace} gesetzt, Partitionen älter als
+ *         {@code event-partitioning.archive-after-months} in diesen Tablespace verschieben
+ *         (z. B. günstigerer Speicher für die Archiv-Ansicht)</li>
+ * </ul>
+ *
+ * <p>
+ *     Nur aktiv mit {@code event-partitioning.enabled=true}. Auf anderen Datenbanken (z. B. H2
+ *     in Tests) oder ohne vorherige Umstellung bleibt die Tabelle unpartitioniert und der
+ *     Maintainer tut nichts.
+ * </p>
+ *
+ * <p>
+ *     Beide Wartungsfunktionen führen DDL aus und laufen deshalb je in einer eigenen
+ *     Transaktion, die ausdrücklich committet wird. So bleiben die Änderungen auch mit
+ *     einem Pool ohne Auto-Commit erhalten, der sie beim Schliessen der Connection sonst
+ *     zurückrollen würde.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventRepository
+ */
+@Component
+@ConditionalOnProperty(name = "event-partitioning.enabled", havingValue = "true")
+public class EventPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final String archiveTablespace;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param jdbcTemplate       JDBC-Zugriff für die Wartungsfunktionen
+     * @param transactionManager Transaktion pro Wartungsfunktion
+     * @param monthsAhead        Anzahl Monate, für die im Voraus Partitionen bestehen
+     * @param archiveAfterMonths Alter in Monaten, ab dem Partitionen verschoben werden
+     * @param archiveTablespace  Ziel-Tablespace für alte Partitionen (leer = nicht verschieben)
+     * @param intervalMillis     Intervall der Wartung
+     */
+    public EventPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${event-partitioning.months-ahead:3}") int monthsAhead,
+                                    @Value("${event-partitioning.archive-after-months:12}") int archiveAfterMonths,
+                                    @Value("${event-partitioning.archive-tablespace:}") String archiveTablespace,
+                                    @Value("${event-partitioning.interval-ms:86400000}") long intervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveTablespace = archiveTablespace;
+        this.intervalMillis = intervalMillis;
+
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "event-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Prüft die Datenbank und plant die Wartung ein.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isPartitioned()) {
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::maintain, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Legt fehlende Partitionen an und verschiebt alte Partitionen.
+     */
+    void maintain() {
+        try {
+            LocalDate month = LocalDate.now().withDayOfMonth(1);
+            Integer created = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                    "SELECT create_event_partitions(CAST(? AS date), ?)", Integer.class, month, monthsAhead));
+            int moved = 0;
+            if (!archiveTablespace.isBlank()) {
+                Integer archived = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                        "SELECT archive_event_partitions(CAST(? AS date), ?)", Integer.class,
+                        month.minusMonths(archiveAfterMonths), archiveTablespace));
+                moved = archived != null ? archived : 0;
+            }
+            log.info("Event-Partitionen gepflegt: {} angelegt, {} archiviert", created, moved);
+        } catch (RuntimeException e) {
+            log.warn("Event-Partitionen konnten nicht gepflegt werden", e);
+        }
+    }
+
+    /**
+     * Beendet den Hintergrund-Thread beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isPartitioned() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            log.info("Partitionierung nur mit PostgreSQL verfügbar (aktuell: {})", product);
+            return false;
+        }
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('events'))",
+                Boolean.class);
+        if (!Boolean.TRUE.equals(partitioned)) {
+            log.warn("Tabelle events ist nicht partitioniert; Flyway-Migration V2 prüfen");
+            return false;
+        }
+        return true;
+    }
+}
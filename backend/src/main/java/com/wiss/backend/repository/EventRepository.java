@@ -3,11 +3,17 @@ package com.wiss.backend.repository;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * <h2>
@@ -27,6 +33,7 @@ import java.util.List;
  *     <li>Filterung nach Kategorie, Status und Datum</li>
  *     <li>Kombinierte Filter (z. B. Kategorie + Zeitraum)</li>
  *     <li>Zählmethoden zur Auswertung nach Status oder Zeitspanne</li>
+ *     <li>Projektionen als Wertezeilen für die spaltenorientierte Ausgabe</li>
  * </ul>
  *
  * @author Natascha Blumer
@@ -89,6 +96,8 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     /**
      * Gibt alle Events zurück, die in einem bestimmten Zeitraum liegen.
+     * Ist {@code events} partitioniert, liest PostgreSQL nur die Monate im Zeitraum
+     * (siehe {@link EventPartitionMaintainer}).
      *
      * @param start Startdatum (inklusive)
      * @param end   Enddatum (inklusive)
@@ -132,6 +141,34 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     List<Event> findByCategoryAndStatusAndDateBetween(EventCategory category, EventStatus status, LocalDate start, LocalDate end);
 
+    /**
+     * Gibt alle Events innerhalb eines geografischen Rechtecks zurück.
+     *
+     * @param minLatitude  südliche Grenze (inklusive)
+     * @param maxLatitude  nördliche Grenze (inklusive)
+     * @param minLongitude westliche Grenze (inklusive)
+     * @param maxLongitude östliche Grenze (inklusive)
+     * @return Liste passender Events
+     * @see com.wiss.backend.service.EventService#getEventsWithinBounds(double, double, double, double)
+     */
+    List<Event> findByLatitudeBetweenAndLongitudeBetween(double minLatitude, double maxLatitude,
+                                                         double minLongitude, double maxLongitude);
+
+    /**
+     * Gibt alle Events zurück, deren Kategorie und Status in den angegebenen Mengen liegen
+     * und die innerhalb eines bestimmten Zeitraums stattfinden.
+     *
+     * @param categories erlaubte Kategorien
+     * @param statuses   erlaubte Status
+     * @param start      Startdatum (inklusive)
+     * @param end        Enddatum (inklusive)
+     * @return Liste passender Events, sortiert nach ID
+     * @see com.wiss.backend.service.EventService#getEventsByFilter(Collection, Collection, LocalDate, LocalDate)
+     */
+    List<Event> findByCategoryInAndStatusInAndDateBetweenOrderById(Collection<EventCategory> categories,
+                                                                   Collection<EventStatus> statuses,
+                                                                   LocalDate start, LocalDate end);
+
     // ---------------------------------------------
     // Zählmethoden
     // ---------------------------------------------
@@ -163,4 +200,174 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @see com.wiss.backend.service.EventService#getTotalEventsByDateBetween(LocalDate, LocalDate)
      */
     long countByDateBetween(LocalDate start, LocalDate end);
-}
\ No newline at end of file
+
+    /**
+     * Zählt alle Events, deren Kategorie und Status in den angegebenen Mengen liegen
+     * und die innerhalb eines bestimmten Zeitraums stattfinden.
+     *
+     * @param categories erlaubte Kategorien
+     * @param statuses   erlaubte Status
+     * @param start      Startdatum (inklusive)
+     * @param end        Enddatum (inklusive)
+     * @return Anzahl der passenden Events
+     * @see com.wiss.backend.service.EventService#getTotalEventsByFilter(Collection, Collection, LocalDate, LocalDate)
+     */
+    long countByCategoryInAndStatusInAndDateBetween(Collection<EventCategory> categories,
+                                                    Collection<EventStatus> statuses,
+                                                    LocalDate start, LocalDate end);
+
+    // ---------------------------------------------
+    // Projektionen (spaltenorientierte Ausgabe)
+    // ---------------------------------------------
+
+    /**
+     * Lädt alle Events als reine Wertezeilen, ohne Entitäten zu erzeugen oder
+     * im Persistence Context zu verwalten.
+     *
+     * @return Zeilen {@code [id, title, date, category, longitude, latitude, status]}, sortiert nach ID
+     * @see com.wiss.backend.service.EventService#getAllEventsAsColumns()
+     */
+    @Query("SELECT e.id, e.title, e.date, e.category, e.longitude, e.latitude, e.status " +
+            "FROM Event e ORDER BY e.id")
+    List<Object[]> findAllAsRows();
+
+    /**
+     * Wie {@link #findAllAsRows()}, zusätzlich mit ID und Username der Ersteller:in
+     * (per Join statt nachgeladener {@code createdBy}-Beziehung).
+     *
+     * @return Zeilen {@code [..., status, creatorId, creatorUsername]}, sortiert nach ID
+     * @see com.wiss.backend.service.EventService#getAllEventsAsFormColumns()
+     */
+    @Query("SELECT e.id, e.title, e.date, e.category, e.longitude, e.latitude, e.status, c.id, c.username " +
+            "FROM Event e LEFT JOIN e.createdBy c ORDER BY e.id")
+    List<Object[]> findAllWithCreatorAsRows();
+
+    /**
+     * Lädt alle Events mitsamt Ersteller:in in einer Abfrage (per Join statt einer
+     * Abfrage pro nachgeladener {@code createdBy}-Beziehung).
+     *
+     * @return alle Events mit initialisierter Ersteller:in
+     * @see com.wiss.backend.service.EventService#getAllEventsAsFormDTO()
+     */
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.createdBy")
+    List<Event> findAllWithCreator();
+
+    /**
+     * Lädt ein Event mitsamt Ersteller:in in einer Abfrage, z. B. für das Formular.
+     *
+     * @param id Event-ID
+     * @return Event mit initialisierter Ersteller:in oder leer, wenn es nicht existiert
+     * @see com.wiss.backend.service.EventService#getEventByIdAsFormDTO(Long)
+     */
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.createdBy WHERE e.id = :id")
+    Optional<Event> findWithCreatorById(@Param("id") Long id);
+
+    /**
+     * Lädt ID, Titel, Kategorie und Favoritenanzahl aller Events für die Autovervollständigung.
+     *
+     * @return Zeilen {@code [id, title, category, favoritesCount]}
+     * @see com.wiss.backend.store.EventSuggestionIndex#reload()
+     */
+    @Query("SELECT e.id, e.title, e.category, e.favoritesCount FROM Event e")
+    List<Object[]> findAllSuggestionRows();
+
+    /**
+     * Lädt die Favoritenanzahl mehrerer Events in einer Abfrage.
+     *
+     * @param ids Event-IDs
+     * @return Zeilen {@code [id, favoritesCount]}; unbekannte IDs fehlen
+     * @see com.wiss.backend.service.EventFavoriteService#getFavoriteStatus(Long, java.util.Collection)
+     */
+    @Query("SELECT e.id, e.favoritesCount FROM Event e WHERE e.id IN :ids")
+    List<Object[]> findFavoritesCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lädt nur die Favoritenanzahl eines Events.
+     *
+     * @param id Event-ID
+     * @return Favoritenanzahl oder leer, wenn das Event nicht existiert
+     */
+    @Query("SELECT e.favoritesCount FROM Event e WHERE e.id = :id")
+    Optional<Integer> findFavoritesCountById(@Param("id") Long id);
+
+    /**
+     * Erhöht die Favoritenanzahl atomar in der Datenbank, ohne das Event zu laden.
+     *
+     * @param id Event-ID
+     * @return 1, wenn das Event existiert, sonst 0
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.favoritesCount = e.favoritesCount + 1 WHERE e.id = :id")
+    int incrementFavoritesCount(@Param("id") Long id);
+
+    /**
+     * Verringert die Favoritenanzahl atomar in der Datenbank, nie unter 0.
+     *
+     * @param id Event-ID
+     * @return 1, wenn der Zähler verringert wurde, sonst 0
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.favoritesCount = e.favoritesCount - 1 WHERE e.id = :id AND e.favoritesCount > 0")
+    int decrementFavoritesCount(@Param("id") Long id);
+
+    /**
+     * Liefert die neuesten Events mit Status und Kategorie, höchstens eine Seite.
+     *
+     * @param status     Status
+     * @param categories Kategorien
+     * @param pageable   Seitengrösse (Sortierung steht im Methodennamen)
+     * @return neueste Events zuerst
+     * @see com.wiss.backend.service.UserFeedService
+     */
+    List<Event> findByStatusAndCategoryInOrderByDateDescIdDesc(EventStatus status, Collection<EventCategory> categories,
+                                                                Pageable pageable);
+
+    /**
+     * Setzt den Status mehrerer Events mit einer einzigen {@code UPDATE}-Anweisung, ohne sie
+     * vorher zu laden. Ausstehende Änderungen werden vorher geschrieben, der
+     * Persistenzkontext danach geleert. Die Version jedes Events wird erhöht, damit
+     * gleichzeitige Bearbeitungen mit dem alten Stand scheitern.
+     *
+     * @param ids    Event-IDs
+     * @param status neuer Status
+     * @return Anzahl geänderter Events
+     * @see com.wiss.backend.service.EventService#updateEventStatuses(java.util.List, EventStatus)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.status = :status, e.version = e.version + 1 WHERE e.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") EventStatus status);
+
+    /**
+     * Löscht ein Event mit einer einzigen {@code DELETE}-Anweisung, ohne es vorher zu laden
+     * ({@code deleteById} lädt die Entität zuerst). Die Anzahl ersetzt die vorherige
+     * Existenzprüfung.
+     *
+     * @param id Event-ID
+     * @return Anzahl gelöschter Events, 0 wenn es nicht existiert
+     * @see com.wiss.backend.service.EventService#deleteEvent(Long)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id = :id")
+    int deleteEventById(@Param("id") Long id);
+
+    /**
+     * Löscht mehrere Events mit einer einzigen {@code DELETE}-Anweisung, ohne sie vorher zu
+     * laden.
+     *
+     * @param ids Event-IDs
+     * @return Anzahl gelöschter Events
+     * @see com.wiss.backend.service.EventService#deleteEvents(java.util.List)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Liefert die IDs, zu denen ein Event existiert.
+     *
+     * @param ids Event-IDs
+     * @return vorhandene IDs in beliebiger Reihenfolge
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -19,6 +19,12 @@
  *
  *     <li>{@link com.wiss.backend.repository.EventFavoriteRepository}
  *         – Verwaltung der Favoriten-Beziehungen zwischen User:innen und Events</li>
+ *
+ *     <li>{@link com.wiss.backend.repository.EventOutboxRepository}
+ *         – Lesen und Löschen der Einträge im Outbox der Event-Änderungen</li>
+ *
+ *     <li>{@link com.wiss.backend.repository.EventPartitionMaintainer}
+ *         – Pflege der Monatspartitionen der Tabelle {@code events} (PostgreSQL)</li>
  * </ul>
  *
  * <h3>Typische Funktionen:</h3>
@@ -0,0 +1,361 @@
+package com.wiss.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <h2>
+ *     Rate-Limiting-Filter für öffentliche und Authentifizierungs-Endpunkte
+ * </h2>
+ *
+ * <p>
+ *     Schützt die öffentlich erreichbaren, teuren Endpunkte vor einzelnen Clients,
+ *     die durch viele Requests die Antwortzeiten für alle anderen verschlechtern:
+ * </p>
+ * <ul>
+ *     <li>{@code /api/auth/**} – Login und Registrierung führen BCrypt aus</li>
+ *     <li>{@code /api/events/filter} – kann ohne Parameter die ganze Tabelle laden</li>
+ * </ul>
+ *
+ * <h3>Schlüssel:</h3>
+ * <ul>
+ *     <li>Authentifizierte Requests werden pro Benutzer gezählt ({@code user:<username>}),
+ *         damit sich Benutzer:innen hinter derselben IP (NAT, Proxy) nicht gegenseitig bremsen</li>
+ *     <li>Anonyme Requests werden pro Client-IP gezählt ({@code ip:<adresse>})</li>
+ *     <li>Fehlgeschlagene Logins (HTTP 401) zählen zusätzlich pro Konto und Client-IP
+ *         ({@code account:<usernameOrEmail>|<adresse>}). Ist dieser Eimer leer, wird jeder
+ *         weitere Login-Versuch dieses Clients für das Konto abgewiesen. Erfolgreiche Logins
+ *         kosten nichts, und fremde Fehlversuche sperren die Benutzer:in nicht aus; ein Zähler
+ *         nur pro Konto würde das jedem erlauben, der den Username kennt</li>
+ * </ul>
+ *
+ * <h3>Client-IP hinter einem Load Balancer:</h3>
+ * <p>
+ *     Kommt ein Request von einer Adresse aus {@code rate-limit.trusted-proxies}, gilt die
+ *     hinterste Adresse in {@code X-Forwarded-For}, die selbst kein vertrauenswürdiger Proxy
+ *     ist. Von anderen Absendern wird der Header ignoriert, damit Clients ihre IP nicht
+ *     fälschen können.
+ * </p>
+ *
+ * <p>
+ *     Der Filter läuft nach dem {@link JwtAuthenticationFilter}, damit der Benutzer bereits
+ *     bekannt ist. Wird das Limit überschritten, antwortet er mit HTTP 429 und dem Header
+ *     {@code Retry-After}, ohne den Controller zu erreichen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see TokenBucketRateLimiter
+ * @see com.wiss.backend.config.SecurityConfig
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/auth/";
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String FILTER_PATH = "/api/events/filter";
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final int MAX_LOGIN_BODY_BYTES = 8 * 1024;
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter authLimiter;
+    private final TokenBucketRateLimiter accountLimiter;
+    private final TokenBucketRateLimiter filterLimiter;
+    private final List<IpAddressMatcher> trustedProxies;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Konstruktor mit den konfigurierbaren Kontingenten.
+     *
+     * @param enabled             Rate-Limiting aktiv
+     * @param authCapacity        Burst-Grösse für {@code /api/auth/**}
+     * @param authRefillPerSecond Nachfüllrate für {@code /api/auth/**}
+     * @param accountCapacity     Burst-Grösse der Fehlversuche pro Konto und Client-IP
+     * @param accountRefillPerSecond Nachfüllrate der Fehlversuche pro Konto und Client-IP
+     * @param filterCapacity      Burst-Grösse für {@code /api/events/filter}
+     * @param filterRefillPerSecond Nachfüllrate für {@code /api/events/filter}
+     * @param idleTimeoutMillis   Zeit, nach der unbenutzte Eimer entfernt werden
+     * @param trustedProxies      kommagetrennte Adressen oder CIDR-Bereiche der Load Balancer
+     * @param objectMapper        Jackson-Mapper für die Fehlerantwort
+     */
+    public RateLimitFilter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+                           @Value("${rate-limit.auth.refill-per-second:0.2}") double authRefillPerSecond,
+                           @Value("${rate-limit.account.capacity:10}") int accountCapacity,
+                           @Value("${rate-limit.account.refill-per-second:0.2}") double accountRefillPerSecond,
+                           @Value("${rate-limit.filter.capacity:60}") int filterCapacity,
+                           @Value("${rate-limit.filter.refill-per-second:10}") double filterRefillPerSecond,
+                           @Value("${rate-limit.idle-timeout-ms:600000}") long idleTimeoutMillis,
+                           @Value("${rate-limit.trusted-proxies:}") String trustedProxies,
+                           ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.authLimiter = new TokenBucketRateLimiter(authCapacity, authRefillPerSecond, idleTimeoutMillis);
+        this.accountLimiter = new TokenBucketRateLimiter(accountCapacity, accountRefillPerSecond, idleTimeoutMillis);
+        this.filterLimiter = new TokenBucketRateLimiter(filterCapacity, filterRefillPerSecond, idleTimeoutMillis);
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Nur die geschützten Endpunkte werden gefiltert; alle anderen Requests
+     * passieren ohne Map-Zugriff.
+     *
+     * @param request der eingehende HTTP-Request
+     * @return true, wenn der Request nicht limitiert wird
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || limiterFor(request.getRequestURI()) == null;
+    }
+
+    /**
+     * Verbraucht ein Token für den Client; ist der Eimer leer, wird der Request abgewiesen.
+     * Login-Versuche werden zusätzlich abgewiesen, solange der Eimer für Konto und Client
+     * leer ist; belastet wird dieser erst, wenn der Login mit 401 scheitert.
+     *
+     * @param request     der eingehende HTTP-Request
+     * @param response    die HTTP-Response
+     * @param filterChain die restliche Filterkette
+     * @throws ServletException falls ein Servlet-Fehler auftritt
+     * @throws IOException      falls ein IO-Fehler auftritt
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        TokenBucketRateLimiter limiter = limiterFor(request.getRequestURI());
+        long retryAfterSeconds = limiter.tryAcquire(clientKey(request));
+
+        if (retryAfterSeconds > 0) {
+            reject(request, response, retryAfterSeconds);
+            return;
+        }
+
+        if (!LOGIN_PATH.equals(request.getRequestURI()) || !"POST".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedBodyRequest login = new CachedBodyRequest(request);
+        String account = accountOf(login.prefix);
+        String accountKey = account != null ? "account:" + account + "|" + clientAddress(request) : null;
+        if (accountKey != null) {
+            retryAfterSeconds = accountLimiter.retryAfter(accountKey);
+            if (retryAfterSeconds > 0) {
+                reject(request, response, retryAfterSeconds);
+                return;
+            }
+        }
+
+        filterChain.doFilter(login, response);
+
+        if (accountKey != null && response.getStatus() == HttpStatus.UNAUTHORIZED.value()) {
+            accountLimiter.tryAcquire(accountKey);
+        }
+    }
+
+    private TokenBucketRateLimiter limiterFor(String uri) {
+        if (uri.startsWith(AUTH_PATH)) {
+            return authLimiter;
+        }
+        if (uri.equals(FILTER_PATH)) {
+            return filterLimiter;
+        }
+        return null;
+    }
+
+    /**
+     * Ermittelt den Schlüssel: Benutzername bei gültigem JWT, sonst die Client-IP.
+     */
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + clientAddress(request);
+    }
+
+    /**
+     * Ermittelt die Client-IP. Nur wenn der direkte Absender ein vertrauenswürdiger Proxy
+     * ist, wird {@code X-Forwarded-For} von hinten gelesen und die erste Adresse verwendet,
+     * die nicht selbst zu einem Proxy gehört.
+     */
+    String clientAddress(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        String forwarded = request.getHeader(FORWARDED_FOR);
+        if (forwarded == null || !isTrustedProxy(remote)) {
+            return remote;
+        }
+        String[] hops = forwarded.split(",");
+        String client = remote;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                continue;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false; // kein gültiges IP-Literal
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liest {@code usernameOrEmail} aus dem Login-Body, normalisiert auf Kleinschreibung.
+     * Unlesbare oder zu grosse Bodies liefern {@code null}; der Controller weist sie ab.
+     */
+    private String accountOf(byte[] body) {
+        if (body.length == 0 || body.length > MAX_LOGIN_BODY_BYTES) {
+            return null;
+        }
+        try {
+            JsonNode account = objectMapper.readTree(body).get("usernameOrEmail");
+            if (account == null || !account.isTextual() || account.asText().isBlank()) {
+                return null;
+            }
+            return account.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Schreibt eine HTTP-429-Antwort im Format {@link ErrorResponseDTO}.
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ErrorResponseDTO error = new ErrorResponseDTO(
+                "TOO_MANY_REQUESTS",
+                "Zu viele Anfragen. Bitte in " + retryAfterSeconds + " Sekunden erneut versuchen.",
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                LocalDateTime.now(),
+                request.getRequestURI()
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Request, dessen Body für die Konto-Ermittlung vorab gelesen wurde. Höchstens
+     * {@value #MAX_LOGIN_BODY_BYTES} + 1 Bytes werden gepuffert; der Controller liest
+     * danach den Puffer und den Rest des Original-Streams.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] prefix;
+        private final InputStream body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            this.prefix = original.readNBytes(MAX_LOGIN_BODY_BYTES + 1);
+            this.body = new SequenceInputStream(new ByteArrayInputStream(prefix), original);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return body.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return body.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * Der Anfang des Bodies liegt im Puffer, ein allfälliger Rest wird blockierend
+                 * gelesen; der Listener erfährt daher sofort, dass alles lesbar ist.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.wiss.backend.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * <h2>
+ *     Token-Bucket-Limiter pro Schlüssel (IP-Adresse oder Benutzer)
+ * </h2>
+ *
+ * <p>
+ *     Jeder Schlüssel besitzt einen eigenen Eimer mit höchstens {@code capacity} Tokens,
+ *     der kontinuierlich mit {@code refillPerSecond} Tokens pro Sekunde aufgefüllt wird.
+ *     Ein Request verbraucht ein Token; ist der Eimer leer, wird er abgewiesen.
+ * </p>
+ *
+ * <h3>Nebenläufigkeit:</h3>
+ * <ul>
+ *     <li>Die Eimer liegen in einer {@link ConcurrentHashMap}; verschiedene Schlüssel
+ *         blockieren sich gegenseitig nicht</li>
+ *     <li>Der Zustand eines Eimers ist unveränderlich und wird per Compare-and-Set
+ *         ersetzt – es gibt keine Locks im Request-Pfad</li>
+ * </ul>
+ *
+ * <h3>Speicherverbrauch:</h3>
+ * <p>
+ *     Eimer, die länger als {@code idleTimeout} nicht verwendet wurden, sind wieder voll
+ *     und damit gleichwertig zu einem neuen Eimer. Sie werden beim nächsten Zugriff
+ *     nach Ablauf des Intervalls in einem Durchlauf entfernt, sodass die Map nur aktive
+ *     Clients enthält.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see RateLimitFilter
+ */
+public class TokenBucketRateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepNanos;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Zustand eines Eimers zum Zeitpunkt der letzten Verwendung.
+     *
+     * @param tokens      verfügbare Tokens
+     * @param updatedNanos Zeitpunkt der letzten Aktualisierung ({@link System#nanoTime()})
+     */
+    private record Bucket(double tokens, long updatedNanos) {
+    }
+
+    /**
+     * Erstellt einen Limiter mit der Systemuhr.
+     *
+     * @param capacity        maximale Anzahl Tokens (erlaubte Burst-Grösse)
+     * @param refillPerSecond nachgefüllte Tokens pro Sekunde
+     * @param idleTimeoutMillis Zeit, nach der unbenutzte Eimer entfernt werden
+     */
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, long idleTimeoutMillis) {
+        this(capacity, refillPerSecond, idleTimeoutMillis, System::nanoTime);
+    }
+
+    /**
+     * Erstellt einen Limiter mit einer eigenen Uhr (für Tests).
+     *
+     * @param capacity        maximale Anzahl Tokens (erlaubte Burst-Grösse)
+     * @param refillPerSecond nachgefüllte Tokens pro Sekunde
+     * @param idleTimeoutMillis Zeit, nach der unbenutzte Eimer entfernt werden
+     * @param nanoClock       monotone Uhr in Nanosekunden
+     */
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, long idleTimeoutMillis, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Kapazität und Nachfüllrate müssen positiv sein");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.nanoClock = nanoClock;
+        this.nextSweepNanos = new AtomicLong(nanoClock.getAsLong() + idleTimeoutNanos);
+    }
+
+    /**
+     * Versucht, ein Token für den angegebenen Schlüssel zu verbrauchen.
+     *
+     * @param key Schlüssel des Clients, z. B. {@code ip:10.0.0.1} oder {@code user:admin}
+     * @return {@code 0}, wenn der Request erlaubt ist, sonst die Wartezeit in Sekunden
+     *         bis zum nächsten verfügbaren Token (mindestens 1)
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+
+        AtomicReference<Bucket> ref = buckets.computeIfAbsent(key,
+                k -> new AtomicReference<>(new Bucket(capacity, now)));
+
+        while (true) {
+            Bucket current = ref.get();
+            double elapsed = Math.max(0, now - current.updatedNanos());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+
+            if (tokens < 1) {
+                return secondsUntilToken(tokens);
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedNanos())))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Prüft, ob für den Schlüssel ein Token verfügbar wäre, ohne es zu verbrauchen.
+     * Für Limits, die erst nach dem Ausgang eines Requests belastet werden.
+     *
+     * @param key Schlüssel des Clients
+     * @return {@code 0}, wenn ein Token verfügbar ist, sonst die Wartezeit in Sekunden
+     *         (mindestens 1)
+     */
+    public long retryAfter(String key) {
+        AtomicReference<Bucket> ref = buckets.get(key);
+        if (ref == null) {
+            return 0;
+        }
+        Bucket current = ref.get();
+        double elapsed = Math.max(0, nanoClock.getAsLong() - current.updatedNanos());
+        double tokens = Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+        return tokens < 1 ? secondsUntilToken(tokens) : 0;
+    }
+
+    /**
+     * Anzahl aktuell gehaltener Eimer.
+     *
+     * @return Anzahl Schlüssel in der Map
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private long secondsUntilToken(double tokens) {
+        double missingNanos = (1 - tokens) / tokensPerNano;
+        return Math.max(1, (long) Math.ceil(missingNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Entfernt höchstens einmal pro {@code idleTimeout} alle Eimer, die seitdem nicht
+     * verwendet wurden. Nur der Thread, der den Zeitpunkt per CAS weiterschiebt, räumt auf.
+     */
+    private void sweepIfDue(long now) {
+        long due = nextSweepNanos.get();
+        if (now - due < 0 || !nextSweepNanos.compareAndSet(due, now + idleTimeoutNanos)) {
+            return;
+        }
+        buckets.values().removeIf(ref -> now - ref.get().updatedNanos() > idleTimeoutNanos);
+    }
+}
@@ -16,6 +16,13 @@
  *         Ein globaler Security-Filter, der jeden eingehenden Request abfängt,
  *         den übergebenen JWT validiert und – falls gültig – den Benutzer im
  *         {@code SecurityContext} von Spring Security authentifiziert.</li>
+ *
+ *     <li>{@link com.wiss.backend.security.RateLimitFilter} –
+ *         Begrenzt Requests auf {@code /api/auth/**} und {@code /api/events/filter}
+ *         pro Benutzer bzw. Client-IP und antwortet bei Überschreitung mit HTTP 429.</li>
+ *
+ *     <li>{@link com.wiss.backend.security.TokenBucketRateLimiter} –
+ *         Lock-freier Token-Bucket pro Schlüssel mit Entfernung inaktiver Einträge.</li>
  * </ul>
  *
  * <h3>Aufgaben dieses Pakets:</h3>
@@ -24,6 +31,7 @@
  *     <li>Extrahieren des Usernamens aus dem JWT</li>
  *     <li>Laden der Benutzerinformationen über den {@code UserDetailsService}</li>
  *     <li>Setzen der Authentifizierung im {@code SecurityContextHolder}</li>
+ *     <li>Schutz öffentlicher Endpunkte vor Überlastung durch einzelne Clients</li>
  *     <li>Unterstützung einer vollständig sessionlosen Authentifizierung
  *         (STATELESS-Architektur)</li>
  * </ul>
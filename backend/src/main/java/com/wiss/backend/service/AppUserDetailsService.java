@@ -1,10 +1,13 @@
 package com.wiss.backend.service;
 
+import com.wiss.backend.config.CacheConfig;
 import com.wiss.backend.repository.AppUserRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * <h2>
@@ -57,11 +60,20 @@ public class AppUserDetailsService implements UserDetailsService {
      *     wird eine {@link UsernameNotFoundException} ausgelöst.
      * </p>
      *
+     * <p>
+     *     Gefundene Benutzer liegen im Cache {@value CacheConfig#USERS}, damit nicht jede
+     *     Anfrage mit JWT die Datenbank abfragt. Nach einer {@link com.wiss.backend.model.UserChange}
+     *     wird der Eintrag auf allen Knoten verworfen. Geladen wird vom Primary, nicht von
+     *     einem Lese-Replikat.
+     * </p>
+     *
      * @param username der in der Datenbank zu suchende Username
      * @return ein {@link UserDetails}-Objekt mit Benutzerinformationen
      * @throws UsernameNotFoundException wenn kein Benutzer mit diesem Namen existiert
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS)
+    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User nicht gefunden: " + username));
@@ -2,9 +2,13 @@ package com.wiss.backend.service;
 
 import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.entity.Role;
+import com.wiss.backend.model.UserChange;
 import com.wiss.backend.repository.AppUserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -26,7 +30,7 @@ import java.util.Optional;
  * <ul>
  *     <li>Registrieren neuer Benutzer (inkl. Validierung & Passwort-Hashing)</li>
  *     <li>Benutzersuche per Username oder Email</li>
- *     <li>Passwortvalidierung für Login-Vorgänge</li>
+ *     <li>Passwortvalidierung für Login-Vorgänge (inkl. Neukodierung veralteter Hashes)</li>
  *     <li>Verfügbarkeitsprüfung von Usernamen und Emails</li>
  * </ul>
  *
@@ -41,6 +45,7 @@ import java.util.Optional;
  * @since 2025-12-12
  *
  * @see AppUserRepository
+ * @see PasswordHashingService
  * @see AppUser
  * @see Role
  */
@@ -48,18 +53,24 @@ import java.util.Optional;
 @Transactional
 public class AppUserService {
 
+    private static final Logger log = LoggerFactory.getLogger(AppUserService.class);
+
     private final AppUserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Konstruktor zur Initialisierung der benötigten Komponenten.
      *
      * @param userRepository Repository zum Zugriff auf Benutzerentitäten
-     * @param passwordEncoder BCrypt-Encoder zum sicheren Hashen von Passwörtern
+     * @param passwordHashingService begrenzter Worker-Pool zum Hashen und Prüfen von Passwörtern
+     * @param eventPublisher Publisher für {@link UserChange}-Ereignisse
      */
-    public AppUserService(AppUserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AppUserService(AppUserRepository userRepository, PasswordHashingService passwordHashingService,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -98,7 +109,7 @@ public class AppUserService {
         }
 
         // Password hashen
-        String hashedPassword = passwordEncoder.encode(rawPassword);
+        String hashedPassword = passwordHashingService.encode(rawPassword);
 
         // User Entity erstellen
         AppUser newUser = new AppUser(username, email, hashedPassword, role);
@@ -128,32 +139,75 @@ public class AppUserService {
     }
 
     /**
-     * Authentifiziert einen User anhand Username und Passwort.
+     * Authentifiziert einen User anhand Username oder Email und Passwort.
+     *
+     * <p>
+     *     Der Benutzer wird genau einmal geladen (per Email, falls die Eingabe ein
+     *     {@code @} enthält, sonst per Username). Die BCrypt-Prüfung läuft im
+     *     {@link PasswordHashingService} und ausserhalb einer Transaktion, damit während
+     *     der Rechenzeit keine Datenbank-Connection belegt wird.
+     * </p>
      *
      * <p>
-     *     Diese Methode prüft mittels BCrypt, ob das eingegebene Passwort
-     *     dem gespeicherten Hash entspricht.
+     *     Wurde der gespeicherte Hash mit einem anderen als dem konfigurierten
+     *     Kostenfaktor erstellt, wird er nach erfolgreichem Login transparent neu kodiert.
+     *     Danach wird eine {@link UserChange} veröffentlicht, damit zwischengespeicherte
+     *     {@code UserDetails} mit dem alten Hash auf allen Knoten verworfen werden.
+     *     Scheitert das Neukodieren (ausgelasteter Worker-Pool, Datenbankfehler), wird das
+     *     protokolliert und der alte Hash bleibt bis zu einem späteren Login bestehen; der
+     *     Login selbst gelingt trotzdem.
      * </p>
      *
-     * @param username Username des Benutzers
+     * @param usernameOrEmail Username oder Email des Benutzers
      * @param rawPassword eingegebenes Passwort im Klartext
      * @return Optional mit Benutzer bei Erfolg, sonst empty
+     * @throws com.wiss.backend.exception.ServiceOverloadedException wenn der Worker-Pool ausgelastet ist
      */
-    public Optional<AppUser> authenticateUser(String username, String rawPassword) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<AppUser> authenticateUser(String usernameOrEmail, String rawPassword) {
 
-        // User suchenanhand Username suchen
-        Optional<AppUser> userOpt = userRepository.findByUsername(username);
+        // User genau einmal laden
+        Optional<AppUser> userOpt = usernameOrEmail.contains("@")
+                ? userRepository.findByEmail(usernameOrEmail)
+                : userRepository.findByUsername(usernameOrEmail);
 
-        if (userOpt.isPresent()) {
-            AppUser user = userOpt.get();
+        if (userOpt.isEmpty()) {
+            return Optional.empty(); // Login fehlgeschlagen
+        }
 
-            // Password prüfen mit BCrypt
-            if (passwordEncoder.matches(rawPassword, user.getPassword())) {
-                return userOpt; // Login erfolgreich
-            }
+        AppUser user = userOpt.get();
+
+        // Password prüfen mit BCrypt (im begrenzten Worker-Pool)
+        if (!passwordHashingService.matches(rawPassword, user.getPassword())) {
+            return Optional.empty(); // Login fehlgeschlagen
+        }
+
+        // Hash auf den konfigurierten Kostenfaktor bringen
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            rehash(user, rawPassword);
         }
 
-        return Optional.empty(); // Login fehlgeschlagen
+        return userOpt; // Login erfolgreich
+    }
+
+    /**
+     * Kodiert den Hash eines erfolgreich angemeldeten Benutzers neu. Fehler werden nur
+     * protokolliert, da das Neukodieren eine Gelegenheit und keine Voraussetzung ist.
+     *
+     * @param user        angemeldeter Benutzer
+     * @param rawPassword geprüftes Passwort im Klartext
+     */
+    private void rehash(AppUser user, String rawPassword) {
+        try {
+            String rehashed = passwordHashingService.encode(rawPassword);
+            if (userRepository.updatePassword(user.getId(), rehashed) > 0) {
+                user.setPassword(rehashed);
+                eventPublisher.publishEvent(new UserChange(user.getId(), user.getUsername()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Passwort-Hash von Benutzer {} nicht neu kodiert, nächster Login versucht es erneut: {}",
+                    user.getId(), e.toString());
+        }
     }
 
     /**
@@ -1,12 +1,42 @@
 package com.wiss.backend.service;
 
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.FavoriteStatusDTO;
+import com.wiss.backend.dto.TrendingEventDTO;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.entity.EventFavorite;
+import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.model.TrendingWindow;
 import com.wiss.backend.repository.AppUserRepository;
 import com.wiss.backend.repository.EventFavoriteRepository;
 import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.store.TrendingEventsTracker;
+import com.wiss.backend.store.UserFavoritesCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * <h2>
@@ -23,12 +53,22 @@ import org.springframework.transaction.annotation.Transactional;
  * <h3>Hauptaufgaben:</h3>
  * <ul>
  *     <li>Favorisieren / Entfavorisieren eines Events (Toggle-Mechanismus)</li>
+ *     <li>Idempotentes Setzen und Entfernen, gleichzeitige gleiche Anfragen werden zusammengefasst</li>
+ *     <li>Begrenzte Wiederholung bei Sperrkonflikten (Deadlock, Lock-Timeout) unter hoher Last</li>
  *     <li>Validierung von Benutzer- und Event-Existenz</li>
  *     <li>Aktualisierung des Favoritenzählers eines Events</li>
  *     <li>Abfrage, ob ein Event für einen User bereits favorisiert ist</li>
+ *     <li>Favoritenliste eines Users und Status vieler Events in einer Abfrage</li>
+ *     <li>Trend-Rangliste der zuletzt häufig favorisierten Events</li>
  * </ul>
  *
  * <p>
+ *     Die favorisierten Event-IDs eines Users liegen im {@link UserFavoritesCache}.
+ *     Änderungen werden als {@link FavoriteChange} veröffentlicht und dort nach dem
+ *     Commit übernommen.
+ * </p>
+ *
+ * <p>
  *     Die Klasse verwendet {@link Transactional}, um Datenkonsistenz sicherzustellen:
  *     Wenn z. B. beim Speichern des Favoriten ein Fehler auftritt, wird sowohl die
  *     EventAktualisierung als auch das Favoriten-Mapping vollständig zurückgerollt.
@@ -41,13 +81,55 @@ import org.springframework.transaction.annotation.Transactional;
  * @see EventFavoriteRepository
  * @see EventRepository
  * @see Event
+ * @see UserFavoritesCache
  */
 @Service
 public class EventFavoriteService {
 
+    /**
+     * Maximale Anzahl Event-IDs pro Statusabfrage.
+     */
+    public static final int MAX_STATUS_IDS = 200;
+
+    /**
+     * Maximale Länge der Trend-Rangliste.
+     */
+    public static final int MAX_TRENDING = 100;
+
+    /**
+     * Maximale Anzahl Versuche einer Favoritenänderung bei Sperrkonflikten.
+     */
+    public static final int MAX_CONFLICT_ATTEMPTS = 3;
+
     private final EventFavoriteRepository eventFavoriteRepository;
     private final AppUserRepository appUserRepository;
     private final EventRepository eventRepository;
+    private final UserFavoritesCache favoritesCache;
+    private final TrendingEventsTracker trendingTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Schreib-Lese-Transaktion für das Befüllen des {@link UserFavoritesCache}. Die
+     * Favoriten werden so vom Primary gelesen – ein zurückliegendes Replikat würde veraltete
+     * Favoriten sonst bis zur nächsten Änderung im Cache festhalten. Die Transaktion tritt
+     * einer laufenden Schreib-Lese-Transaktion bei und belegt so nie eine zweite Verbindung;
+     * Lesemethoden laden die Favoriten deshalb, bevor sie ihre Read-only-Transaktion öffnen.
+     */
+    private final TransactionTemplate primaryReads;
+
+    /**
+     * Read-only-Transaktion (Replikat) für die übrigen Abfragen der Lesemethoden.
+     */
+    private final TransactionTemplate replicaReads;
+
+    /**
+     * Laufende Anfragen pro (User, Event, gewünschter Status). Weitere gleiche Anfragen
+     * warten auf das Ergebnis der ersten, statt die Datenbank erneut zu ändern.
+     */
+    private final ConcurrentMap<FavoriteRequest, CompletableFuture<FavoriteStatusDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private record FavoriteRequest(Long userId, Long eventId, boolean favorite) {}
 
     /**
      * Konstruktor zur Initialisierung der benötigten Repositories.
@@ -55,11 +137,24 @@ public class EventFavoriteService {
      * @param eventFavoriteRepository Repository für Favoriten-Mappings
      * @param appUserRepository       Repository zur Benutzerprüfung
      * @param eventRepository         Repository zum Laden und Aktualisieren von Events
+     * @param favoritesCache          Cache der favorisierten Event-IDs pro User
+     * @param trendingTracker         Trend-Rangliste nach Favorisierungen
+     * @param eventPublisher          Publisher für {@link FavoriteChange}-Ereignisse
+     * @param transactionManager      Transaktionsmanager für zusammengefasste Anfragen
      */
-    public EventFavoriteService(EventFavoriteRepository eventFavoriteRepository, AppUserRepository appUserRepository,EventRepository eventRepository) {
+    public EventFavoriteService(EventFavoriteRepository eventFavoriteRepository, AppUserRepository appUserRepository,EventRepository eventRepository,
+                                UserFavoritesCache favoritesCache, TrendingEventsTracker trendingTracker,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.eventFavoriteRepository = eventFavoriteRepository;
         this.appUserRepository = appUserRepository;
         this.eventRepository = eventRepository;
+        this.favoritesCache = favoritesCache;
+        this.trendingTracker = trendingTracker;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        this.replicaReads = new TransactionTemplate(transactionManager);
+        this.replicaReads.setReadOnly(true);
     }
 
     /**
@@ -77,38 +172,150 @@ public class EventFavoriteService {
      *
      * <p>
      *     Der gesamte Vorgang läuft in einer Transaktion, damit Favoritenmapping und
-     *     Eventzählung immer konsistent bleiben.
+     *     Eventzählung immer konsistent bleiben. Scheitert sie an einem Sperrkonflikt, wird
+     *     sie bis zu {@value #MAX_CONFLICT_ATTEMPTS}-mal mit neu gelesenem Zustand wiederholt.
      * </p>
      *
      * @param userId  ID des Benutzers
      * @param eventId ID des Events
      * @return <code>true</code>, wenn das Event danach favorisiert ist;
      *         <code>false</code>, wenn es entfernt wurde
-     * @throws IllegalArgumentException wenn Benutzer oder Event nicht existieren
+     * @throws IllegalArgumentException wenn der Benutzer nicht existiert
+     * @throws EventNotFoundException   wenn das Event nicht existiert
      */
-    @Transactional
     public boolean toggleFavorite(Long userId, Long eventId) {
+        return executeWithRetry(() -> {
+            // Prüfen, ob User existiert
+            appUserRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
-        // Prüfen, ob User existiert
-        appUserRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+            // Favorit existiert → entfernen, sonst hinzufügen
+            boolean favorite = !eventFavoriteRepository.existsByUserIdAndEventId(userId, eventId);
+            return apply(userId, eventId, favorite).isFavorite();
+        });
+    }
 
-        // Prüfen, ob Event existiert
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
+    /**
+     * <h3>Favorit idempotent setzen oder entfernen</h3>
+     *
+     * <p>
+     *     Im Gegensatz zu {@link #toggleFavorite(Long, Long)} wird der gewünschte Status
+     *     übergeben: Wiederholte Anfragen (Doppelklick, Retry eines Clients) ändern nichts
+     *     mehr, sobald der Status erreicht ist.
+     * </p>
+     *
+     * <ul>
+     *     <li>Läuft bereits eine gleiche Anfrage, wird auf deren Ergebnis gewartet –
+     *         Duplikate teilen sich eine Datenbankoperation</li>
+     *     <li>Der Zähler im Event wird per {@code UPDATE} atomar angepasst, ohne das Event zu laden</li>
+     *     <li>Legt eine parallele Anfrage (z. B. auf einem anderen Knoten) denselben Favoriten
+     *         an, greift der Unique-Constraint und der bestehende Status wird geliefert</li>
+     *     <li>Sperrkonflikte werden bis zu {@value #MAX_CONFLICT_ATTEMPTS}-mal wiederholt</li>
+     * </ul>
+     *
+     * @param userId   ID des Benutzers
+     * @param eventId  ID des Events
+     * @param favorite gewünschter Status
+     * @return Status und Favoritenanzahl danach
+     * @throws EventNotFoundException wenn das Event nicht existiert
+     */
+    public FavoriteStatusDTO setFavorite(Long userId, Long eventId, boolean favorite) {
+        FavoriteRequest request = new FavoriteRequest(userId, eventId, favorite);
+        CompletableFuture<FavoriteStatusDTO> own = new CompletableFuture<>();
+        CompletableFuture<FavoriteStatusDTO> running = inFlight.putIfAbsent(request, own);
+        if (running != null) {
+            return await(running);
+        }
 
-        // Fall 1: Favorit existiert → entfernen
-        if (eventFavoriteRepository.existsByUserIdAndEventId(userId, eventId)) {
-            eventFavoriteRepository.deleteByUserIdAndEventId(userId, eventId);
-            event.decrementFavorites();
-            eventRepository.save(event);
-            return false; // jetzt kein Favorit mehr
-        } else {
-            // Fall 2: Favorit existiert nicht → hinzufügen
+        try {
+            own.complete(applyInTransaction(request));
+        } catch (RuntimeException e) {
+            own.completeExceptionally(e);
+        } finally {
+            inFlight.remove(request, own);
+        }
+        return await(own);
+    }
+
+    private FavoriteStatusDTO applyInTransaction(FavoriteRequest request) {
+        try {
+            return executeWithRetry(() -> apply(request.userId(), request.eventId(), request.favorite()));
+        } catch (DataIntegrityViolationException e) {
+            // Favorit wurde gleichzeitig von einer anderen Anfrage angelegt
+            return transactionTemplate.execute(status -> currentStatus(request.userId(), request.eventId()));
+        }
+    }
+
+    /**
+     * Setzt den gewünschten Status in der laufenden Transaktion. Ist er bereits erreicht,
+     * wird nichts geändert und kein {@link FavoriteChange} veröffentlicht.
+     */
+    private FavoriteStatusDTO apply(Long userId, Long eventId, boolean favorite) {
+        if (favorite) {
+            if (eventFavoriteRepository.existsByUserIdAndEventId(userId, eventId)) {
+                return currentStatus(userId, eventId);
+            }
+            if (eventRepository.incrementFavoritesCount(eventId) == 0) {
+                throw new EventNotFoundException(eventId);
+            }
             eventFavoriteRepository.save(new EventFavorite(userId, eventId));
-            event.incrementFavorites();
-            eventRepository.save(event);
-            return true; // jetzt Favorit
+        } else {
+            if (eventFavoriteRepository.deleteFavorite(userId, eventId) == 0) {
+                return currentStatus(userId, eventId);
+            }
+            eventRepository.decrementFavoritesCount(eventId);
+        }
+
+        int favoritesCount = eventRepository.findFavoritesCountById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        eventPublisher.publishEvent(new FavoriteChange(userId, eventId, favorite, favoritesCount));
+        return new FavoriteStatusDTO(eventId, favorite, favoritesCount);
+    }
+
+    /**
+     * Führt eine Änderung in einer eigenen Transaktion aus und wiederholt sie bei
+     * {@link ConcurrencyFailureException} (Deadlock, Lock-Timeout, Serialisierungsfehler)
+     * nach kurzer, zufälliger Pause bis zu {@value #MAX_CONFLICT_ATTEMPTS}-mal. Der Zähler
+     * wird per {@code UPDATE} relativ geändert; eine Wiederholung zählt daher nichts doppelt.
+     * Läuft bereits eine äussere Transaktion, wird nicht wiederholt, da sie nach dem Fehler
+     * nur noch zurückgerollt werden kann.
+     */
+    private <T> T executeWithRetry(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw e;
+                }
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unterbrochen während der Wiederholung", e);
+        }
+    }
+
+    private FavoriteStatusDTO currentStatus(Long userId, Long eventId) {
+        int favoritesCount = eventRepository.findFavoritesCountById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        return new FavoriteStatusDTO(eventId, eventFavoriteRepository.existsByUserIdAndEventId(userId, eventId), favoritesCount);
+    }
+
+    private static FavoriteStatusDTO await(CompletableFuture<FavoriteStatusDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
@@ -135,6 +342,119 @@ public class EventFavoriteService {
      * @return <code>true</code>, wenn Event bereits favorisiert ist
      */
     public boolean isFavorite(Long userId, Long eventId) {
-        return eventFavoriteRepository.existsByUserIdAndEventId(userId, eventId);
+        return UserFavoritesCache.contains(favoriteIds(userId), eventId);
+    }
+
+    /**
+     * Liefert alle Events, die ein User favorisiert hat, sortiert nach ID.
+     *
+     * <p>
+     *     Die Favoriten werden zuerst (Primary) geladen, die Events danach in einer eigenen
+     *     Read-only-Transaktion; es ist nie mehr als eine Verbindung belegt.
+     * </p>
+     *
+     * @param userId Benutzer-ID
+     * @return favorisierte Events; gelöschte Events fehlen
+     */
+    public List<EventDTO> getFavoriteEvents(Long userId) {
+        long[] eventIds = favoriteIds(userId);
+        if (eventIds.length == 0) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(eventIds.length);
+        for (long id : eventIds) {
+            ids.add(id);
+        }
+        return replicaReads.execute(status -> {
+            List<Event> events = new ArrayList<>(eventRepository.findAllById(ids));
+            events.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+            return EventMapper.toDTOList(events);
+        });
+    }
+
+    /**
+     * Liefert Favoritenstatus und Favoritenanzahl mehrerer Events. Die Anzahl stammt aus
+     * einer einzigen {@code IN}-Abfrage, der Status aus dem {@link UserFavoritesCache}.
+     * Die Favoriten werden vor der Read-only-Transaktion der Abfrage geladen.
+     *
+     * @param userId   Benutzer-ID
+     * @param eventIds Event-IDs (1 bis {@value #MAX_STATUS_IDS}, Duplikate werden ignoriert)
+     * @return ein Eintrag pro bekanntem Event, in der Reihenfolge der Anfrage
+     * @throws InvalidEventDataException bei fehlenden oder zu vielen IDs
+     */
+    public List<FavoriteStatusDTO> getFavoriteStatus(Long userId, Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            throw new InvalidEventDataException("Mindestens eine Event-ID ist erforderlich.");
+        }
+        Set<Long> ids = new LinkedHashSet<>(eventIds);
+        ids.remove(null);
+        if (ids.isEmpty() || ids.size() > MAX_STATUS_IDS) {
+            throw new InvalidEventDataException(
+                    "Es sind zwischen 1 und " + MAX_STATUS_IDS + " Event-IDs erlaubt.");
+        }
+
+        long[] favorites = favoriteIds(userId);
+        Map<Long, Integer> counts = new HashMap<>();
+        replicaReads.executeWithoutResult(status -> {
+            for (Object[] row : eventRepository.findFavoritesCountsByIdIn(ids)) {
+                counts.put((Long) row[0], (Integer) row[1]);
+            }
+        });
+
+        List<FavoriteStatusDTO> result = new ArrayList<>(counts.size());
+        for (Long id : ids) {
+            Integer count = counts.get(id);
+            if (count != null) {
+                result.add(new FavoriteStatusDTO(id, UserFavoritesCache.contains(favorites, id), count));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Liefert die Events mit den meisten Favorisierungen im Zeitfenster, ältere
+     * Favorisierungen zählen dabei exponentiell weniger. Die Rangliste stammt aus dem
+     * {@link TrendingEventsTracker}; geladen werden nur die Events der Rangliste.
+     *
+     * @param window Zeitfenster, z. B. {@code "24h"} (siehe {@link TrendingWindow})
+     * @param k      Anzahl Events (1 bis {@value #MAX_TRENDING})
+     * @return Events mit Trend-Punkten, höchste zuerst
+     * @throws InvalidEventDataException bei unbekanntem Zeitfenster oder ungültiger Anzahl
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingEventDTO> getTrendingEvents(String window, int k) {
+        TrendingWindow trendingWindow = TrendingWindow.fromLabel(window);
+        if (trendingWindow == null) {
+            throw new InvalidEventDataException("Unbekanntes Zeitfenster: " + window
+                    + " (erlaubt: 1h, 24h, 7d).");
+        }
+        if (k < 1 || k > MAX_TRENDING) {
+            throw new InvalidEventDataException("Anzahl muss zwischen 1 und " + MAX_TRENDING + " liegen.");
+        }
+
+        List<TrendingEventsTracker.Trend> trends = trendingTracker.top(trendingWindow, k);
+        if (trends.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Event> events = new HashMap<>();
+        for (Event event : eventRepository.findAllById(trends.stream().map(TrendingEventsTracker.Trend::eventId).toList())) {
+            events.put(event.getId(), event);
+        }
+
+        List<TrendingEventDTO> result = new ArrayList<>(trends.size());
+        for (TrendingEventsTracker.Trend trend : trends) {
+            Event event = events.get(trend.eventId());
+            if (event != null) {
+                result.add(new TrendingEventDTO(EventMapper.toDTO(event), trend.score()));
+            }
+        }
+        return result;
+    }
+
+    private long[] favoriteIds(Long userId) {
+        return favoritesCache.get(userId,
+                () -> primaryReads.execute(status -> eventFavoriteRepository.findEventIdsByUserId(userId)));
     }
 }
@@ -1,21 +1,50 @@
 package com.wiss.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.config.CacheConfig;
 import com.wiss.backend.controller.EventController;
+import com.wiss.backend.dto.EventBulkResultDTO;
+import com.wiss.backend.dto.EventColumnsDTO;
 import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.EventSearchResultDTO;
+import com.wiss.backend.dto.EventSuggestionDTO;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.exception.CoordinateOutOfRangeException;
 import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.exception.EventVersionMismatchException;
 import com.wiss.backend.exception.FutureDateException;
 import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.exception.ServiceOverloadedException;
 import com.wiss.backend.mapper.EventMapper;
 import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.outbox.EventOutbox;
 import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.store.EventBitmapIndex;
+import com.wiss.backend.store.EventColumnStore;
+import com.wiss.backend.store.EventSearchIndex;
+import com.wiss.backend.store.EventSuggestionIndex;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * <h2>
@@ -34,6 +63,16 @@ import java.util.List;
  *     <li>Verbindung zur Datenbank über {@link EventRepository}</li>
  *     <li>Konvertierung zwischen {@link Event}, {@link EventDTO} und {@link EventFormDTO}</li>
  *     <li>Validierung der Eingabedaten (inkl. Ausnahmebehandlung)</li>
+ *     <li>Optimistische Sperren bei Änderungen: erwartete Version aus {@code If-Match} prüfen,
+ *         neue Version im Ergebnis liefern</li>
+ *     <li>Veröffentlichung von {@link EventChange}-Ereignissen nach jeder Änderung, für
+ *         andere Knoten und Abnehmer zusätzlich über den {@link EventOutbox} in derselben
+ *         Transaktion</li>
+ *     <li>Beantwortung von Filter-, Statistik- und Geo-Abfragen aus dem
+ *         {@link EventColumnStore}, sofern aktiviert und geladen</li>
+ *     <li>Sonst Auflösung von Zählabfragen über den {@link EventBitmapIndex},
+ *         sofern aktiviert und geladen</li>
+ *     <li>Titelsuche über den {@link EventSearchIndex}, Vorschläge über den {@link EventSuggestionIndex}</li>
  * </ul>
  *
  * <h3>
@@ -72,13 +111,85 @@ public class EventService {
      */
     private final EventRepository eventRepository;
 
+    /**
+     * Publisher für {@link EventChange}-Ereignisse an lokale Abnehmer (Caches, Outbox-Relay).
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Outbox, in den jede Änderung in derselben Transaktion geschrieben wird.
+     */
+    private final EventOutbox outbox;
+
+    /**
+     * JSON-Konvertierung für Merge Patches.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Optionaler In-Memory-Spaltenspeicher ({@code event-store.enabled}), sonst {@code null}.
+     */
+    private final EventColumnStore eventStore;
+
+    /**
+     * Optionaler Bitmap-Index ({@code event-index.enabled}), sonst {@code null}.
+     */
+    private final EventBitmapIndex eventIndex;
+
+    /**
+     * Invertierter Index über Event-Titel für die Volltextsuche.
+     */
+    private final EventSearchIndex searchIndex;
+
+    /**
+     * Präfixbaum über Titel und Kategorien für die Autovervollständigung.
+     */
+    private final EventSuggestionIndex suggestionIndex;
+
+    /**
+     * Maximale Seitengrösse der Titelsuche.
+     */
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    /**
+     * Maximale Anzahl IDs pro Massenänderung oder -löschung.
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
+    /**
+     * Früheste bzw. späteste Datumsgrenze für offene Zeiträume in Datenbankabfragen.
+     */
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     /**
      * Konstruktor für Dependency Injection.
      *
      * @param eventRepository Repository für Event-Datenbankoperationen
+     * @param eventPublisher Publisher für Änderungsereignisse
+     * @param outbox Outbox für die Zustellung der Änderungen an andere Knoten
+     * @param objectMapper JSON-Konvertierung für Merge Patches
+     * @param eventStore optionaler In-Memory-Spaltenspeicher oder {@code null}
+     * @param eventIndex optionaler Bitmap-Index oder {@code null}
+     * @param searchIndex Suchindex über Event-Titel
+     * @param suggestionIndex Vorschläge für die Autovervollständigung
      */
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        EventOutbox outbox,
+                        ObjectMapper objectMapper,
+                        @Nullable EventColumnStore eventStore,
+                        @Nullable EventBitmapIndex eventIndex,
+                        EventSearchIndex searchIndex,
+                        EventSuggestionIndex suggestionIndex) {
         this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.eventStore = eventStore;
+        this.eventIndex = eventIndex;
+        this.searchIndex = searchIndex;
+        this.suggestionIndex = suggestionIndex;
     }
 
     // ---------------------------------------------
@@ -91,7 +202,11 @@ public class EventService {
      * @return Liste aller Events als DTOs
      * @see EventController#getAllEvents() 
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getAllEventsAsDTO() {
+        if (storeReady()) {
+            return eventStore.findAll();
+        }
         List<Event> entities = eventRepository.findAll();
         return EventMapper.toDTOList(entities);
     }
@@ -99,12 +214,20 @@ public class EventService {
     /**
      * Gibt ein einzelnes Event als {@link EventDTO} zurück.
      *
+     * <p>
+     *     Das Ergebnis liegt im Cache {@value CacheConfig#EVENTS} und wird nach Änderungen auf
+     *     allen Knoten verworfen. Geladen wird vom Primary, damit ein zurückliegendes
+     *     Lese-Replikat keinen veralteten Stand in den Cache bringt.
+     * </p>
+     *
      * @param id ID des Events
      * @return Event als DTO
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @see #validateId(Long)
-     * @see EventController#getEventById(Long) 
+     * @see EventController#getEventById(Long)
      */
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id", condition = "#id != null")
+    @Transactional
     public EventDTO getEventByIdAsDTO(Long id) {
         validateId(id);
         Event entity = eventRepository.findById(id)
@@ -119,6 +242,7 @@ public class EventService {
      * @return Liste passender Events
      * @see EventController#getEventsByCategory(EventCategory)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByCategoryAsDTO(EventCategory category) {
         List<Event> entities = eventRepository.findByCategory(category);
         return EventMapper.toDTOList(entities);
@@ -131,6 +255,7 @@ public class EventService {
      * @return Liste gefilterter Events als DTOs
      * @see EventController#getEventsByStatus(EventStatus) 
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByStatusAsDTO(EventStatus status) {
         List<Event> entities = eventRepository.findByStatus(status);
         return EventMapper.toDTOList(entities);
@@ -143,6 +268,7 @@ public class EventService {
      * @return Liste mit Events zum angegebenen Datum
      * @see EventController#getEventsByDate(LocalDate)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByDateAsDTO(LocalDate date) {
         List<Event> entities = eventRepository.findByDate(date);
         return EventMapper.toDTOList(entities);
@@ -153,18 +279,47 @@ public class EventService {
     // ---------------------------------------------
 
     /**
-     * Gibt alle Events als {@link EventFormDTO}-Liste zurück.
+     * Gibt alle Events als {@link EventFormDTO}-Liste zurück. Die Ersteller:innen werden in
+     * derselben Abfrage geladen.
      *
      * @return Liste aller Events als FormDTOs
      * @see EventController#getAllFormEvents()
      */
+    @Transactional(readOnly = true)
     public List<EventFormDTO> getAllEventsAsFormDTO() {
-        List<Event> entities = eventRepository.findAll();
+        List<Event> entities = eventRepository.findAllWithCreator();
         return EventMapper.toFormDTOList(entities);
     }
 
+    // ---------------------------------------------
+    // Spaltenorientierte Ausgabe (Karten- und Analyse-Clients)
+    // ---------------------------------------------
+
+    /**
+     * Gibt alle Events spaltenorientiert zurück, direkt aus einer Projektionsabfrage.
+     *
+     * @return alle Events als {@link EventColumnsDTO}
+     * @see EventController#getAllEventsAsColumns()
+     */
+    @Transactional(readOnly = true)
+    public EventColumnsDTO getAllEventsAsColumns() {
+        return EventMapper.toColumns(eventRepository.findAllAsRows(), false);
+    }
+
+    /**
+     * Gibt alle Events inkl. Ersteller:in spaltenorientiert zurück.
+     *
+     * @return alle Events als {@link EventColumnsDTO} mit Ersteller:innen-Spalten
+     * @see EventController#getAllFormEventsAsColumns()
+     */
+    @Transactional(readOnly = true)
+    public EventColumnsDTO getAllEventsAsFormColumns() {
+        return EventMapper.toColumns(eventRepository.findAllWithCreatorAsRows(), true);
+    }
+
     /**
-     * Gibt ein Event als {@link EventFormDTO} zurück.
+     * Gibt ein Event als {@link EventFormDTO} zurück. Event und Ersteller:in kommen aus
+     * einer einzigen Abfrage; ein leeres Ergebnis ersetzt die Existenzprüfung.
      *
      * @param id ID des gesuchten Events
      * @return Event als FormDTO
@@ -172,24 +327,26 @@ public class EventService {
      * @see #validateId(Long) 
      * @see EventController#getEventByIdForEdit(Long)
      */
+    @Transactional(readOnly = true)
     public EventFormDTO getEventByIdAsFormDTO(Long id) {
         validateId(id);
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-
-        Event entity = getEventById(id);
-        return EventMapper.toFormDTO(entity);
+        return eventRepository.findWithCreatorById(id)
+                .map(EventMapper::toFormDTO)
+                .orElseThrow(() -> new EventNotFoundException(id));
     }
 
     /**
      * Erstellt ein neues Event auf Basis des FormDTOs.
+     * <p>
+     *     ID und Version aus dem Formular werden ignoriert; es entsteht immer ein neues Event.
+     * </p>
      *
      * @param event Event-Entity mit Formdaten
      * @return Gespeichertes Event als FormDTO
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
      * @see EventController#createEventFromForm(Event) 
      */
+    @Transactional
     public EventFormDTO createEventFromForm(Event event) {
         validateEventData(
                 event.getTitle(),
@@ -200,26 +357,32 @@ public class EventService {
                 event.getStatus()
         );
 
+        event.setId(null);
+        event.setVersion(null);
         Event savedEntity = eventRepository.save(event);
+        publish(EventChange.created(EventMapper.toDTO(savedEntity)));
         return EventMapper.toFormDTO(savedEntity);
     }
 
     /**
      * Aktualisiert ein bestehendes Event über Formdaten.
+     * <p>
+     *     Das Event wird einmal geladen und nur die fachlichen Felder werden übernommen;
+     *     Ersteller:in und Favoritenanzahl bleiben erhalten. Geschrieben werden nur geänderte
+     *     Spalten.
+     * </p>
      *
      * @param id ID des zu aktualisierenden Events
      * @param event Neue Daten als Event-Entity
+     * @param expectedVersion Version, auf der die Bearbeitung beruht, oder {@code null} ohne Prüfung
      * @return Aktualisiertes Event als FormDTO
      * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionMismatchException Wenn das Event inzwischen geändert wurde
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
-     * @see EventController#updateEventFromForm(Long, Event)
+     * @see EventController#updateEventFromForm(Long, String, Event)
      */
-    public EventFormDTO updateEventFromForm(Long id, Event event) {
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-        event.setId(id);
-
+    @Transactional
+    public EventFormDTO updateEventFromForm(Long id, Event event, Long expectedVersion) {
         validateEventData(
                 event.getTitle(),
                 event.getDate(),
@@ -229,8 +392,11 @@ public class EventService {
                 event.getStatus()
         );
 
-        Event updatedEntity = eventRepository.save(event);
-        return EventMapper.toFormDTO(updatedEntity);
+        Event entity = checkVersion(eventRepository.findWithCreatorById(id), id, expectedVersion);
+        EventMapper.updateEntity(entity, EventMapper.toDTO(event));
+        eventRepository.flush();
+        publish(EventChange.updated(EventMapper.toDTO(entity)));
+        return EventMapper.toFormDTO(entity);
     }
 
     // ---------------------------------------------
@@ -242,6 +408,7 @@ public class EventService {
      *
      * @return Liste aller Events aus der Datenbank
      */
+    @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
@@ -254,6 +421,7 @@ public class EventService {
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @see #validateId(Long)
      */
+    @Transactional(readOnly = true)
     public Event getEventById(Long id) {
         validateId(id);
         return eventRepository.findById(id)
@@ -266,6 +434,7 @@ public class EventService {
      * @param category Kategorie (z. B. {@code severeStorms}, {@code volcanoes})
      * @return Liste der gefilterten Events
      */
+    @Transactional(readOnly = true)
     public List<Event> getEventsByCategory(EventCategory category) {
         return eventRepository.findByCategory(category);
     }
@@ -276,6 +445,7 @@ public class EventService {
      * @param status Status (z. B. {@code open}, {@code closed})
      * @return Liste der gefilterten Events
      */
+    @Transactional(readOnly = true)
     public List<Event> getEventsByStatus(EventStatus status) {
         return eventRepository.findByStatus(status);
     }
@@ -286,6 +456,7 @@ public class EventService {
      * @param date Datum zur Filterung
      * @return Liste der gefilterten Events
      */
+    @Transactional(readOnly = true)
     public List<Event> getEventsByDate(LocalDate date) {
         return eventRepository.findByDate(date);
     }
@@ -296,7 +467,11 @@ public class EventService {
      * @return Gesamtanzahl der Events
      * @see EventController#getEventCount()
      */
+    @Transactional(readOnly = true)
     public long getTotalEventsCount() {
+        if (storeReady()) {
+            return eventStore.size();
+        }
         return eventRepository.count();
     }
 
@@ -313,6 +488,7 @@ public class EventService {
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
      * @see EventController#createEvent(EventDTO)
      */
+    @Transactional
     public EventDTO createEvent(EventDTO dto) {
         validateEventData(
                 dto.getTitle(),
@@ -325,25 +501,31 @@ public class EventService {
 
         Event entity = EventMapper.toEntity(dto);
         Event newEvent = eventRepository.save(entity);
-        return EventMapper.toDTO(newEvent);
+        EventDTO created = EventMapper.toDTO(newEvent);
+        publish(EventChange.created(created));
+        return created;
     }
 
     /**
      * Aktualisiert ein bestehendes Event mit neuen Daten.
+     * <p>
+     *     Das Event wird einmal geladen und nur die fachlichen Felder werden übernommen;
+     *     Ersteller:in und Favoritenanzahl bleiben erhalten. Geschrieben werden nur geänderte
+     *     Spalten.
+     * </p>
      *
      * @param id ID des zu aktualisierenden Events
      * @param dto Neues {@link EventDTO} mit aktualisierten Informationen
-     * @return Aktualisiertes Event als DTO
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} ohne Prüfung
+     * @return Aktualisiertes Event als DTO mit neuer Version
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @throws InvalidEventDataException Wenn die Eingabedaten ungültig sind
+     * @throws EventVersionMismatchException Wenn das Event inzwischen geändert wurde
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
-     * @see EventController#updateEvent(Long, EventDTO)
+     * @see EventController#updateEvent(Long, String, EventDTO)
      */
-    public EventDTO updateEvent(Long id, EventDTO dto) {
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-
+    @Transactional
+    public EventDTO updateEvent(Long id, EventDTO dto, Long expectedVersion) {
         validateEventData(
                 dto.getTitle(),
                 dto.getDate(),
@@ -353,25 +535,126 @@ public class EventService {
                 dto.getStatus()
         );
 
-        Event entity = EventMapper.toEntity(dto);
-        entity.setId(id); // <- Wichtig: id setzen für UPDATE-Erkennung
-        Event updatedEntity = eventRepository.save(entity);
-        return EventMapper.toDTO(updatedEntity);
+        Event entity = checkVersion(eventRepository.findById(id), id, expectedVersion);
+        EventMapper.updateEntity(entity, dto);
+        eventRepository.flush();
+        EventDTO updated = EventMapper.toDTO(entity);
+        publish(EventChange.updated(updated));
+        return updated;
+    }
+
+    /**
+     * Ändert einzelne Felder eines Events per JSON Merge Patch (RFC 7386).
+     * <p>
+     *     Das Event wird einmal geladen; nur die im Patch enthaltenen Felder werden
+     *     übernommen und danach wie bei {@link #updateEvent(Long, EventDTO, Long)} geprüft. Das
+     *     {@code UPDATE} enthält nur die tatsächlich geänderten Spalten und entfällt ganz,
+     *     wenn sich nichts ändert.
+     * </p>
+     *
+     * @param id ID des Events
+     * @param patch Merge Patch, z. B. {@code {"status": "closed"}}
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} ohne Prüfung
+     * @return Event nach der Änderung mit neuer Version
+     * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws InvalidEventDataException Wenn der Patch kein JSON-Objekt ist, unbekannte Felder
+     *         enthält, die ID ändert oder das Ergebnis ungültig ist
+     * @throws EventVersionMismatchException Wenn das Event inzwischen geändert wurde
+     * @see EventMapper#applyMergePatch(EventDTO, JsonNode, ObjectMapper)
+     * @see EventController#patchEvent(Long, String, JsonNode)
+     */
+    @Transactional
+    public EventDTO patchEvent(Long id, JsonNode patch, Long expectedVersion) {
+        validateId(id);
+        Event entity = checkVersion(eventRepository.findById(id), id, expectedVersion);
+        EventDTO patched = EventMapper.applyMergePatch(EventMapper.toDTO(entity), patch, objectMapper);
+
+        validateEventData(
+                patched.getTitle(),
+                patched.getDate(),
+                patched.getCategory(),
+                patched.getLongitude(),
+                patched.getLatitude(),
+                patched.getStatus()
+        );
+
+        EventMapper.updateEntity(entity, patched);
+        eventRepository.flush();
+        EventDTO updated = EventMapper.toDTO(entity);
+        publish(EventChange.updated(updated));
+        return updated;
     }
 
     /**
      * Löscht ein Event anhand seiner ID.
+     * <p>
+     *     Ein einziges {@code DELETE} ohne vorheriges Laden; liefert es 0 Zeilen, existiert
+     *     das Event nicht.
+     * </p>
      *
      * @param id ID des zu löschenden Events
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @see EventController#deleteEvent(Long)
      */
+    @Transactional
     public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
+        validateId(id);
+        if (eventRepository.deleteEventById(id) == 0) {
             throw new EventNotFoundException(id);
         }
-        
-        eventRepository.deleteById(id);
+        publish(EventChange.deleted(id));
+    }
+
+    /**
+     * Setzt den Status mehrerer Events mit einer einzigen {@code UPDATE}-Anweisung.
+     * <p>
+     *     Die Eingabe wird einmal geprüft; danach folgen unabhängig von der Anzahl Events
+     *     das Update, eine Abfrage des neuen Stands für die Änderungsereignisse und ein
+     *     JDBC-Batch in den Outbox. IDs ohne Event werden übersprungen.
+     * </p>
+     *
+     * @param ids IDs der Events
+     * @param status neuer Status
+     * @return Anzahl angefragter und geänderter Events
+     * @throws InvalidEventDataException Wenn IDs oder Status fehlen oder zu viele IDs übergeben werden
+     * @see EventController#updateEventStatuses(com.wiss.backend.dto.EventStatusUpdateDTO)
+     */
+    @Transactional
+    public EventBulkResultDTO updateEventStatuses(List<Long> ids, EventStatus status) {
+        List<Long> distinctIds = validateBulkIds(ids);
+        if (status == null) {
+            throw new InvalidEventDataException("Status darf nicht leer sein.");
+        }
+
+        int affected = eventRepository.updateStatusByIdIn(distinctIds, status);
+        List<EventChange> changes = eventRepository.findAllById(distinctIds).stream()
+                .map(event -> EventChange.updated(EventMapper.toDTO(event)))
+                .toList();
+        publishAll(changes);
+        return new EventBulkResultDTO(distinctIds.size(), affected);
+    }
+
+    /**
+     * Löscht mehrere Events mit einer einzigen {@code DELETE}-Anweisung.
+     * <p>
+     *     Die Eingabe wird einmal geprüft; danach folgen unabhängig von der Anzahl Events
+     *     eine Abfrage der vorhandenen IDs für die Änderungsereignisse, das Löschen und ein
+     *     JDBC-Batch in den Outbox. IDs ohne Event werden übersprungen.
+     * </p>
+     *
+     * @param ids IDs der Events
+     * @return Anzahl angefragter und gelöschter Events
+     * @throws InvalidEventDataException Wenn IDs fehlen oder zu viele IDs übergeben werden
+     * @see EventController#deleteEvents(List)
+     */
+    @Transactional
+    public EventBulkResultDTO deleteEvents(List<Long> ids) {
+        List<Long> distinctIds = validateBulkIds(ids);
+
+        List<Long> existingIds = eventRepository.findExistingIds(distinctIds);
+        int affected = existingIds.isEmpty() ? 0 : eventRepository.deleteByIdIn(existingIds);
+        publishAll(existingIds.stream().map(EventChange::deleted).toList());
+        return new EventBulkResultDTO(distinctIds.size(), affected);
     }
 
     // ---------------------------------------------
@@ -384,11 +667,12 @@ public class EventService {
      * @param category Kategorie zur Filterung
      * @param status Status zur Filterung
      * @return Liste der gefilterten Events
-     * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate) 
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate) 
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByCategoryAndStatus(EventCategory category, EventStatus status) {
-        List<Event> entities = eventRepository.findByCategoryAndStatus(category, status);
-        return EventMapper.toDTOList(entities);
+        return filter(List.of(category), List.of(status), null, null,
+                () -> eventRepository.findByCategoryAndStatus(category, status));
     }
 
     /**
@@ -397,11 +681,12 @@ public class EventService {
      * @param start Startdatum (inklusive)
      * @param end Enddatum (inklusive)
      * @return Liste der gefilterten Events
-     * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByDateBetween(LocalDate start, LocalDate end) {
-        List<Event> entities = eventRepository.findByDateBetween(start, end);
-        return EventMapper.toDTOList(entities);
+        return filter(null, null, start, end,
+                () -> eventRepository.findByDateBetween(start, end));
     }
 
     /**
@@ -412,11 +697,12 @@ public class EventService {
      * @param start Startdatum (inklusive)
      * @param end Enddatum (inklusive)
      * @return Liste der gefilterten Events
-     * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByCategoryAndDateBetween(EventCategory category, LocalDate start, LocalDate end) {
-        List<Event> entities = eventRepository.findByCategoryAndDateBetween(category, start, end);
-        return EventMapper.toDTOList(entities);
+        return filter(List.of(category), null, start, end,
+                () -> eventRepository.findByCategoryAndDateBetween(category, start, end));
     }
 
     /**
@@ -427,11 +713,12 @@ public class EventService {
      * @param start Startdatum (inklusive)
      * @param end Enddatum (inklusive)
      * @return Liste der gefilterten Events
-     * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByStatusAndDateBetween(EventStatus status, LocalDate start, LocalDate end) {
-        List<Event> entities = eventRepository.findByStatusAndDateBetween(status, start, end);
-        return EventMapper.toDTOList(entities);
+        return filter(null, List.of(status), start, end,
+                () -> eventRepository.findByStatusAndDateBetween(status, start, end));
     }
 
     /**
@@ -443,11 +730,37 @@ public class EventService {
      * @param start Startdatum (inklusive)
      * @param end Enddatum (inklusive)
      * @return Liste der gefilterten Events
-     * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate)
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByCategoryAndStatusAndDateBetween(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
-        List<Event> entities = eventRepository.findByCategoryAndStatusAndDateBetween(category, status, start, end);
-        return EventMapper.toDTOList(entities);
+        return filter(List.of(category), List.of(status), start, end,
+                () -> eventRepository.findByCategoryAndStatusAndDateBetween(category, status, start, end));
+    }
+
+    /**
+     * Filtert Events nach beliebigen Kombinationen: ODER innerhalb eines Feldes,
+     * UND zwischen den Feldern. Leere oder {@code null}-Kriterien schränken nicht ein,
+     * ein fehlendes Start- oder Enddatum lässt den Zeitraum auf dieser Seite offen.
+     *
+     * @param categories erlaubte Kategorien
+     * @param statuses erlaubte Status
+     * @param start Startdatum (inklusive) oder {@code null}
+     * @param end Enddatum (inklusive) oder {@code null}
+     * @return Liste der gefilterten Events, nach ID sortiert
+     * @see EventController#getEventsByFilter(List, List, LocalDate, LocalDate)
+     */
+    @Transactional(readOnly = true)
+    public List<EventDTO> getEventsByFilter(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                                            LocalDate start, LocalDate end) {
+        return filter(categories, statuses, start, end, () -> {
+            if (isEmpty(categories) && isEmpty(statuses) && start == null && end == null) {
+                return eventRepository.findAll();
+            }
+            return eventRepository.findByCategoryInAndStatusInAndDateBetweenOrderById(
+                    orAll(categories, EventCategory.values()), orAll(statuses, EventStatus.values()),
+                    start != null ? start : MIN_DATE, end != null ? end : MAX_DATE);
+        });
     }
 
     // ---------------------------------------------
@@ -461,8 +774,10 @@ public class EventService {
      * @return Anzahl der Events in dieser Kategorie
      * @see EventController#getEventCountByCategory(EventCategory) 
      */
+    @Transactional(readOnly = true)
     public long getTotalEventsByCategory(EventCategory category) {
-        return eventRepository.countByCategory(category);
+        return count(List.of(category), null, null, null,
+                () -> eventRepository.countByCategory(category));
     }
 
     /**
@@ -472,8 +787,10 @@ public class EventService {
      * @return Anzahl der Events mit diesem Status
      * @see EventController#getEventCountByStatus(EventStatus) 
      */
+    @Transactional(readOnly = true)
     public long getTotalEventsByStatus(EventStatus status) {
-        return eventRepository.countByStatus(status);
+        return count(null, List.of(status), null, null,
+                () -> eventRepository.countByStatus(status));
     }
 
     /**
@@ -484,8 +801,245 @@ public class EventService {
      * @return Anzahl der Events im Zeitraum
      * @see EventController#getEventCountByDateBetween(LocalDate, LocalDate)
      */
+    @Transactional(readOnly = true)
     public long getTotalEventsByDateBetween(LocalDate start, LocalDate end) {
-        return eventRepository.countByDateBetween(start, end);
+        return count(null, null, start, end,
+                () -> eventRepository.countByDateBetween(start, end));
+    }
+
+    /**
+     * Zählt Events nach beliebigen Kombinationen (siehe
+     * {@link #getEventsByFilter(Collection, Collection, LocalDate, LocalDate)}).
+     *
+     * @param categories erlaubte Kategorien
+     * @param statuses erlaubte Status
+     * @param start Startdatum (inklusive) oder {@code null}
+     * @param end Enddatum (inklusive) oder {@code null}
+     * @return Anzahl passender Events
+     * @see EventController#getEventCountByFilter(List, List, LocalDate, LocalDate)
+     */
+    @Transactional(readOnly = true)
+    public long getTotalEventsByFilter(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                                       LocalDate start, LocalDate end) {
+        return count(categories, statuses, start, end, () -> {
+            if (isEmpty(categories) && isEmpty(statuses) && start == null && end == null) {
+                return eventRepository.count();
+            }
+            return eventRepository.countByCategoryInAndStatusInAndDateBetween(
+                    orAll(categories, EventCategory.values()), orAll(statuses, EventStatus.values()),
+                    start != null ? start : MIN_DATE, end != null ? end : MAX_DATE);
+        });
+    }
+
+    // ---------------------------------------------
+    // Titelsuche und Vorschläge
+    // ---------------------------------------------
+
+    /**
+     * Sucht Events, deren Titel alle Begriffe der Anfrage enthalten (jeweils als Präfix),
+     * sortiert nach Relevanz. Die Treffer stammen aus dem {@link EventSearchIndex};
+     * aus der Datenbank werden nur die Events der angeforderten Seite geladen.
+     *
+     * @param query Suchanfrage
+     * @param page Seitennummer (ab 0)
+     * @param size Seitengrösse (1 bis {@value #MAX_SEARCH_PAGE_SIZE})
+     * @return Ergebnisseite mit Gesamtanzahl der Treffer
+     * @throws InvalidEventDataException Wenn die Anfrage leer ist oder die Seitenangaben ungültig sind
+     * @throws ServiceOverloadedException Solange der Suchindex noch aufgebaut wird
+     * @see com.wiss.backend.controller.EventSearchController#searchEvents(String, int, int)
+     */
+    @Transactional(readOnly = true)
+    public EventSearchResultDTO searchEvents(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidEventDataException("Suchbegriff darf nicht leer sein.");
+        }
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new InvalidEventDataException(
+                    "Seite muss >= 0 und Seitengrösse zwischen 1 und " + MAX_SEARCH_PAGE_SIZE + " sein.");
+        }
+        if (!searchIndex.isLoaded()) {
+            throw new ServiceOverloadedException("Suchindex wird aufgebaut.", 1);
+        }
+
+        long offset = (long) page * size;
+        EventSearchIndex.Hits hits = searchIndex.search(query, (int) Math.min(offset, Integer.MAX_VALUE - size), size);
+
+        Map<Long, Event> byId = eventRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> ranked = new ArrayList<>(hits.ids().size());
+        for (Long id : hits.ids()) {
+            Event event = byId.get(id);
+            if (event != null) {
+                ranked.add(event);
+            }
+        }
+        return new EventSearchResultDTO(query, hits.total(), page, size, EventMapper.toDTOList(ranked));
+    }
+
+    /**
+     * Liefert Vorschläge (Titel und Kategorien) für einen eingegebenen Präfix,
+     * gewichtet nach Anzahl Favoriten.
+     *
+     * @param prefix eingegebener Text
+     * @param limit gewünschte Anzahl (1 bis {@value EventSuggestionIndex#MAX_SUGGESTIONS})
+     * @return Vorschläge, bester zuerst
+     * @throws InvalidEventDataException Wenn der Präfix leer oder die Anzahl ungültig ist
+     * @see com.wiss.backend.controller.EventSearchController#getSuggestions(String, int)
+     */
+    public List<EventSuggestionDTO> getSuggestions(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidEventDataException("Präfix darf nicht leer sein.");
+        }
+        if (limit < 1 || limit > EventSuggestionIndex.MAX_SUGGESTIONS) {
+            throw new InvalidEventDataException(
+                    "Anzahl Vorschläge muss zwischen 1 und " + EventSuggestionIndex.MAX_SUGGESTIONS + " liegen.");
+        }
+        return suggestionIndex.suggest(prefix, limit);
+    }
+
+    // ---------------------------------------------
+    // Geo-Abfragen
+    // ---------------------------------------------
+
+    /**
+     * Gibt alle Events innerhalb eines geografischen Rechtecks (Bounding Box) zurück.
+     *
+     * @param minLatitude südliche Grenze (inklusive)
+     * @param maxLatitude nördliche Grenze (inklusive)
+     * @param minLongitude westliche Grenze (inklusive)
+     * @param maxLongitude östliche Grenze (inklusive)
+     * @return Liste der Events im Rechteck
+     * @throws CoordinateOutOfRangeException Wenn eine Grenze ausserhalb des gültigen Wertebereichs liegt
+     * @throws InvalidEventDataException Wenn eine Untergrenze grösser als die Obergrenze ist
+     * @see EventController#getEventsWithinBounds(double, double, double, double)
+     */
+    @Transactional(readOnly = true)
+    public List<EventDTO> getEventsWithinBounds(double minLatitude, double maxLatitude,
+                                                double minLongitude, double maxLongitude) {
+        validateLatitude(minLatitude);
+        validateLatitude(maxLatitude);
+        validateLongitude(minLongitude);
+        validateLongitude(maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new InvalidEventDataException("Untergrenze darf nicht grösser als Obergrenze sein.");
+        }
+
+        if (storeReady()) {
+            return eventStore.findWithinBounds(minLatitude, maxLatitude, minLongitude, maxLongitude);
+        }
+        List<Event> entities = eventRepository.findByLatitudeBetweenAndLongitudeBetween(
+                minLatitude, maxLatitude, minLongitude, maxLongitude);
+        return EventMapper.toDTOList(entities);
+    }
+
+    /**
+     * Prüft ein zum Ändern geladenes Event und vergleicht die erwartete Version. Ein leeres
+     * Ergebnis ersetzt die Existenzprüfung. Gleichzeitige Änderungen nach diesem Vergleich
+     * erkennt das versionierte {@code UPDATE} beim Flush; die Aufrufer flushen vor dem
+     * Erzeugen des DTOs, damit es die neue Version enthält.
+     *
+     * @param found Ergebnis der Abfrage nach {@code id}
+     * @param id ID des Events
+     * @param expectedVersion erwartete Version oder {@code null} ohne Prüfung
+     * @return geladene Entität
+     * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionMismatchException Wenn die Version nicht übereinstimmt
+     */
+    private static Event checkVersion(Optional<Event> found, Long id, Long expectedVersion) {
+        Event entity = found.orElseThrow(() -> new EventNotFoundException(id));
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new EventVersionMismatchException(id, entity.getVersion());
+        }
+        return entity;
+    }
+
+    /**
+     * Schreibt eine Änderung in den Outbox und veröffentlicht sie für die
+     * In-Memory-Strukturen dieses Knotens; deren Listener laufen nach dem Commit.
+     *
+     * @param change Änderung eines Events
+     */
+    private void publish(EventChange change) {
+        outbox.append(change);
+        eventPublisher.publishEvent(change);
+    }
+
+    /**
+     * Wie {@link #publish(EventChange)}, mit einem einzigen JDBC-Batch in den Outbox.
+     *
+     * @param changes Änderungen mehrerer Events
+     */
+    private void publishAll(List<EventChange> changes) {
+        outbox.appendAll(changes);
+        changes.forEach(eventPublisher::publishEvent);
+    }
+
+    /**
+     * Prüft, ob Leseabfragen aus dem In-Memory-Spaltenspeicher beantwortet werden können.
+     *
+     * @return true, wenn der Speicher aktiviert und vollständig geladen ist
+     */
+    private boolean storeReady() {
+        return eventStore != null && eventStore.isLoaded();
+    }
+
+    /**
+     * Prüft, ob Zählabfragen über den Bitmap-Index aufgelöst werden können.
+     *
+     * @return true, wenn der Index aktiviert und vollständig aufgebaut ist
+     */
+    private boolean indexReady() {
+        return eventIndex != null && eventIndex.isLoaded();
+    }
+
+    /**
+     * Beantwortet eine Filterabfrage aus dem Spaltenspeicher, sonst mit einer einzigen
+     * Datenbankabfrage. Der Bitmap-Index hilft hier nicht: Die Zeilen müssten ohnehin aus der
+     * Datenbank nachgeladen werden, die Filterabfrage liefert sie direkt.
+     *
+     * @param categories erlaubte Kategorien oder {@code null}
+     * @param statuses erlaubte Status oder {@code null}
+     * @param start Startdatum (inklusive) oder {@code null}
+     * @param end Enddatum (inklusive) oder {@code null}
+     * @param database Datenbankabfrage, falls der Speicher nicht bereit ist
+     * @return Liste der gefilterten Events
+     */
+    private List<EventDTO> filter(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                                  LocalDate start, LocalDate end, Supplier<List<Event>> database) {
+        if (storeReady()) {
+            return eventStore.find(categories, statuses, start, end);
+        }
+        return EventMapper.toDTOList(database.get());
+    }
+
+    /**
+     * Beantwortet eine Zählabfrage aus dem Spaltenspeicher, sonst aus dem Bitmap-Index,
+     * sonst aus der Datenbank.
+     *
+     * @param categories erlaubte Kategorien oder {@code null}
+     * @param statuses erlaubte Status oder {@code null}
+     * @param start Startdatum (inklusive) oder {@code null}
+     * @param end Enddatum (inklusive) oder {@code null}
+     * @param database Datenbankabfrage, falls weder Speicher noch Index bereit sind
+     * @return Anzahl passender Events
+     */
+    private long count(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                       LocalDate start, LocalDate end, LongSupplier database) {
+        if (storeReady()) {
+            return eventStore.count(categories, statuses, start, end);
+        }
+        if (indexReady()) {
+            return eventIndex.count(categories, statuses, start, end);
+        }
+        return database.getAsLong();
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static <T> Collection<T> orAll(Collection<T> values, T[] all) {
+        return isEmpty(values) ? Arrays.asList(all) : values;
     }
 
     // ---------------------------------------------
@@ -504,6 +1058,28 @@ public class EventService {
         }
     }
 
+    /**
+     * Validiert die IDs einer Massenänderung in einem Durchgang.
+     *
+     * @param ids IDs der Events
+     * @return IDs ohne Duplikate, in der übergebenen Reihenfolge
+     * @throws InvalidEventDataException Wenn die Liste leer ist, eine ID null ist oder mehr als
+     *         {@value #MAX_BULK_SIZE} verschiedene IDs übergeben werden
+     */
+    private List<Long> validateBulkIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidEventDataException("Es muss mindestens eine ID angegeben werden.");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidEventDataException("ID darf nicht null sein.");
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > MAX_BULK_SIZE) {
+            throw new InvalidEventDataException("Höchstens " + MAX_BULK_SIZE + " IDs pro Anfrage erlaubt.");
+        }
+        return distinctIds;
+    }
+
     /**
      * Validiert den Titel eines Events.
      *
@@ -0,0 +1,338 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventStreamDTO;
+import com.wiss.backend.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     Live-Stream der Event-Änderungen (Server-Sent Events)
+ * </h2>
+ *
+ * <p>
+ *     Verwaltet die offenen Verbindungen von {@code GET /api/events/stream} auf diesem
+ *     Knoten. Änderungen kommen vom {@link com.wiss.backend.cluster.ChangeRelay}, sowohl
+ *     lokale als auch die anderer Knoten, und werden an alle Clients verteilt.
+ * </p>
+ *
+ * <h3>Begrenzter Speicher pro Knoten:</h3>
+ * <ul>
+ *     <li>Höchstens {@code event-stream.max-clients} Verbindungen; weitere erhalten 503</li>
+ *     <li>Pro Client eine Warteschlange mit höchstens {@code event-stream.queue-size}
+ *         Einträgen. Läuft sie voll, weil der Client zu langsam liest, wird die Verbindung
+ *         geschlossen; der Browser verbindet sich mit {@code Last-Event-ID} neu</li>
+ *     <li>Die letzten {@code event-stream.replay-size} Änderungen werden für solche
+ *         Wiederverbindungen aufbewahrt</li>
+ * </ul>
+ *
+ * <h3>Genau einmal pro Client:</h3>
+ * <p>
+ *     Nachholen und Anmelden eines Clients geschehen unter derselben Sperre wie das Verteilen
+ *     neuer Änderungen; dazwischen geht nichts verloren und nichts wird doppelt gesendet.
+ *     Liegt die {@code Last-Event-ID} nicht mehr im Puffer, fehlen mehr Änderungen, als die
+ *     Warteschlange fasst, oder hatte der Knoten eine Lücke, erhält der Client ein
+ *     {@value #RESYNC_EVENT}-Event und lädt seinen Stand neu.
+ * </p>
+ *
+ * <h3>Wiederverbinden auf einem anderen Knoten:</h3>
+ * <p>
+ *     Jeder Knoten puffert die Änderungen in seiner eigenen Ankunftsreihenfolge; Änderungen
+ *     verschiedener Knoten können sich dabei überholen. Eine Position im Puffer eines Knotens
+ *     sagt deshalb nichts darüber aus, was ein anderer Knoten schon ausgeliefert hat. Die
+ *     IDs im Stream tragen darum die Kennung dieses Knotens ({@code <Knoten>/<Änderung>}).
+ *     Stammt die {@code Last-Event-ID} von einem anderen Knoten oder aus einem früheren
+ *     Start, erhält der Client ebenfalls {@value #RESYNC_EVENT}, statt dass Änderungen
+ *     fehlen oder doppelt kommen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.controller.EventController#streamEvents(String)
+ * @see com.wiss.backend.cluster.ChangeRelay
+ */
+@Service
+public class EventStreamService {
+
+    /**
+     * Name des Events, mit dem Clients zum Neuladen aufgefordert werden.
+     */
+    public static final String RESYNC_EVENT = "resync";
+
+    /**
+     * Trennzeichen zwischen Knoten-Kennung und Änderungs-ID in den IDs des Streams.
+     */
+    private static final char ID_SEPARATOR = '/';
+
+    private record Message(String id, String name, Object data) {}
+
+    private record Entry(String id, EventStreamDTO change) {}
+
+    private final int maxClients;
+    private final int queueSize;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final ScheduledExecutorService executor;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ArrayDeque<Entry> replay = new ArrayDeque<>();
+
+    /**
+     * Kennung dieses Knotens und Starts; Präfix aller IDs im Stream.
+     */
+    private final String streamId = UUID.randomUUID().toString();
+
+    /**
+     * Konstruktor mit Konfiguration.
+     *
+     * @param maxClients      maximale Anzahl Verbindungen auf diesem Knoten
+     * @param queueSize       maximale Anzahl wartender Einträge pro Client
+     * @param replaySize      Anzahl aufbewahrter Änderungen für Wiederverbindungen
+     * @param timeoutMillis   Lebensdauer einer Verbindung
+     * @param heartbeatMillis Intervall der Kommentare, die Proxys die Verbindung offen halten lassen
+     * @param senderThreads   Anzahl Threads, die an die Clients schreiben
+     */
+    public EventStreamService(@Value("${event-stream.max-clients:1000}") int maxClients,
+                              @Value("${event-stream.queue-size:64}") int queueSize,
+                              @Value("${event-stream.replay-size:256}") int replaySize,
+                              @Value("${event-stream.timeout-ms:1800000}") long timeoutMillis,
+                              @Value("${event-stream.heartbeat-ms:30000}") long heartbeatMillis,
+                              @Value("${event-stream.sender-threads:2}") int senderThreads) {
+        this.maxClients = maxClients;
+        this.queueSize = queueSize;
+        this.replaySize = replaySize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+
+        this.executor = new ScheduledThreadPoolExecutor(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "event-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Startet die periodischen Heartbeats.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Öffnet eine Verbindung und holt, falls möglich, verpasste Änderungen nach.
+     *
+     * @param lastEventId zuletzt empfangene ID ({@code Last-Event-ID}) oder {@code null}
+     * @return Emitter für die Antwort
+     * @throws ServiceOverloadedException wenn bereits {@code event-stream.max-clients} verbunden sind
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (clients.size() >= maxClients) {
+            throw new ServiceOverloadedException("Zu viele Live-Verbindungen.", 5);
+        }
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Client client = new Client(emitter);
+        emitter.onCompletion(client::close);
+        emitter.onTimeout(client::close);
+        emitter.onError(error -> client.close());
+
+        synchronized (replay) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Entry> missed = missedSince(lastEventId.strip());
+                if (missed == null || missed.size() >= queueSize) {
+                    client.offer(new Message(null, RESYNC_EVENT, "{}"));
+                } else {
+                    missed.forEach(entry -> client.offer(changeMessage(entry)));
+                }
+            }
+            clients.add(client);
+        }
+        return emitter;
+    }
+
+    /**
+     * Verteilt eine Änderung an alle Clients dieses Knotens.
+     *
+     * @param id     ID der Änderung
+     * @param change Änderung
+     */
+    public void publish(String id, EventStreamDTO change) {
+        Entry entry = new Entry(id, change);
+        synchronized (replay) {
+            replay.addLast(entry);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            Message message = changeMessage(entry);
+            clients.forEach(client -> client.offer(message));
+        }
+    }
+
+    /**
+     * Fordert alle Clients zum Neuladen auf, z. B. nachdem Änderungen anderer Knoten
+     * verloren gegangen sein können. Der Puffer wird geleert, da er nicht mehr lückenlos ist.
+     */
+    public void resync() {
+        synchronized (replay) {
+            replay.clear();
+            Message message = new Message(null, RESYNC_EVENT, "{}");
+            clients.forEach(client -> client.offer(message));
+        }
+    }
+
+    /**
+     * @return Anzahl offener Verbindungen
+     */
+    public int clientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Schliesst alle Verbindungen beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        new ArrayList<>(clients).forEach(Client::close);
+    }
+
+    /**
+     * Erzeugt den Emitter einer Verbindung; in Tests überschreibbar.
+     *
+     * @param timeoutMillis Lebensdauer der Verbindung
+     * @return neuer Emitter
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void heartbeat() {
+        Message message = new Message(null, null, "heartbeat");
+        clients.forEach(client -> client.offer(message));
+    }
+
+    /**
+     * @return Kennung dieses Knotens, mit der jede ID im Stream beginnt
+     */
+    String streamId() {
+        return streamId;
+    }
+
+    /**
+     * @return Änderungen nach der ID, oder {@code null}, wenn die ID von einem anderen Knoten
+     *         stammt oder nicht mehr im Puffer liegt
+     */
+    private List<Entry> missedSince(String lastEventId) {
+        String prefix = streamId + ID_SEPARATOR;
+        if (!lastEventId.startsWith(prefix)) {
+            return null;
+        }
+        lastEventId = lastEventId.substring(prefix.length());
+
+        List<Entry> missed = new ArrayList<>();
+        Iterator<Entry> newestFirst = replay.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Entry entry = newestFirst.next();
+            if (entry.id().equals(lastEventId)) {
+                return missed.reversed();
+            }
+            missed.add(entry);
+        }
+        return null;
+    }
+
+    private Message changeMessage(Entry entry) {
+        return new Message(streamId + ID_SEPARATOR + entry.id(), EventStreamDTO.EVENT_NAME, entry.change());
+    }
+
+    /**
+     * Eine Verbindung mit eigener, begrenzter Warteschlange. Geschrieben wird auf den
+     * Threads des Executors, damit ein langsamer Client niemanden sonst aufhält.
+     */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Message> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean closed;
+
+        private Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() < queueSize) {
+                    queue.addLast(message);
+                    if (!scheduled) {
+                        scheduled = true;
+                        executor.execute(this::drain);
+                    }
+                    return;
+                }
+            }
+            // Client liest zu langsam: schliessen, er setzt mit Last-Event-ID fort
+            close();
+        }
+
+        private void drain() {
+            while (true) {
+                Message message;
+                synchronized (this) {
+                    message = queue.pollFirst();
+                    if (message == null) {
+                        scheduled = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(toEvent(message));
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            clients.remove(this);
+            emitter.complete();
+        }
+
+        private static SseEmitter.SseEventBuilder toEvent(Message message) {
+            if (message.name() == null) {
+                return SseEmitter.event().comment((String) message.data());
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(message.name()).data(message.data());
+            return message.id() == null ? event : event.id(message.id());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>
+ *     Service für BCrypt-Hashing in einem begrenzten Worker-Pool
+ * </h2>
+ *
+ * <p>
+ *     BCrypt ist absichtlich rechenintensiv (Kostenfaktor 12 ≈ mehrere hundert Millisekunden).
+ *     Damit ein Login-Ansturm nicht alle Request-Threads blockiert und die lesenden
+ *     Event-Endpunkte aushungert, laufen alle Hash-Operationen in einem eigenen,
+ *     begrenzten Thread-Pool.
+ * </p>
+ *
+ * <h3>Kostenbewusste Zulassung:</h3>
+ * <ul>
+ *     <li>Jeder Auftrag belegt Kosteneinheiten: ein Hash mit dem Ziel-Kostenfaktor zählt 1,
+ *         jede zusätzliche Kostenstufe verdoppelt den Wert (Kosten 12 bei Ziel 10 = 4 Einheiten)</li>
+ *     <li>Übersteigt die Summe ausstehender Einheiten {@code auth.password.max-pending-cost}
+ *         oder ist die Warteschlange voll, wird sofort mit HTTP 503 abgewiesen</li>
+ *     <li>Wartet ein Request länger als {@code auth.password.timeout-ms}, wird ebenfalls
+ *         mit HTTP 503 abgebrochen; der Auftrag wird abgebrochen und, falls er noch wartet,
+ *         aus der Warteschlange entfernt und sein Budget sofort freigegeben</li>
+ * </ul>
+ *
+ * <p>
+ *     Zusätzlich erkennt der Service Hashes, deren Kostenfaktor vom konfigurierten
+ *     Ziel abweicht, damit sie nach erfolgreichem Login neu kodiert werden können.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see AppUserService
+ * @see ServiceOverloadedException
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final int MAX_COST_SHIFT = 10;
+
+    private final PasswordEncoder passwordEncoder;
+    private final int targetStrength;
+    private final int maxPendingCost;
+    private final long timeoutMillis;
+    private final Semaphore pendingCost;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Konstruktor zur Initialisierung des Worker-Pools.
+     *
+     * @param passwordEncoder BCrypt-Encoder mit dem Ziel-Kostenfaktor
+     * @param targetStrength  Ziel-Kostenfaktor für neue und neu kodierte Hashes
+     * @param workerThreads   Anzahl Worker-Threads ({@code 0} = halbe Anzahl CPU-Kerne)
+     * @param queueCapacity   maximale Anzahl wartender Aufträge
+     * @param maxPendingCost  maximale Summe ausstehender Kosteneinheiten
+     * @param timeoutMillis   maximale Wartezeit eines Requests auf sein Ergebnis
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${auth.password.bcrypt-strength:10}") int targetStrength,
+                                  @Value("${auth.password.worker-threads:0}") int workerThreads,
+                                  @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.password.max-pending-cost:128}") int maxPendingCost,
+                                  @Value("${auth.password.timeout-ms:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.targetStrength = targetStrength;
+        this.timeoutMillis = timeoutMillis;
+        this.maxPendingCost = maxPendingCost;
+        this.pendingCost = new Semaphore(maxPendingCost);
+
+        int threads = workerThreads > 0
+                ? workerThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Prüft ein Klartext-Passwort gegen einen gespeicherten Hash.
+     *
+     * @param rawPassword     eingegebenes Passwort im Klartext
+     * @param encodedPassword gespeicherter BCrypt-Hash
+     * @return true, wenn das Passwort passt
+     * @throws ServiceOverloadedException wenn der Worker-Pool ausgelastet ist
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(costOf(encodedPassword), () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hasht ein Passwort mit dem Ziel-Kostenfaktor.
+     *
+     * @param rawPassword Passwort im Klartext
+     * @return BCrypt-Hash
+     * @throws ServiceOverloadedException wenn der Worker-Pool ausgelastet ist
+     */
+    public String encode(String rawPassword) {
+        return submit(targetStrength, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Prüft, ob ein Hash mit einem anderen als dem Ziel-Kostenfaktor erstellt wurde.
+     *
+     * @param encodedPassword gespeicherter BCrypt-Hash
+     * @return true, wenn der Hash neu kodiert werden sollte
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) != targetStrength;
+    }
+
+    /**
+     * Führt einen Auftrag im Worker-Pool aus und wartet auf das Ergebnis.
+     *
+     * @param cost Kostenfaktor des Auftrags
+     * @param task auszuführende Hash-Operation
+     * @param <T>  Ergebnistyp
+     * @return Ergebnis des Auftrags
+     */
+    private <T> T submit(int cost, Callable<T> task) {
+        int units = costUnits(cost);
+        if (!pendingCost.tryAcquire(units)) {
+            throw overloaded();
+        }
+
+        // Budget genau einmal freigeben: nach der Ausführung oder beim Abbruch eines wartenden Auftrags
+        AtomicBoolean started = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                pendingCost.release(units);
+            }
+        };
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                started.set(true);
+                try {
+                    return task.call();
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release.run();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future, started, release);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            cancel(future, started, release);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Passwort-Hashing fehlgeschlagen", e.getCause());
+        }
+    }
+
+    /**
+     * Bricht einen Auftrag ab, auf den niemand mehr wartet. Ein wartender Auftrag wird aus der
+     * Warteschlange entfernt und gibt sein Budget sofort frei; ein laufender wird unterbrochen
+     * und gibt es nach dem Ende frei.
+     */
+    private void cancel(Future<?> future, AtomicBoolean started, Runnable release) {
+        if (future.cancel(true) && !started.get()) {
+            executor.remove((Runnable) future);
+            release.run();
+        }
+    }
+
+    /**
+     * Rechnet einen BCrypt-Kostenfaktor in Kosteneinheiten relativ zum Ziel um.
+     * Ein einzelner Auftrag belegt höchstens das gesamte Budget, damit er im Leerlauf
+     * immer angenommen werden kann.
+     */
+    private int costUnits(int cost) {
+        int shift = Math.max(0, Math.min(MAX_COST_SHIFT, cost - targetStrength));
+        return Math.min(1 << shift, maxPendingCost);
+    }
+
+    /**
+     * Liest den Kostenfaktor aus einem BCrypt-Hash im Format {@code $2a$12$...}.
+     * Unbekannte Formate werden wie der Ziel-Kostenfaktor behandelt.
+     */
+    private int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return targetStrength;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return targetStrength;
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException(
+                "Zu viele gleichzeitige Anmeldungen. Bitte in Kürze erneut versuchen.", 1);
+    }
+
+    /**
+     * Beendet den Worker-Pool beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,103 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.store.UserFeedMaterializer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h2>
+ *     Service für den persönlichen Event-Feed
+ * </h2>
+ *
+ * <p>
+ *     Liefert die Startseite einer Benutzer:in: ihre Favoriten zusammen mit den neuesten
+ *     offenen Events in den Kategorien dieser Favoriten. Hat die Benutzer:in noch keine
+ *     Favoriten, werden alle Kategorien berücksichtigt.
+ * </p>
+ *
+ * <p>
+ *     Der Feed wird nur beim ersten Abruf aus der Datenbank zusammengestellt und danach
+ *     vom {@link UserFeedMaterializer} im Arbeitsspeicher nachgeführt.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see UserFeedMaterializer
+ * @see EventFavoriteService
+ */
+@Service
+public class UserFeedService {
+
+    private final UserFeedMaterializer materializer;
+    private final EventFavoriteService favoriteService;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param materializer       Speicher der vorberechneten Feeds
+     * @param favoriteService    Service für Favoriten
+     * @param eventRepository    Repository zum Laden der neuesten Events
+     * @param transactionManager Transaktionsmanager für das Laden des Seeds
+     */
+    public UserFeedService(UserFeedMaterializer materializer, EventFavoriteService favoriteService,
+                           EventRepository eventRepository, PlatformTransactionManager transactionManager) {
+        this.materializer = materializer;
+        this.favoriteService = favoriteService;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Liefert den Feed einer Benutzer:in.
+     *
+     * <p>
+     *     Bewusst keine Read-only-Transaktion: Der Seed wird im {@link UserFeedMaterializer}
+     *     gehalten und muss daher vom Primary statt von einem Lese-Replikat stammen. Die
+     *     Transaktion wird erst geöffnet, wenn der Feed nicht im Speicher liegt; Favoriten
+     *     und Events teilen sich darin eine Verbindung.
+     * </p>
+     *
+     * @param userId ID der Benutzer:in
+     * @return Events des Feeds, zuletzt hinzugekommene zuerst
+     */
+    public List<EventDTO> getFeed(Long userId) {
+        return materializer.feed(userId, () -> transactionTemplate.execute(status -> loadSeed(userId)));
+    }
+
+    private UserFeedMaterializer.Seed loadSeed(Long userId) {
+        List<EventDTO> favorites = favoriteService.getFavoriteEvents(userId);
+
+        Set<EventCategory> categories = EnumSet.noneOf(EventCategory.class);
+        favorites.forEach(event -> categories.add(event.getCategory()));
+        if (categories.isEmpty()) {
+            categories.addAll(EnumSet.allOf(EventCategory.class));
+        }
+
+        Map<Long, EventDTO> events = new LinkedHashMap<>();
+        EventMapper.toDTOList(eventRepository.findByStatusAndCategoryInOrderByDateDescIdDesc(
+                        EventStatus.open, categories, PageRequest.of(0, materializer.getCapacity())))
+                .forEach(event -> events.put(event.getId(), event));
+        favorites.forEach(event -> events.put(event.getId(), event));
+
+        long[] favoriteIds = favorites.stream().mapToLong(EventDTO::getId).sorted().toArray();
+        return new UserFeedMaterializer.Seed(favoriteIds, categories, new ArrayList<>(events.values()));
+    }
+}
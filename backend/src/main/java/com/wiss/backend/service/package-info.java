@@ -19,6 +19,9 @@
  *     <li>{@link com.wiss.backend.service.AppUserDetailsService} – Integration
  *         mit Spring Security zum Laden von Benutzerdaten.</li>
  *
+ *     <li>{@link com.wiss.backend.service.PasswordHashingService} – BCrypt-Hashing
+ *         in einem begrenzten Worker-Pool mit schneller Abweisung bei Überlast.</li>
+ *
  *     <li>{@link com.wiss.backend.service.JwtService} – Erstellung, Analyse und
  *         Validierung von JWT-Tokens für die Authentifizierung.</li>
  *
@@ -28,6 +31,12 @@
  *
  *     <li>{@link com.wiss.backend.service.EventFavoriteService} – Multi-User-Favoritenlogik,
  *         inkl. Transaktionen für Favoriten-Toggles.</li>
+ *
+ *     <li>{@link com.wiss.backend.service.UserFeedService} – persönlicher Feed aus Favoriten
+ *         und neuesten offenen Events, vorberechnet im Arbeitsspeicher.</li>
+ *
+ *     <li>{@link com.wiss.backend.service.EventStreamService} – Live-Stream der Änderungen
+ *         als Server-Sent Events, mit begrenzter Warteschlange pro Client.</li>
  * </ul>
  *
  * <h3>Verantwortlichkeiten:</h3>
@@ -0,0 +1,200 @@
+package com.wiss.backend.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * <h2>
+ *     Rangliste mit exponentiell abklingenden Punkten
+ * </h2>
+ *
+ * <p>
+ *     Jeder Beitrag zu einem Event zählt zum Zeitpunkt {@code t} mit
+ *     {@code delta · e^(-(now - t) / tau)}. Statt alle Punkte laufend abzuwerten, wird ein
+ *     Beitrag beim Eintreffen auf einen festen Bezugszeitpunkt (Landmark) hochgerechnet:
+ *     {@code delta · e^((t - landmark) / tau)}. Alle gespeicherten Punkte altern dann gleich
+ *     schnell, die Reihenfolge ändert sich nur bei neuen Beiträgen, und die aktuellen Punkte
+ *     ergeben sich beim Lesen durch einen gemeinsamen Faktor.
+ * </p>
+ *
+ * <h3>Struktur:</h3>
+ * <ul>
+ *     <li>{@link ConcurrentSkipListSet} sortiert nach Punkten absteigend – die besten k
+ *         sind die ersten k Elemente und werden ohne Sperre gelesen</li>
+ *     <li>Schreibzugriffe sind synchronisiert; eine Änderung entfernt den alten Eintrag
+ *         und fügt den neuen ein</li>
+ *     <li>Wird der Faktor zu gross, wird der Landmark auf {@code now} verschoben und alle
+ *         Punkte in eine neue Liste umgerechnet, die atomar ausgetauscht wird</li>
+ *     <li>Höchstens {@code maxTracked} Events werden gehalten; die schwächsten fallen heraus</li>
+ * </ul>
+ *
+ * <p>
+ *     Lesende sehen die Liste schwach konsistent: Während einer Änderung kann ein Event
+ *     kurzzeitig fehlen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see TrendingEventsTracker
+ */
+final class DecayingTopK {
+
+    /**
+     * Ab diesem Exponenten wird der Landmark verschoben (e^50 ≈ 5·10^21, weit unter
+     * {@code Double.MAX_VALUE}, aber ausreichend selten).
+     */
+    private static final double RESCALE_EXPONENT = 50;
+
+    /**
+     * Aktuelle Punkte, unter denen ein Event nicht mehr gehalten wird.
+     */
+    static final double MIN_SCORE = 0.01;
+
+    /**
+     * Event mit Punkten relativ zum Landmark.
+     */
+    record Ranked(long eventId, double score) {}
+
+    /**
+     * Event mit aktuellen Punkten.
+     */
+    record Scored(long eventId, double score) {}
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparingLong(Ranked::eventId);
+
+    /**
+     * Landmark und Rangliste werden gemeinsam ausgetauscht, damit Lesende nie Punkte
+     * zu einem fremden Landmark umrechnen.
+     */
+    private record State(long landmark, ConcurrentSkipListSet<Ranked> ranking) {}
+
+    private final double tauMillis;
+    private final int maxTracked;
+    private final Map<Long, Double> scores = new HashMap<>();
+
+    private volatile State state;
+
+    /**
+     * @param tauMillis  mittlere Lebensdauer eines Beitrags in Millisekunden
+     * @param maxTracked maximale Anzahl gehaltener Events
+     * @param now        Startzeitpunkt (Landmark) in Millisekunden
+     */
+    DecayingTopK(double tauMillis, int maxTracked, long now) {
+        this.tauMillis = tauMillis;
+        this.maxTracked = maxTracked;
+        this.state = new State(now, new ConcurrentSkipListSet<>(ORDER));
+    }
+
+    /**
+     * Addiert einen Beitrag zu einem Event.
+     *
+     * @param eventId ID des Events
+     * @param delta   Beitrag zum Zeitpunkt {@code at} (negativ zum Abziehen)
+     * @param at      Zeitpunkt des Beitrags in Millisekunden
+     * @param now     aktueller Zeitpunkt in Millisekunden
+     */
+    synchronized void add(long eventId, double delta, long at, long now) {
+        if ((now - state.landmark()) / tauMillis > RESCALE_EXPONENT) {
+            rescale(now);
+        }
+        State current = state;
+
+        Double previous = scores.get(eventId);
+        double next = (previous != null ? previous : 0) + delta * Math.exp((at - current.landmark()) / tauMillis);
+        if (previous != null) {
+            current.ranking().remove(new Ranked(eventId, previous));
+        }
+
+        if (next * decay(current, now) < MIN_SCORE) {
+            scores.remove(eventId);
+        } else {
+            scores.put(eventId, next);
+            current.ranking().add(new Ranked(eventId, next));
+        }
+        evict(current, now);
+    }
+
+    /**
+     * Entfernt ein Event, z. B. nach dem Löschen.
+     *
+     * @param eventId ID des Events
+     */
+    synchronized void remove(long eventId) {
+        Double previous = scores.remove(eventId);
+        if (previous != null) {
+            state.ranking().remove(new Ranked(eventId, previous));
+        }
+    }
+
+    /**
+     * Liefert die besten Events mit ihren aktuellen Punkten.
+     *
+     * @param k   gewünschte Anzahl
+     * @param now aktueller Zeitpunkt in Millisekunden
+     * @return bis zu {@code k} Events, höchste Punkte zuerst
+     */
+    List<Scored> top(int k, long now) {
+        State current = state;
+        double factor = decay(current, now);
+
+        List<Scored> result = new ArrayList<>(Math.min(k, 64));
+        for (Ranked ranked : current.ranking()) {
+            if (result.size() == k) {
+                break;
+            }
+            double score = ranked.score() * factor;
+            if (score < MIN_SCORE) {
+                break;
+            }
+            result.add(new Scored(ranked.eventId(), score));
+        }
+        return result;
+    }
+
+    /**
+     * @return Anzahl gehaltener Events
+     */
+    synchronized int size() {
+        return scores.size();
+    }
+
+    private double decay(State current, long now) {
+        return Math.exp(-(now - current.landmark()) / tauMillis);
+    }
+
+    /**
+     * Verwirft die schwächsten Events, wenn die Liste zu gross ist oder ihre Punkte
+     * unter {@link #MIN_SCORE} gefallen sind.
+     */
+    private void evict(State current, long now) {
+        double threshold = MIN_SCORE / decay(current, now);
+        Iterator<Ranked> weakest = current.ranking().descendingIterator();
+        while (weakest.hasNext()) {
+            Ranked ranked = weakest.next();
+            if (scores.size() <= maxTracked && ranked.score() >= threshold) {
+                break;
+            }
+            weakest.remove();
+            scores.remove(ranked.eventId());
+        }
+    }
+
+    private void rescale(long now) {
+        double factor = decay(state, now);
+
+        ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(ORDER);
+        scores.replaceAll((eventId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        scores.forEach((eventId, score) -> ranking.add(new Ranked(eventId, score)));
+        state = new State(now, ranking);
+    }
+}
@@ -0,0 +1,295 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h2>
+ *     Bitmap-Index über Kategorie, Status und Datum
+ * </h2>
+ *
+ * <p>
+ *     Ordnet jedem Wert von {@link EventCategory} und {@link EventStatus} sowie jedem
+ *     Kalendertag eine komprimierte Bitmap (Roaring) der Event-IDs zu. Filter mit beliebigen
+ *     Kombinationen – ODER innerhalb eines Feldes, UND zwischen den Feldern – werden als
+ *     Bitmap-Operationen berechnet; Zählungen benötigen keine Datenbankabfrage.
+ * </p>
+ *
+ * <h3>Beispiel:</h3>
+ * <p>
+ *     {@code (wildfires ODER floods) UND open UND 2024-01-01..2024-06-30} ergibt
+ *     {@code OR(wildfires, floods) AND open AND OR(Tage im Zeitraum)}.
+ * </p>
+ *
+ * <h3>Aktualisierung:</h3>
+ * <ul>
+ *     <li>Beim Start ({@link ApplicationReadyEvent}) wird der Index einmal aufgebaut</li>
+ *     <li>Jedes {@link EventChange} eines Knotens entfernt die ID aus den alten und setzt
+ *         sie in den neuen Bitmaps; die Änderungen kommen als {@link EventChangeBatch} vom
+ *         {@link com.wiss.backend.cluster.ChangeRelay}, im Hintergrund nach dem Commit</li>
+ *     <li>Lesende Zugriffe teilen sich eine Lesesperre, Änderungen sind exklusiv</li>
+ * </ul>
+ *
+ * <p>
+ *     Der Index wird mit {@code event-index.enabled=true} aktiviert. Roaring-Bitmaps
+ *     arbeiten mit 32-Bit-Werten. Taucht eine ID über {@link Integer#MAX_VALUE} auf, wird
+ *     der Index deaktiviert ({@link #isLoaded()} liefert {@code false}) und der Service
+ *     beantwortet die Abfragen wieder aus der Datenbank.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventChange
+ * @see com.wiss.backend.service.EventService
+ */
+@Component
+@ConditionalOnProperty(name = "event-index.enabled", havingValue = "true")
+public class EventBitmapIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBitmapIndex.class);
+
+    private final EventRepository eventRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byCategory = newBitmaps(EventCategory.values().length);
+    private final RoaringBitmap[] byStatus = newBitmaps(EventStatus.values().length);
+    private final NavigableMap<Integer, RoaringBitmap> byDay = new TreeMap<>();
+    private final Map<Integer, Integer> dayOfEvent = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param eventRepository Repository zum initialen Aufbau des Index
+     */
+    public EventBitmapIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Baut den Index aus allen Events der Datenbank auf, beim Start und erneut nach einem
+     * {@link EventResync}.
+     */
+    @EventListener({ApplicationReadyEvent.class, EventResync.class})
+    public void load() {
+        long start = System.nanoTime();
+        List<Object[]> rows;
+
+        // Änderungen, die während des Ladens eintreffen, warten auf die Schreibsperre
+        lock.writeLock().lock();
+        try {
+            rows = eventRepository.findAllAsRows();
+            clear();
+            for (Object[] row : rows) {
+                if (!fitsIndex((Long) row[0])) {
+                    return;
+                }
+                int id = ((Long) row[0]).intValue();
+                add(id, (LocalDate) row[2], (EventCategory) row[3], (EventStatus) row[6]);
+            }
+            all.runOptimize();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Event-Index aufgebaut: {} Events, {} Tage in {} ms",
+                rows.size(), byDay.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public void onEventChanges(EventChangeBatch batch) {
+        batch.changes().forEach(this::onEventChange);
+    }
+
+    /**
+     * Wendet eine einzelne Änderung an.
+     *
+     * @param change Änderungsereignis
+     */
+    public void onEventChange(EventChange change) {
+        lock.writeLock().lock();
+        try {
+            // Innerhalb der Sperre, damit ein laufendes Laden den Index nicht wieder freigibt
+            if (!fitsIndex(change.eventId())) {
+                return;
+            }
+            int id = change.eventId().intValue();
+            remove(id);
+            if (change.type() != EventChange.Type.DELETED) {
+                EventDTO event = change.event();
+                add(id, event.getDate(), event.getCategory(), event.getStatus());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true, sobald der Index aufgebaut ist
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Berechnet die IDs aller Events, die den Kriterien entsprechen.
+     * Leere oder {@code null}-Mengen schränken nicht ein.
+     *
+     * @param categories erlaubte Kategorien (ODER-verknüpft)
+     * @param statuses   erlaubte Status (ODER-verknüpft)
+     * @param start      Startdatum (inklusive) oder {@code null}
+     * @param end        Enddatum (inklusive) oder {@code null}
+     * @return neue Bitmap der passenden IDs (aufsteigend iterierbar)
+     */
+    public RoaringBitmap match(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                               LocalDate start, LocalDate end) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> clauses = new ArrayList<>(3);
+            if (categories != null && !categories.isEmpty()) {
+                clauses.add(union(byCategory, categories));
+            }
+            if (statuses != null && !statuses.isEmpty()) {
+                clauses.add(union(byStatus, statuses));
+            }
+            if (start != null || end != null) {
+                clauses.add(dayRange(start, end));
+            }
+
+            if (clauses.isEmpty()) {
+                return all.clone();
+            }
+            if (clauses.size() == 1) {
+                return clauses.get(0).clone();
+            }
+            return FastAggregation.and(clauses.iterator());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Zählt alle Events, die den Kriterien entsprechen.
+     *
+     * @param categories erlaubte Kategorien (ODER-verknüpft)
+     * @param statuses   erlaubte Status (ODER-verknüpft)
+     * @param start      Startdatum (inklusive) oder {@code null}
+     * @param end        Enddatum (inklusive) oder {@code null}
+     * @return Anzahl passender Events
+     */
+    public long count(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                      LocalDate start, LocalDate end) {
+        return match(categories, statuses, start, end).getLongCardinality();
+    }
+
+    private void add(int id, LocalDate date, EventCategory category, EventStatus status) {
+        int day = (int) date.toEpochDay();
+        all.add(id);
+        byCategory[category.ordinal()].add(id);
+        byStatus[status.ordinal()].add(id);
+        byDay.computeIfAbsent(day, d -> new RoaringBitmap()).add(id);
+        dayOfEvent.put(id, day);
+    }
+
+    private void clear() {
+        all.clear();
+        for (RoaringBitmap bitmap : byCategory) {
+            bitmap.clear();
+        }
+        for (RoaringBitmap bitmap : byStatus) {
+            bitmap.clear();
+        }
+        byDay.clear();
+        dayOfEvent.clear();
+    }
+
+    private void remove(int id) {
+        Integer day = dayOfEvent.remove(id);
+        if (day == null) {
+            return;
+        }
+        all.remove(id);
+        for (RoaringBitmap bitmap : byCategory) {
+            bitmap.remove(id);
+        }
+        for (RoaringBitmap bitmap : byStatus) {
+            bitmap.remove(id);
+        }
+        RoaringBitmap dayBitmap = byDay.get(day);
+        dayBitmap.remove(id);
+        if (dayBitmap.isEmpty()) {
+            byDay.remove(day);
+        }
+    }
+
+    private RoaringBitmap union(RoaringBitmap[] bitmaps, Collection<? extends Enum<?>> values) {
+        List<RoaringBitmap> selected = new ArrayList<>(values.size());
+        for (Enum<?> value : values) {
+            selected.add(bitmaps[value.ordinal()]);
+        }
+        return FastAggregation.or(selected.iterator());
+    }
+
+    private RoaringBitmap dayRange(LocalDate start, LocalDate end) {
+        int from = start != null ? (int) start.toEpochDay() : Integer.MIN_VALUE;
+        int to = end != null ? (int) end.toEpochDay() : Integer.MAX_VALUE;
+        if (from > to) {
+            return new RoaringBitmap();
+        }
+        return FastAggregation.or(byDay.subMap(from, true, to, true).values().iterator());
+    }
+
+    /**
+     * Prüft, ob eine ID in eine 32-Bit-Bitmap passt. Sonst wird der Index als nicht geladen
+     * markiert, damit der Service fortan die Datenbank abfragt, statt Events zu übergehen.
+     */
+    private boolean fitsIndex(long id) {
+        if (id >= 0 && id <= Integer.MAX_VALUE) {
+            return true;
+        }
+        loaded = false;
+        log.warn("Event-Index deaktiviert: ID {} liegt ausserhalb des 32-Bit-Bereichs", id);
+        return false;
+    }
+
+    private static RoaringBitmap[] newBitmaps(int count) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+}
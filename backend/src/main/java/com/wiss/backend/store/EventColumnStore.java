@@ -0,0 +1,198 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <h2>
+ *     In-Memory-Spaltenspeicher für Events
+ * </h2>
+ *
+ * <p>
+ *     Spiegelt die Tabelle {@code events} in primitiven Spalten ({@link EventColumns}),
+ *     damit Filter-, Statistik- und Geo-Abfragen ohne Datenbankzugriff in Mikrosekunden
+ *     beantwortet werden können. Der Speicher ist optional und wird mit
+ *     {@code event-store.enabled=true} aktiviert.
+ * </p>
+ *
+ * <h3>Lebenszyklus:</h3>
+ * <ul>
+ *     <li>Beim Start ({@link ApplicationReadyEvent}) wird die Tabelle einmal geladen</li>
+ *     <li>Danach wendet der Speicher jedes {@link EventChange} aller Knoten an; die
+ *         Änderungen kommen nach dem Commit als {@link EventChangeBatch} vom
+ *         {@link com.wiss.backend.cluster.ChangeRelay}, ausserhalb des Requests, und
+ *         werden pro Stapel mit einer einzigen Kopie der Spalten übernommen</li>
+ *     <li>Bis das Laden abgeschlossen ist, meldet {@link #isLoaded()} {@code false}
+ *         und der Service fragt weiterhin die Datenbank ab</li>
+ * </ul>
+ *
+ * <p>
+ *     Änderungen, die nicht über den {@code EventService} laufen (z. B. direkte Repository-
+ *     Zugriffe oder SQL-Skripte), sind erst nach einem Neustart sichtbar.
+ *     Laden und Änderungen sind synchronisiert: Eine Änderung, die während des Ladens
+ *     eintrifft, wird danach angewendet. Das Einfügen ist idempotent, sodass ein Event,
+ *     das bereits im geladenen Stand enthalten ist, nicht doppelt erscheint.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventColumns
+ * @see EventChange
+ * @see com.wiss.backend.service.EventService
+ */
+@Component
+@ConditionalOnProperty(name = "event-store.enabled", havingValue = "true")
+public class EventColumnStore {
+
+    private static final Logger log = LoggerFactory.getLogger(EventColumnStore.class);
+
+    private final EventRepository eventRepository;
+
+    private volatile EventColumns columns = EventColumns.EMPTY;
+    private volatile boolean loaded;
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param eventRepository Repository zum initialen Laden der Events
+     */
+    public EventColumnStore(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Lädt alle Events aus der Datenbank in den Speicher, beim Start und erneut nach einem
+     * {@link EventResync}.
+     */
+    @EventListener({ApplicationReadyEvent.class, EventResync.class})
+    public synchronized void load() {
+        long start = System.nanoTime();
+        columns = EventColumns.fromRows(eventRepository.findAllAsRows());
+        loaded = true;
+        log.info("Event-Store geladen: {} Events in {} ms",
+                columns.size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public synchronized void onEventChanges(EventChangeBatch batch) {
+        columns = columns.apply(batch.changes());
+    }
+
+    /**
+     * Wendet eine einzelne Änderung an.
+     *
+     * @param change Änderungsereignis
+     */
+    public synchronized void onEventChange(EventChange change) {
+        columns = columns.apply(List.of(change));
+    }
+
+    /**
+     * @return true, sobald der initiale Stand geladen ist
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return Anzahl Events im Speicher
+     */
+    public long size() {
+        return columns.size;
+    }
+
+    /**
+     * Gibt alle Events zurück.
+     *
+     * @return alle Events, nach ID sortiert
+     */
+    public List<EventDTO> findAll() {
+        return columns.findAll();
+    }
+
+    /**
+     * Filtert Events: ODER innerhalb eines Feldes, UND zwischen den Feldern.
+     * Leere oder {@code null}-Parameter schränken nicht ein.
+     *
+     * @param categories erlaubte Kategorien oder {@code null}
+     * @param statuses   erlaubte Status oder {@code null}
+     * @param start      Startdatum (inklusive) oder {@code null}
+     * @param end        Enddatum (inklusive) oder {@code null}
+     * @return passende Events, nach ID sortiert
+     */
+    public List<EventDTO> find(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                               LocalDate start, LocalDate end) {
+        return columns.find(mask(categories), mask(statuses), fromDay(start), toDay(end));
+    }
+
+    /**
+     * Zählt Events: ODER innerhalb eines Feldes, UND zwischen den Feldern.
+     * Leere oder {@code null}-Parameter schränken nicht ein.
+     *
+     * @param categories erlaubte Kategorien oder {@code null}
+     * @param statuses   erlaubte Status oder {@code null}
+     * @param start      Startdatum (inklusive) oder {@code null}
+     * @param end        Enddatum (inklusive) oder {@code null}
+     * @return Anzahl passender Events
+     */
+    public long count(Collection<EventCategory> categories, Collection<EventStatus> statuses,
+                      LocalDate start, LocalDate end) {
+        return columns.count(mask(categories), mask(statuses), fromDay(start), toDay(end));
+    }
+
+    /**
+     * Sucht Events innerhalb eines geografischen Rechtecks.
+     *
+     * @param minLatitude  südliche Grenze (inklusive)
+     * @param maxLatitude  nördliche Grenze (inklusive)
+     * @param minLongitude westliche Grenze (inklusive)
+     * @param maxLongitude östliche Grenze (inklusive)
+     * @return passende Events, nach ID sortiert
+     */
+    public List<EventDTO> findWithinBounds(double minLatitude, double maxLatitude,
+                                           double minLongitude, double maxLongitude) {
+        return columns.findWithinBounds(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    private static int mask(Collection<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return EventColumns.ANY;
+        }
+        int mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    private static int fromDay(LocalDate start) {
+        return start != null ? (int) start.toEpochDay() : Integer.MIN_VALUE;
+    }
+
+    private static int toDay(LocalDate end) {
+        return end != null ? (int) end.toEpochDay() : Integer.MAX_VALUE;
+    }
+}
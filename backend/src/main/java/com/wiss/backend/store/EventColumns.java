@@ -0,0 +1,298 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2>
+ *     Unveränderlicher Spalten-Snapshot aller Events
+ * </h2>
+ *
+ * <p>
+ *     Hält jedes Feld eines Events in einem eigenen primitiven Array, sortiert nach ID.
+ *     Filter laufen als einfache, verzweigungsfreie Schleifen über zusammenhängenden
+ *     Speicher, die der JIT-Compiler vektorisieren kann.
+ * </p>
+ *
+ * <h3>Spalten:</h3>
+ * <ul>
+ *     <li>{@code ids}: {@code long}, aufsteigend sortiert (Binärsuche)</li>
+ *     <li>{@code days}: Datum als Tage seit 1970-01-01</li>
+ *     <li>{@code categories}/{@code statuses}: Ordinalzahlen als {@code byte}</li>
+ *     <li>{@code longitudes}/{@code latitudes}: {@code double}, damit Antworten exakt den
+ *         gespeicherten Werten entsprechen</li>
+ *     <li>{@code titles}: internierte Strings</li>
+ * </ul>
+ *
+ * <p>
+ *     Änderungen erzeugen einen neuen Snapshot (Copy-on-Write). Lesende Threads arbeiten
+ *     dadurch ohne Locks auf einem konsistenten Stand. Ein Stapel Änderungen wird mit
+ *     {@link #apply(List)} in einer einzigen Kopie übernommen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventColumnStore
+ */
+final class EventColumns {
+
+    /**
+     * Bitmaske für "beliebig" bei Kategorie- und Statusfiltern (alle Bits gesetzt).
+     */
+    static final int ANY = -1;
+
+    static final EventColumns EMPTY = new EventColumns(0);
+
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    final int size;
+    final long[] ids;
+    final String[] titles;
+    final int[] days;
+    final byte[] categories;
+    final byte[] statuses;
+    final double[] longitudes;
+    final double[] latitudes;
+
+    private EventColumns(int size) {
+        this.size = size;
+        this.ids = new long[size];
+        this.titles = new String[size];
+        this.days = new int[size];
+        this.categories = new byte[size];
+        this.statuses = new byte[size];
+        this.longitudes = new double[size];
+        this.latitudes = new double[size];
+    }
+
+    /**
+     * Baut einen Snapshot aus den Zeilen von
+     * {@link com.wiss.backend.repository.EventRepository#findAllAsRows()} (nach ID sortiert).
+     *
+     * @param rows Zeilen {@code [id, title, date, category, longitude, latitude, status]}
+     * @return neuer Snapshot
+     */
+    static EventColumns fromRows(List<Object[]> rows) {
+        EventColumns columns = new EventColumns(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            columns.set(i, (Long) row[0], (String) row[1], (LocalDate) row[2],
+                    (EventCategory) row[3], (Double) row[4], (Double) row[5], (EventStatus) row[6]);
+        }
+        return columns;
+    }
+
+    /**
+     * Fügt ein Event ein oder ersetzt es, falls die ID bereits vorhanden ist.
+     *
+     * @param event gespeicherter Stand des Events
+     * @return neuer Snapshot
+     */
+    EventColumns upsert(EventDTO event) {
+        return apply(List.of(EventChange.updated(event)));
+    }
+
+    /**
+     * Entfernt ein Event, falls vorhanden.
+     *
+     * @param id ID des Events
+     * @return neuer Snapshot oder {@code this}, wenn die ID unbekannt ist
+     */
+    EventColumns remove(long id) {
+        return apply(List.of(EventChange.deleted(id)));
+    }
+
+    /**
+     * Wendet mehrere Änderungen in einem Durchgang an.
+     *
+     * <p>
+     *     Pro ID zählt die letzte Änderung. Die Änderungen werden nach ID sortiert und in
+     *     einem einzigen Merge mit den bestehenden Spalten zusammengeführt; unveränderte
+     *     Abschnitte werden blockweise kopiert. Ein Stapel von {@code k} Änderungen kostet
+     *     so {@code O(n + k log k)} statt {@code k} vollständiger Kopien.
+     * </p>
+     *
+     * @param changes Änderungen in der Reihenfolge ihres Commits
+     * @return neuer Snapshot oder {@code this}, wenn sich nichts ändert
+     */
+    EventColumns apply(List<EventChange> changes) {
+        // Wert null steht für Löschen
+        TreeMap<Long, EventDTO> pending = new TreeMap<>();
+        for (EventChange change : changes) {
+            pending.put(change.eventId(), change.type() == EventChange.Type.DELETED ? null : change.event());
+        }
+
+        int nextSize = size;
+        boolean changed = false;
+        for (Map.Entry<Long, EventDTO> entry : pending.entrySet()) {
+            boolean present = indexOf(entry.getKey()) >= 0;
+            if (entry.getValue() != null) {
+                nextSize += present ? 0 : 1;
+                changed = true;
+            } else if (present) {
+                nextSize--;
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return this;
+        }
+
+        EventColumns next = new EventColumns(nextSize);
+        int from = 0;
+        int to = 0;
+        for (Map.Entry<Long, EventDTO> entry : pending.entrySet()) {
+            int index = indexOf(entry.getKey());
+            int end = index >= 0 ? index : -index - 1;
+            copyInto(next, from, to, end - from);
+            to += end - from;
+            from = index >= 0 ? end + 1 : end;
+
+            EventDTO event = entry.getValue();
+            if (event != null) {
+                next.set(to++, event.getId(), event.getTitle(), event.getDate(), event.getCategory(),
+                        event.getLongitude(), event.getLatitude(), event.getStatus());
+            }
+        }
+        copyInto(next, from, to, size - from);
+        return next;
+    }
+
+    /**
+     * Sucht alle Events, die allen gesetzten Kriterien entsprechen.
+     *
+     * @param categoryMask Bitmaske erlaubter Kategorie-Ordinalzahlen oder {@link #ANY}
+     * @param statusMask   Bitmaske erlaubter Status-Ordinalzahlen oder {@link #ANY}
+     * @param fromDay      frühester Tag (inklusive)
+     * @param toDay        spätester Tag (inklusive)
+     * @return passende Events als DTOs, nach ID sortiert
+     */
+    List<EventDTO> find(int categoryMask, int statusMask, int fromDay, int toDay) {
+        int[] hits = new int[size];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            boolean hit = ((categoryMask >>> categories[i]) & 1) != 0
+                    & ((statusMask >>> statuses[i]) & 1) != 0
+                    & days[i] >= fromDay
+                    & days[i] <= toDay;
+            hits[found] = i;
+            found += hit ? 1 : 0;
+        }
+        return toDTOs(hits, found);
+    }
+
+    /**
+     * Zählt alle Events, die allen gesetzten Kriterien entsprechen.
+     *
+     * @param categoryMask Bitmaske erlaubter Kategorie-Ordinalzahlen oder {@link #ANY}
+     * @param statusMask   Bitmaske erlaubter Status-Ordinalzahlen oder {@link #ANY}
+     * @param fromDay      frühester Tag (inklusive)
+     * @param toDay        spätester Tag (inklusive)
+     * @return Anzahl passender Events
+     */
+    long count(int categoryMask, int statusMask, int fromDay, int toDay) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            boolean hit = ((categoryMask >>> categories[i]) & 1) != 0
+                    & ((statusMask >>> statuses[i]) & 1) != 0
+                    & days[i] >= fromDay
+                    & days[i] <= toDay;
+            count += hit ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Sucht alle Events innerhalb eines Rechtecks aus Breiten- und Längengraden.
+     *
+     * @param minLatitude  südliche Grenze (inklusive)
+     * @param maxLatitude  nördliche Grenze (inklusive)
+     * @param minLongitude westliche Grenze (inklusive)
+     * @param maxLongitude östliche Grenze (inklusive)
+     * @return passende Events als DTOs, nach ID sortiert
+     */
+    List<EventDTO> findWithinBounds(double minLatitude, double maxLatitude,
+                                    double minLongitude, double maxLongitude) {
+        int[] hits = new int[size];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            boolean hit = latitudes[i] >= minLatitude
+                    & latitudes[i] <= maxLatitude
+                    & longitudes[i] >= minLongitude
+                    & longitudes[i] <= maxLongitude;
+            hits[found] = i;
+            found += hit ? 1 : 0;
+        }
+        return toDTOs(hits, found);
+    }
+
+    /**
+     * Gibt alle Events als DTOs zurück.
+     *
+     * @return alle Events, nach ID sortiert
+     */
+    List<EventDTO> findAll() {
+        List<EventDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(toDTO(i));
+        }
+        return result;
+    }
+
+    private int indexOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    private List<EventDTO> toDTOs(int[] hits, int found) {
+        List<EventDTO> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(toDTO(hits[i]));
+        }
+        return result;
+    }
+
+    private EventDTO toDTO(int i) {
+        return new EventDTO(
+                ids[i],
+                titles[i],
+                LocalDate.ofEpochDay(days[i]),
+                CATEGORIES[categories[i]],
+                longitudes[i],
+                latitudes[i],
+                STATUSES[statuses[i]]
+        );
+    }
+
+    private void set(int i, Long id, String title, LocalDate date, EventCategory category,
+                     Double longitude, Double latitude, EventStatus status) {
+        ids[i] = id;
+        titles[i] = title.intern();
+        days[i] = (int) date.toEpochDay();
+        categories[i] = (byte) category.ordinal();
+        statuses[i] = (byte) status.ordinal();
+        longitudes[i] = longitude;
+        latitudes[i] = latitude;
+    }
+
+    private void copyInto(EventColumns target, int from, int to, int length) {
+        System.arraycopy(ids, from, target.ids, to, length);
+        System.arraycopy(titles, from, target.titles, to, length);
+        System.arraycopy(days, from, target.days, to, length);
+        System.arraycopy(categories, from, target.categories, to, length);
+        System.arraycopy(statuses, from, target.statuses, to, length);
+        System.arraycopy(longitudes, from, target.longitudes, to, length);
+        System.arraycopy(latitudes, from, target.latitudes, to, length);
+    }
+}
@@ -0,0 +1,326 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.repository.EventRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>
+ *     Invertierter Index über Event-Titel
+ * </h2>
+ *
+ * <p>
+ *     Zerlegt jeden Titel in Begriffe (Kleinschreibung, ohne Akzente, getrennt an allen
+ *     Zeichen ausser Buchstaben und Ziffern) und ordnet jedem Begriff eine Roaring-Bitmap
+ *     der Event-IDs zu. Die Begriffe liegen sortiert vor, sodass Präfixe als Bereich
+ *     abgefragt werden können – {@code "wald"} findet auch {@code "waldbrand"}.
+ * </p>
+ *
+ * <h3>Suche und Ranking:</h3>
+ * <ul>
+ *     <li>Jeder Suchbegriff wird als Präfix behandelt; alle Begriffe müssen vorkommen (UND)</li>
+ *     <li>Titel mit mehr exakten (statt nur Präfix-) Treffern stehen vorne</li>
+ *     <li>Danach gewinnen kürzere Titel (weniger Begriffe), danach die kleinere ID</li>
+ * </ul>
+ * <p>
+ *     Das Ranking entsteht vollständig aus Bitmap-Operationen: Die Treffer werden in Stufen
+ *     nach Anzahl exakter Treffer und nach Titellänge zerlegt; von jeder Stufe wird nur
+ *     die Mächtigkeit berechnet, bis die angeforderte Seite erreicht ist. Treffer werden
+ *     dadurch nicht einzeln bewertet, auch wenn ein kurzer Präfix sehr viele Titel trifft.
+ * </p>
+ *
+ * <h3>Aktualisierung:</h3>
+ * <p>
+ *     Der Index wird beim Start ({@link ApplicationReadyEvent}) aufgebaut und danach über
+ *     {@link EventChangeBatch}-Ereignisse nachgeführt, die das
+ *     {@link com.wiss.backend.cluster.ChangeRelay} nach dem Commit für die Änderungen aller
+ *     Knoten im Hintergrund veröffentlicht. Lesende Zugriffe teilen sich eine Lesesperre, Änderungen sind exklusiv.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventChange
+ * @see com.wiss.backend.service.EventService#searchEvents(String, int, int)
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final EventRepository eventRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, RoaringBitmap> postings = new TreeMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> byLength = new TreeMap<>();
+    private final Map<Integer, String[]> termsOfEvent = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * Ergebnis einer Suche.
+     *
+     * @param total Anzahl aller Treffer
+     * @param ids   IDs der angeforderten Seite in Ranking-Reihenfolge
+     */
+    public record Hits(long total, List<Long> ids) {}
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param eventRepository Repository zum initialen Aufbau des Index
+     */
+    public EventSearchIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Baut den Index aus allen Event-Titeln der Datenbank auf, beim Start und erneut nach
+     * einem {@link EventResync}.
+     */
+    @EventListener({ApplicationReadyEvent.class, EventResync.class})
+    public void load() {
+        long start = System.nanoTime();
+        List<Object[]> rows;
+
+        lock.writeLock().lock();
+        try {
+            rows = eventRepository.findAllAsRows();
+            postings.clear();
+            byLength.clear();
+            termsOfEvent.clear();
+            for (Object[] row : rows) {
+                if (!fitsIndex((Long) row[0])) {
+                    return;
+                }
+                int id = ((Long) row[0]).intValue();
+                add(id, (String) row[1]);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suchindex aufgebaut: {} Events, {} Begriffe in {} ms",
+                rows.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public void onEventChanges(EventChangeBatch batch) {
+        batch.changes().forEach(this::onEventChange);
+    }
+
+    /**
+     * Wendet eine einzelne Änderung an.
+     *
+     * @param change Änderungsereignis
+     */
+    public void onEventChange(EventChange change) {
+        lock.writeLock().lock();
+        try {
+            // Innerhalb der Sperre, damit ein laufendes Laden den Index nicht wieder freigibt
+            if (!fitsIndex(change.eventId())) {
+                return;
+            }
+            int id = change.eventId().intValue();
+            remove(id);
+            if (change.type() != EventChange.Type.DELETED) {
+                add(id, change.event().getTitle());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true, sobald der Index aufgebaut ist
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Sucht Events, deren Titel alle Begriffe der Anfrage (als Präfix) enthalten.
+     *
+     * @param query  Suchanfrage
+     * @param offset Anzahl zu überspringender Treffer
+     * @param limit  maximale Anzahl zurückgegebener IDs
+     * @return Gesamtanzahl und IDs der angeforderten Seite
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> exact = new ArrayList<>(terms.size());
+            List<RoaringBitmap> prefixed = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                RoaringBitmap matches = FastAggregation.or(
+                        postings.subMap(term, true, term + Character.MAX_VALUE, false).values().iterator());
+                if (matches.isEmpty()) {
+                    return new Hits(0, List.of());
+                }
+                prefixed.add(matches);
+                exact.add(postings.getOrDefault(term, new RoaringBitmap()));
+            }
+
+            RoaringBitmap candidates = prefixed.size() == 1
+                    ? prefixed.get(0)
+                    : FastAggregation.and(prefixed.iterator());
+            return new Hits(candidates.getLongCardinality(), rank(candidates, exact, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Zerlegt einen Text in eindeutige, normalisierte Suchbegriffe.
+     *
+     * @param text beliebiger Text
+     * @return Begriffe in Reihenfolge des ersten Auftretens
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATOR.split(fold(text))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * Entfernt Akzente und wandelt in Kleinbuchstaben um ({@code "Ätna"} → {@code "atna"}).
+     *
+     * @param text beliebiger Text
+     * @return normalisierter Text
+     */
+    static String fold(String text) {
+        return COMBINING_MARKS
+                .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private List<Long> rank(RoaringBitmap candidates, List<RoaringBitmap> exact, int offset, int limit) {
+        int n = exact.size();
+
+        // atLeast[k]: Treffer mit mindestens k exakt getroffenen Suchbegriffen
+        RoaringBitmap[] atLeast = new RoaringBitmap[n + 2];
+        atLeast[0] = candidates;
+        for (int k = 1; k <= n + 1; k++) {
+            atLeast[k] = new RoaringBitmap();
+        }
+        for (RoaringBitmap bitmap : exact) {
+            for (int k = n; k >= 1; k--) {
+                atLeast[k].or(RoaringBitmap.and(atLeast[k - 1], bitmap));
+            }
+        }
+
+        List<Long> page = new ArrayList<>(limit);
+        int skip = offset;
+        for (int k = n; k >= 0 && page.size() < limit; k--) {
+            RoaringBitmap tier = RoaringBitmap.andNot(atLeast[k], atLeast[k + 1]);
+            if (tier.getCardinality() <= skip) {
+                skip -= tier.getCardinality();
+                continue;
+            }
+            for (RoaringBitmap sameLength : byLength.values()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                RoaringBitmap slice = RoaringBitmap.and(tier, sameLength);
+                int cardinality = slice.getCardinality();
+                if (cardinality <= skip) {
+                    skip -= cardinality;
+                    continue;
+                }
+                PeekableIntIterator ids = slice.getIntIterator();
+                ids.advanceIfNeeded(slice.select(skip));
+                skip = 0;
+                while (ids.hasNext() && page.size() < limit) {
+                    page.add((long) ids.next());
+                }
+            }
+        }
+        return page;
+    }
+
+    private void add(int id, String title) {
+        String[] terms = tokenize(title).toArray(String[]::new);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new RoaringBitmap()).add(id);
+        }
+        byLength.computeIfAbsent(terms.length, l -> new RoaringBitmap()).add(id);
+        termsOfEvent.put(id, terms);
+    }
+
+    private void remove(int id) {
+        String[] terms = termsOfEvent.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            RoaringBitmap bitmap = postings.get(term);
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        RoaringBitmap sameLength = byLength.get(terms.length);
+        sameLength.remove(id);
+        if (sameLength.isEmpty()) {
+            byLength.remove(terms.length);
+        }
+    }
+
+    /**
+     * Prüft, ob eine ID in eine 32-Bit-Bitmap passt. Sonst wird der Index als nicht geladen
+     * markiert, damit der Service fortan die Datenbank durchsucht, statt Events zu übergehen.
+     */
+    private boolean fitsIndex(long id) {
+        if (id >= 0 && id <= Integer.MAX_VALUE) {
+            return true;
+        }
+        loaded = false;
+        log.warn("Suchindex deaktiviert: ID {} liegt ausserhalb des 32-Bit-Bereichs", id);
+        return false;
+    }
+}
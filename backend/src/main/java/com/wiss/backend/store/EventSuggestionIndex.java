@@ -0,0 +1,296 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventSuggestionDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>
+ *     Vorschläge für die Autovervollständigung von Titeln und Kategorien
+ * </h2>
+ *
+ * <p>
+ *     Hält pro Event den Titel, die Kategorie und die Anzahl Favoriten und fasst sie zu
+ *     Vorschlägen zusammen: ein Vorschlag pro (normalisiertem) Titel und einer pro
+ *     {@link EventCategory}, jeweils gewichtet mit der Summe der Favoriten. Abfragen
+ *     laufen gegen einen unveränderlichen {@link SuggestionTrie}.
+ * </p>
+ *
+ * <h3>Aktualisierung im Hintergrund:</h3>
+ * <ul>
+ *     <li>{@link EventChange}-Ereignisse aller Knoten (als {@link EventChangeBatch} vom
+ *         {@link com.wiss.backend.cluster.ChangeRelay}) ändern nur den Zustand pro Event
+ *         und markieren den Baum als veraltet</li>
+ *     <li>Ein Hintergrund-Thread baut den Baum frühestens nach
+ *         {@code suggest.rebuild-delay-ms} neu auf und tauscht ihn atomar aus; mehrere
+ *         Änderungen in diesem Zeitraum lösen nur einen Aufbau aus</li>
+ *     <li>{@link FavoriteChange}-Ereignisse setzen nach dem Commit die neue Favoritenanzahl
+ *         des Events und markieren den Baum ebenfalls als veraltet</li>
+ * </ul>
+ *
+ * <p>
+ *     Die Tabelle wird nur beim Start vollständig gelesen; danach kommen alle Änderungen
+ *     über Ereignisse, ein periodisches Nachladen ist nicht nötig.
+ * </p>
+ *
+ * <p>
+ *     Bis der erste Baum steht, liefert {@link #suggest(String, int)} eine leere Liste.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see SuggestionTrie
+ * @see com.wiss.backend.service.EventService#getSuggestions(String, int)
+ */
+@Component
+public class EventSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSuggestionIndex.class);
+
+    /**
+     * Maximale Anzahl Vorschläge pro Abfrage.
+     */
+    public static final int MAX_SUGGESTIONS = SuggestionTrie.MAX_K;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EventRepository eventRepository;
+    private final long rebuildDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    private final Map<Long, Contribution> events = new HashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+
+    /**
+     * Beitrag eines Events zu den Vorschlägen.
+     */
+    private record Contribution(String title, EventCategory category, int favorites) {}
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param eventRepository    Repository zum Laden von Titeln und Favoriten
+     * @param rebuildDelayMillis Wartezeit nach einer Änderung bis zum Neuaufbau
+     */
+    public EventSuggestionIndex(EventRepository eventRepository,
+                                @Value("${suggest.rebuild-delay-ms:2000}") long rebuildDelayMillis) {
+        this.eventRepository = eventRepository;
+        this.rebuildDelayMillis = rebuildDelayMillis;
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.executor = scheduler;
+    }
+
+    /**
+     * Startet das Laden im Hintergrund, beim Start und erneut nach einem {@link EventResync}.
+     */
+    @EventListener({ApplicationReadyEvent.class, EventResync.class})
+    public void start() {
+        executor.execute(this::reload);
+    }
+
+    /**
+     * Lädt Titel, Kategorien und Favoriten aller Events und baut den Baum neu auf.
+     */
+    public void reload() {
+        try {
+            long start = System.nanoTime();
+            List<Object[]> rows;
+            // Änderungen, die während des Ladens eintreffen, warten und überschreiben danach
+            synchronized (events) {
+                rows = eventRepository.findAllSuggestionRows();
+                events.clear();
+                for (Object[] row : rows) {
+                    events.put((Long) row[0],
+                            new Contribution((String) row[1], (EventCategory) row[2], (Integer) row[3]));
+                }
+            }
+            rebuild();
+            log.info("Vorschläge geladen: {} Events, {} Einträge in {} ms",
+                    rows.size(), trie.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Vorschläge konnten nicht geladen werden", e);
+        }
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public void onEventChanges(EventChangeBatch batch) {
+        batch.changes().forEach(this::onEventChange);
+    }
+
+    /**
+     * Übernimmt eine einzelne Änderung und plant einen Neuaufbau.
+     *
+     * @param change Änderungsereignis
+     */
+    public void onEventChange(EventChange change) {
+        synchronized (events) {
+            if (change.type() == EventChange.Type.DELETED) {
+                events.remove(change.eventId());
+            } else {
+                EventDTO event = change.event();
+                Contribution previous = events.get(change.eventId());
+                int favorites = previous != null ? previous.favorites() : 0;
+                events.put(change.eventId(), new Contribution(event.getTitle(), event.getCategory(), favorites));
+            }
+        }
+        scheduleRebuild();
+    }
+
+    /**
+     * Übernimmt die neue Favoritenanzahl eines Events nach dem Commit und plant einen Neuaufbau.
+     *
+     * @param change Änderung eines Favoriten
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        synchronized (events) {
+            Contribution previous = events.get(change.eventId());
+            if (previous == null || previous.favorites() == change.favoritesCount()) {
+                return;
+            }
+            events.put(change.eventId(),
+                    new Contribution(previous.title(), previous.category(), change.favoritesCount()));
+        }
+        scheduleRebuild();
+    }
+
+    /**
+     * Liefert die besten Vervollständigungen für einen Präfix.
+     *
+     * @param prefix eingegebener Text
+     * @param limit  gewünschte Anzahl (höchstens {@link #MAX_SUGGESTIONS})
+     * @return Vorschläge, bester zuerst
+     */
+    public List<EventSuggestionDTO> suggest(String prefix, int limit) {
+        return trie.complete(normalize(prefix, false), Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Beendet den Hintergrund-Thread beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            }, rebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fasst den Zustand pro Event zu Vorschlägen zusammen und tauscht den Baum aus.
+     * Wird vom Hintergrund-Thread aufgerufen; Abfragen lesen bis dahin den alten Baum.
+     */
+    void rebuild() {
+        Map<String, Aggregate> titles = new HashMap<>();
+        long[] categoryWeights = new long[EventCategory.values().length];
+        int[] categoryEvents = new int[EventCategory.values().length];
+
+        synchronized (events) {
+            for (Contribution event : events.values()) {
+                String key = normalize(event.title(), true);
+                if (!key.isEmpty()) {
+                    titles.computeIfAbsent(key, k -> new Aggregate()).add(event);
+                }
+                categoryWeights[event.category().ordinal()] += event.favorites();
+                categoryEvents[event.category().ordinal()]++;
+            }
+        }
+
+        List<SuggestionTrie.Entry> entries = new ArrayList<>(titles.size() + categoryWeights.length);
+        titles.forEach((key, aggregate) -> entries.add(new SuggestionTrie.Entry(key,
+                new EventSuggestionDTO(aggregate.title, EventSuggestionDTO.Type.title,
+                        aggregate.category, aggregate.weight),
+                aggregate.events)));
+        for (EventCategory category : EventCategory.values()) {
+            entries.add(new SuggestionTrie.Entry(normalize(category.name(), true),
+                    new EventSuggestionDTO(category.name(), EventSuggestionDTO.Type.category,
+                            category, categoryWeights[category.ordinal()]),
+                    categoryEvents[category.ordinal()]));
+        }
+        trie = SuggestionTrie.build(entries);
+    }
+
+    /**
+     * Normalisiert Text für den Vergleich: ohne Akzente, klein geschrieben, Leerraum
+     * zusammengefasst. Bei einem Präfix bleibt ein abschliessendes Leerzeichen erhalten,
+     * damit {@code "waldbrand "} nur mehrteilige Titel findet.
+     *
+     * @param text     Titel, Kategoriename oder Eingabe
+     * @param complete true für vollständige Schlüssel, false für Präfixe
+     * @return normalisierter Text
+     */
+    static String normalize(String text, boolean complete) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = WHITESPACE.matcher(EventSearchIndex.fold(text)).replaceAll(" ").stripLeading();
+        return complete ? normalized.stripTrailing() : normalized;
+    }
+
+    /**
+     * Zwischenstand für einen Titel-Vorschlag: der Titel und die Kategorie des
+     * meistfavorisierten Events sowie die Summen über alle Events mit diesem Titel.
+     */
+    private static final class Aggregate {
+        private String title;
+        private EventCategory category;
+        private int topFavorites = -1;
+        private long weight;
+        private int events;
+
+        private void add(Contribution event) {
+            weight += event.favorites();
+            events++;
+            if (event.favorites() > topFavorites) {
+                topFavorites = event.favorites();
+                title = event.title().strip();
+                category = event.category();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h2>
+ *     Ringpuffer fester Grösse für einen Benutzer-Feed
+ * </h2>
+ *
+ * <p>
+ *     Die Einträge sind nach Datum (danach ID) sortiert. Ein Event wird an der Stelle
+ *     seines Datums einsortiert, nicht einfach vorne angefügt: Eine Änderung an einem alten
+ *     Event lässt es nicht nach vorne rücken. Ist der Puffer voll, fällt der älteste Eintrag
+ *     heraus; ein Event, das älter als alle Einträge ist, wird dann nicht aufgenommen. Jedes
+ *     Event steht höchstens einmal im Puffer.
+ * </p>
+ *
+ * <p>
+ *     Nicht threadsicher; der {@link UserFeedMaterializer} synchronisiert alle Zugriffe.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see UserFeedMaterializer
+ */
+final class FeedRing {
+
+    /**
+     * Reihenfolge der Einträge: ältestes Datum zuerst, bei gleichem Datum kleinere ID zuerst.
+     */
+    static final Comparator<EventDTO> OLDEST_FIRST = Comparator
+            .comparing(EventDTO::getDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(EventDTO::getId);
+
+    private final EventDTO[] slots;
+    private int head;
+    private int size;
+
+    /**
+     * @param capacity maximale Anzahl Einträge
+     */
+    FeedRing(int capacity) {
+        this.slots = new EventDTO[capacity];
+    }
+
+    /**
+     * Sortiert ein Event nach seinem Datum ein; ein bereits enthaltener Stand wird ersetzt.
+     *
+     * @param event Event
+     * @return false, wenn der Puffer voll und das Event älter als alle Einträge ist
+     */
+    boolean insert(EventDTO event) {
+        remove(event.getId());
+        if (size == slots.length) {
+            int oldest = Math.floorMod(head - size, slots.length);
+            if (OLDEST_FIRST.compare(event, slots[oldest]) < 0) {
+                return false;
+            }
+            slots[oldest] = null;
+            size--;
+        }
+        // neuere Einträge um eine Position Richtung head verschieben
+        int position = head;
+        for (int i = 1; i <= size; i++) {
+            int index = Math.floorMod(head - i, slots.length);
+            if (OLDEST_FIRST.compare(slots[index], event) <= 0) {
+                break;
+            }
+            slots[position] = slots[index];
+            position = index;
+        }
+        slots[position] = event;
+        head = (head + 1) % slots.length;
+        size++;
+        return true;
+    }
+
+    /**
+     * Entfernt ein Event und schliesst die Lücke.
+     *
+     * @param eventId ID des Events
+     * @return true, wenn das Event im Puffer war
+     */
+    boolean remove(Long eventId) {
+        int index = indexOf(eventId);
+        if (index < 0) {
+            return false;
+        }
+        // jüngere Einträge um eine Position nach hinten schieben
+        int current = index;
+        int newest = Math.floorMod(head - 1, slots.length);
+        while (current != newest) {
+            int next = (current + 1) % slots.length;
+            slots[current] = slots[next];
+            current = next;
+        }
+        slots[newest] = null;
+        head = newest;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return Einträge, neuester zuerst
+     */
+    List<EventDTO> newestFirst() {
+        List<EventDTO> events = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            events.add(slots[Math.floorMod(head - i, slots.length)]);
+        }
+        return events;
+    }
+
+    /**
+     * @return Anzahl Einträge
+     */
+    int size() {
+        return size;
+    }
+
+    private int indexOf(Long eventId) {
+        for (int i = 1; i <= size; i++) {
+            int index = Math.floorMod(head - i, slots.length);
+            if (Objects.equals(slots[index].getId(), eventId)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
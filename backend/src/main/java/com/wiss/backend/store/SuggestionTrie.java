@@ -0,0 +1,199 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventSuggestionDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>
+ *     Unveränderlicher, flacher Präfixbaum für Vorschläge
+ * </h2>
+ *
+ * <p>
+ *     Die Schlüssel liegen sortiert in einem Array – das entspricht den Blättern eines
+ *     Tries in Tiefensuche-Reihenfolge. Jeder Teilbaum (alle Schlüssel mit demselben
+ *     Präfix) ist damit ein zusammenhängender Bereich, der per Binärsuche gefunden wird.
+ * </p>
+ *
+ * <h3>Top-k:</h3>
+ * <ul>
+ *     <li>Für Teilbäume mit mehr als {@value #SCAN_LIMIT} Schlüsseln sind die besten
+ *         {@value #MAX_K} Einträge beim Aufbau vorberechnet</li>
+ *     <li>Kleinere Teilbäume werden bei der Abfrage direkt durchsucht</li>
+ *     <li>Sortierung: höheres Gewicht, mehr Events, alphabetisch</li>
+ * </ul>
+ *
+ * <p>
+ *     Eine Abfrage kostet damit zwei Binärsuchen und höchstens {@value #SCAN_LIMIT}
+ *     Vergleiche, unabhängig von der Anzahl Treffer. Änderungen erzeugen einen neuen
+ *     Baum (siehe {@link EventSuggestionIndex}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see EventSuggestionIndex
+ */
+final class SuggestionTrie {
+
+    /**
+     * Maximale Anzahl Vorschläge pro Abfrage.
+     */
+    static final int MAX_K = 10;
+
+    /**
+     * Teilbäume bis zu dieser Grösse werden ohne Vorberechnung durchsucht.
+     */
+    static final int SCAN_LIMIT = 64;
+
+    static final SuggestionTrie EMPTY = build(List.of());
+
+    /**
+     * Eintrag vor dem Aufbau.
+     *
+     * @param key        normalisierter Schlüssel
+     * @param suggestion Vorschlag
+     * @param events     Anzahl Events hinter dem Vorschlag (Tie-Breaker)
+     */
+    record Entry(String key, EventSuggestionDTO suggestion, int events) {}
+
+    private final String[] keys;
+    private final EventSuggestionDTO[] suggestions;
+    private final int[] events;
+    private final Map<String, int[]> topByPrefix = new HashMap<>();
+    private final Comparator<Integer> rank;
+
+    private SuggestionTrie(List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(Entry::key));
+
+        int size = sorted.size();
+        this.keys = new String[size];
+        this.suggestions = new EventSuggestionDTO[size];
+        this.events = new int[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = sorted.get(i);
+            keys[i] = entry.key();
+            suggestions[i] = entry.suggestion();
+            events[i] = entry.events();
+        }
+
+        this.rank = Comparator
+                .<Integer>comparingLong(i -> -suggestions[i].getWeight())
+                .thenComparingInt(i -> -events[i])
+                .thenComparingInt(i -> i);
+        if (size > SCAN_LIMIT) {
+            precompute(0, size, 0);
+        }
+    }
+
+    /**
+     * Baut einen Baum aus den übergebenen Einträgen.
+     *
+     * @param entries Einträge in beliebiger Reihenfolge
+     * @return neuer Baum
+     */
+    static SuggestionTrie build(List<Entry> entries) {
+        return new SuggestionTrie(entries);
+    }
+
+    /**
+     * @return Anzahl Einträge
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Liefert die besten Vervollständigungen eines Präfixes.
+     *
+     * @param prefix normalisierter Präfix
+     * @param k      gewünschte Anzahl (höchstens {@value #MAX_K})
+     * @return Vorschläge, bester zuerst
+     */
+    List<EventSuggestionDTO> complete(String prefix, int k) {
+        int lo = lowerBound(prefix);
+        int hi = lowerBound(prefix + Character.MAX_VALUE);
+        int[] top = hi - lo > SCAN_LIMIT ? topByPrefix.get(prefix) : top(lo, hi);
+
+        List<EventSuggestionDTO> result = new ArrayList<>(Math.min(k, top.length));
+        for (int i = 0; i < top.length && i < k; i++) {
+            result.add(suggestions[top[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Berechnet rekursiv die Top-k aller Teilbäume mit mehr als {@value #SCAN_LIMIT} Schlüsseln.
+     *
+     * @param lo    erster Index des Teilbaums
+     * @param hi    Index nach dem Teilbaum
+     * @param depth Länge des gemeinsamen Präfixes
+     * @return Top-k des Teilbaums
+     */
+    private int[] precompute(int lo, int hi, int depth) {
+        if (hi - lo <= SCAN_LIMIT) {
+            return top(lo, hi);
+        }
+
+        // Schlüssel, die genau hier enden, stehen sortiert am Anfang des Bereichs
+        int child = lo;
+        while (child < hi && keys[child].length() == depth) {
+            child++;
+        }
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = lo; i < child; i++) {
+            candidates.add(i);
+        }
+
+        while (child < hi) {
+            char c = keys[child].charAt(depth);
+            int end = child + 1;
+            while (end < hi && keys[end].charAt(depth) == c) {
+                end++;
+            }
+            for (int i : precompute(child, end, depth + 1)) {
+                candidates.add(i);
+            }
+            child = end;
+        }
+
+        int[] top = best(candidates);
+        topByPrefix.put(keys[lo].substring(0, depth), top);
+        return top;
+    }
+
+    private int[] top(int lo, int hi) {
+        List<Integer> candidates = new ArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            candidates.add(i);
+        }
+        return best(candidates);
+    }
+
+    private int[] best(List<Integer> candidates) {
+        candidates.sort(rank);
+        return candidates.stream()
+                .limit(MAX_K)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // bei gleichen Schlüsseln (z. B. Titel und Kategorie) den ersten liefern
+        while (index > 0 && keys[index - 1].equals(key)) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,146 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.model.TrendingWindow;
+import com.wiss.backend.repository.EventFavoriteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>
+ *     Trend-Rangliste nach Favorisierungen
+ * </h2>
+ *
+ * <p>
+ *     Hält pro {@link TrendingWindow} eine {@link DecayingTopK}-Rangliste. Jede neue
+ *     Favorisierung zählt +1, jedes Entfernen −1; ältere Beiträge verlieren exponentiell
+ *     an Gewicht. Die Rangliste wird dadurch bei jeder Änderung inkrementell nachgeführt
+ *     und ohne {@code ORDER BY} über die ganze Tabelle aus dem Arbeitsspeicher gelesen.
+ * </p>
+ *
+ * <h3>Aktualisierung:</h3>
+ * <ul>
+ *     <li>Beim Start werden die Favorisierungen der letzten drei Wochen-Fenster mit ihrem
+ *         Zeitpunkt geladen; entfernte Favoriten sind dabei nicht mehr enthalten</li>
+ *     <li>{@link FavoriteChange}-Ereignisse werden nach dem Commit übernommen</li>
+ *     <li>Gelöschte Events ({@link EventChange} aller Knoten, als {@link EventChangeBatch})
+ *         verschwinden aus allen Ranglisten</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see DecayingTopK
+ * @see com.wiss.backend.service.EventFavoriteService#getTrendingEvents(String, int)
+ */
+@Component
+public class TrendingEventsTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingEventsTracker.class);
+
+    /**
+     * Event mit aktuellen Trend-Punkten.
+     *
+     * @param eventId ID des Events
+     * @param score   abklingende Anzahl Favorisierungen
+     */
+    public record Trend(long eventId, double score) {}
+
+    private final EventFavoriteRepository favoriteRepository;
+    private final Map<TrendingWindow, DecayingTopK> rankings = new EnumMap<>(TrendingWindow.class);
+
+    /**
+     * Konstruktor mit Dependency Injection.
+     *
+     * @param favoriteRepository Repository zum Laden der letzten Favorisierungen
+     * @param maxTracked         maximale Anzahl gehaltener Events pro Zeitfenster
+     */
+    public TrendingEventsTracker(EventFavoriteRepository favoriteRepository,
+                                 @Value("${trending.max-tracked:10000}") int maxTracked) {
+        this.favoriteRepository = favoriteRepository;
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            rankings.put(window, new DecayingTopK(window.getDuration().toMillis(), maxTracked, now));
+        }
+    }
+
+    /**
+     * Lädt die Favorisierungen der letzten Zeit aus der Datenbank.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            long now = System.currentTimeMillis();
+            Instant since = Instant.ofEpochMilli(now).minus(TrendingWindow.WEEK.getDuration().multipliedBy(3));
+            List<Object[]> rows = favoriteRepository.findCreatedSince(since);
+            for (Object[] row : rows) {
+                long eventId = (Long) row[0];
+                long at = ((Instant) row[1]).toEpochMilli();
+                rankings.values().forEach(ranking -> ranking.add(eventId, 1, at, now));
+            }
+            log.info("Trend-Rangliste geladen: {} Favorisierungen seit {}", rows.size(), since);
+        } catch (RuntimeException e) {
+            log.warn("Trend-Rangliste konnte nicht geladen werden", e);
+        }
+    }
+
+    /**
+     * Übernimmt eine Favoritenänderung in alle Zeitfenster.
+     *
+     * @param change Änderungsereignis
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChange(FavoriteChange change) {
+        long now = System.currentTimeMillis();
+        double delta = change.favorite() ? 1 : -1;
+        rankings.values().forEach(ranking -> ranking.add(change.eventId(), delta, now, now));
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public void onEventChanges(EventChangeBatch batch) {
+        batch.changes().forEach(this::onEventChange);
+    }
+
+    /**
+     * Entfernt gelöschte Events aus allen Zeitfenstern.
+     *
+     * @param change Änderungsereignis
+     */
+    public void onEventChange(EventChange change) {
+        if (change.type() == EventChange.Type.DELETED) {
+            rankings.values().forEach(ranking -> ranking.remove(change.eventId()));
+        }
+    }
+
+    /**
+     * Liefert die Events mit den meisten Favorisierungen im Zeitfenster.
+     *
+     * @param window Zeitfenster
+     * @param k      gewünschte Anzahl
+     * @return bis zu {@code k} Events, höchste Punkte zuerst
+     */
+    public List<Trend> top(TrendingWindow window, int k) {
+        return rankings.get(window).top(k, System.currentTimeMillis()).stream()
+                .map(scored -> new Trend(scored.eventId(), scored.score()))
+                .toList();
+    }
+}
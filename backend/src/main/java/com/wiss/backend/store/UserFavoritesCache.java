@@ -0,0 +1,178 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.model.FavoriteChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <h2>
+ *     Zwischenspeicher der Favoriten pro Benutzer
+ * </h2>
+ *
+ * <p>
+ *     Hält für aktive Benutzer die IDs ihrer favorisierten Events als sortiertes
+ *     {@code long[]}. Das kostet 8 Byte pro Favorit statt eines {@code Long}-Objekts samt
+ *     Set-Eintrag; die Prüfung einzelner IDs läuft per Binärsuche.
+ * </p>
+ *
+ * <h3>Verhalten:</h3>
+ * <ul>
+ *     <li>Beim ersten Zugriff wird die Menge über den übergebenen Loader aus der
+ *         Datenbank gelesen</li>
+ *     <li>{@link FavoriteChange}-Ereignisse passen vorhandene Einträge nach dem Commit an</li>
+ *     <li>Höchstens {@code favorites-cache.max-users} Benutzer werden gehalten; der am
+ *         längsten nicht verwendete fällt zuerst heraus (LRU)</li>
+ * </ul>
+ *
+ * <p>
+ *     Ändert sich eine Menge, während sie geladen wird, verwirft der Cache das Ergebnis,
+ *     statt einen veralteten Stand zu speichern.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.EventFavoriteService
+ */
+@Component
+public class UserFavoritesCache {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, long[]> favorites;
+    private long changes;
+
+    /**
+     * Konstruktor mit Konfiguration.
+     *
+     * @param maxUsers maximale Anzahl Benutzer im Cache
+     */
+    public UserFavoritesCache(@Value("${favorites-cache.max-users:10000}") int maxUsers) {
+        this.favorites = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * Liefert die favorisierten Event-IDs eines Benutzers, sortiert und ohne Duplikate.
+     * Das Array darf nicht verändert werden.
+     *
+     * @param userId ID des Benutzers
+     * @param loader lädt die Event-IDs aus der Datenbank, falls der Benutzer fehlt
+     * @return sortierte Event-IDs
+     */
+    public long[] get(Long userId, Supplier<? extends Iterable<Long>> loader) {
+        long version;
+        synchronized (this) {
+            long[] cached = favorites.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            version = changes;
+        }
+
+        long[] loaded = toSortedArray(loader.get());
+        synchronized (this) {
+            if (changes == version) {
+                favorites.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Prüft, ob eine ID in einem von {@link #get(Long, Supplier)} gelieferten Array liegt.
+     *
+     * @param eventIds sortierte Event-IDs
+     * @param eventId  gesuchte ID
+     * @return true, wenn enthalten
+     */
+    public static boolean contains(long[] eventIds, long eventId) {
+        return Arrays.binarySearch(eventIds, eventId) >= 0;
+    }
+
+    /**
+     * Übernimmt eine Favoritenänderung in den Eintrag des Benutzers, falls vorhanden.
+     *
+     * @param change Änderungsereignis
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFavoriteChange(FavoriteChange change) {
+        changes++;
+        long[] current = favorites.get(change.userId());
+        if (current == null) {
+            return;
+        }
+        long eventId = change.eventId();
+        int index = Arrays.binarySearch(current, eventId);
+        if (change.favorite() && index < 0) {
+            int insert = -index - 1;
+            long[] next = new long[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insert);
+            next[insert] = eventId;
+            System.arraycopy(current, insert, next, insert + 1, current.length - insert);
+            favorites.put(change.userId(), next);
+        } else if (!change.favorite() && index >= 0) {
+            long[] next = new long[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, next.length - index);
+            favorites.put(change.userId(), next);
+        }
+    }
+
+    /**
+     * Verwirft den Eintrag eines Benutzers, z. B. nach einer Änderung auf einem anderen Knoten.
+     *
+     * @param userId ID des Benutzers
+     */
+    public synchronized void invalidate(Long userId) {
+        changes++;
+        favorites.remove(userId);
+    }
+
+    /**
+     * Verwirft alle Einträge.
+     */
+    public synchronized void clear() {
+        changes++;
+        favorites.clear();
+    }
+
+    /**
+     * @return Anzahl Benutzer im Cache
+     */
+    public synchronized int size() {
+        return favorites.size();
+    }
+
+    private static long[] toSortedArray(Iterable<Long> ids) {
+        long[] array = EMPTY;
+        int size = 0;
+        for (Long id : ids) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(8, size * 2));
+            }
+            array[size++] = id;
+        }
+        Arrays.sort(array, 0, size);
+
+        // Duplikate entfernen (ohne Unique-Constraint möglich)
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || array[distinct - 1] != array[i]) {
+                array[distinct++] = array[i];
+            }
+        }
+        return distinct == array.length ? array : Arrays.copyOf(array, distinct);
+    }
+}
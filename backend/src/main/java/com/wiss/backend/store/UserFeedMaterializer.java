@@ -0,0 +1,227 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.FavoriteChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * <h2>
+ *     Vorberechnete Feeds pro Benutzer
+ * </h2>
+ *
+ * <p>
+ *     Der Feed einer Benutzer:in besteht aus ihren Favoriten und den neuesten offenen
+ *     Events in den Kategorien dieser Favoriten. Er wird beim ersten Abruf aus der
+ *     Datenbank aufgebaut ({@link Seed}) und danach im Speicher gehalten, sodass weitere
+ *     Abrufe ohne Datenbankzugriff auskommen: die Favoriten vollständig, die neuen Events
+ *     in einem nach Datum sortierten {@link FeedRing} fester Grösse.
+ * </p>
+ *
+ * <h3>Aktualisierung:</h3>
+ * <ul>
+ *     <li>{@link EventChange} aller Knoten (als {@link EventChangeBatch} vom
+ *         {@link com.wiss.backend.cluster.ChangeRelay}): neue oder geänderte offene Events
+ *         passender Kategorie werden nach ihrem Datum einsortiert, eine Änderung an einem
+ *         alten Event rückt es also nicht nach vorne; Favoriten werden ersetzt und nie
+ *         verdrängt; geschlossene, umkategorisierte und gelöschte Events verschwinden</li>
+ *     <li>{@link FavoriteChange}: der Feed der betroffenen Benutzer:in wird verworfen und
+ *         beim nächsten Abruf neu aufgebaut, da sich auch ihre Kategorien ändern können</li>
+ *     <li>{@link EventResync}: alle Feeds werden verworfen</li>
+ *     <li>Höchstens {@code feed.max-users} Feeds werden gehalten; der am längsten nicht
+ *         abgerufene fällt zuerst heraus (LRU)</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see FeedRing
+ * @see com.wiss.backend.service.UserFeedService
+ */
+@Component
+public class UserFeedMaterializer {
+
+    /**
+     * Ausgangsdaten eines Feeds.
+     *
+     * @param favoriteIds sortierte IDs der Favoriten
+     * @param categories  Kategorien, deren neue offene Events in den Feed gehören
+     * @param events      Favoriten und neueste offene Events dieser Kategorien
+     */
+    public record Seed(long[] favoriteIds, Set<EventCategory> categories, List<EventDTO> events) {}
+
+    private static final class Feed {
+        private final long[] favoriteIds;
+        private final Set<EventCategory> categories;
+        private final Map<Long, EventDTO> favorites = new HashMap<>();
+        private final FeedRing ring;
+
+        private Feed(Seed seed, int capacity) {
+            this.favoriteIds = seed.favoriteIds();
+            this.categories = seed.categories();
+            this.ring = new FeedRing(capacity);
+            for (EventDTO event : seed.events()) {
+                if (isFavorite(event.getId())) {
+                    favorites.put(event.getId(), event);
+                } else {
+                    ring.insert(event);
+                }
+            }
+        }
+
+        private boolean isFavorite(Long eventId) {
+            return UserFavoritesCache.contains(favoriteIds, eventId);
+        }
+
+        private void apply(EventChange change) {
+            if (change.type() == EventChange.Type.DELETED) {
+                favorites.remove(change.eventId());
+                ring.remove(change.eventId());
+                return;
+            }
+            EventDTO event = change.event();
+            if (isFavorite(change.eventId())) {
+                favorites.put(change.eventId(), event);
+            } else if (event.getStatus() == EventStatus.open && categories.contains(event.getCategory())) {
+                ring.insert(event);
+            } else {
+                ring.remove(change.eventId());
+            }
+        }
+
+        /**
+         * @return Favoriten und neue Events zusammen, neuestes zuerst
+         */
+        private List<EventDTO> newestFirst() {
+            List<EventDTO> events = new ArrayList<>(favorites.size() + ring.size());
+            events.addAll(favorites.values());
+            events.addAll(ring.newestFirst());
+            events.sort(FeedRing.OLDEST_FIRST.reversed());
+            return events;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Feed> feeds;
+    private long changes;
+
+    /**
+     * Konstruktor mit Konfiguration.
+     *
+     * @param capacity maximale Anzahl neuer Events pro Feed, zusätzlich zu den Favoriten
+     * @param maxUsers maximale Anzahl gehaltener Feeds
+     */
+    public UserFeedMaterializer(@Value("${feed.capacity:50}") int capacity,
+                                @Value("${feed.max-users:1000}") int maxUsers) {
+        this.capacity = capacity;
+        this.feeds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Feed> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * @return maximale Anzahl neuer Events pro Feed, zusätzlich zu den Favoriten
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Liefert den Feed einer Benutzer:in, neuestes Event zuerst.
+     *
+     * @param userId ID der Benutzer:in
+     * @param loader lädt die Ausgangsdaten, falls kein Feed vorhanden ist
+     * @return Events des Feeds
+     */
+    public List<EventDTO> feed(Long userId, Supplier<Seed> loader) {
+        long version;
+        synchronized (this) {
+            Feed feed = feeds.get(userId);
+            if (feed != null) {
+                return feed.newestFirst();
+            }
+            version = changes;
+        }
+
+        Feed built = new Feed(loader.get(), capacity);
+        synchronized (this) {
+            // Änderungen während des Ladens wären im Feed nicht enthalten
+            if (changes == version) {
+                feeds.put(userId, built);
+            }
+            return built.newestFirst();
+        }
+    }
+
+    /**
+     * Übernimmt committete Änderungen aller Knoten, im Thread des
+     * {@link com.wiss.backend.cluster.ChangeRelay}.
+     *
+     * @param batch Änderungen in der Reihenfolge des Outbox
+     */
+    @EventListener
+    public void onEventChanges(EventChangeBatch batch) {
+        batch.changes().forEach(this::onEventChange);
+    }
+
+    /**
+     * Übernimmt eine Event-Änderung in alle gehaltenen Feeds.
+     *
+     * @param change Änderungsereignis
+     */
+    public synchronized void onEventChange(EventChange change) {
+        changes++;
+        for (Feed feed : feeds.values()) {
+            feed.apply(change);
+        }
+    }
+
+    /**
+     * Verwirft den Feed der Benutzer:in, deren Favoriten sich geändert haben.
+     *
+     * @param change Änderungsereignis
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFavoriteChange(FavoriteChange change) {
+        changes++;
+        feeds.remove(change.userId());
+    }
+
+    /**
+     * Verwirft alle Feeds, wenn Änderungen verloren gegangen sein können; sie werden beim
+     * nächsten Abruf neu aufgebaut.
+     *
+     * @param resync Aufforderung zum Neuladen
+     */
+    @EventListener
+    public synchronized void onResync(EventResync resync) {
+        changes++;
+        feeds.clear();
+    }
+
+    /**
+     * @return Anzahl gehaltener Feeds
+     */
+    public synchronized int size() {
+        return feeds.size();
+    }
+}
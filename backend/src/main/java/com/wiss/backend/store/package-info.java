@@ -0,0 +1,41 @@
+/**
+ * <h2>
+ *     In-Memory-Strukturen für leseintensive Event-Abfragen
+ * </h2>
+ *
+ * <p>
+ *     Dieses Paket enthält Datenstrukturen, die den Event-Bestand zusätzlich
+ *     im Arbeitsspeicher vorhalten. Sie werden beim Start aus der Datenbank geladen und
+ *     über {@link com.wiss.backend.model.EventChange}-Ereignisse des
+ *     {@link com.wiss.backend.service.EventService} synchron gehalten.
+ *     Die Datenbank bleibt die führende Quelle.
+ * </p>
+ *
+ * <h3>Enthaltene Komponenten:</h3>
+ * <ul>
+ *     <li>{@link com.wiss.backend.store.EventColumnStore} – Spaltenspeicher für Filter-,
+ *         Statistik- und Geo-Abfragen ({@code event-store.enabled}).</li>
+ *     <li>{@link com.wiss.backend.store.EventBitmapIndex} – Roaring-Bitmaps pro Kategorie,
+ *         Status und Tag für kombinierte Filter und Zählungen ({@code event-index.enabled}).</li>
+ *     <li>{@link com.wiss.backend.store.EventSearchIndex} – invertierter Index über Event-Titel
+ *         für die Volltextsuche (immer aktiv).</li>
+ *     <li>{@link com.wiss.backend.store.EventSuggestionIndex} – Präfixbaum über Titel und
+ *         Kategorien für die Autovervollständigung, im Hintergrund neu aufgebaut (immer aktiv).</li>
+ *     <li>{@link com.wiss.backend.store.UserFavoritesCache} – favorisierte Event-IDs pro Benutzer
+ *         als sortierte {@code long[]}, LRU-begrenzt und über
+ *         {@link com.wiss.backend.model.FavoriteChange} aktualisiert.</li>
+ *     <li>{@link com.wiss.backend.store.TrendingEventsTracker} – Trend-Rangliste mit exponentiell
+ *         abklingenden Favorisierungen pro Zeitfenster (siehe {@code DecayingTopK}).</li>
+ *     <li>{@link com.wiss.backend.store.UserFeedMaterializer} – vorberechnete Feeds aktiver
+ *         Benutzer: Favoriten und ein nach Datum sortierter Ringpuffer ({@code FeedRing}),
+ *         LRU-begrenzt.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.service.EventService
+ * @see com.wiss.backend.model.EventChange
+ */
+package com.wiss.backend.store;
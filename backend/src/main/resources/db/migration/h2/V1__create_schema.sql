@@ -0,0 +1,44 @@
+-- =====================================================================================
+-- Grundschema für H2 (Tests): Benutzer, Events und Favoriten
+--
+-- Entspricht db/migration/postgresql/V1__create_schema.sql; die Partitionierung von
+-- "events" (PostgreSQL V2) gibt es in H2 nicht.
+-- =====================================================================================
+
+CREATE TABLE app_users
+(
+    id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version  bigint,
+    username varchar(50)  NOT NULL UNIQUE,
+    email    varchar(100) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL,
+    role     varchar(255) NOT NULL
+);
+
+CREATE TABLE events
+(
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title              varchar(255)     NOT NULL,
+    date               date             NOT NULL,
+    category           varchar(50)      NOT NULL,
+    longitude          double precision NOT NULL,
+    latitude           double precision NOT NULL,
+    status             varchar(50)      NOT NULL,
+    created_by_user_id bigint REFERENCES app_users (id),
+    favorites_count    integer          NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_events_status_date ON events (status, date);
+CREATE INDEX idx_events_category_date ON events (category, date);
+
+CREATE TABLE event_favorites
+(
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    bigint NOT NULL,
+    event_id   bigint NOT NULL,
+    created_at timestamp(6) with time zone,
+    CONSTRAINT uk_event_favorites_user_event UNIQUE (user_id, event_id)
+);
+
+CREATE INDEX idx_event_favorites_event ON event_favorites (event_id);
+CREATE INDEX idx_event_favorites_created_at ON event_favorites (created_at);
@@ -0,0 +1,21 @@
+-- =====================================================================================
+-- Transaktionaler Outbox für Event-Änderungen (H2)
+--
+-- Entspricht db/migration/postgresql/V3__event_outbox.sql.
+-- =====================================================================================
+
+CREATE TABLE event_outbox
+(
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id    bigint        NOT NULL,
+    change_type varchar(20)   NOT NULL,
+    payload     varchar(4000),
+    created_at  timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE event_outbox_relay
+(
+    id integer PRIMARY KEY
+);
+
+INSERT INTO event_outbox_relay (id) VALUES (1);
@@ -0,0 +1,7 @@
+-- =====================================================================================
+-- Versionsspalte für optimistische Sperren auf "events" (H2)
+--
+-- Entspricht db/migration/postgresql/V4__event_version.sql.
+-- =====================================================================================
+
+ALTER TABLE events ADD COLUMN version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,61 @@
+-- =====================================================================================
+-- Grundschema: Benutzer, Events und Favoriten
+--
+-- Datenbanken, die bisher über spring.jpa.hibernate.ddl-auto=update angelegt wurden,
+-- besitzen die Tabellen bereits. Alle Anweisungen sind deshalb idempotent und ergänzen
+-- nur, was fehlt (spring.flyway.baseline-version=0).
+-- =====================================================================================
+
+CREATE TABLE IF NOT EXISTS app_users
+(
+    id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version  bigint,
+    username varchar(50)  NOT NULL UNIQUE,
+    email    varchar(100) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL,
+    role     varchar(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS events
+(
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title              varchar(255)     NOT NULL,
+    date               date             NOT NULL,
+    category           varchar(50)      NOT NULL,
+    longitude          double precision NOT NULL,
+    latitude           double precision NOT NULL,
+    status             varchar(50)      NOT NULL,
+    created_by_user_id bigint REFERENCES app_users (id),
+    favorites_count    integer          NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS event_favorites
+(
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    bigint NOT NULL,
+    event_id   bigint NOT NULL,
+    created_at timestamp(6) with time zone
+);
+
+-- Spalten und Constraints, die ältere Schemas noch nicht haben
+ALTER TABLE event_favorites ADD COLUMN IF NOT EXISTS created_at timestamp(6) with time zone;
+
+DO
+$$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_event_favorites_user_event') THEN
+        -- Doppelte Favoriten aus der Zeit vor dem Constraint entfernen
+        DELETE FROM event_favorites f
+        USING event_favorites d
+        WHERE f.user_id = d.user_id AND f.event_id = d.event_id AND f.id > d.id;
+        ALTER TABLE event_favorites
+            ADD CONSTRAINT uk_event_favorites_user_event UNIQUE (user_id, event_id);
+    END IF;
+END
+$$;
+
+-- Favoriten eines Users liefert der Unique-Index (user_id, event_id); für Zählungen und
+-- das Entfernen gelöschter Events wird zusätzlich nach event_id gesucht.
+CREATE INDEX IF NOT EXISTS idx_event_favorites_event ON event_favorites (event_id);
+-- Trend-Rangliste lädt die Favorisierungen der letzten Tage
+CREATE INDEX IF NOT EXISTS idx_event_favorites_created_at ON event_favorites (created_at);
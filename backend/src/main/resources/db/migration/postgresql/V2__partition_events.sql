@@ -0,0 +1,131 @@
+-- =====================================================================================
+-- Monatliche Partitionierung der Tabelle "events" nach "date" (PostgreSQL >= 13)
+--
+-- Danach legt der EventPartitionMaintainer (event-partitioning.enabled=true) laufend
+-- Partitionen für die kommenden Monate an und verschiebt alte Partitionen optional in
+-- einen günstigeren Tablespace. Die Migration ist idempotent: Ist "events" bereits
+-- partitioniert (z. B. durch ein früher manuell ausgeführtes Skript), werden nur die
+-- Funktionen aktualisiert.
+-- =====================================================================================
+
+-- Name der Partition eines Monats, z. B. events_y2025m07
+CREATE OR REPLACE FUNCTION event_partition_name(month date) RETURNS text
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT format('events_y%sm%s', to_char(month, 'YYYY'), to_char(month, 'MM'))
+$$;
+
+-- Legt die Monatspartitionen von from_month bis from_month + months_ahead an (falls nicht vorhanden).
+-- Indizes des Elternobjekts werden von PostgreSQL automatisch auf neue Partitionen übertragen.
+CREATE OR REPLACE FUNCTION create_event_partitions(from_month date, months_ahead int) RETURNS int
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    month   date := date_trunc('month', from_month)::date;
+    created int  := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        IF to_regclass(event_partition_name(month)) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                           event_partition_name(month), month, (month + interval '1 month')::date);
+            created := created + 1;
+        END IF;
+        month := (month + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+-- Verschiebt alle Monatspartitionen vor older_than samt Indizes in einen anderen Tablespace
+-- (z. B. auf günstigeren Speicher). Sperrt jeweils nur die verschobene Partition; Abfragen mit
+-- Datumsbereich auf neuere Monate lesen diese Partitionen dank Partition Pruning nicht.
+CREATE OR REPLACE FUNCTION archive_event_partitions(older_than date, target_tablespace text) RETURNS int
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    partition record;
+    idx       record;
+    moved     int := 0;
+BEGIN
+    FOR partition IN
+        SELECT c.oid, c.relname, coalesce(t.spcname, 'pg_default') AS tablespace
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+                 LEFT JOIN pg_tablespace t ON t.oid = c.reltablespace
+        WHERE i.inhparent = 'events'::regclass
+          AND c.relname ~ '^events_y[0-9]{4}m[0-9]{2}$'
+          AND to_date(substr(c.relname, 9), 'YYYY"m"MM') < date_trunc('month', older_than)::date
+    LOOP
+        CONTINUE WHEN partition.tablespace = target_tablespace;
+        EXECUTE format('ALTER TABLE %I SET TABLESPACE %I', partition.relname, target_tablespace);
+        FOR idx IN SELECT indexrelid::regclass AS name FROM pg_index WHERE indrelid = partition.oid LOOP
+            EXECUTE format('ALTER INDEX %s SET TABLESPACE %I', idx.name, target_tablespace);
+        END LOOP;
+        moved := moved + 1;
+    END LOOP;
+    RETURN moved;
+END
+$$;
+
+-- Umbau der bestehenden Tabelle (nur beim ersten Lauf)
+DO
+$$
+DECLARE
+    first_month date;
+    next_id     bigint;
+    is_identity boolean;
+    fk          record;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'events'::regclass) THEN
+        RAISE NOTICE 'events ist bereits partitioniert';
+        RETURN;
+    END IF;
+
+    ALTER TABLE events RENAME TO events_unpartitioned;
+
+    -- Primärschlüssel muss den Partitionsschlüssel enthalten; IDs bleiben über die Identity-Spalte eindeutig
+    CREATE TABLE events (LIKE events_unpartitioned INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING STORAGE)
+        PARTITION BY RANGE (date);
+    ALTER TABLE events ADD PRIMARY KEY (id, date);
+
+    -- Fremdschlüssel (z. B. created_by → app_users) übernehmen
+    FOR fk IN SELECT conname, pg_get_constraintdef(oid) AS def
+              FROM pg_constraint
+              WHERE conrelid = 'events_unpartitioned'::regclass AND contype = 'f' LOOP
+        EXECUTE format('ALTER TABLE events_unpartitioned DROP CONSTRAINT %I', fk.conname);
+        EXECUTE format('ALTER TABLE events ADD CONSTRAINT %I %s', fk.conname, fk.def);
+    END LOOP;
+
+    CREATE INDEX idx_events_id ON events (id);
+    CREATE INDEX idx_events_status_date ON events (status, date);
+    CREATE INDEX idx_events_category_date ON events (category, date);
+
+    -- Auffangpartition für Daten ausserhalb der angelegten Monate
+    CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+    SELECT coalesce(min(date_trunc('month', date))::date, date_trunc('month', now())::date)
+    INTO first_month FROM events_unpartitioned;
+    PERFORM create_event_partitions(first_month,
+            ((extract(year FROM age(now(), first_month)) * 12 + extract(month FROM age(now(), first_month)))::int) + 3);
+
+    INSERT INTO events OVERRIDING SYSTEM VALUE SELECT * FROM events_unpartitioned;
+
+    SELECT coalesce(max(id), 0) + 1 INTO next_id FROM events;
+    SELECT attidentity <> '' INTO is_identity
+    FROM pg_attribute WHERE attrelid = 'events_unpartitioned'::regclass AND attname = 'id';
+    IF is_identity THEN
+        EXECUTE format('ALTER TABLE events ALTER COLUMN id RESTART WITH %s', next_id);
+    ELSE
+        -- serial: Sequenz gehört noch der alten Tabelle und würde mit ihr gelöscht
+        EXECUTE format('ALTER SEQUENCE %s OWNED BY events.id', pg_get_serial_sequence('events_unpartitioned', 'id'));
+        PERFORM setval(pg_get_serial_sequence('events', 'id'), next_id, false);
+    END IF;
+
+    -- Leere Tabelle (neue Datenbank) direkt entfernen; sonst bleibt sie für ein Rollback
+    -- erhalten und kann nach Prüfung entfernt werden:
+    --   DROP TABLE events_unpartitioned;
+    IF NOT EXISTS (SELECT 1 FROM events_unpartitioned) THEN
+        DROP TABLE events_unpartitioned;
+    END IF;
+END
+$$;
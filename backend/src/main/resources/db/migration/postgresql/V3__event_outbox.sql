@@ -0,0 +1,24 @@
+-- =====================================================================================
+-- Transaktionaler Outbox für Event-Änderungen
+--
+-- Der EventService schreibt jede Änderung in derselben Transaktion wie das Event in
+-- "event_outbox". Der EventOutboxRelay liest die Einträge in Reihenfolge der ID, gibt sie
+-- an die Abnehmer weiter und löscht sie erst danach. Die einzige Zeile in
+-- "event_outbox_relay" dient als Sperre, damit immer nur ein Knoten abarbeitet.
+-- =====================================================================================
+
+CREATE TABLE IF NOT EXISTS event_outbox
+(
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id    bigint        NOT NULL,
+    change_type varchar(20)   NOT NULL,
+    payload     varchar(4000),
+    created_at  timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS event_outbox_relay
+(
+    id integer PRIMARY KEY
+);
+
+INSERT INTO event_outbox_relay (id) VALUES (1) ON CONFLICT DO NOTHING;
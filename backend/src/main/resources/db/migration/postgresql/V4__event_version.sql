@@ -0,0 +1,9 @@
+-- =====================================================================================
+-- Versionsspalte für optimistische Sperren auf "events"
+--
+-- Jede Änderung über JPA erhöht "version" und prüft dabei den zuvor gelesenen Wert.
+-- Die Version wird der REST-API als ETag geliefert und bei If-Match verglichen.
+-- Auf der partitionierten Tabelle (V2) wird die Spalte an alle Partitionen vererbt.
+-- =====================================================================================
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,181 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.Role;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.AppUserRepository;
+import com.wiss.backend.repository.EventRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>
+ *     Gemeinsame JPA-Workload für Konfigurations-Benchmarks
+ * </h2>
+ * <p>
+ *     Führt in jeder Unterklasse exakt dieselbe Workload aus, damit sich verschiedene
+ *     JPA-/JDBC-Konfigurationen direkt vergleichen lassen. Gemessen werden Laufzeit
+ *     sowie Anzahl vorbereiteter JDBC-Statements und nachgeladener Entities pro Phase
+ *     (über Hibernate-Statistiken). Mit JDBC-Batching wird ein Statement pro Batch
+ *     statt pro Zeile vorbereitet.
+ * </p>
+ *
+ * <h3>
+ *     Phasen:
+ * </h3>
+ * <ul>
+ *     <li><b>insert</b>: {@value #EVENT_COUNT} Events mit {@code saveAll} speichern</li>
+ *     <li><b>update</b>: alle offenen Events laden und schliessen (Dirty Checking)</li>
+ *     <li><b>read-all</b>: alle Events inkl. Ersteller:in als {@code EventFormDTO} laden</li>
+ *     <li><b>filter</b>: wiederholte kombinierte Filterabfragen</li>
+ * </ul>
+ *
+ * <p>
+ *     Ausführung: {@code ./mvnw test -Pbenchmark}
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see JpaDefaultsBenchmarkTest
+ * @see JpaProdTuningBenchmarkTest
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+abstract class AbstractJpaWorkloadBenchmark {
+
+    static final int EVENT_COUNT = 2_000;
+    private static final int USER_COUNT = 20;
+    private static final int FILTER_ROUNDS = 200;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Name der Konfiguration für die Ausgabe.
+     *
+     * @return Bezeichnung der getesteten Konfiguration
+     */
+    abstract String configurationName();
+
+    @AfterEach
+    void cleanUp() {
+        eventRepository.deleteAllInBatch();
+        appUserRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void runWorkload() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<AppUser> creators = appUserRepository.saveAll(createUsers());
+
+        // Aufwärmrunde (JIT, Plan Cache, Pool) – Ergebnis wird verworfen
+        runPhases(creators, statistics);
+        eventRepository.deleteAllInBatch();
+
+        List<String> report = runPhases(creators, statistics);
+
+        System.out.println("=== JPA-Workload [" + configurationName() + "] ===");
+        report.forEach(System.out::println);
+
+        assertThat(eventRepository.count()).isEqualTo(EVENT_COUNT);
+        assertThat(eventRepository.countByStatus(EventStatus.open)).isZero();
+    }
+
+    /**
+     * Führt alle Phasen der Workload einmal aus.
+     */
+    private List<String> runPhases(List<AppUser> creators, Statistics statistics) {
+        List<String> report = new ArrayList<>();
+
+        report.add(measure("insert", statistics, () -> transactionTemplate.execute(status ->
+                eventRepository.saveAll(createEvents(creators)).size())));
+
+        report.add(measure("update", statistics, () -> transactionTemplate.execute(status -> {
+            List<Event> open = eventRepository.findByStatus(EventStatus.open);
+            open.forEach(event -> event.setStatus(EventStatus.closed));
+            return open.size();
+        })));
+
+        report.add(measure("read-all", statistics, () -> transactionTemplate.execute(status ->
+                EventMapper.toFormDTOList(eventRepository.findAll()).size())));
+
+        report.add(measure("filter", statistics, () -> {
+            int found = 0;
+            for (int i = 0; i < FILTER_ROUNDS; i++) {
+                EventCategory category = EventCategory.values()[i % EventCategory.values().length];
+                found += eventRepository.findByCategoryAndStatusAndDateBetween(category, EventStatus.closed,
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)).size();
+            }
+            return found;
+        }));
+
+        return report;
+    }
+
+    /**
+     * Führt eine Phase aus und formatiert Laufzeit sowie JDBC-Kennzahlen.
+     */
+    private String measure(String phase, Statistics statistics, Supplier<Integer> work) {
+        statistics.clear();
+        long start = System.nanoTime();
+        int rows = work.get();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        return String.format("%-9s rows=%6d time=%6d ms statements=%6d entity-fetches=%5d",
+                phase, rows, millis, statistics.getPrepareStatementCount(), statistics.getEntityFetchCount());
+    }
+
+    private List<AppUser> createUsers() {
+        List<AppUser> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new AppUser("bench" + i, "bench" + i + "@eonet.com", "-", Role.ADMIN));
+        }
+        return users;
+    }
+
+    private List<Event> createEvents(List<AppUser> creators) {
+        List<Event> events = new ArrayList<>(EVENT_COUNT);
+        EventCategory[] categories = EventCategory.values();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new Event(
+                    "Benchmark Event " + i,
+                    LocalDate.of(2024, 1, 1).plusDays(i % 366),
+                    categories[i % categories.length],
+                    (i % 360) - 180.0,
+                    (i % 180) - 90.0,
+                    EventStatus.open,
+                    creators.get(i % creators.size())
+            ));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,215 @@
+package com.wiss.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.Role;
+import com.wiss.backend.exception.EventVersionMismatchException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.AppUserRepository;
+import com.wiss.backend.repository.EventFavoriteRepository;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.service.EventFavoriteService;
+import com.wiss.backend.service.EventService;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>
+ *     Benchmark für gleichzeitige Änderungen an wenigen Events
+ * </h2>
+ * <p>
+ *     {@value #THREADS} Threads ändern {@value #HOT_EVENTS} Events gleichzeitig. Gemessen
+ *     werden Durchsatz und Konflikte pro Phase; danach wird geprüft, dass keine Änderung
+ *     verloren ging.
+ * </p>
+ *
+ * <h3>
+ *     Phasen:
+ * </h3>
+ * <ul>
+ *     <li><b>favorites</b>: zufälliges Setzen und Entfernen von Favoriten
+ *         ({@link EventFavoriteService#setFavorite(Long, Long, boolean)})</li>
+ *     <li><b>edits</b>: Lesen und Ändern mit erwarteter Version
+ *         ({@link EventService#patchEvent(Long, com.fasterxml.jackson.databind.JsonNode, Long)});
+ *         bei 412 oder 409 wird neu gelesen und wiederholt</li>
+ *     <li><b>mixed</b>: beides gleichzeitig; Favoriten ändern die Version nicht und
+ *         dürfen daher keine zusätzlichen Konflikte der Bearbeitungen verursachen</li>
+ * </ul>
+ *
+ * <p>
+ *     Ausführung: {@code ./mvnw test -Pbenchmark}
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventFavoriteService
+ * @see EventService
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class EventContentionBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int HOT_EVENTS = 4;
+    private static final int USER_COUNT = 32;
+    private static final int OPS_PER_THREAD = 250;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventFavoriteService favoriteService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventFavoriteRepository eventFavoriteRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        eventFavoriteRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        appUserRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void measureContention() throws Exception {
+        List<Long> users = appUserRepository.saveAll(createUsers()).stream().map(AppUser::getId).toList();
+        List<Long> events = eventRepository.saveAll(createEvents()).stream().map(Event::getId).toList();
+
+        System.out.println("=== Gleichzeitige Änderungen (" + THREADS + " Threads, " + HOT_EVENTS + " Events) ===");
+        System.out.println(run("favorites", THREADS, 0, users, events));
+        System.out.println(run("edits", 0, THREADS, users, events));
+        System.out.println(run("mixed", THREADS / 2, THREADS / 2, users, events));
+
+        for (Long eventId : events) {
+            assertThat(eventRepository.findFavoritesCountById(eventId).orElseThrow())
+                    .isEqualTo((int) eventFavoriteRepository.countByEventId(eventId));
+        }
+    }
+
+    /**
+     * Führt eine Phase aus und formatiert Durchsatz und Konflikte.
+     */
+    private String run(String phase, int favoriteThreads, int editThreads, List<Long> users, List<Long> events)
+            throws Exception {
+        AtomicInteger conflicts = new AtomicInteger();
+        long versionsBefore = totalVersion(events);
+        ExecutorService executor = Executors.newFixedThreadPool(favoriteThreads + editThreads);
+        List<Future<Integer>> favoriteResults = new ArrayList<>();
+        List<Future<Integer>> editResults = new ArrayList<>();
+
+        long start = System.nanoTime();
+        try {
+            for (int t = 0; t < favoriteThreads; t++) {
+                favoriteResults.add(executor.submit(() -> toggleFavorites(users, events)));
+            }
+            for (int t = 0; t < editThreads; t++) {
+                int thread = t;
+                editResults.add(executor.submit(() -> editEvents(phase + "-" + thread, events, conflicts)));
+            }
+            int favorites = sum(favoriteResults);
+            int edits = sum(editResults);
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+            // Jede erfolgreiche Bearbeitung erhöht genau eine Version, Favoriten keine
+            assertThat(totalVersion(events) - versionsBefore).isEqualTo(edits);
+
+            return String.format("%-9s favorites=%5d edits=%5d time=%6d ms ops/s=%7d conflicts/edit=%5.2f",
+                    phase, favorites, edits, millis, (favorites + edits) * 1000L / millis,
+                    edits == 0 ? 0.0 : (double) conflicts.get() / edits);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int toggleFavorites(List<Long> users, List<Long> events) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < OPS_PER_THREAD; i++) {
+            favoriteService.setFavorite(users.get(random.nextInt(users.size())),
+                    events.get(random.nextInt(events.size())), random.nextBoolean());
+        }
+        return OPS_PER_THREAD;
+    }
+
+    /**
+     * Liest ein Event und ändert den Titel mit der gelesenen Version; bei einem Konflikt
+     * wird neu gelesen, bis die Änderung gelingt.
+     */
+    private int editEvents(String name, List<Long> events, AtomicInteger conflicts) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < OPS_PER_THREAD; i++) {
+            Long eventId = events.get(random.nextInt(events.size()));
+            String patch = objectMapper.writeValueAsString(Map.of("title", "Event " + name + "-" + i));
+            while (true) {
+                EventFormDTO current = eventService.getEventByIdAsFormDTO(eventId);
+                try {
+                    eventService.patchEvent(eventId, objectMapper.readTree(patch), current.getVersion());
+                    break;
+                } catch (EventVersionMismatchException | OptimisticLockingFailureException | OptimisticLockException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        }
+        return OPS_PER_THREAD;
+    }
+
+    private long totalVersion(List<Long> events) {
+        return eventRepository.findAllById(events).stream().mapToLong(Event::getVersion).sum();
+    }
+
+    private static int sum(List<Future<Integer>> results) throws Exception {
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        return total;
+    }
+
+    private List<AppUser> createUsers() {
+        List<AppUser> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new AppUser("contention" + i, "contention" + i + "@eonet.com", "-", Role.USER));
+        }
+        return users;
+    }
+
+    private List<Event> createEvents() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < HOT_EVENTS; i++) {
+            events.add(new Event("Hot Event " + i, LocalDate.of(2024, 1, 1).plusDays(i), EventCategory.floods,
+                    8.5, 47.3, EventStatus.open, null));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,105 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.store.EventSearchIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Benchmark für die Titelsuche
+ * </h2>
+ * <p>
+ *     Baut den {@link EventSearchIndex} über {@value #EVENT_COUNT} synthetische Titel auf
+ *     und misst typische Typeahead-Anfragen (kurze Präfixe mit vielen Treffern bis zu
+ *     mehreren Begriffen mit wenigen Treffern). Ausgegeben werden Median und
+ *     99. Perzentil pro Anfrage.
+ * </p>
+ *
+ * <p>
+ *     Ausführung: {@code ./mvnw test -Pbenchmark}
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSearchIndex
+ */
+@Tag("benchmark")
+@DisabledInNativeImage
+public class EventSearchBenchmarkTest {
+
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+
+    private static final String[] KINDS = {
+            "Waldbrand", "Flut", "Sturm", "Erdbeben", "Vulkanausbruch", "Dürre",
+            "Erdrutsch", "Schneesturm", "Hitzewelle", "Eisberg", "Staubsturm", "Tropensturm"
+    };
+    private static final String[] PLACES = {
+            "Kalifornien", "Jakarta", "Portugal", "Sizilien", "Island", "Chile", "Japan",
+            "Kanada", "Australien", "Indien", "Brasilien", "Alaska", "Kenia", "Peru",
+            "Norwegen", "Mexiko", "Texas", "Bayern", "Wallis", "Tessin"
+    };
+
+    @Test
+    public void measureTypeaheadQueries() {
+        EventRepository repository = mock(EventRepository.class);
+        when(repository.findAllAsRows()).thenReturn(createRows());
+
+        EventSearchIndex index = new EventSearchIndex(repository);
+        long start = System.nanoTime();
+        index.load();
+        System.out.printf("=== Titelsuche (%d Events), Aufbau %d ms ===%n",
+                EVENT_COUNT, (System.nanoTime() - start) / 1_000_000);
+
+        for (String query : List.of("w", "wal", "waldbrand", "waldbrand kal", "sturm ja 2024", "vulkan isl 7")) {
+            System.out.println(measure(index, query));
+        }
+
+        assertThat(index.search("waldbrand kalifornien", 0, 20).ids()).hasSize(20);
+    }
+
+    private String measure(EventSearchIndex index, String query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            index.search(query, 0, 20);
+        }
+
+        long[] nanos = new long[MEASURED_ROUNDS];
+        long total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long begin = System.nanoTime();
+            total = index.search(query, 0, 20).total();
+            nanos[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(nanos);
+
+        return String.format("%-16s treffer=%7d median=%7.3f ms p99=%7.3f ms",
+                query, total, nanos[MEASURED_ROUNDS / 2] / 1_000_000.0,
+                nanos[MEASURED_ROUNDS * 99 / 100] / 1_000_000.0);
+    }
+
+    private List<Object[]> createRows() {
+        List<Object[]> rows = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            String title = KINDS[i % KINDS.length] + " " + PLACES[(i / KINDS.length) % PLACES.length]
+                    + " " + (2000 + i % 25) + " #" + (i % 1000);
+            rows.add(new Object[]{(long) i + 1, title, LocalDate.of(2024, 1, 1),
+                    EventCategory.values()[i % EventCategory.values().length], 0.0, 0.0, EventStatus.open});
+        }
+        return rows;
+    }
+}
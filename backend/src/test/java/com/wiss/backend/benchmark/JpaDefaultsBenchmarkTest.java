@@ -0,0 +1,26 @@
+package com.wiss.backend.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * <h2>
+ *     JPA-Workload mit den Standardeinstellungen
+ * </h2>
+ * <p>
+ *     Referenzmessung ohne Produktionsprofil: kein JDBC-Batching,
+ *     kein Batch-Fetching und Standardgrössen für den Query Plan Cache.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see JpaProdTuningBenchmarkTest
+ */
+@ActiveProfiles("test")
+class JpaDefaultsBenchmarkTest extends AbstractJpaWorkloadBenchmark {
+
+    @Override
+    String configurationName() {
+        return "defaults";
+    }
+}
@@ -0,0 +1,27 @@
+package com.wiss.backend.benchmark;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * <h2>
+ *     JPA-Workload mit dem Produktionsprofil
+ * </h2>
+ * <p>
+ *     Aktiviert zusätzlich das Profil {@code prod}. Da {@code test} zuletzt geladen wird,
+ *     bleibt die H2-Datenbank aktiv, während Batching-, Pool- und Cache-Einstellungen
+ *     aus {@code application-prod.properties} übernommen werden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see JpaDefaultsBenchmarkTest
+ */
+@ActiveProfiles({"prod", "test"})
+class JpaProdTuningBenchmarkTest extends AbstractJpaWorkloadBenchmark {
+
+    @Override
+    String configurationName() {
+        return "prod";
+    }
+}
@@ -0,0 +1,141 @@
+package com.wiss.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.wiss.backend.dto.EventColumnsDTO;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>
+ *     Benchmark für die JSON-Serialisierung grosser Event-Listen
+ * </h2>
+ * <p>
+ *     Vergleicht die Standard-Serialisierung von Jackson mit der Konfiguration aus
+ *     {@link com.wiss.backend.config.JacksonConfig} (Blackbird) für
+ *     {@link EventDTO}- und {@link EventFormDTO}-Listen sowie die spaltenorientierte
+ *     Darstellung {@link EventColumnsDTO} (JSON und CBOR). Gemessen werden:
+ * </p>
+ * <ul>
+ *     <li>Serialisierungszeit (Median über mehrere Runden nach einer Aufwärmphase)</li>
+ *     <li>Bytes auf der Leitung unkomprimiert und mit gzip (wie {@code server.compression})</li>
+ * </ul>
+ *
+ * <p>
+ *     Ausführung: {@code ./mvnw test -Pbenchmark}
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.config.JacksonConfig
+ */
+@Tag("benchmark")
+public class JsonSerializationBenchmarkTest {
+
+    private static final int EVENT_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 30;
+
+    @Test
+    public void compareSerializers() throws IOException {
+        ObjectMapper defaults = baseMapper();
+        ObjectMapper tuned = baseMapper().registerModule(new BlackbirdModule());
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory()).registerModule(new BlackbirdModule());
+
+        List<EventDTO> events = createEvents();
+        List<EventFormDTO> formEvents = createFormEvents();
+
+        System.out.println("=== JSON-Serialisierung (" + EVENT_COUNT + " Events) ===");
+        System.out.println(measure("EventDTO     default  ", defaults, events));
+        System.out.println(measure("EventDTO     blackbird", tuned, events));
+        System.out.println(measure("EventFormDTO default  ", defaults, formEvents));
+        System.out.println(measure("EventFormDTO blackbird", tuned, formEvents));
+        System.out.println(measure("Columns      json     ", tuned, createColumns()));
+        System.out.println(measure("Columns      cbor     ", cbor, createColumns()));
+
+        assertThat(tuned.writeValueAsString(events)).isEqualTo(defaults.writeValueAsString(events));
+        assertThat(tuned.writeValueAsString(formEvents)).isEqualTo(defaults.writeValueAsString(formEvents));
+    }
+
+    private ObjectMapper baseMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private String measure(String label, ObjectMapper mapper, Object payload) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+
+        long[] nanos = new long[MEASURED_ROUNDS];
+        byte[] json = null;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            json = mapper.writeValueAsBytes(payload);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        return String.format("%s median=%6.2f ms bytes=%8d gzip=%7d",
+                label, nanos[MEASURED_ROUNDS / 2] / 1_000_000.0, json.length, gzip(json).length);
+    }
+
+    private byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private List<EventDTO> createEvents() {
+        List<EventDTO> events = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(new EventDTO((long) i, "Benchmark Event " + i,
+                    LocalDate.of(2024, 1, 1).plusDays(i % 366),
+                    EventCategory.values()[i % EventCategory.values().length],
+                    (i % 360) - 180.0 + 0.123456, (i % 180) - 90.0 + 0.654321,
+                    i % 3 == 0 ? EventStatus.closed : EventStatus.open));
+        }
+        return events;
+    }
+
+    private EventColumnsDTO createColumns() {
+        List<Object[]> rows = new ArrayList<>(EVENT_COUNT);
+        for (EventDTO dto : createEvents()) {
+            rows.add(new Object[]{dto.getId(), dto.getTitle(), dto.getDate(), dto.getCategory(),
+                    dto.getLongitude(), dto.getLatitude(), dto.getStatus()});
+        }
+        return EventMapper.toColumns(rows, false);
+    }
+
+    private List<EventFormDTO> createFormEvents() {
+        List<EventFormDTO> events = new ArrayList<>(EVENT_COUNT);
+        for (EventDTO dto : createEvents()) {
+            events.add(new EventFormDTO(dto.getId(), dto.getTitle(), dto.getDate(), dto.getCategory(),
+                    dto.getLongitude(), dto.getLatitude(), dto.getStatus(),
+                    "admin" + (dto.getId() % 20), dto.getId() % 20));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,141 @@
+package com.wiss.backend.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link CacheInvalidationBroadcaster}
+ * </h2>
+ *
+ * <p>
+ *     Zwei Broadcaster teilen sich einen {@link InMemoryClusterTransport} und stehen
+ *     für zwei Knoten mit je einem eigenen Cache.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Eine Invalidierung entfernt den Schlüssel lokal und auf dem anderen Knoten</li>
+ *     <li>{@code invalidateOthers} lässt den lokalen Eintrag stehen</li>
+ *     <li>Eine Lücke im Transport leert alle Caches</li>
+ *     <li>Die Textform übersteht Trennzeichen im Schlüssel</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see CacheInvalidationBroadcaster
+ * @see InMemoryClusterTransport
+ */
+public class CacheInvalidationBroadcasterTest {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    private CacheInvalidationBroadcaster nodeA;
+    private CacheInvalidationBroadcaster nodeB;
+    private Cache cacheA;
+    private Cache cacheB;
+
+    @BeforeEach
+    public void setUp() {
+        InMemoryClusterTransport transport = new InMemoryClusterTransport();
+        nodeA = new CacheInvalidationBroadcaster(transport, CHANNEL);
+        nodeB = new CacheInvalidationBroadcaster(transport, CHANNEL);
+        cacheA = register(nodeA);
+        cacheB = register(nodeB);
+        nodeA.start();
+        nodeB.start();
+
+        cacheA.put(1L, "a1");
+        cacheA.put(2L, "a2");
+        cacheB.put(1L, "b1");
+        cacheB.put(2L, "b2");
+    }
+
+    /**
+     * Testet die Invalidierung auf beiden Knoten.
+     */
+    @Test
+    public void whenInvalidate_thenEvictOnAllNodes() {
+        nodeA.invalidate("events", 1L);
+
+        assertNull(cacheA.get(1L));
+        assertNull(cacheB.get(1L));
+        assertNotNull(cacheA.get(2L));
+        assertNotNull(cacheB.get(2L));
+    }
+
+    /**
+     * Testet, dass nur die anderen Knoten benachrichtigt werden.
+     */
+    @Test
+    public void whenInvalidateOthers_thenKeepLocalEntry() {
+        nodeB.invalidateOthers("events", 2L);
+
+        assertNull(cacheA.get(2L));
+        assertNotNull(cacheB.get(2L));
+    }
+
+    /**
+     * Testet das Leeren des ganzen Caches und unbekannte Caches.
+     */
+    @Test
+    public void whenInvalidateWholeCache_thenClearOnAllNodes() {
+        nodeA.invalidate("unknown", 1L);
+        nodeA.invalidate("events", null);
+
+        assertNull(cacheA.get(2L));
+        assertNull(cacheB.get(1L));
+    }
+
+    /**
+     * Testet, dass eine gemeldete Lücke alle angemeldeten Caches leert.
+     */
+    @Test
+    public void whenTransportReportsGap_thenClearAllCaches() {
+        AtomicReference<Runnable> gap = new AtomicReference<>();
+        CacheInvalidationBroadcaster node = new CacheInvalidationBroadcaster(new InMemoryClusterTransport() {
+            @Override
+            public void subscribe(String channel, Consumer<String> receiver, Runnable onGap) {
+                gap.set(onGap);
+            }
+        }, CHANNEL);
+        Cache cache = register(node);
+        cache.put(1L, "x");
+        node.start();
+
+        gap.get().run();
+
+        assertNull(cache.get(1L));
+    }
+
+    /**
+     * Testet die Textform mit Trennzeichen im Schlüssel und leerem Schlüssel.
+     */
+    @Test
+    public void whenPayloadRoundTrip_thenSameInvalidation() {
+        CacheInvalidation withKey = new CacheInvalidation("node", "users", "a|b");
+        CacheInvalidation wholeCache = new CacheInvalidation("node", "users", null);
+
+        assertEquals(withKey, CacheInvalidation.fromPayload(withKey.toPayload()));
+        assertEquals(wholeCache, CacheInvalidation.fromPayload(wholeCache.toPayload()));
+    }
+
+    private static Cache register(CacheInvalidationBroadcaster broadcaster) {
+        Cache cache = new ConcurrentMapCache("events");
+        broadcaster.register("events", CacheInvalidationBroadcaster.Target.of(
+                key -> cache.evict(Long.valueOf(key)), cache::clear));
+        return cache;
+    }
+}
@@ -0,0 +1,269 @@
+package com.wiss.backend.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventStreamDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventResync;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.outbox.EventOutboxConsumer;
+import com.wiss.backend.service.EventStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * <h2>
+ *     Unit-Tests für das {@link ChangeRelay}
+ * </h2>
+ *
+ * <p>
+ *     Zwei Relays teilen sich einen {@link InMemoryClusterTransport} und stehen für zwei
+ *     Knoten mit je einem eigenen {@link EventStreamService} und
+ *     {@link ApplicationEventPublisher} für die In-Memory-Strukturen.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Eine Änderung aus dem Outbox erreicht den Stream jedes Knotens genau einmal, mit gleicher ID</li>
+ *     <li>Die In-Memory-Strukturen jedes Knotens erhalten die Änderung genau einmal als
+ *         {@link EventChangeBatch}</li>
+ *     <li>Scheitert das Senden, wirft das Relay, damit der Outbox-Stapel wiederholt wird; lokal
+ *         wird trotzdem nur einmal angewendet</li>
+ *     <li>Doppelt zugestellte Nachrichten werden verworfen, Favoriten erreichen die
+ *         In-Memory-Strukturen nicht über das Relay</li>
+ *     <li>Ein Outbox-Eintrag, der nach 65 grösseren IDs committet wird, erreicht alle Knoten</li>
+ *     <li>Liegt er ausserhalb des Fensters, wendet der abarbeitende Knoten ihn trotzdem an;
+ *         die anderen Knoten laden Clients und In-Memory-Strukturen neu, ebenso bei einer
+ *         Lücke im Transport</li>
+ *     <li>Das {@link SequenceWindow} nimmt vertauschte Nummern an, verwirft Duplikate und
+ *         meldet zu alte Nummern gesondert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see ChangeRelay
+ * @see SequenceWindow
+ */
+@DisabledInNativeImage
+public class ChangeRelayTest {
+
+    private static final String CHANNEL = "event_changes";
+    private static final int WINDOW = 4096;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<String> payloads = new ArrayList<>();
+
+    private EventStreamService streamA;
+    private EventStreamService streamB;
+    private ApplicationEventPublisher publisherA;
+    private ApplicationEventPublisher publisherB;
+    private ChangeRelay relayA;
+    private ChangeRelay relayB;
+
+    @BeforeEach
+    public void setUp() {
+        InMemoryClusterTransport transport = new InMemoryClusterTransport();
+        transport.subscribe(CHANNEL, payloads::add, () -> {});
+        streamA = mock(EventStreamService.class);
+        streamB = mock(EventStreamService.class);
+        publisherA = mock(ApplicationEventPublisher.class);
+        publisherB = mock(ApplicationEventPublisher.class);
+        relayA = relay(transport, streamA, publisherA, WINDOW);
+        relayB = relay(transport, streamB, publisherB, WINDOW);
+    }
+
+    /**
+     * Testet die Zustellung an beide Knoten.
+     */
+    @Test
+    public void whenEventChanges_thenEveryNodePublishesOnce() {
+        EventDTO event = new EventDTO(7L, "Flut", LocalDate.of(2025, 3, 1), EventCategory.floods,
+                8.5, 47.3, EventStatus.open);
+
+        relayA.accept(List.of(new EventOutboxConsumer.Message(12L, EventChange.updated(event))));
+
+        ArgumentCaptor<String> idA = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<EventStreamDTO> changeB = ArgumentCaptor.forClass(EventStreamDTO.class);
+        ArgumentCaptor<String> idB = ArgumentCaptor.forClass(String.class);
+        verify(streamA, times(1)).publish(idA.capture(), any());
+        verify(streamB, times(1)).publish(idB.capture(), changeB.capture());
+        assertEquals("outbox:12", idA.getValue());
+        assertEquals(idA.getValue(), idB.getValue());
+        assertEquals(EventStreamDTO.Type.UPDATED, changeB.getValue().getType());
+        assertEquals("Flut", changeB.getValue().getEvent().getTitle());
+    }
+
+    /**
+     * Testet, ob beide Knoten ihre In-Memory-Strukturen genau einmal aktualisieren.
+     */
+    @Test
+    public void whenEventChanges_thenEveryNodePublishesBatchOnce() {
+        EventDTO event = new EventDTO(7L, "Flut", LocalDate.of(2025, 3, 1), EventCategory.floods,
+                8.5, 47.3, EventStatus.open);
+        List<EventOutboxConsumer.Message> batch = List.of(
+                new EventOutboxConsumer.Message(12L, EventChange.updated(event)),
+                new EventOutboxConsumer.Message(13L, EventChange.deleted(8L)));
+
+        relayA.accept(batch);
+        relayA.accept(batch);
+
+        ArgumentCaptor<EventChangeBatch> localA = ArgumentCaptor.forClass(EventChangeBatch.class);
+        ArgumentCaptor<EventChangeBatch> remoteB = ArgumentCaptor.forClass(EventChangeBatch.class);
+        verify(publisherA, times(1)).publishEvent(localA.capture());
+        verify(publisherB, times(2)).publishEvent(remoteB.capture());
+        assertEquals(2, localA.getValue().changes().size());
+        assertEquals(EventChange.Type.UPDATED, remoteB.getAllValues().get(0).changes().get(0).type());
+        assertEquals(8L, remoteB.getAllValues().get(1).changes().get(0).eventId());
+    }
+
+    /**
+     * Testet den Fehler beim Senden und die erneute Zustellung des Stapels.
+     */
+    @Test
+    public void whenSendFails_thenThrowAndPublishLocallyOnce() {
+        ChangeRelay relay = new ChangeRelay(new InMemoryClusterTransport() {
+            @Override
+            public boolean send(String channel, String payload) {
+                return false;
+            }
+        }, streamA, objectMapper, publisherA, CHANNEL, WINDOW);
+        List<EventOutboxConsumer.Message> batch = List.of(new EventOutboxConsumer.Message(3L, EventChange.deleted(7L)));
+
+        assertThrows(IllegalStateException.class, () -> relay.accept(batch));
+        assertThrows(IllegalStateException.class, () -> relay.accept(batch));
+
+        verify(streamA, times(1)).publish(anyString(), any());
+        verify(publisherA, times(1)).publishEvent(any(EventChangeBatch.class));
+    }
+
+    /**
+     * Testet das Verwerfen doppelt zugestellter Nachrichten.
+     */
+    @Test
+    public void whenMessageDeliveredTwice_thenPublishOnce() {
+        relayA.onFavoriteChange(new FavoriteChange(1L, 7L, true, 3));
+        String payload = payloads.get(0);
+
+        relayB.receive(payload);
+        relayB.receive(payload);
+
+        verify(streamB, times(1)).publish(anyString(), any());
+        verify(publisherB, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Testet einen Outbox-Eintrag, dessen Commit 65 grössere IDs überholt haben.
+     */
+    @Test
+    public void whenOutboxIdCommitsAfterLaterIds_thenApplyOnEveryNode() {
+        relayA.accept(deletions(101, 165));
+        relayA.accept(deletions(100, 100));
+
+        verify(streamA, times(66)).publish(anyString(), any());
+        verify(streamB, times(66)).publish(anyString(), any());
+        verify(publisherA, times(2)).publishEvent(any(EventChangeBatch.class));
+        verify(publisherB, times(66)).publishEvent(any(EventChangeBatch.class));
+        verify(streamB, never()).resync();
+    }
+
+    /**
+     * Testet einen Outbox-Eintrag, der ausserhalb des Fensters eintrifft.
+     */
+    @Test
+    public void whenOutboxIdOutsideWindow_thenApplyLocallyAndResyncOthers() {
+        InMemoryClusterTransport transport = new InMemoryClusterTransport();
+        ChangeRelay relay = relay(transport, streamA, publisherA, 64);
+        ChangeRelay other = relay(transport, streamB, publisherB, 64);
+
+        relay.accept(deletions(100, 165));
+        relay.accept(deletions(1, 1));
+        relay.accept(deletions(165, 165));
+
+        ArgumentCaptor<EventChangeBatch> local = ArgumentCaptor.forClass(EventChangeBatch.class);
+        verify(publisherA, times(2)).publishEvent(local.capture());
+        assertEquals(1L, local.getAllValues().get(1).changes().get(0).eventId());
+        verify(streamA, times(67)).publish(anyString(), any());
+        verify(streamA, never()).resync();
+        verify(streamB, times(1)).resync();
+        verify(publisherB, times(1)).publishEvent(any(EventResync.class));
+        verify(publisherB, times(66)).publishEvent(any(EventChangeBatch.class));
+    }
+
+    /**
+     * Testet, dass eine Lücke im Transport auch die In-Memory-Strukturen neu laden lässt.
+     */
+    @Test
+    public void whenTransportReportsGap_thenResyncClientsAndStores() {
+        AtomicReference<Runnable> gap = new AtomicReference<>();
+        relay(new InMemoryClusterTransport() {
+            @Override
+            public void subscribe(String channel, Consumer<String> receiver, Runnable onGap) {
+                gap.set(onGap);
+            }
+        }, streamA, publisherA, WINDOW);
+
+        gap.get().run();
+
+        verify(streamA).resync();
+        verify(publisherA).publishEvent(any(EventResync.class));
+    }
+
+    /**
+     * Testet das gleitende Fenster der Sequenznummern.
+     */
+    @Test
+    public void whenSequencesReordered_thenAcceptEachOnce() {
+        SequenceWindow window = new SequenceWindow(64);
+
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(2));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(1));
+        assertEquals(SequenceWindow.Result.DUPLICATE, window.accept(2));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(100));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(99));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(100 - 63));
+        assertEquals(SequenceWindow.Result.DUPLICATE, window.accept(100 - 63));
+        assertEquals(SequenceWindow.Result.OUT_OF_WINDOW, window.accept(100 - 64));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(164));
+        assertEquals(SequenceWindow.Result.ACCEPTED, window.accept(101));
+        assertEquals(SequenceWindow.Result.OUT_OF_WINDOW, window.accept(100));
+    }
+
+    private ChangeRelay relay(InMemoryClusterTransport transport, EventStreamService stream,
+                              ApplicationEventPublisher publisher, int windowSize) {
+        ChangeRelay relay = new ChangeRelay(transport, stream, objectMapper, publisher, CHANNEL, windowSize);
+        relay.start();
+        return relay;
+    }
+
+    private static List<EventOutboxConsumer.Message> deletions(long firstId, long lastId) {
+        List<EventOutboxConsumer.Message> batch = new ArrayList<>();
+        for (long id = firstId; id <= lastId; id++) {
+            batch.add(new EventOutboxConsumer.Message(id, EventChange.deleted(id)));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.dto.ErrorResponseDTO;
+import com.wiss.backend.entity.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Unit-Tests für die {@link NativeRuntimeHints}
+ * </h2>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Entities und DTOs sind für Reflection registriert</li>
+ *     <li>JJWT-Implementierungen und ihre Service-Dateien sind verfügbar</li>
+ *     <li>Flyway-Migrationen in den Unterordnern pro Datenbank sind enthalten</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see NativeRuntimeHints
+ */
+public class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    /**
+     * Testet die Reflection-Hinweise für Entities, DTOs und JJWT.
+     */
+    @Test
+    public void whenRegistered_thenReflectionHintsPresent() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Event.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ErrorResponseDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    /**
+     * Testet die Ressourcen-Hinweise für JJWT-Services und Flyway-Migrationen.
+     */
+    @Test
+    public void whenRegistered_thenResourceHintsPresent() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/postgresql/V1__create_schema.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/h2/V1__create_schema.sql").test(hints));
+    }
+}
@@ -0,0 +1,110 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.dto.EventColumnsDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * <h2>
+ *     Tests für die spaltenorientierte Ausgabe der Event-Listen
+ * </h2>
+ *
+ * <p>
+ *     Prüft die Content Negotiation auf {@code /api/events} und {@code /api/events/all}:
+ *     Bestehende Clients erhalten weiterhin JSON-Objektlisten, Clients mit passendem
+ *     {@code Accept}-Header die kompakte Darstellung aus {@link EventColumnsDTO}.
+ * </p>
+ *
+ * <h3>Geprüfte Szenarien:</h3>
+ * <ul>
+ *     <li>Accept wie im Frontend (axios) → JSON-Array</li>
+ *     <li>Accept {@value EventColumnsDTO#MEDIA_TYPE} → parallele Arrays</li>
+ *     <li>Accept {@value EventColumnsDTO#CBOR_MEDIA_TYPE} → binäre Antwort</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventController#getAllEventsAsColumns()
+ * @see EventController#getAllFormEventsAsColumns()
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class EventColumnsNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        eventRepository.save(new Event("Waldbrand Kalifornien", LocalDate.of(2022, 8, 20),
+                EventCategory.wildfires, -119.4179, 36.7783, EventStatus.open, null));
+        eventRepository.save(new Event("Flut in Jakarta", LocalDate.of(2023, 1, 5),
+                EventCategory.floods, 106.8456, -6.2088, EventStatus.closed, null));
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = {"USER"})
+    void getAllEvents_withDefaultAccept_shouldReturnJsonArray() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.ACCEPT, "application/json, text/plain, */*"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].title").value("Waldbrand Kalifornien"));
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = {"USER"})
+    void getAllEvents_withColumnarAccept_shouldReturnParallelArrays() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.ACCEPT, EventColumnsDTO.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EventColumnsDTO.MEDIA_TYPE))
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.titles[1]").value("Flut in Jakarta"))
+                .andExpect(jsonPath("$.dates[0]").value(LocalDate.of(2022, 8, 20).toEpochDay()))
+                .andExpect(jsonPath("$.categories[1]").value(EventCategory.floods.ordinal()))
+                .andExpect(jsonPath("$.statuses[1]").value(EventStatus.closed.ordinal()))
+                .andExpect(jsonPath("$.creatorIds").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = {"USER"})
+    void getAllFormEvents_withColumnarAccept_shouldIncludeCreatorColumns() throws Exception {
+        mockMvc.perform(get("/api/events/all")
+                        .header(HttpHeaders.ACCEPT, EventColumnsDTO.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creatorIds[0]").value(0))
+                .andExpect(jsonPath("$.creatorUsernames").isArray());
+    }
+
+    @Test
+    @WithMockUser(username = "user1", roles = {"USER"})
+    void getAllEvents_withCborAccept_shouldReturnCbor() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .header(HttpHeaders.ACCEPT, EventColumnsDTO.CBOR_MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(EventColumnsDTO.CBOR_MEDIA_TYPE));
+    }
+}
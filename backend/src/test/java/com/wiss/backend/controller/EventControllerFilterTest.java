@@ -0,0 +1,122 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * <h2>
+ *     Tests für {@code GET /api/events/filter} im {@link EventController}
+ * </h2>
+ *
+ * <p>
+ *     Läuft mit MockMvc gegen die H2-Datenbank des Testprofils mit drei Events.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Eine einzelne Kategorie oder ein einzelner Status schränkt ein</li>
+ *     <li>Ein Startdatum ohne Enddatum lässt den Zeitraum nach oben offen</li>
+ *     <li>Mehrere Werte pro Feld werden ODER-verknüpft</li>
+ *     <li>Ohne Kriterien werden alle Events geliefert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventController
+ * @see com.wiss.backend.service.EventService
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "user", roles = {"USER"})
+@DisabledInNativeImage
+public class EventControllerFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.saveAll(List.of(
+                new Event("Waldbrand Kalifornien", LocalDate.of(2022, 8, 20), EventCategory.wildfires,
+                        -119.4179, 36.7783, EventStatus.open, null),
+                new Event("Flut Jakarta", LocalDate.of(2023, 1, 5), EventCategory.floods,
+                        106.8, -6.2, EventStatus.closed, null),
+                new Event("Vulkanausbruch Island", LocalDate.of(2023, 7, 1), EventCategory.volcanoes,
+                        -19.0, 64.9, EventStatus.open, null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Testet, ob eine einzelne Kategorie bzw. ein einzelner Status allein filtert.
+     */
+    @Test
+    public void whenSingleCategoryOrStatus_thenReturnOnlyMatches() throws Exception {
+        mockMvc.perform(get("/api/events/filter").param("category", "wildfires"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Waldbrand Kalifornien"));
+
+        mockMvc.perform(get("/api/events/filter").param("status", "closed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Flut Jakarta"));
+    }
+
+    /**
+     * Testet, ob ein Startdatum ohne Enddatum alle späteren Events liefert.
+     */
+    @Test
+    public void whenStartWithoutEnd_thenOpenRangeAbove() throws Exception {
+        mockMvc.perform(get("/api/events/filter").param("start", "2023-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Flut Jakarta", "Vulkanausbruch Island")));
+    }
+
+    /**
+     * Testet die ODER-Verknüpfung mehrerer Werte und die Abfrage ohne Kriterien.
+     */
+    @Test
+    public void whenMultipleValuesOrNoCriteria_thenUnionOrAll() throws Exception {
+        mockMvc.perform(get("/api/events/filter")
+                        .param("category", "wildfires", "volcanoes")
+                        .param("status", "open"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].title", containsInAnyOrder("Waldbrand Kalifornien", "Vulkanausbruch Island")));
+
+        mockMvc.perform(get("/api/events/filter"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+}
@@ -84,7 +84,6 @@ public class EventControllerSecurityTest {
         eventRepository.deleteAll();
 
         Event testEvent = new Event(
-                1L,
                 "Waldbrand Kalifornien",
                 LocalDate.of(2022, 8, 20),
                 EventCategory.wildfires,
@@ -4,11 +4,13 @@ import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
 import com.wiss.backend.service.EventService;
+import com.wiss.backend.service.EventStreamService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
@@ -47,6 +49,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @see EventService
  */
 @WebMvcTest(EventController.class)
+@DisabledInAotMode
 public class EventControllerTest {
 
     @Autowired
@@ -55,6 +58,9 @@ public class EventControllerTest {
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventStreamService eventStreamService;
+
     /**
      * Testet den Endpunkt {@code GET /api/events}, der alle Events als JSON zurückgeben soll.
      * <p>
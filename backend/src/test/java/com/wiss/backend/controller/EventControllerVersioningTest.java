@@ -0,0 +1,195 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * <h2>
+ *     Tests für Versionen und {@code ETag} im {@link EventController}
+ * </h2>
+ *
+ * <p>
+ *     Läuft mit MockMvc gegen die H2-Datenbank des Testprofils. Ein neu gespeichertes Event
+ *     hat Version 0; jede Änderung erhöht sie um eins.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>{@code GET}, {@code PUT} und {@code PATCH} liefern die Version als {@code ETag}</li>
+ *     <li>Eine veraltete Version in {@code If-Match} ergibt 412 mit dem aktuellen {@code ETag}</li>
+ *     <li>Ein schwacher {@code ETag} passt nie (RFC 9110) und ergibt ebenfalls 412, nicht 400</li>
+ *     <li>Ein syntaktisch ungültiger Header ergibt 400</li>
+ *     <li>Eine verlorene optimistische Sperre ergibt 409</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventController
+ * @see com.wiss.backend.exception.GlobalExceptionHandler
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+@DisabledInNativeImage
+public class EventControllerVersioningTest {
+
+    private static final String EVENT_JSON = """
+            {
+                "title": "Waldbrand Nordkalifornien",
+                "date": "2022-08-20",
+                "category": "wildfires",
+                "longitude": -119.4179,
+                "latitude": 36.7783,
+                "status": "closed"
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @SpyBean
+    private EventService eventService;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        id = eventRepository.save(new Event("Waldbrand Kalifornien", LocalDate.of(2022, 8, 20),
+                EventCategory.wildfires, -119.4179, 36.7783, EventStatus.open, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Testet, ob Lesen und Ändern die jeweils aktuelle Version als ETag liefern.
+     */
+    @Test
+    void whenReadAndWriteWithCurrentVersion_thenReturnNewETag() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(patch("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(EventController.MERGE_PATCH_MEDIA_TYPE)
+                        .content("{\"status\": \"open\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.status").value("open"));
+    }
+
+    /**
+     * Testet, ob eine veraltete Version abgelehnt und die aktuelle mitgeliefert wird.
+     */
+    @Test
+    void whenIfMatchIsStale_thenReturn412WithCurrentETag() throws Exception {
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(EventController.MERGE_PATCH_MEDIA_TYPE)
+                        .content("{\"status\": \"open\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.error").value("PRECONDITION_FAILED"));
+    }
+
+    /**
+     * Testet, ob schwache und fremde ETags wie eine veraltete Version behandelt werden.
+     */
+    @Test
+    void whenIfMatchIsWeakOrForeign_thenReturn412() throws Exception {
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\", \"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Testet, ob ein Header ohne Anführungszeichen als ungültig abgelehnt wird.
+     */
+    @Test
+    void whenIfMatchIsMalformed_thenReturn400() throws Exception {
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Testet, ob eine verlorene optimistische Sperre als 409 gemeldet wird.
+     */
+    @Test
+    void whenConcurrentUpdateWins_thenReturn409() throws Exception {
+        doThrow(new OptimisticLockingFailureException("Version geändert"))
+                .when(eventService).updateEvent(eq(id), any(), eq(0L));
+
+        mockMvc.perform(put("/api/events/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EVENT_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("CONFLICT"));
+    }
+}
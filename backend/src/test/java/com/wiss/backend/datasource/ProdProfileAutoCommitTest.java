@@ -0,0 +1,77 @@
+package com.wiss.backend.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Schreibzugriffe ohne Transaktion im Produktionsprofil
+ * </h2>
+ *
+ * <p>
+ *     Aktiviert zusätzlich das Profil {@code prod}, damit die Pool-Einstellungen aus
+ *     {@code application-prod.properties} gelten; {@code test} hält die H2-Datenbank aktiv.
+ *     Schaltet das Profil Auto-Commit aus, rollt der Pool solche Schreibzugriffe beim
+ *     Zurückgeben der Connection zurück – dieser Test fällt dann sofort auf.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>{@code JdbcTemplate} ausserhalb einer Spring-Transaktion schreibt dauerhaft</li>
+ *     <li>Eine direkt von der {@link DataSource} geholte Connection ebenso</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see DataSourceRoutingConfig
+ */
+@SpringBootTest(properties = "cluster.transport=local")
+@ActiveProfiles({"prod", "test"})
+@DisabledInNativeImage
+public class ProdProfileAutoCommitTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.execute("CREATE TABLE autocommit_probe (id INT)");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE autocommit_probe");
+    }
+
+    /**
+     * Testet, ob ein Schreibzugriff ohne Transaktion nach dem Zurückgeben der Connection bleibt.
+     */
+    @Test
+    public void whenWritingWithoutTransaction_thenChangeIsKept() throws Exception {
+        jdbcTemplate.update("INSERT INTO autocommit_probe VALUES (1)");
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO autocommit_probe VALUES (2)")) {
+            statement.executeUpdate();
+        }
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM autocommit_probe", Integer.class));
+    }
+}
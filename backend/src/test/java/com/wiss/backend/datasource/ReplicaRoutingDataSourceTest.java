@@ -0,0 +1,133 @@
+package com.wiss.backend.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Tests für die {@link ReplicaRoutingDataSource} mit zwei H2-Datenbanken
+ * </h2>
+ *
+ * <p>
+ *     Primary und Replikat sind getrennte In-Memory-Datenbanken, die sich in der Tabelle
+ *     {@code node} unterscheiden. Der Rückstand des Replikats wird über die Tabelle
+ *     {@code replica_status} simuliert und vom {@link ReplicaLagMonitor} gelesen.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Read-only-Transaktionen lesen vom Replikat, andere vom Primary</li>
+ *     <li>Ein Replikat mit zu grossem Rückstand wird übergangen</li>
+ *     <li>Ein nicht erreichbares Replikat führt zum Rückfall auf den Primary</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see ReplicaRoutingDataSource
+ * @see ReplicaLagMonitor
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "SELECT name FROM node";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (lag_ms BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), 500);
+        monitor = new ReplicaLagMonitor(routing, "SELECT lag_ms FROM replica_status", 1000);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        monitor.shutdown();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    /**
+     * Testet die Verteilung nach Art der Transaktion.
+     */
+    @Test
+    public void whenReplicaInSync_thenReadOnlyUsesReplica() {
+        monitor.check();
+
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+        assertEquals("primary", currentNode());
+        assertEquals(1, routing.availableReplicas());
+    }
+
+    /**
+     * Testet den Rückfall bei zu grossem Rückstand und die Rückkehr danach.
+     */
+    @Test
+    public void whenReplicaLags_thenReadOnlyFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag_ms = 5000");
+        monitor.check();
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag_ms = 100");
+        monitor.check();
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    /**
+     * Testet, dass ein Replikat vor der ersten Messung und ohne Antwort nicht verwendet wird.
+     */
+    @Test
+    public void whenReplicaUnreachable_thenReadOnlyFallsBackToPrimary() {
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        new JdbcTemplate(replica).execute("DROP TABLE replica_status");
+        monitor.check();
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+        assertEquals(0, routing.availableReplicas());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject(NODE_QUERY, String.class);
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
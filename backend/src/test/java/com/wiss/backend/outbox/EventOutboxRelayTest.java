@@ -0,0 +1,188 @@
+package com.wiss.backend.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventOutboxRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Integrationstests für {@link EventOutbox} und {@link EventOutboxRelay}
+ * </h2>
+ *
+ * <p>
+ *     Läuft gegen H2 mit dem Schema aus den Flyway-Migrationen. Die Tests selbst laufen
+ *     ohne Transaktion, damit Outbox und Relay wie im Betrieb eigene Transaktionen
+ *     committen.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Committete Änderungen kommen in Reihenfolge und in Stapeln an und werden gelöscht</li>
+ *     <li>Zurückgerollte Änderungen werden nie zugestellt</li>
+ *     <li>Wirft ein Abnehmer, wird derselbe Stapel erneut zugestellt</li>
+ *     <li>Hält ein anderer Knoten die Sperre, wird nichts zugestellt</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventOutboxRelay
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EventOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private EventOutboxRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<List<EventOutboxConsumer.Message>> delivered = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private EventOutbox outbox;
+    private RuntimeException failure;
+    private EventOutboxRelay relay;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        outbox = new EventOutbox(jdbcTemplate, entityManager, new ObjectMapper().findAndRegisterModules());
+        EventOutboxConsumer consumer = batch -> {
+            delivered.add(batch);
+            if (failure != null) {
+                RuntimeException thrown = failure;
+                failure = null;
+                throw thrown;
+            }
+        };
+        relay = new EventOutboxRelay(repository, outbox, List.of(consumer), transactionManager, BATCH_SIZE, 60_000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        relay.shutdown();
+        repository.deleteAllInBatch();
+    }
+
+    /**
+     * Testet Reihenfolge, Stapelgrösse und Löschen nach der Zustellung.
+     */
+    @Test
+    public void whenChangesCommitted_thenDeliverInOrderAndDelete() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(EventChange.created(event(1L, "Flut")));
+            outbox.appendAll(List.of(EventChange.updated(event(1L, "Flut Zürich")), EventChange.deleted(2L)));
+        });
+
+        relay.drain();
+
+        assertEquals(List.of(2, 1), delivered.stream().map(List::size).toList());
+        List<EventOutboxConsumer.Message> all = delivered.stream().flatMap(List::stream).toList();
+        assertTrue(all.get(0).id() < all.get(1).id() && all.get(1).id() < all.get(2).id());
+        assertEquals(EventChange.Type.CREATED, all.get(0).change().type());
+        assertEquals("Flut Zürich", all.get(1).change().event().getTitle());
+        assertEquals(EventChange.deleted(2L), all.get(2).change());
+        assertEquals(0, repository.count());
+    }
+
+    /**
+     * Testet, dass eine zurückgerollte Änderung nicht zugestellt wird.
+     */
+    @Test
+    public void whenTransactionRolledBack_thenDeliverNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(EventChange.deleted(3L));
+            status.setRollbackOnly();
+        });
+
+        relay.drain();
+
+        assertTrue(delivered.isEmpty());
+    }
+
+    /**
+     * Testet die erneute Zustellung nach einem Fehler des Abnehmers.
+     */
+    @Test
+    public void whenConsumerFails_thenRedeliverSameBatch() {
+        transactionTemplate.executeWithoutResult(status -> outbox.append(EventChange.deleted(4L)));
+        failure = new IllegalStateException("Transport nicht erreichbar");
+
+        relay.drain();
+        assertEquals(1, repository.count());
+        relay.drain();
+
+        assertEquals(2, delivered.size());
+        assertEquals(delivered.get(0), delivered.get(1));
+        assertEquals(0, repository.count());
+    }
+
+    /**
+     * Testet, dass nur der Knoten mit der Sperre zustellt.
+     */
+    @Test
+    public void whenAnotherNodeHoldsLock_thenSkipRound() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> outbox.append(EventChange.deleted(5L)));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread otherNode = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            repository.lockRelay();
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        otherNode.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        int count = relay.drainBatch();
+        release.countDown();
+        otherNode.join();
+
+        assertEquals(0, count);
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, relay.drainBatch());
+    }
+
+    private static EventDTO event(Long id, String title) {
+        return new EventDTO(id, title, LocalDate.of(2025, 3, 1), EventCategory.floods, 8.5, 47.3, EventStatus.open);
+    }
+}
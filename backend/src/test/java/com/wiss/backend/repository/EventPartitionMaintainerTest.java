@@ -0,0 +1,149 @@
+package com.wiss.backend.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Tests für den {@link EventPartitionMaintainer}
+ * </h2>
+ *
+ * <p>
+ *     Läuft gegen eine eigene H2-Datenbank mit einem Hikari-Pool ohne Auto-Commit, damit
+ *     ein fehlender Commit auffällt. Die beiden PostgreSQL-Funktionen sind durch Java-Aliase ersetzt, die
+ *     ihren Aufruf in der Tabelle {@code partition_calls} protokollieren. Nur committete
+ *     Aufrufe bleiben dort stehen.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Partitionen werden ab dem aktuellen Monat im Voraus angelegt und committet</li>
+ *     <li>Alte Partitionen werden nur mit gesetztem Tablespace verschoben</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventPartitionMaintainer
+ */
+@DisabledInNativeImage
+public class EventPartitionMaintainerTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:partitions;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setAutoCommit(false);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute(
+                    "CREATE TABLE partition_calls (name VARCHAR(20), start_month DATE, argument VARCHAR(20))");
+            connection.createStatement().execute("CREATE ALIAS create_event_partitions FOR \""
+                    + EventPartitionMaintainerTest.class.getName() + ".createPartitions\"");
+            connection.createStatement().execute("CREATE ALIAS archive_event_partitions FOR \""
+                    + EventPartitionMaintainerTest.class.getName() + ".archivePartitions\"");
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    /**
+     * Ohne Tablespace werden nur neue Partitionen angelegt.
+     */
+    @Test
+    public void whenNoTablespace_thenOnlyCreatePartitions() {
+        EventPartitionMaintainer maintainer = maintainer("");
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+
+        maintainer.maintain();
+
+        List<Map<String, Object>> calls = committedCalls();
+        assertEquals(1, calls.size());
+        assertEquals("create", calls.get(0).get("NAME"));
+        assertEquals(Date.valueOf(month), calls.get(0).get("START_MONTH"));
+        assertEquals("3", calls.get(0).get("ARGUMENT"));
+        maintainer.shutdown();
+    }
+
+    /**
+     * Mit Tablespace werden Partitionen älter als die Archivgrenze verschoben.
+     */
+    @Test
+    public void whenTablespaceSet_thenArchiveOldPartitions() {
+        EventPartitionMaintainer maintainer = maintainer("archive");
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+
+        maintainer.maintain();
+
+        List<Map<String, Object>> calls = committedCalls();
+        assertEquals(2, calls.size());
+        assertEquals("create", calls.get(0).get("NAME"));
+        assertEquals("archive", calls.get(1).get("NAME"));
+        assertEquals(Date.valueOf(month.minusMonths(12)), calls.get(1).get("START_MONTH"));
+        assertEquals("archive", calls.get(1).get("ARGUMENT"));
+        maintainer.shutdown();
+    }
+
+    /**
+     * Ersatz für {@code create_event_partitions(date, int)}.
+     */
+    public static int createPartitions(Connection connection, Date month, int monthsAhead) throws SQLException {
+        record(connection, "create", month, String.valueOf(monthsAhead));
+        return monthsAhead;
+    }
+
+    /**
+     * Ersatz für {@code archive_event_partitions(date, text)}.
+     */
+    public static int archivePartitions(Connection connection, Date before, String tablespace) throws SQLException {
+        record(connection, "archive", before, tablespace);
+        return 1;
+    }
+
+    private static void record(Connection connection, String name, Date month, String argument) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO partition_calls VALUES (?, ?, ?)")) {
+            statement.setString(1, name);
+            statement.setDate(2, month);
+            statement.setString(3, argument);
+            statement.executeUpdate();
+        }
+    }
+
+    private EventPartitionMaintainer maintainer(String tablespace) {
+        return new EventPartitionMaintainer(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                3, 12, tablespace, 1000);
+    }
+
+    private List<Map<String, Object>> committedCalls() {
+        return jdbcTemplate.queryForList("SELECT name, start_month, argument FROM partition_calls ORDER BY name DESC");
+    }
+}
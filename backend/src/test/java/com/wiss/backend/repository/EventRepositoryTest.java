@@ -3,6 +3,7 @@ package com.wiss.backend.repository;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -10,9 +11,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 /**
  * <h2>
@@ -123,4 +126,84 @@ public class EventRepositoryTest {
         assertThat(result.get(0).getCategory()).isEqualTo(EventCategory.wildfires);
         assertThat(result.get(1).getCategory()).isEqualTo(EventCategory.wildfires);
     }
-}
\ No newline at end of file
+
+    /**
+     * Testet {@code updateStatusByIdIn()} und {@code deleteByIdIn()} mit je einer Anweisung.
+     * <p>
+     *     Erwartung: Nur die angegebenen Events werden geändert bzw. gelöscht, unbekannte IDs
+     *     zählen nicht mit.
+     * </p>
+     */
+    @Test
+    public void whenBulkUpdateAndDelete_thenOnlyListedEventsAffected() {
+        Event fire1 = entityManager.persist(new Event("Waldbrand Kalifornien", LocalDate.of(2022, 8, 20),
+                EventCategory.wildfires, 36.7783, -119.4179, EventStatus.open, null));
+        Event fire2 = entityManager.persist(new Event("Waldbrand Australien", LocalDate.of(2021, 12, 15),
+                EventCategory.wildfires, -25.2744, 133.7751, EventStatus.open, null));
+        Event quake = entityManager.persist(new Event("Erdbeben Türkei", LocalDate.of(2023, 2, 6),
+                EventCategory.earthquakes, 38.4237, 27.1428, EventStatus.open, null));
+        entityManager.flush();
+
+        int updated = eventRepository.updateStatusByIdIn(List.of(fire1.getId(), fire2.getId(), -1L), EventStatus.closed);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(eventRepository.findById(fire1.getId()).orElseThrow().getStatus()).isEqualTo(EventStatus.closed);
+        assertThat(eventRepository.findById(quake.getId()).orElseThrow().getStatus()).isEqualTo(EventStatus.open);
+
+        int deleted = eventRepository.deleteByIdIn(List.of(fire1.getId(), fire2.getId()));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(eventRepository.findExistingIds(List.of(fire1.getId(), fire2.getId(), quake.getId())))
+                .isEqualTo(List.of(quake.getId()));
+    }
+
+    /**
+     * Testet, dass ein {@code UPDATE} nur geänderte Spalten schreibt ({@code @DynamicUpdate}).
+     * <p>
+     *     Erwartung: Eine zwischen Laden und Speichern per JPQL erhöhte Favoritenanzahl bleibt
+     *     erhalten, wenn danach nur der Titel geändert wird.
+     * </p>
+     */
+    @Test
+    public void whenTitleChangedAfterConcurrentFavorite_thenKeepFavoritesCount() {
+        Event event = entityManager.persistFlushFind(new Event("Flut", LocalDate.of(2024, 3, 1),
+                EventCategory.floods, 8.5, 47.3, EventStatus.open, null));
+
+        eventRepository.incrementFavoritesCount(event.getId());
+        event.setTitle("Flut Zürich");
+        entityManager.flush();
+        entityManager.clear();
+
+        Event reloaded = entityManager.find(Event.class, event.getId());
+        assertThat(reloaded.getTitle()).isEqualTo("Flut Zürich");
+        assertThat(reloaded.getFavoritesCount()).isEqualTo(1);
+    }
+
+    /**
+     * Testet die optimistische Sperre über {@code version}.
+     * <p>
+     *     Erwartung: Jede Änderung erhöht die Version; wurde die Zeile seit dem Laden von
+     *     einer anderen Transaktion geändert, scheitert das {@code UPDATE}, statt sie zu
+     *     überschreiben.
+     * </p>
+     */
+    @Test
+    public void whenRowChangedSinceLoad_thenStaleUpdateFails() {
+        Event event = entityManager.persistFlushFind(new Event("Flut", LocalDate.of(2024, 3, 1),
+                EventCategory.floods, 8.5, 47.3, EventStatus.open, null));
+        assertThat(event.getVersion()).isEqualTo(0L);
+
+        event.setTitle("Flut Zürich");
+        entityManager.flush();
+        assertThat(event.getVersion()).isEqualTo(1L);
+
+        // Änderung durch eine andere Transaktion, z. B. eine Statusänderung mehrerer Events
+        eventRepository.updateStatusByIdIn(List.of(event.getId()), EventStatus.closed);
+        Event stale = new Event(event.getId(), "Flut Basel", event.getDate(), event.getCategory(),
+                event.getLongitude(), event.getLatitude(), EventStatus.open, null);
+        stale.setVersion(1L);
+
+        assertThatThrownBy(() -> entityManager.merge(stale)).isInstanceOf(OptimisticLockException.class);
+        assertThat(entityManager.find(Event.class, event.getId()).getVersion()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,197 @@
+package com.wiss.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link RateLimitFilter}
+ * </h2>
+ *
+ * <p>
+ *     Der Filter wird direkt mit Mock-Requests aufgerufen; die Filterkette hält fest,
+ *     welcher Body beim Controller ankommt, und antwortet beim Passwort {@code wrong} mit 401.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Fehlgeschlagene Logins eines Clients gegen ein Konto werden begrenzt, erfolgreiche
+ *         kosten nichts; der Body bleibt für den Controller lesbar</li>
+ *     <li>Fehlversuche anderer Clients blockieren den Login der Benutzer:in nicht</li>
+ *     <li>Der gepufferte Body meldet sich bei einem {@link ReadListener} sofort als gelesen</li>
+ *     <li>Hinter einem vertrauenswürdigen Proxy zählt die Client-IP aus {@code X-Forwarded-For}</li>
+ *     <li>Von anderen Absendern wird {@code X-Forwarded-For} ignoriert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see RateLimitFilter
+ */
+public class RateLimitFilterTest {
+
+    private static final String PROXY = "10.0.0.5";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<String> forwardedBodies = new ArrayList<>();
+
+    /**
+     * Testet, ob nur Fehlversuche zählen und der Client danach für das Konto gesperrt ist.
+     */
+    @Test
+    public void whenLoginsFailFromOneClient_thenRejectOnlyAfterFailures() throws Exception {
+        // IP-Eimer gross, Konto-Eimer 2 Fehlversuche
+        RateLimitFilter filter = filter(100, 2);
+        String body = "{\"usernameOrEmail\":\"Natascha\",\"password\":\"secret\"}";
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.OK.value(), login(filter, "198.51.100.1", body).getStatus());
+        }
+        assertEquals(body, forwardedBodies.get(0));
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), login(filter, "198.51.100.1",
+                "{\"usernameOrEmail\":\" natascha \",\"password\":\"wrong\"}").getStatus());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), login(filter, "198.51.100.1",
+                "{\"usernameOrEmail\":\"natascha\",\"password\":\"wrong\"}").getStatus());
+        MockHttpServletResponse rejected = login(filter, "198.51.100.1", body);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertEquals(5, forwardedBodies.size());
+        assertEquals(HttpStatus.OK.value(), login(filter, "198.51.100.1",
+                "{\"usernameOrEmail\":\"andere\",\"password\":\"secret\"}").getStatus());
+    }
+
+    /**
+     * Testet, ob die Fehlversuche anderer Clients den Login der Benutzer:in nicht blockieren.
+     */
+    @Test
+    public void whenOthersFailForAccount_thenLegitimateLoginSucceeds() throws Exception {
+        RateLimitFilter filter = filter(100, 2);
+        String wrong = "{\"usernameOrEmail\":\"natascha\",\"password\":\"wrong\"}";
+
+        for (int ip = 1; ip <= 5; ip++) {
+            for (int attempt = 0; attempt < 3; attempt++) {
+                login(filter, "203.0.113." + ip, wrong);
+            }
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), login(filter, "203.0.113." + ip, wrong).getStatus());
+        }
+
+        assertEquals(HttpStatus.OK.value(), login(filter, "198.51.100.9",
+                "{\"usernameOrEmail\":\"natascha\",\"password\":\"secret\"}").getStatus());
+    }
+
+    /**
+     * Testet, ob ein {@link ReadListener} sofort über den gepufferten Body informiert wird.
+     */
+    @Test
+    public void whenReadListenerSet_thenNotifyImmediately() throws Exception {
+        RateLimitFilter filter = filter(100, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("198.51.100.1");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"usernameOrEmail\":\"natascha\"}".getBytes(StandardCharsets.UTF_8));
+        List<String> calls = new ArrayList<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream input = req.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    calls.add("data:" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    calls.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    calls.add("error");
+                }
+            });
+            assertTrue(input.isFinished());
+        });
+
+        assertEquals(List.of("data:{\"usernameOrEmail\":\"natascha\"}", "done"), calls);
+    }
+
+    /**
+     * Testet, ob hinter dem Load Balancer pro Client-IP statt pro Proxy-Adresse gezählt wird.
+     */
+    @Test
+    public void whenBehindTrustedProxy_thenKeyByForwardedClient() throws Exception {
+        RateLimitFilter filter = filter(1, 100);
+
+        assertEquals(HttpStatus.OK.value(), check(filter, PROXY, "203.0.113.7").getStatus());
+        assertEquals(HttpStatus.OK.value(), check(filter, PROXY, "203.0.113.8, 10.0.0.9").getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                check(filter, PROXY, "192.0.2.1, 203.0.113.7").getStatus());
+    }
+
+    /**
+     * Testet, ob ein gefälschter Header von einem direkt verbundenen Client ignoriert wird.
+     */
+    @Test
+    public void whenForwardedHeaderFromUntrustedClient_thenKeyByRemoteAddress() throws Exception {
+        RateLimitFilter filter = filter(1, 100);
+
+        assertEquals(HttpStatus.OK.value(), check(filter, "198.51.100.1", "203.0.113.1").getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                check(filter, "198.51.100.1", "203.0.113.2").getStatus());
+        assertEquals("198.51.100.1", filter.clientAddress(request("198.51.100.1", "not-an-ip")));
+    }
+
+    private RateLimitFilter filter(int authCapacity, int accountCapacity) {
+        return new RateLimitFilter(true, authCapacity, 0.001, accountCapacity, 0.001,
+                60, 10, 600_000, "10.0.0.0/8", objectMapper);
+    }
+
+    private MockHttpServletResponse login(RateLimitFilter filter, String remoteAddress, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddress);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return run(filter, request);
+    }
+
+    private MockHttpServletResponse check(RateLimitFilter filter, String remoteAddress, String forwardedFor) throws Exception {
+        return run(filter, request(remoteAddress, forwardedFor));
+    }
+
+    private MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/check-username/natascha");
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    private MockHttpServletResponse run(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            if ("POST".equals(request.getMethod())) {
+                String body = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                forwardedBodies.add(body);
+                if (body.contains("\"wrong\"")) {
+                    ((MockHttpServletResponse) res).setStatus(HttpStatus.UNAUTHORIZED.value());
+                }
+            }
+        });
+        return response;
+    }
+}
@@ -0,0 +1,111 @@
+package com.wiss.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link TokenBucketRateLimiter}
+ * </h2>
+ *
+ * <p>
+ *     Die Tests verwenden eine manuell gesteuerte Uhr, damit Nachfüllung und
+ *     Entfernung inaktiver Eimer deterministisch geprüft werden können.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Burst bis zur Kapazität, danach Abweisung mit Wartezeit</li>
+ *     <li>Nachfüllung über die Zeit</li>
+ *     <li>Unabhängige Eimer pro Schlüssel</li>
+ *     <li>{@code retryAfter} prüft, ohne ein Token zu verbrauchen</li>
+ *     <li>Entfernung inaktiver Eimer</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see TokenBucketRateLimiter
+ */
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // 3 Tokens Burst, 1 Token pro Sekunde, Eimer nach 10 Sekunden Inaktivität entfernen
+    private final TokenBucketRateLimiter limiter =
+            new TokenBucketRateLimiter(3, 1.0, 10_000, clock::get);
+
+    /**
+     * Testet, ob nach aufgebrauchtem Burst abgewiesen und nach Nachfüllung wieder erlaubt wird.
+     */
+    @Test
+    public void whenBucketEmpty_thenRejectUntilRefilled() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        }
+        assertEquals(1, limiter.tryAcquire("ip:10.0.0.1"));
+
+        advanceMillis(1_000);
+
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        assertTrue(limiter.tryAcquire("ip:10.0.0.1") > 0);
+    }
+
+    /**
+     * Testet, ob verschiedene Clients unabhängige Kontingente besitzen.
+     */
+    @Test
+    public void whenDifferentKeys_thenSeparateBuckets() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user:alice");
+        }
+
+        assertTrue(limiter.tryAcquire("user:alice") > 0);
+        assertEquals(0, limiter.tryAcquire("user:bob"));
+    }
+
+    /**
+     * Testet, ob die Prüfung ohne Verbrauch den Eimer unverändert lässt.
+     */
+    @Test
+    public void whenRetryAfterChecked_thenNoTokenConsumed() {
+        assertEquals(0, limiter.retryAfter("ip:10.0.0.1"));
+        assertEquals(0, limiter.size());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.retryAfter("ip:10.0.0.1"));
+            assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+        }
+
+        assertEquals(1, limiter.retryAfter("ip:10.0.0.1"));
+        advanceMillis(1_000);
+        assertEquals(0, limiter.retryAfter("ip:10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("ip:10.0.0.1"));
+    }
+
+    /**
+     * Testet, ob Eimer nach Ablauf des Idle-Timeouts entfernt werden.
+     */
+    @Test
+    public void whenKeyIdle_thenBucketEvicted() {
+        limiter.tryAcquire("ip:10.0.0.1");
+        limiter.tryAcquire("ip:10.0.0.2");
+        assertEquals(2, limiter.size());
+
+        advanceMillis(11_000);
+        limiter.tryAcquire("ip:10.0.0.3");
+
+        assertEquals(1, limiter.size());
+    }
+
+    private void advanceMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,175 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.entity.Role;
+import com.wiss.backend.exception.ServiceOverloadedException;
+import com.wiss.backend.model.UserChange;
+import com.wiss.backend.repository.AppUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link AppUserService}
+ * </h2>
+ *
+ * <p>
+ *     Repository und {@link PasswordHashingService} werden gemockt, damit geprüft werden kann,
+ *     wie oft der Benutzer geladen und wann der Hash neu kodiert wird.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Login lädt den Benutzer genau einmal, per Email oder per Username</li>
+ *     <li>Veraltete Hashes werden nach erfolgreichem Login über {@code updatePassword} neu kodiert
+ *         und als {@link UserChange} gemeldet</li>
+ *     <li>Ist der Worker-Pool ausgelastet, bricht der Login ab, ohne den Hash anzutasten</li>
+ *     <li>Scheitert erst das Neukodieren nach erfolgreicher Prüfung, gelingt der Login mit
+ *         dem alten Hash</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see AppUserService
+ * @see PasswordHashingService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class AppUserServiceTest {
+
+    private static final String OLD_HASH = "$2a$12$oldHash";
+
+    @Mock
+    private AppUserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private AppUserService appUserService;
+
+    private AppUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = new AppUser("natascha", "natascha@eonet.com", OLD_HASH, Role.USER);
+        user.setId(7L);
+    }
+
+    /**
+     * Testet, ob der Benutzer bei einer Email-Eingabe genau einmal per Email geladen wird.
+     */
+    @Test
+    public void whenLoginWithEmail_thenLoadUserOnce() {
+        when(userRepository.findByEmail("natascha@eonet.com")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(false);
+
+        Optional<AppUser> result = appUserService.authenticateUser("natascha@eonet.com", "secret");
+
+        assertTrue(result.isPresent());
+        verify(userRepository, times(1)).findByEmail("natascha@eonet.com");
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Testet, ob ein Hash mit veraltetem Kostenfaktor nach dem Login neu kodiert wird.
+     */
+    @Test
+    public void whenHashOutdated_thenRehashViaUpdatePassword() {
+        when(userRepository.findByUsername("natascha")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenReturn("$2a$10$newHash");
+        when(userRepository.updatePassword(7L, "$2a$10$newHash")).thenReturn(1);
+
+        Optional<AppUser> result = appUserService.authenticateUser("natascha", "secret");
+
+        assertTrue(result.isPresent());
+        assertEquals("$2a$10$newHash", result.get().getPassword());
+        verify(userRepository, times(1)).findByUsername("natascha");
+        verify(userRepository).updatePassword(7L, "$2a$10$newHash");
+        verify(userRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new UserChange(7L, "natascha"));
+    }
+
+    /**
+     * Testet, ob die Überlastung des Worker-Pools an den Aufrufer weitergegeben wird.
+     */
+    @Test
+    public void whenHashingOverloaded_thenThrowAndKeepHash() {
+        when(userRepository.findByUsername("natascha")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH))
+                .thenThrow(new ServiceOverloadedException("ausgelastet", 1));
+
+        assertThrows(ServiceOverloadedException.class,
+                () -> appUserService.authenticateUser("natascha", "secret"));
+
+        verify(passwordHashingService, never()).encode(anyString());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        assertEquals(OLD_HASH, user.getPassword());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Testet, ob ein ausgelasteter Worker-Pool beim Neukodieren den Login nicht verhindert.
+     */
+    @Test
+    public void whenRehashOverloaded_thenLoginSucceedsWithOldHash() {
+        when(userRepository.findByUsername("natascha")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenThrow(new ServiceOverloadedException("ausgelastet", 1));
+
+        Optional<AppUser> result = appUserService.authenticateUser("natascha", "secret");
+
+        assertTrue(result.isPresent());
+        assertEquals(OLD_HASH, result.get().getPassword());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Testet, ob ein Datenbankfehler beim Speichern des neuen Hashes den Login nicht verhindert.
+     */
+    @Test
+    public void whenRehashUpdateFails_thenLoginSucceedsWithOldHash() {
+        when(userRepository.findByUsername("natascha")).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenReturn("$2a$10$newHash");
+        when(userRepository.updatePassword(7L, "$2a$10$newHash"))
+                .thenThrow(new DataAccessResourceFailureException("Verbindung verloren"));
+
+        Optional<AppUser> result = appUserService.authenticateUser("natascha", "secret");
+
+        assertTrue(result.isPresent());
+        assertEquals(OLD_HASH, result.get().getPassword());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
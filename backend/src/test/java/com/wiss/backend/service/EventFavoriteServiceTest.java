@@ -0,0 +1,234 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.FavoriteStatusDTO;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.repository.AppUserRepository;
+import com.wiss.backend.repository.EventFavoriteRepository;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.store.TrendingEventsTracker;
+import com.wiss.backend.store.UserFavoritesCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventFavoriteService}
+ * </h2>
+ *
+ * <p>
+ *     Die Repositories werden gemockt, der {@link UserFavoritesCache} ist echt, damit
+ *     geprüft werden kann, wie oft die Favoriten eines Users tatsächlich geladen werden.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Statusabfrage für mehrere Events mit einer Zähler-Abfrage und gecachten Favoriten</li>
+ *     <li>Favoriten werden vom Primary geladen und committet, bevor die Read-only-Transaktion
+ *         beginnt – nie zwei Verbindungen gleichzeitig</li>
+ *     <li>Ablehnung von Anfragen mit zu vielen IDs</li>
+ *     <li>Idempotentes Setzen und Zusammenfassen gleichzeitiger gleicher Anfragen</li>
+ *     <li>Begrenzte Wiederholung bei Sperrkonflikten</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventFavoriteService
+ * @see UserFavoritesCache
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class EventFavoriteServiceTest {
+
+    @Mock
+    private EventFavoriteRepository eventFavoriteRepository;
+
+    @Mock
+    private AppUserRepository appUserRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TrendingEventsTracker trendingTracker;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventFavoriteService favoriteService;
+
+    @BeforeEach
+    void setUp() {
+        favoriteService = new EventFavoriteService(eventFavoriteRepository, appUserRepository,
+                eventRepository, new UserFavoritesCache(100), trendingTracker, eventPublisher, transactionManager);
+    }
+
+    /**
+     * Testet, ob Status und Zähler in der Reihenfolge der Anfrage geliefert werden,
+     * unbekannte IDs fehlen und die Favoriten des Users nur einmal geladen werden.
+     */
+    @Test
+    public void whenGetFavoriteStatus_thenCombineCountsAndCachedFavorites() {
+        when(eventFavoriteRepository.findEventIdsByUserId(7L)).thenReturn(List.of(3L, 1L));
+        when(eventRepository.findFavoritesCountsByIdIn(any())).thenReturn(List.of(
+                new Object[]{1L, 5},
+                new Object[]{2L, 0},
+                new Object[]{3L, 2}));
+
+        List<FavoriteStatusDTO> result = favoriteService.getFavoriteStatus(7L, List.of(3L, 2L, 99L, 1L, 3L));
+
+        assertEquals(List.of(3L, 2L, 1L), result.stream().map(FavoriteStatusDTO::getEventId).toList());
+        assertTrue(result.get(0).isFavorite());
+        assertFalse(result.get(1).isFavorite());
+        assertEquals(5, result.get(2).getFavoritesCount());
+
+        assertTrue(favoriteService.isFavorite(7L, 1L));
+        verify(eventFavoriteRepository, times(1)).findEventIdsByUserId(7L);
+        verify(eventFavoriteRepository, never()).existsByUserIdAndEventId(any(), any());
+    }
+
+    /**
+     * Testet, ob die Transaktion für die Favoriten abgeschlossen ist, bevor die
+     * Read-only-Transaktion der Zähler-Abfrage geöffnet wird.
+     */
+    @Test
+    public void whenGetFavoriteStatus_thenLoadFavoritesBeforeReadOnlyTransaction() {
+        when(eventFavoriteRepository.findEventIdsByUserId(7L)).thenReturn(List.of(1L));
+        when(eventRepository.findFavoritesCountsByIdIn(any())).thenReturn(List.<Object[]>of(new Object[]{1L, 5}));
+
+        favoriteService.getFavoriteStatus(7L, List.of(1L));
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder order = inOrder(transactionManager, eventFavoriteRepository, eventRepository);
+        order.verify(transactionManager).getTransaction(definitions.capture());
+        order.verify(eventFavoriteRepository).findEventIdsByUserId(7L);
+        order.verify(transactionManager).commit(any());
+        order.verify(transactionManager).getTransaction(definitions.capture());
+        order.verify(eventRepository).findFavoritesCountsByIdIn(any());
+        assertFalse(definitions.getAllValues().get(0).isReadOnly());
+        assertTrue(definitions.getAllValues().get(1).isReadOnly());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRED,
+                definitions.getAllValues().get(0).getPropagationBehavior());
+    }
+
+    /**
+     * Testet, ob leere und zu grosse Anfragen abgelehnt werden, ohne die Datenbank abzufragen.
+     */
+    @Test
+    public void whenGetFavoriteStatusWithInvalidIds_thenThrow() {
+        List<Long> tooMany = new ArrayList<>(LongStream.rangeClosed(1, EventFavoriteService.MAX_STATUS_IDS + 1).boxed().toList());
+
+        assertThrows(InvalidEventDataException.class, () -> favoriteService.getFavoriteStatus(7L, List.of()));
+        assertThrows(InvalidEventDataException.class, () -> favoriteService.getFavoriteStatus(7L, tooMany));
+        verifyNoInteractions(eventRepository, eventFavoriteRepository);
+    }
+
+    /**
+     * Testet, ob ein bereits gesetzter Favorit nicht erneut gespeichert oder gezählt wird.
+     */
+    @Test
+    public void whenSetFavoriteTwice_thenSecondCallChangesNothing() {
+        when(eventFavoriteRepository.existsByUserIdAndEventId(7L, 1L)).thenReturn(false, true);
+        when(eventRepository.incrementFavoritesCount(1L)).thenReturn(1);
+        when(eventRepository.findFavoritesCountById(1L)).thenReturn(Optional.of(1));
+
+        assertTrue(favoriteService.setFavorite(7L, 1L, true).isFavorite());
+        FavoriteStatusDTO second = favoriteService.setFavorite(7L, 1L, true);
+
+        assertTrue(second.isFavorite());
+        assertEquals(1, second.getFavoritesCount());
+        verify(eventRepository, times(1)).incrementFavoritesCount(1L);
+        verify(eventFavoriteRepository, times(1)).save(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    /**
+     * Testet, ob gleichzeitige gleiche Anfragen auf die laufende warten und sich deren
+     * Datenbankoperation teilen.
+     */
+    @Test
+    public void whenConcurrentIdenticalRequests_thenShareOneOperation() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventFavoriteRepository.deleteFavorite(7L, 1L)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return 1;
+        });
+        when(eventRepository.findFavoritesCountById(1L)).thenReturn(Optional.of(4));
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<FavoriteStatusDTO> leader = executor.submit(() -> favoriteService.setFavorite(7L, 1L, false));
+            entered.await();
+
+            List<Future<FavoriteStatusDTO>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                duplicates.add(executor.submit(() -> favoriteService.setFavorite(7L, 1L, false)));
+            }
+            // Duplikate starten lassen, bevor die erste Anfrage fertig ist
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals(4, leader.get().getFavoritesCount());
+            for (Future<FavoriteStatusDTO> duplicate : duplicates) {
+                assertFalse(duplicate.get().isFavorite());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventFavoriteRepository, times(1)).deleteFavorite(7L, 1L);
+        verify(eventRepository, times(1)).decrementFavoritesCount(1L);
+    }
+
+    /**
+     * Testet, ob ein Sperrkonflikt wiederholt wird und nach
+     * {@value EventFavoriteService#MAX_CONFLICT_ATTEMPTS} Versuchen durchschlägt.
+     */
+    @Test
+    public void whenLockConflict_thenRetryUpToLimit() {
+        when(eventRepository.incrementFavoritesCount(1L))
+                .thenThrow(new CannotAcquireLockException("Lock-Timeout"))
+                .thenReturn(1);
+        when(eventRepository.incrementFavoritesCount(2L)).thenThrow(new CannotAcquireLockException("Lock-Timeout"));
+        when(eventRepository.findFavoritesCountById(1L)).thenReturn(Optional.of(1));
+
+        assertTrue(favoriteService.setFavorite(7L, 1L, true).isFavorite());
+        assertThrows(CannotAcquireLockException.class, () -> favoriteService.setFavorite(7L, 2L, true));
+
+        verify(eventRepository, times(2)).incrementFavoritesCount(1L);
+        verify(eventRepository, times(EventFavoriteService.MAX_CONFLICT_ATTEMPTS)).incrementFavoritesCount(2L);
+        verify(eventFavoriteRepository, times(1)).save(any());
+    }
+}
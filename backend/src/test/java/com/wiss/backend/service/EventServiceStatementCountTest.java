@@ -0,0 +1,258 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.config.CacheConfig;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.AppUser;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.Role;
+import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.AppUserRepository;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <h2>
+ *     Anzahl SQL-Anweisungen pro Operation des {@link EventService}
+ * </h2>
+ *
+ * <p>
+ *     Die {@link DataSource} wird so umhüllt, dass jede auf dem Test-Thread vorbereitete
+ *     Anweisung gezählt wird – aus Hibernate wie aus dem {@code JdbcTemplate} des Outbox.
+ *     Hintergrund-Threads (z. B. der Outbox-Relay) zählen nicht mit. Jede Operation muss
+ *     mit der kleinstmöglichen Anzahl auskommen; zusätzliche Existenzprüfungen oder
+ *     nachgeladene Beziehungen fallen so sofort auf.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Lesen: eine Abfrage pro Operation, auch für Formulardaten mit Ersteller:in;
+ *         gecachte Events ohne Abfrage</li>
+ *     <li>Einzeländerungen: Laden, {@code UPDATE} bzw. {@code INSERT}/{@code DELETE} und ein
+ *         Eintrag im Outbox; Löschen ohne vorheriges Laden</li>
+ *     <li>Massenänderungen: unabhängig von der Anzahl Events drei Anweisungen</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventService
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(EventServiceStatementCountTest.CountingConfig.class)
+@DisabledInNativeImage
+public class EventServiceStatementCountTest {
+
+    private static final ThreadLocal<int[]> STATEMENTS = new ThreadLocal<>();
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Event> events;
+
+    @BeforeEach
+    public void setUp() {
+        List<AppUser> creators = appUserRepository.saveAll(List.of(
+                new AppUser("count1", "count1@eonet.com", "-", Role.ADMIN),
+                new AppUser("count2", "count2@eonet.com", "-", Role.ADMIN)));
+        events = eventRepository.saveAll(List.of(
+                new Event("Flut Jakarta", LocalDate.of(2024, 3, 1), EventCategory.floods, 106.8, -6.2,
+                        EventStatus.open, creators.get(0)),
+                new Event("Waldbrand Kalifornien", LocalDate.of(2024, 8, 20), EventCategory.wildfires, -119.4, 36.8,
+                        EventStatus.open, creators.get(1)),
+                new Event("Vulkanausbruch Island", LocalDate.of(2023, 5, 12), EventCategory.volcanoes, -19.0, 64.9,
+                        EventStatus.closed, creators.get(0))));
+        cacheManager.getCache(CacheConfig.EVENTS).clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventRepository.deleteAllInBatch();
+        appUserRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Testet, dass jede Leseoperation genau eine Abfrage braucht.
+     */
+    @Test
+    public void whenReading_thenOneStatementPerOperation() {
+        Long id = events.get(0).getId();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 12, 31);
+
+        assertStatements(1, () -> eventService.getAllEventsAsDTO());
+        assertStatements(1, () -> eventService.getEventByIdAsDTO(id));
+        assertStatements(0, () -> eventService.getEventByIdAsDTO(id));
+        assertStatements(1, () -> eventService.getEventsByCategoryAsDTO(EventCategory.floods));
+        assertStatements(1, () -> eventService.getEventsByStatusAsDTO(EventStatus.open));
+        assertStatements(1, () -> eventService.getEventsByDateAsDTO(LocalDate.of(2024, 3, 1)));
+        assertStatements(1, () -> eventService.getAllEventsAsFormDTO());
+        assertStatements(1, () -> eventService.getAllEventsAsColumns());
+        assertStatements(1, () -> eventService.getAllEventsAsFormColumns());
+        assertStatements(1, () -> eventService.getEventByIdAsFormDTO(id));
+        assertStatements(1, () -> eventService.getEventById(id));
+        assertStatements(1, () -> eventService.getTotalEventsCount());
+        assertStatements(1, () -> eventService.getEventsByFilter(List.of(EventCategory.floods), List.of(EventStatus.open), start, end));
+        assertStatements(1, () -> eventService.getTotalEventsByFilter(List.of(EventCategory.floods), null, start, null));
+        assertStatements(1, () -> eventService.getTotalEventsByCategory(EventCategory.floods));
+        assertStatements(1, () -> eventService.getTotalEventsByStatus(EventStatus.open));
+        assertStatements(1, () -> eventService.getTotalEventsByDateBetween(start, end));
+        assertStatements(1, () -> eventService.getEventsWithinBounds(-10, 40, -120, 110));
+    }
+
+    /**
+     * Testet Einzeländerungen: höchstens Laden, Schreiben und ein Eintrag im Outbox.
+     */
+    @Test
+    public void whenWritingSingleEvent_thenMinimalStatements() {
+        Event first = events.get(0);
+        Event second = events.get(1);
+
+        assertStatements(2, () -> eventService.createEvent(new EventDTO(null, "Erdbeben Japan", LocalDate.of(2024, 1, 1),
+                EventCategory.earthquakes, 139.7, 35.7, EventStatus.open)));
+        assertStatements(2, () -> eventService.createEventFromForm(new Event("Sturm Florida", LocalDate.of(2024, 9, 1),
+                EventCategory.severeStorms, -81.7, 27.8, EventStatus.open, null)));
+        assertStatements(3, () -> eventService.updateEvent(first.getId(), new EventDTO(null, "Flut Jakarta Nord",
+                first.getDate(), first.getCategory(), first.getLongitude(), first.getLatitude(), EventStatus.closed), null));
+        assertStatements(3, () -> eventService.patchEvent(second.getId(),
+                readTree("{\"status\": \"closed\"}"), null));
+        assertStatements(3, () -> eventService.updateEventFromForm(second.getId(), new Event("Waldbrand Nordkalifornien",
+                second.getDate(), second.getCategory(), second.getLongitude(), second.getLatitude(), EventStatus.closed, null), null));
+        assertStatements(2, () -> eventService.deleteEvent(first.getId()));
+        assertStatements(1, () -> assertThrows(EventNotFoundException.class, () -> eventService.deleteEvent(first.getId())));
+    }
+
+    /**
+     * Testet, dass Massenänderungen unabhängig von der Anzahl Events gleich viele Anweisungen brauchen.
+     */
+    @Test
+    public void whenWritingManyEvents_thenConstantStatements() {
+        List<Long> ids = events.stream().map(Event::getId).toList();
+
+        assertStatements(3, () -> eventService.updateEventStatuses(ids, EventStatus.closed));
+        assertStatements(3, () -> eventService.deleteEvents(ids));
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertStatements(int expected, Supplier<?> operation) {
+        STATEMENTS.set(new int[1]);
+        try {
+            operation.get();
+            assertEquals(expected, STATEMENTS.get()[0], "Anzahl SQL-Anweisungen");
+        } finally {
+            STATEMENTS.remove();
+        }
+    }
+
+    private static void assertStatements(int expected, Runnable operation) {
+        assertStatements(expected, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Umhüllt die {@code dataSource}, damit vorbereitete Anweisungen gezählt werden.
+     */
+    @TestConfiguration
+    static class CountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && "dataSource".equals(beanName)
+                            ? new CountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Liefert Verbindungen, die {@code prepareStatement}, {@code prepareCall} und
+     * {@code createStatement} auf dem zählenden Thread mitzählen.
+     */
+    private static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        int[] count = STATEMENTS.get();
+                        String name = method.getName();
+                        if (count != null && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                            count[0]++;
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.wiss.backend.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.AppUser;
 import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.EventVersionMismatchException;
+import com.wiss.backend.exception.InvalidEventDataException;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.outbox.EventOutbox;
 import com.wiss.backend.repository.EventRepository;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +46,11 @@ import static org.mockito.Mockito.*;
  * <ul>
  *     <li>{@link EventService#getAllEvents()}</li>
  *     <li>{@link EventService#getAllEventsAsDTO()}</li>
+ *     <li>{@link EventService#updateEvent(Long, EventDTO, Long)} und
+ *         {@link EventService#patchEvent(Long, JsonNode, Long)} auf einer geladenen Entität</li>
+ *     <li>Ablehnung einer veralteten erwarteten Version ({@code If-Match})</li>
+ *     <li>Eingabeprüfung von {@link EventService#deleteEvents(List)} und
+ *         {@link EventService#updateEventStatuses(List, EventStatus)}</li>
  * </ul>
  *
  * <h3>
@@ -50,11 +68,21 @@ import static org.mockito.Mockito.*;
  * @see EventRepository
  */
 @ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
 public class EventServiceTest {
 
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventOutbox outbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private EventService eventService;
 
@@ -100,4 +128,88 @@ public class EventServiceTest {
         assertEquals(-19.0208, dto.getLongitude());
         assertEquals(EventStatus.open, dto.getStatus());
     }
-}
\ No newline at end of file
+
+    /**
+     * Testet, dass Massenänderungen ungültige Eingaben vor jedem Datenbankzugriff abweisen.
+     */
+    @Test
+    void whenBulkIdsInvalid_thenThrowWithoutQuery() {
+        List<Long> tooMany = LongStream.rangeClosed(1, EventService.MAX_BULK_SIZE + 1).boxed().toList();
+
+        assertThrows(InvalidEventDataException.class, () -> eventService.deleteEvents(List.of()));
+        assertThrows(InvalidEventDataException.class, () -> eventService.deleteEvents(tooMany));
+        assertThrows(InvalidEventDataException.class, () -> eventService.updateEventStatuses(List.of(1L), null));
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    /**
+     * Testet, dass {@link EventService#updateEvent(Long, EventDTO, Long)} Ersteller:in und
+     * Favoritenanzahl der geladenen Entität beibehält und nicht {@code save()} aufruft.
+     */
+    @Test
+    void whenUpdateEvent_thenKeepCreatorAndFavoritesCount() {
+        AppUser creator = new AppUser();
+        Event event = new Event(7L, "Flut", LocalDate.of(2024, 3, 1), EventCategory.floods, 8.5, 47.3,
+                EventStatus.open, creator);
+        event.incrementFavorites();
+        event.incrementFavorites();
+        when(eventRepository.findById(7L)).thenReturn(Optional.of(event));
+
+        EventDTO result = eventService.updateEvent(7L, new EventDTO(null, "Flut Zürich", LocalDate.of(2024, 3, 1),
+                EventCategory.floods, 8.5, 47.3, EventStatus.closed), null);
+
+        assertEquals("Flut Zürich", result.getTitle());
+        assertEquals(7L, result.getId());
+        assertSame(creator, event.getCreatedBy());
+        assertEquals(2, event.getFavoritesCount());
+        verify(eventRepository, never()).save(any());
+        verify(outbox).append(any());
+    }
+
+    /**
+     * Testet, dass {@link EventService#patchEvent(Long, JsonNode, Long)} nur die Felder des Patches
+     * übernimmt und ungültige Patches abweist.
+     */
+    @Test
+    void whenPatchEvent_thenChangeOnlyListedFields() throws Exception {
+        Event event = new Event(7L, "Flut", LocalDate.of(2024, 3, 1), EventCategory.floods, 8.5, 47.3,
+                EventStatus.open, null);
+        event.setVersion(3L);
+        when(eventRepository.findById(7L)).thenReturn(Optional.of(event));
+
+        EventDTO result = eventService.patchEvent(7L, objectMapper.readTree("{\"status\": \"closed\", \"id\": 7}"), 3L);
+
+        assertEquals(EventStatus.closed, result.getStatus());
+        assertEquals("Flut", result.getTitle());
+        assertEquals(LocalDate.of(2024, 3, 1), event.getDate());
+        assertThrows(InvalidEventDataException.class,
+                () -> eventService.patchEvent(7L, objectMapper.readTree("{\"title\": null}"), null));
+        assertThrows(InvalidEventDataException.class,
+                () -> eventService.patchEvent(7L, objectMapper.readTree("{\"color\": \"red\"}"), null));
+        assertThrows(InvalidEventDataException.class,
+                () -> eventService.patchEvent(7L, objectMapper.readTree("{\"id\": 8}"), null));
+        assertEquals("Flut", event.getTitle());
+    }
+
+    /**
+     * Testet, dass eine Änderung mit veralteter Version ({@code If-Match}) abgelehnt wird,
+     * ohne das Event zu ändern oder eine Änderung zu veröffentlichen.
+     */
+    @Test
+    void whenExpectedVersionOutdated_thenThrowVersionMismatch() {
+        Event event = new Event(7L, "Flut", LocalDate.of(2024, 3, 1), EventCategory.floods, 8.5, 47.3,
+                EventStatus.open, null);
+        event.setVersion(4L);
+        when(eventRepository.findById(7L)).thenReturn(Optional.of(event));
+        EventDTO update = new EventDTO(null, "Flut Zürich", LocalDate.of(2024, 3, 1),
+                EventCategory.floods, 8.5, 47.3, EventStatus.closed);
+
+        EventVersionMismatchException ex = assertThrows(EventVersionMismatchException.class,
+                () -> eventService.updateEvent(7L, update, 3L));
+
+        assertEquals(4L, ex.getCurrentVersion());
+        assertEquals("Flut", event.getTitle());
+        verifyNoInteractions(outbox, eventPublisher);
+    }
+}
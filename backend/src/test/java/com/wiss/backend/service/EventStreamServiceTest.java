@@ -0,0 +1,202 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventStreamDTO;
+import com.wiss.backend.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventStreamService}
+ * </h2>
+ *
+ * <p>
+ *     Statt echter HTTP-Antworten zeichnen die Emitter die gesendeten Events als
+ *     {@code name#id} auf.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Jede Änderung erreicht jeden Client genau einmal</li>
+ *     <li>Wiederverbinden mit {@code Last-Event-ID} holt nur verpasste Änderungen nach,
+ *         eine unbekannte ID führt zu {@code resync}</li>
+ *     <li>Eine {@code Last-Event-ID} eines anderen Knotens führt zu {@code resync}, auch wenn
+ *         dieselbe Änderung im Puffer liegt</li>
+ *     <li>Ein Client, der nicht mitliest, wird geschlossen</li>
+ *     <li>Über {@code max-clients} hinaus wird mit 503 abgelehnt</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventStreamService
+ */
+public class EventStreamServiceTest {
+
+    private EventStreamService service;
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    /**
+     * Testet die Verteilung an mehrere Clients.
+     */
+    @Test
+    public void whenPublish_thenEveryClientReceivesOnce() throws Exception {
+        service = service(10, 8, 16, null);
+        RecordingEmitter first = (RecordingEmitter) service.subscribe(null);
+        RecordingEmitter second = (RecordingEmitter) service.subscribe(null);
+
+        service.publish("a:1", EventStreamDTO.favorites(1L, 3));
+        service.publish("a:2", EventStreamDTO.favorites(1L, 4));
+
+        assertEquals(List.of(change("a:1"), change("a:2")), first.await(2));
+        assertEquals(List.of(change("a:1"), change("a:2")), second.await(2));
+    }
+
+    /**
+     * Testet das Nachholen mit Last-Event-ID und den Rückfall auf resync.
+     */
+    @Test
+    public void whenReconnectWithLastEventId_thenReplayMissedChanges() throws Exception {
+        service = service(10, 8, 3, null);
+        for (int i = 1; i <= 4; i++) {
+            service.publish("a:" + i, EventStreamDTO.favorites(1L, i));
+        }
+
+        RecordingEmitter resumed = (RecordingEmitter) service.subscribe(service.streamId() + "/a:2");
+        RecordingEmitter tooOld = (RecordingEmitter) service.subscribe(service.streamId() + "/a:1");
+
+        assertEquals(List.of(change("a:3"), change("a:4")), resumed.await(2));
+        assertEquals(List.of("resync#"), tooOld.await(1));
+    }
+
+    /**
+     * Testet, ob eine ID aus dem Stream eines anderen Knotens nicht als Position verwendet wird.
+     */
+    @Test
+    public void whenReconnectWithIdFromOtherNode_thenResync() throws Exception {
+        EventStreamService other = service(10, 8, 16, null);
+        service = service(10, 8, 16, null);
+        try {
+            RecordingEmitter onOther = (RecordingEmitter) other.subscribe(null);
+            other.publish("b:1", EventStreamDTO.favorites(2L, 1));
+            other.publish("a:1", EventStreamDTO.favorites(1L, 1));
+            service.publish("a:1", EventStreamDTO.favorites(1L, 1));
+            service.publish("b:1", EventStreamDTO.favorites(2L, 1));
+            String lastEventId = onOther.await(2).get(1).substring("change#".length());
+
+            RecordingEmitter moved = (RecordingEmitter) service.subscribe(lastEventId);
+
+            assertEquals(List.of("resync#"), moved.await(1));
+        } finally {
+            other.shutdown();
+        }
+    }
+
+    /**
+     * Testet das Schliessen eines Clients mit voller Warteschlange.
+     */
+    @Test
+    public void whenClientTooSlow_thenCloseConnection() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        service = service(10, 2, 16, blocked);
+        service.subscribe(null);
+
+        for (int i = 1; i <= 5; i++) {
+            service.publish("a:" + i, EventStreamDTO.favorites(1L, i));
+        }
+
+        assertEquals(0, service.clientCount());
+        blocked.countDown();
+    }
+
+    /**
+     * Testet die Begrenzung der Verbindungen.
+     */
+    @Test
+    public void whenTooManyClients_thenThrowServiceOverloaded() {
+        service = service(1, 8, 16, null);
+        service.subscribe(null);
+
+        assertThrows(ServiceOverloadedException.class, () -> service.subscribe(null));
+    }
+
+    private String change(String id) {
+        return "change#" + service.streamId() + "/" + id;
+    }
+
+    private static EventStreamService service(int maxClients, int queueSize, int replaySize, CountDownLatch blockSends) {
+        return new EventStreamService(maxClients, queueSize, replaySize, 60_000, 60_000, 1) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(blockSends);
+            }
+        };
+    }
+
+    /**
+     * Emitter, der gesendete Events aufzeichnet und optional blockiert.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blockSends;
+
+        RecordingEmitter(CountDownLatch blockSends) {
+            this.blockSends = blockSends;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (blockSends != null) {
+                try {
+                    blockSends.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = builder.build();
+            String name = "";
+            String id = "";
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                if (part.getData() instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("event:")) {
+                            name = line.substring(6);
+                        } else if (line.startsWith("id:")) {
+                            id = line.substring(3);
+                        }
+                    }
+                }
+            }
+            events.add(name + "#" + id);
+        }
+
+        List<String> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(20);
+            assertTrue(events.size() >= count, "Zu wenige Events: " + events);
+            return List.copyOf(events);
+        }
+    }
+}
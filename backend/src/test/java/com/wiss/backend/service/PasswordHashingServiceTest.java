@@ -0,0 +1,119 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link PasswordHashingService}
+ * </h2>
+ *
+ * <p>
+ *     Prüft die Erkennung veralteter Kostenfaktoren, die schnelle Abweisung,
+ *     wenn der Worker-Pool ausgelastet ist, und den Abbruch nach Ablauf der Wartezeit. Statt BCrypt wird ein blockierender
+ *     Encoder verwendet, damit die Auslastung deterministisch herbeigeführt werden kann.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link PasswordHashingService#needsRehash(String)}</li>
+ *     <li>{@link PasswordHashingService#matches(String, String)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see PasswordHashingService
+ */
+public class PasswordHashingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "$2a$10$" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return encodedPassword.endsWith(rawPassword.toString());
+        }
+    };
+
+    // 1 Worker, 1 Platz in der Warteschlange, Budget 8 Kosteneinheiten
+    private final PasswordHashingService service =
+            new PasswordHashingService(blockingEncoder, 10, 1, 1, 8, 2000);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    /**
+     * Testet, ob nur Hashes mit abweichendem Kostenfaktor zur Neukodierung markiert werden.
+     */
+    @Test
+    public void whenCostDiffersFromTarget_thenNeedsRehash() {
+        assertTrue(service.needsRehash("$2a$12$V/IUNw153HLTafqZB1NWEeAZT3C2Iiw7BImsXiv86wS.SHCUBeGUq"));
+        assertFalse(service.needsRehash("$2a$10$V/IUNw153HLTafqZB1NWEeAZT3C2Iiw7BImsXiv86wS.SHCUBeGUq"));
+    }
+
+    /**
+     * Testet, ob ein Auftrag sofort abgewiesen wird, wenn das Kostenbudget erschöpft ist.
+     * Ein Hash mit Kosten 13 belegt bei Ziel 10 alle 8 Einheiten.
+     */
+    @Test
+    public void whenCostBudgetExhausted_thenRejectImmediately() throws InterruptedException {
+        CompletableFuture<Boolean> expensive = CompletableFuture.supplyAsync(() ->
+                service.matches("secret", "$2a$13$secret"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(ServiceOverloadedException.class,
+                () -> service.matches("secret", "$2a$10$secret"));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+
+        release.countDown();
+        assertTrue(expensive.join());
+    }
+
+    /**
+     * Testet, ob ein Auftrag nach Ablauf der Wartezeit abgebrochen wird, statt den Worker
+     * weiter zu belegen.
+     */
+    @Test
+    public void whenTimeoutExpires_thenCancelRunningHash() throws InterruptedException {
+        PasswordHashingService impatient = new PasswordHashingService(blockingEncoder, 10, 1, 1, 8, 100);
+        try {
+            assertThrows(ServiceOverloadedException.class,
+                    () -> impatient.matches("secret", "$2a$10$secret"));
+
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        } finally {
+            impatient.shutdown();
+        }
+    }
+}
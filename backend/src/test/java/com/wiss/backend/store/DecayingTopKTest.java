@@ -0,0 +1,94 @@
+package com.wiss.backend.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Unit-Tests für {@link DecayingTopK}
+ * </h2>
+ *
+ * <p>
+ *     Die Zeit wird explizit übergeben, damit Abklingen und Verschieben des Landmarks
+ *     ohne Warten geprüft werden können.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Neuere Favorisierungen zählen mehr als ältere</li>
+ *     <li>Entfernen zieht Punkte ab</li>
+ *     <li>Punkte bleiben nach dem Verschieben des Landmarks gleich</li>
+ *     <li>Bei voller Kapazität fällt das schwächste Event heraus</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see DecayingTopK
+ * @see TrendingEventsTracker
+ */
+public class DecayingTopKTest {
+
+    private static final long TAU = 1_000;
+
+    /**
+     * Testet, ob zwei alte Favorisierungen hinter einer neuen liegen und die Punkte abklingen.
+     */
+    @Test
+    public void whenOlderFavorites_thenRankBelowRecentOnes() {
+        DecayingTopK ranking = new DecayingTopK(TAU, 100, 0);
+        ranking.add(1, 1, 0, 0);
+        ranking.add(1, 1, 0, 0);
+        ranking.add(2, 1, 2_000, 2_000);
+        ranking.add(3, 1, 1_000, 2_000);
+        ranking.add(3, -1, 2_000, 2_000);
+
+        List<DecayingTopK.Scored> top = ranking.top(10, 2_000);
+
+        assertEquals(List.of(2L, 1L), top.stream().map(DecayingTopK.Scored::eventId).toList());
+        assertEquals(1.0, top.get(0).score(), 1e-9);
+        assertEquals(2 * Math.exp(-2), top.get(1).score(), 1e-9);
+        assertEquals(2, ranking.size());
+    }
+
+    /**
+     * Testet, ob das Verschieben des Landmarks die aktuellen Punkte nicht verändert.
+     */
+    @Test
+    public void whenLandmarkMoves_thenScoresAreUnchanged() {
+        DecayingTopK ranking = new DecayingTopK(TAU, 100, 0);
+        for (int i = 0; i < 50; i++) {
+            ranking.add(1, 1, 45_000, 45_000);
+        }
+        ranking.add(2, 1, 60_000, 60_000);
+
+        List<DecayingTopK.Scored> top = ranking.top(10, 60_000);
+
+        assertEquals(List.of(2L), top.stream().map(DecayingTopK.Scored::eventId).toList());
+        assertEquals(1, ranking.size());
+
+        ranking.add(3, 1, 60_000, 60_000);
+        ranking.add(3, 1, 60_500, 60_500);
+        assertEquals(1 + Math.exp(0.5), ranking.top(1, 60_500).get(0).score() / Math.exp(-0.5), 1e-9);
+    }
+
+    /**
+     * Testet, ob bei voller Kapazität das Event mit den wenigsten Punkten verdrängt wird.
+     */
+    @Test
+    public void whenFull_thenEvictWeakestEvent() {
+        DecayingTopK ranking = new DecayingTopK(TAU, 2, 0);
+        ranking.add(1, 3, 0, 0);
+        ranking.add(2, 1, 0, 0);
+        ranking.add(3, 2, 0, 0);
+
+        assertEquals(List.of(1L, 3L), ranking.top(10, 0).stream().map(DecayingTopK.Scored::eventId).toList());
+        ranking.remove(1);
+        assertEquals(List.of(3L), ranking.top(10, 0).stream().map(DecayingTopK.Scored::eventId).toList());
+    }
+}
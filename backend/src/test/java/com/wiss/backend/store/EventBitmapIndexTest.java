@@ -0,0 +1,155 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventBitmapIndex}
+ * </h2>
+ *
+ * <p>
+ *     Der Index wird aus gemockten Projektionszeilen aufgebaut und anschliessend
+ *     über {@link EventChange}-Ereignisse verändert.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>ODER innerhalb eines Feldes, UND zwischen den Feldern</li>
+ *     <li>Geschlossene und offene Zeiträume</li>
+ *     <li>Einfügen, Aktualisieren und Löschen über Änderungsereignisse</li>
+ *     <li>Erneutes Laden nach einem {@link com.wiss.backend.model.EventResync} entfernt auch
+ *         Events, deren Löschung verpasst wurde</li>
+ *     <li>Eine ID über {@link Integer#MAX_VALUE} deaktiviert den Index, statt im Listener zu werfen</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventBitmapIndex
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class EventBitmapIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventBitmapIndex eventIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findAllAsRows()).thenReturn(List.of(
+                row(1L, LocalDate.of(2022, 8, 20), EventCategory.wildfires, EventStatus.open),
+                row(2L, LocalDate.of(2023, 1, 5), EventCategory.floods, EventStatus.closed),
+                row(3L, LocalDate.of(2023, 7, 1), EventCategory.wildfires, EventStatus.closed),
+                row(4L, LocalDate.of(2023, 7, 1), EventCategory.volcanoes, EventStatus.open)
+        ));
+        eventIndex.load();
+    }
+
+    /**
+     * Testet, ob Werte eines Feldes ODER- und Felder untereinander UND-verknüpft werden.
+     */
+    @Test
+    public void whenMatchMultipleCategoriesAndStatus_thenIntersectUnions() {
+        assertArrayEquals(new int[]{2, 3}, eventIndex.match(
+                Set.of(EventCategory.wildfires, EventCategory.floods), Set.of(EventStatus.closed), null, null).toArray());
+        assertArrayEquals(new int[]{1, 2, 3, 4}, eventIndex.match(
+                Set.of(), Set.of(EventStatus.open, EventStatus.closed), null, null).toArray());
+        assertEquals(4, eventIndex.count(null, null, null, null));
+    }
+
+    /**
+     * Testet geschlossene und einseitig offene Zeiträume.
+     */
+    @Test
+    public void whenMatchDateRange_thenReturnEventsInRange() {
+        assertArrayEquals(new int[]{3, 4}, eventIndex.match(null, null,
+                LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 1)).toArray());
+        assertArrayEquals(new int[]{2, 3, 4}, eventIndex.match(null, null,
+                LocalDate.of(2023, 1, 1), null).toArray());
+        assertEquals(1, eventIndex.count(Set.of(EventCategory.wildfires), null,
+                null, LocalDate.of(2022, 12, 31)));
+        assertEquals(0, eventIndex.count(null, null,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2023, 1, 1)));
+    }
+
+    /**
+     * Testet, ob Änderungsereignisse alte Einträge entfernen und neue setzen.
+     */
+    @Test
+    public void whenEventChangesApplied_thenIndexReflectsThem() {
+        eventIndex.onEventChange(EventChange.created(new EventDTO(10L, "Vulkan Ätna",
+                LocalDate.of(2024, 2, 1), EventCategory.volcanoes, 14.9934, 37.7510, EventStatus.open)));
+        eventIndex.onEventChange(EventChange.updated(new EventDTO(1L, "Waldbrand Kalifornien",
+                LocalDate.of(2023, 7, 1), EventCategory.wildfires, -119.4179, 36.7783, EventStatus.closed)));
+        eventIndex.onEventChange(EventChange.deleted(2L));
+
+        assertTrue(eventIndex.isLoaded());
+        assertArrayEquals(new int[]{4, 10}, eventIndex.match(
+                Set.of(EventCategory.volcanoes), Set.of(EventStatus.open), null, null).toArray());
+        assertArrayEquals(new int[]{1, 3}, eventIndex.match(
+                null, Set.of(EventStatus.closed), LocalDate.of(2023, 7, 1), LocalDate.of(2023, 7, 1)).toArray());
+        assertEquals(0, eventIndex.count(Set.of(EventCategory.floods), null, null, null));
+        assertEquals(0, eventIndex.count(null, null, LocalDate.of(2022, 8, 20), LocalDate.of(2022, 8, 20)));
+    }
+
+    /**
+     * Testet, ob erneutes Laden den Stand der Datenbank übernimmt, auch ohne Löschereignis.
+     */
+    @Test
+    public void whenReloaded_thenDropEventsMissingInDatabase() {
+        when(eventRepository.findAllAsRows()).thenReturn(List.of(
+                row(1L, LocalDate.of(2022, 8, 20), EventCategory.wildfires, EventStatus.closed),
+                row(4L, LocalDate.of(2023, 7, 1), EventCategory.volcanoes, EventStatus.open)
+        ));
+
+        eventIndex.load();
+
+        assertArrayEquals(new int[]{1, 4}, eventIndex.match(null, null, null, null).toArray());
+        assertArrayEquals(new int[]{1}, eventIndex.match(null, Set.of(EventStatus.closed), null, null).toArray());
+        assertEquals(0, eventIndex.count(null, null, LocalDate.of(2023, 1, 5), LocalDate.of(2023, 1, 5)));
+    }
+
+    /**
+     * Testet, ob eine zu grosse ID den Index abschaltet, damit der Service die Datenbank fragt.
+     */
+    @Test
+    public void whenIdExceedsIntRange_thenIndexReportsNotLoaded() {
+        long id = Integer.MAX_VALUE + 1L;
+
+        eventIndex.onEventChange(EventChange.created(new EventDTO(id, "Sturm",
+                LocalDate.of(2024, 2, 1), EventCategory.severeStorms, 0.0, 0.0, EventStatus.open)));
+
+        assertFalse(eventIndex.isLoaded());
+        assertEquals(4, eventIndex.count(null, null, null, null));
+    }
+
+    private Object[] row(Long id, LocalDate date, EventCategory category, EventStatus status) {
+        return new Object[]{id, "Event " + id, date, category, 0.0, 0.0, status};
+    }
+}
@@ -0,0 +1,145 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventChangeBatch;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventColumnStore}
+ * </h2>
+ *
+ * <p>
+ *     Der Speicher wird aus gemockten Projektionszeilen geladen und anschliessend
+ *     über {@link EventChange}-Ereignisse verändert. Geprüft wird, dass Filter,
+ *     Zählungen und Geo-Abfragen denselben Stand wie die Datenbank liefern.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Kombinierte Filter und Zählungen mit optionalen Kriterien</li>
+ *     <li>Bounding-Box-Abfrage</li>
+ *     <li>Einfügen, Aktualisieren und Löschen über Änderungsereignisse</li>
+ *     <li>Ein Stapel mit mehreren Änderungen derselben ID: die letzte gilt</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventColumnStore
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class EventColumnStoreTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventColumnStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findAllAsRows()).thenReturn(List.of(
+                row(1L, "Waldbrand Kalifornien", LocalDate.of(2022, 8, 20), EventCategory.wildfires, -119.4179, 36.7783, EventStatus.open),
+                row(2L, "Flut in Jakarta", LocalDate.of(2023, 1, 5), EventCategory.floods, 106.8456, -6.2088, EventStatus.closed),
+                row(3L, "Waldbrand Portugal", LocalDate.of(2023, 7, 1), EventCategory.wildfires, -8.2245, 39.3999, EventStatus.closed)
+        ));
+        eventStore.load();
+    }
+
+    /**
+     * Testet, ob Filter und Zählungen nur die gesetzten Kriterien berücksichtigen.
+     */
+    @Test
+    public void whenFilterByCategoryAndDate_thenReturnMatchingEvents() {
+        List<EventDTO> result = eventStore.find(Set.of(EventCategory.wildfires), null,
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+
+        assertEquals(1, result.size());
+        assertEquals("Waldbrand Portugal", result.get(0).getTitle());
+        assertEquals(2, eventStore.count(null, Set.of(EventStatus.closed), null, null));
+        assertEquals(3, eventStore.count(null, null, null, null));
+        assertEquals(3, eventStore.count(Set.of(EventCategory.wildfires, EventCategory.floods), null, null, null));
+    }
+
+    /**
+     * Testet, ob nur Events innerhalb des Rechtecks zurückgegeben werden.
+     */
+    @Test
+    public void whenFindWithinBounds_thenReturnEventsInsideBox() {
+        List<EventDTO> result = eventStore.findWithinBounds(30, 45, -125, 0);
+
+        assertEquals(List.of(1L, 3L), result.stream().map(EventDTO::getId).toList());
+        assertEquals(36.7783, result.get(0).getLatitude());
+    }
+
+    /**
+     * Testet, ob Änderungsereignisse den Speicher konsistent halten.
+     */
+    @Test
+    public void whenEventChangesApplied_thenStoreReflectsThem() {
+        eventStore.onEventChange(EventChange.created(new EventDTO(10L, "Vulkan Ätna",
+                LocalDate.of(2024, 2, 1), EventCategory.volcanoes, 14.9934, 37.7510, EventStatus.open)));
+        eventStore.onEventChange(EventChange.updated(new EventDTO(1L, "Waldbrand Kalifornien",
+                LocalDate.of(2022, 8, 20), EventCategory.wildfires, -119.4179, 36.7783, EventStatus.closed)));
+        eventStore.onEventChange(EventChange.deleted(2L));
+
+        assertTrue(eventStore.isLoaded());
+        assertEquals(3, eventStore.size());
+        assertEquals(List.of(1L, 3L, 10L), eventStore.findAll().stream().map(EventDTO::getId).toList());
+        assertEquals(2, eventStore.count(null, Set.of(EventStatus.closed), null, null));
+        assertEquals(1, eventStore.count(Set.of(EventCategory.volcanoes), null, null, null));
+    }
+
+    /**
+     * Testet, ob ein Stapel in einem Durchgang angewendet wird und pro ID die letzte Änderung gilt.
+     */
+    @Test
+    public void whenBatchApplied_thenLastChangePerIdWins() {
+        EventDTO volcano = new EventDTO(10L, "Vulkan Ätna", LocalDate.of(2024, 2, 1),
+                EventCategory.volcanoes, 14.9934, 37.7510, EventStatus.open);
+        EventDTO flood = new EventDTO(0L, "Flut Venedig", LocalDate.of(2024, 11, 3),
+                EventCategory.floods, 12.3155, 45.4408, EventStatus.open);
+
+        eventStore.onEventChanges(new EventChangeBatch(List.of(
+                EventChange.created(volcano),
+                EventChange.deleted(1L),
+                EventChange.deleted(10L),
+                EventChange.created(flood),
+                EventChange.deleted(99L),
+                EventChange.created(volcano),
+                EventChange.updated(new EventDTO(3L, "Waldbrand Nordportugal", LocalDate.of(2023, 7, 1),
+                        EventCategory.wildfires, -8.2245, 39.3999, EventStatus.open)))));
+
+        assertEquals(List.of(0L, 2L, 3L, 10L), eventStore.findAll().stream().map(EventDTO::getId).toList());
+        assertEquals("Waldbrand Nordportugal", eventStore.findAll().get(2).getTitle());
+        assertEquals(3, eventStore.count(null, Set.of(EventStatus.open), LocalDate.of(2023, 1, 1), null));
+        assertEquals(1, eventStore.count(Set.of(EventCategory.volcanoes), null, null, null));
+    }
+
+    private Object[] row(Long id, String title, LocalDate date, EventCategory category,
+                         Double longitude, Double latitude, EventStatus status) {
+        return new Object[]{id, title, date, category, longitude, latitude, status};
+    }
+}
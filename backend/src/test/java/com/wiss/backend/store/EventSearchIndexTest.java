@@ -0,0 +1,125 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventSearchIndex}
+ * </h2>
+ *
+ * <p>
+ *     Der Index wird aus gemockten Projektionszeilen aufgebaut und anschliessend
+ *     über {@link EventChange}-Ereignisse verändert.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Normalisierung (Gross-/Kleinschreibung, Akzente, Satzzeichen)</li>
+ *     <li>Präfixsuche mit UND-Verknüpfung und Ranking</li>
+ *     <li>Paginierung</li>
+ *     <li>Einfügen, Aktualisieren und Löschen über Änderungsereignisse</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSearchIndex
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class EventSearchIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private EventSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepository.findAllAsRows()).thenReturn(List.of(
+                row(1L, "Waldbrand in Kalifornien, USA"),
+                row(2L, "Waldbrand Kalifornien"),
+                row(3L, "Flut in Jakarta"),
+                row(4L, "Wald-Sturm bei Kalmar"),
+                row(5L, "Vulkan Ätna")
+        ));
+        searchIndex.load();
+    }
+
+    /**
+     * Testet, ob Titel ohne Akzente, in Kleinbuchstaben und ohne Satzzeichen zerlegt werden.
+     */
+    @Test
+    public void whenTokenize_thenNormalizeTerms() {
+        assertEquals(List.of("vulkan", "atna"), EventSearchIndex.tokenize("  Vulkan ÄTNA!! "));
+        assertEquals(List.of("wald", "sturm"), EventSearchIndex.tokenize("Wald-Sturm wald"));
+        assertEquals(List.of(), EventSearchIndex.tokenize(" -- "));
+    }
+
+    /**
+     * Testet, ob alle Begriffe als Präfix vorkommen müssen und exakte, kurze Titel vorne stehen.
+     */
+    @Test
+    public void whenSearchPrefixes_thenRankExactAndShortTitlesFirst() {
+        EventSearchIndex.Hits hits = searchIndex.search("wald kal", 0, 10);
+
+        assertEquals(3, hits.total());
+        assertEquals(List.of(4L, 2L, 1L), hits.ids());
+        assertEquals(List.of(5L), searchIndex.search("atna", 0, 10).ids());
+        assertEquals(0, searchIndex.search("wald jakarta", 0, 10).total());
+    }
+
+    /**
+     * Testet, ob Seiten lückenlos und ohne Überschneidung geliefert werden.
+     */
+    @Test
+    public void whenSearchWithOffset_thenReturnRequestedPage() {
+        assertEquals(List.of(2L, 1L), searchIndex.search("wal", 0, 2).ids());
+        assertEquals(List.of(4L), searchIndex.search("wal", 2, 2).ids());
+        assertEquals(List.of(), searchIndex.search("wal", 4, 2).ids());
+        assertEquals(3, searchIndex.search("wal", 4, 2).total());
+    }
+
+    /**
+     * Testet, ob Änderungsereignisse alte Begriffe entfernen und neue indexieren.
+     */
+    @Test
+    public void whenEventChangesApplied_thenIndexReflectsThem() {
+        searchIndex.onEventChange(EventChange.created(event(10L, "Sturmflut Hamburg")));
+        searchIndex.onEventChange(EventChange.updated(event(2L, "Erdbeben Kalifornien")));
+        searchIndex.onEventChange(EventChange.deleted(3L));
+
+        assertEquals(List.of(10L), searchIndex.search("hamb", 0, 10).ids());
+        assertEquals(List.of(1L), searchIndex.search("waldbrand", 0, 10).ids());
+        assertEquals(List.of(), searchIndex.search("jakarta", 0, 10).ids());
+        assertEquals(List.of(4L, 10L), searchIndex.search("sturm", 0, 10).ids());
+    }
+
+    private Object[] row(Long id, String title) {
+        return new Object[]{id, title, LocalDate.of(2023, 1, 1), EventCategory.wildfires, 0.0, 0.0, EventStatus.open};
+    }
+
+    private EventDTO event(Long id, String title) {
+        return new EventDTO(id, title, LocalDate.of(2023, 1, 1), EventCategory.floods, 0.0, 0.0, EventStatus.open);
+    }
+}
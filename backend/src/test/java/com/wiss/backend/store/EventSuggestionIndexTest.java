@@ -0,0 +1,174 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventSuggestionDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.FavoriteChange;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventSuggestionIndex}
+ * </h2>
+ *
+ * <p>
+ *     Die Vorschläge werden aus gemockten Projektionszeilen geladen. Änderungen werden
+ *     über {@link EventChange}-Ereignisse eingespielt und der Baum anschliessend direkt
+ *     neu aufgebaut, statt auf den Hintergrund-Thread zu warten.
+ * </p>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Gewichtung nach Favoriten über Titel und Kategorien</li>
+ *     <li>Vorberechnete Top-k grosser Teilbäume entsprechen einer vollständigen Sortierung</li>
+ *     <li>Einfügen, Aktualisieren und Löschen über Änderungsereignisse</li>
+ *     <li>Favoritenänderungen verschieben die Gewichtung ohne erneutes Laden</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSuggestionIndex
+ * @see SuggestionTrie
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class EventSuggestionIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventSuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestionIndex = new EventSuggestionIndex(eventRepository, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        suggestionIndex.shutdown();
+    }
+
+    /**
+     * Testet, ob Titel und Kategorien nach Favoriten sortiert vorgeschlagen werden.
+     */
+    @Test
+    public void whenSuggest_thenOrderByFavorites() {
+        when(eventRepository.findAllSuggestionRows()).thenReturn(List.of(
+                row(1L, "Waldbrand Kalifornien", EventCategory.wildfires, 3),
+                row(2L, "Waldbrand  kalifornien", EventCategory.wildfires, 4),
+                row(3L, "Waldbrand Portugal", EventCategory.wildfires, 5),
+                row(4L, "Wasserfarbe im Meer", EventCategory.waterColor, 1)
+        ));
+        suggestionIndex.reload();
+
+        List<EventSuggestionDTO> result = suggestionIndex.suggest("  WALDBRAND ", 5);
+        assertEquals(List.of("Waldbrand  kalifornien", "Waldbrand Portugal"),
+                result.stream().map(EventSuggestionDTO::getText).toList());
+        assertEquals(7, result.get(0).getWeight());
+
+        List<EventSuggestionDTO> categories = suggestionIndex.suggest("wa", 5);
+        assertEquals(List.of("Waldbrand  kalifornien", "Waldbrand Portugal", "Wasserfarbe im Meer", "waterColor"),
+                categories.stream().map(EventSuggestionDTO::getText).toList());
+        assertEquals(EventSuggestionDTO.Type.category, categories.get(3).getType());
+        assertEquals(List.of(), suggestionIndex.suggest("xyz", 5));
+    }
+
+    /**
+     * Testet, ob die vorberechneten Top-k grosser Teilbäume einer vollständigen Sortierung entsprechen.
+     */
+    @Test
+    public void whenManyTitlesShareAPrefix_thenPrecomputedTopMatchesFullSort() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rows.add(row((long) i, "Sturm " + i, EventCategory.severeStorms, (i * 37) % 101));
+        }
+        when(eventRepository.findAllSuggestionRows()).thenReturn(rows);
+        suggestionIndex.reload();
+
+        for (String prefix : List.of("st", "sturm", "sturm 1", "sturm 12", "sturm 123")) {
+            List<String> expected = rows.stream()
+                    .filter(row -> ((String) row[1]).toLowerCase().startsWith(prefix))
+                    .sorted(Comparator.<Object[]>comparingInt(row -> -(Integer) row[3])
+                            .thenComparing(row -> ((String) row[1]).toLowerCase()))
+                    .limit(SuggestionTrie.MAX_K)
+                    .map(row -> (String) row[1])
+                    .toList();
+            assertEquals(expected, suggestionIndex.suggest(prefix, SuggestionTrie.MAX_K).stream()
+                    .map(EventSuggestionDTO::getText).toList(), prefix);
+        }
+    }
+
+    /**
+     * Testet, ob Änderungsereignisse nach dem Neuaufbau sichtbar sind und Favoriten erhalten bleiben.
+     */
+    @Test
+    public void whenEventChangesApplied_thenRebuildReflectsThem() {
+        when(eventRepository.findAllSuggestionRows()).thenReturn(List.of(
+                row(1L, "Flut in Jakarta", EventCategory.floods, 8),
+                row(2L, "Flut in Venedig", EventCategory.floods, 2)
+        ));
+        suggestionIndex.reload();
+
+        suggestionIndex.onEventChange(EventChange.created(event(10L, "Flutwelle Japan")));
+        suggestionIndex.onEventChange(EventChange.updated(event(1L, "Flut in Jakarta 2024")));
+        suggestionIndex.onEventChange(EventChange.deleted(2L));
+        suggestionIndex.rebuild();
+
+        List<EventSuggestionDTO> result = suggestionIndex.suggest("fl", 5);
+        assertEquals(List.of("floods", "Flut in Jakarta 2024", "Flutwelle Japan"),
+                result.stream().map(EventSuggestionDTO::getText).toList());
+        assertEquals(8, result.get(1).getWeight());
+    }
+
+    /**
+     * Testet, ob eine Favoritenänderung die Reihenfolge ändert, ohne die Tabelle neu zu lesen.
+     */
+    @Test
+    public void whenFavoriteChanges_thenReweightWithoutReload() {
+        when(eventRepository.findAllSuggestionRows()).thenReturn(List.of(
+                row(1L, "Flut in Jakarta", EventCategory.floods, 8),
+                row(2L, "Flutwelle Japan", EventCategory.floods, 3)));
+        suggestionIndex.reload();
+
+        suggestionIndex.onFavoriteChange(new FavoriteChange(7L, 2L, true, 12));
+        suggestionIndex.onFavoriteChange(new FavoriteChange(7L, 99L, true, 1));
+        suggestionIndex.rebuild();
+
+        List<EventSuggestionDTO> result = suggestionIndex.suggest("flut", 2);
+        assertEquals(List.of("Flutwelle Japan", "Flut in Jakarta"),
+                result.stream().map(EventSuggestionDTO::getText).toList());
+        assertEquals(12, result.get(0).getWeight());
+        verify(eventRepository, times(1)).findAllSuggestionRows();
+    }
+
+    private Object[] row(Long id, String title, EventCategory category, int favorites) {
+        return new Object[]{id, title, category, favorites};
+    }
+
+    private EventDTO event(Long id, String title) {
+        return new EventDTO(id, title, LocalDate.of(2024, 1, 1), EventCategory.floods, 0.0, 0.0, EventStatus.open);
+    }
+}
@@ -0,0 +1,69 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.model.FavoriteChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link UserFavoritesCache}
+ * </h2>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Geladene IDs werden sortiert, ohne Duplikate und nur einmal geladen</li>
+ *     <li>{@link FavoriteChange}-Ereignisse fügen IDs ein bzw. entfernen sie</li>
+ *     <li>Der am längsten nicht verwendete Benutzer wird verdrängt</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see UserFavoritesCache
+ */
+public class UserFavoritesCacheTest {
+
+    /**
+     * Testet das Laden und das Anwenden von Änderungen auf einen vorhandenen Eintrag.
+     */
+    @Test
+    public void whenFavoriteChanges_thenUpdateSortedIds() {
+        UserFavoritesCache cache = new UserFavoritesCache(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertArrayEquals(new long[]{1, 3, 8}, cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return List.of(8L, 1L, 3L, 8L);
+        }));
+
+        cache.onFavoriteChange(new FavoriteChange(1L, 5L, true, 1));
+        cache.onFavoriteChange(new FavoriteChange(1L, 1L, false, 0));
+        cache.onFavoriteChange(new FavoriteChange(1L, 8L, true, 2));
+
+        assertArrayEquals(new long[]{3, 5, 8}, cache.get(1L, List::of));
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Testet die LRU-Verdrängung bei voller Kapazität.
+     */
+    @Test
+    public void whenFull_thenEvictLeastRecentlyUsedUser() {
+        UserFavoritesCache cache = new UserFavoritesCache(2);
+        cache.get(1L, () -> List.of(1L));
+        cache.get(2L, () -> List.of(2L));
+        cache.get(1L, List::of);
+        cache.get(3L, () -> List.of(3L));
+
+        assertEquals(2, cache.size());
+        assertArrayEquals(new long[]{1}, cache.get(1L, List::of));
+        assertArrayEquals(new long[0], cache.get(2L, List::of));
+    }
+}
@@ -0,0 +1,125 @@
+package com.wiss.backend.store;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventChange;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.FavoriteChange;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link UserFeedMaterializer}
+ * </h2>
+ *
+ * <h3>
+ *     Geprüfte Szenarien:
+ * </h3>
+ * <ul>
+ *     <li>Feed wird nur einmal geladen und nach Datum sortiert</li>
+ *     <li>Änderungen sortieren passende Events nach Datum ein, entfernen geschlossene und gelöschte</li>
+ *     <li>Der Ringpuffer verdrängt bei voller Kapazität den ältesten Eintrag, nie einen Favoriten</li>
+ *     <li>Die Änderung an einem alten Event rückt es nicht nach vorne</li>
+ *     <li>Favoritenänderungen verwerfen den Feed der Benutzer:in</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see UserFeedMaterializer
+ * @see FeedRing
+ */
+public class UserFeedMaterializerTest {
+
+    /**
+     * Testet das Nachführen eines geladenen Feeds über Änderungsereignisse.
+     */
+    @Test
+    public void whenEventsChange_thenFeedIsUpdatedInMemory() {
+        UserFeedMaterializer materializer = new UserFeedMaterializer(3, 10);
+        AtomicInteger loads = new AtomicInteger();
+        UserFeedMaterializer.Seed seed = new UserFeedMaterializer.Seed(new long[]{1},
+                Set.of(EventCategory.wildfires),
+                List.of(event(2, 2, EventCategory.wildfires, EventStatus.open),
+                        event(1, 1, EventCategory.floods, EventStatus.closed)));
+
+        assertEquals(List.of(2L, 1L), ids(materializer.feed(7L, () -> {
+            loads.incrementAndGet();
+            return seed;
+        })));
+
+        materializer.onEventChange(EventChange.created(event(3, 3, EventCategory.wildfires, EventStatus.open)));
+        materializer.onEventChange(EventChange.created(event(4, 4, EventCategory.volcanoes, EventStatus.open)));
+        materializer.onEventChange(EventChange.updated(event(1, 1, EventCategory.floods, EventStatus.open)));
+        assertEquals(List.of(3L, 2L, 1L), ids(materializer.feed(7L, () -> seed)));
+
+        materializer.onEventChange(EventChange.created(event(5, 5, EventCategory.wildfires, EventStatus.open)));
+        materializer.onEventChange(EventChange.created(event(6, 6, EventCategory.wildfires, EventStatus.open)));
+        assertEquals(List.of(6L, 5L, 3L, 1L), ids(materializer.feed(7L, () -> seed)));
+
+        materializer.onEventChange(EventChange.updated(event(3, 3, EventCategory.wildfires, EventStatus.closed)));
+        materializer.onEventChange(EventChange.deleted(5L));
+        assertEquals(List.of(6L, 1L), ids(materializer.feed(7L, () -> seed)));
+        assertEquals(1, loads.get());
+    }
+
+    /**
+     * Testet, ob Änderungen an alten Events nach Datum statt vorne einsortiert werden.
+     */
+    @Test
+    public void whenOldEventUpdated_thenKeepDateOrder() {
+        UserFeedMaterializer materializer = new UserFeedMaterializer(3, 10);
+        UserFeedMaterializer.Seed seed = new UserFeedMaterializer.Seed(new long[0],
+                Set.of(EventCategory.wildfires),
+                List.of(event(1, 10, EventCategory.wildfires, EventStatus.open),
+                        event(2, 20, EventCategory.wildfires, EventStatus.open),
+                        event(3, 30, EventCategory.wildfires, EventStatus.open)));
+        materializer.feed(7L, () -> seed);
+
+        materializer.onEventChange(EventChange.updated(event(1, 10, EventCategory.wildfires, EventStatus.open)));
+        materializer.onEventChange(EventChange.created(event(4, 5, EventCategory.wildfires, EventStatus.open)));
+        assertEquals(List.of(3L, 2L, 1L), ids(materializer.feed(7L, () -> seed)));
+
+        materializer.onEventChange(EventChange.created(event(5, 15, EventCategory.wildfires, EventStatus.open)));
+        assertEquals(List.of(3L, 2L, 5L), ids(materializer.feed(7L, () -> seed)));
+    }
+
+    /**
+     * Testet, ob eine Favoritenänderung den Feed verwirft und der nächste Abruf neu lädt.
+     */
+    @Test
+    public void whenFavoriteChanges_thenFeedIsReloaded() {
+        UserFeedMaterializer materializer = new UserFeedMaterializer(5, 10);
+        AtomicInteger loads = new AtomicInteger();
+        UserFeedMaterializer.Seed seed = new UserFeedMaterializer.Seed(new long[0],
+                Set.of(EventCategory.floods), List.of());
+
+        materializer.feed(7L, () -> {
+            loads.incrementAndGet();
+            return seed;
+        });
+        materializer.onFavoriteChange(new FavoriteChange(7L, 1L, true, 1));
+        materializer.feed(7L, () -> {
+            loads.incrementAndGet();
+            return seed;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(1, materializer.size());
+    }
+
+    private static EventDTO event(long id, int day, EventCategory category, EventStatus status) {
+        return new EventDTO(id, "Event " + id, LocalDate.of(2025, 1, day), category, 0.0, 0.0, status);
+    }
+
+    private static List<Long> ids(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getId).toList();
+    }
+}
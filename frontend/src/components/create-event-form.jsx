@@ -1,7 +1,13 @@
-// React Hook zum Verwalten von Zuständen importieren
-import { useState } from 'react';
+// React Hooks zum Verwalten von Zuständen und Nebeneffekten importieren
+import { useState, useEffect } from 'react';
 // Wiederverwendbare Button-Komponente importieren
 import Button from './button';
+// Vorschläge für Titel und Kategorien vom Backend
+import { getSuggestions } from '../services/events-service';
+
+// Mindestlänge der Eingabe und Wartezeit (ms), bevor Vorschläge geladen werden
+const SUGGEST_MIN_LENGTH = 2;
+const SUGGEST_DELAY = 250;
 
 // Formular-Komponente für die Erstellung von benutzerdefinierten Events
 const CustomEventForm = ({ onEventSubmit }) => {
@@ -25,12 +31,48 @@ const CustomEventForm = ({ onEventSubmit }) => {
     // Zeigt an, ob gerade eine Speicherung im Gange ist
     const [isSubmitting, setIsSubmitting] = useState(false);
 
+    // Vorschläge für das Titelfeld und ob sie angezeigt werden
+    const [suggestions, setSuggestions] = useState([]);
+    const [showSuggestions, setShowSuggestions] = useState(false);
+
+    // Lädt Vorschläge, sobald die Eingabe kurz unverändert bleibt
+    useEffect(() => {
+        if (!showSuggestions || title.trim().length < SUGGEST_MIN_LENGTH) {
+            setSuggestions([]);
+            return;
+        }
+
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            const result = await getSuggestions(title);
+            // Antworten auf veraltete Eingaben ignorieren
+            if (!cancelled) setSuggestions(result);
+        }, SUGGEST_DELAY);
+
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [title, showSuggestions]);
+
     // Aktualisiert den Titel und entfernt evtl. vorhandene Fehlermeldung
     const handleTitleChange = (e) => {
         setTitle(e.target.value);
+        setShowSuggestions(true);
         if (titleError) setTitleError("");
     };
 
+    // Übernimmt einen Vorschlag: Titel inkl. Kategorie oder nur die Kategorie
+    const handleSuggestionSelect = (suggestion) => {
+        if (suggestion.type === 'title') {
+            setTitle(suggestion.text);
+        }
+        if (suggestion.category) {
+            setCategory(suggestion.category);
+        }
+        setShowSuggestions(false);
+    };
+
     // Aktualisiert das Datum und entfernt evtl. vorhandene Fehlermeldung
     const handleDateChange = (e) => {
         setDate(e.target.value);
@@ -123,6 +165,7 @@ const CustomEventForm = ({ onEventSubmit }) => {
         onEventSubmit(newEvent);
 
         // Formular zurücksetzen
+        setShowSuggestions(false);
         setTitle("");
         setDate("");
         setCategory("");
@@ -146,8 +189,32 @@ const CustomEventForm = ({ onEventSubmit }) => {
                     value={title}
                     onChange={handleTitleChange}
                     placeholder="Title"
+                    autoComplete="off"
+                    onBlur={() => setShowSuggestions(false)}
                     className={`form-input ${titleError ? "form-input--error" : ""}`}
                 />
+                {/* Vorschläge zum eingegebenen Titel */}
+                {showSuggestions && suggestions.length > 0 && (
+                    <ul className="suggestion-list" role="listbox" aria-label="Suggestions">
+                        {suggestions.map((suggestion) => (
+                            <li
+                                key={`${suggestion.type}-${suggestion.text}`}
+                                role="option"
+                                className="suggestion-item"
+                                // onMouseDown statt onClick, damit der Klick vor dem onBlur greift
+                                onMouseDown={(e) => {
+                                    e.preventDefault();
+                                    handleSuggestionSelect(suggestion);
+                                }}
+                            >
+                                {suggestion.text}
+                                {suggestion.type === 'category' && (
+                                    <span className="suggestion-type"> (category)</span>
+                                )}
+                            </li>
+                        ))}
+                    </ul>
+                )}
                 {/* Fehlermeldung anzeigen, falls vorhanden */}
                 {titleError && (
                     <span className='error-message'>{titleError}</span>
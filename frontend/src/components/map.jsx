@@ -9,6 +9,7 @@ import categoryEmoji from '../utils/categoryEmoji';
 import { useFavorites } from '../contexts/FavoritesContext';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
+import { useEffect } from 'react';
 
 
 // Hilfsfunktion: Erstellt ein benutzerdefiniertes Leaflet-Icon mit einem Emoji
@@ -23,9 +24,14 @@ const getEmojiIcon = (emoji) =>
 
 // Hauptkomponente: Stellt eine interaktive Leaflet-Karte dar
 const Map = ({ center, zoom, events }) => {
-    const { isFavorite, toggleFavorite } = useFavorites();
+    const { isFavorite, toggleFavorite, loadFavoriteStatus, getFavoriteCount } = useFavorites();
     const navigate = useNavigate();
     const { isAuthenticated } = useAuth();
+
+    // Favoritenzähler aller Marker gesammelt laden statt einzeln pro Popup
+    useEffect(() => {
+        if (isAuthenticated) loadFavoriteStatus(events.map(event => event.id));
+    }, [events, isAuthenticated, loadFavoriteStatus]);
     return (
         <MapContainer center={center} zoom={zoom} style={{ height: '50vh', width: '100%' }}>
             {/* Hintergrundkarte mit OpenStreetMap-Kachelserver */}
@@ -55,6 +61,9 @@ const Map = ({ center, zoom, events }) => {
                                     <div className="popup-title">{event.title}</div>
                                     <button onClick={(e) => { e.stopPropagation(); if (!isAuthenticated) { navigate('/login'); return; } toggleFavorite(event); }} style={{ background: 'transparent', border: 'none', fontSize: '18px', color: isFavorite(event.id) ? '#ff6b6b' : '#888', cursor: 'pointer' }} aria-label="Toggle favorite">
                                         {isFavorite(event.id) ? '❤' : '♡'}
+                                        {getFavoriteCount(event.id) != null && (
+                                            <span style={{ fontSize: '12px', marginLeft: '4px' }}>{getFavoriteCount(event.id)}</span>
+                                        )}
                                     </button>
                                 </div>
                                 <div className="popup-meta">
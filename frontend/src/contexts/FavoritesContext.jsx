@@ -1,23 +1,30 @@
-import { createContext, useContext, useEffect, useState } from "react";
+import { createContext, useCallback, useContext, useEffect, useState } from "react";
 import { getCurrentUser } from "../services/auth-service";
 import {
   getFavorites as fetchFavoritesFromApi,
   addFavorite as addFavoriteApi,
   removeFavorite as removeFavoriteApi,
+  getFavoriteStatus as fetchFavoriteStatusFromApi,
 } from "../services/favorites-service";
 
 const FavoritesContext = createContext();
 
+// Nur Events aus dem Backend haben numerische IDs; Archiv-Karten nutzen Titel + Datum
+const isBackendEvent = (id) => typeof id === "number";
+
 export const FavoritesProvider = ({ children }) => {
   const [favorites, setFavorites] = useState([]);
+  const [favoriteCounts, setFavoriteCounts] = useState({});
+
+  const setCount = (id, count) =>
+    setFavoriteCounts((prev) => ({ ...prev, [id]: count }));
 
   // Load favorites on mount: prefer backend if user is authenticated, otherwise load from localStorage
   useEffect(() => {
     const load = async () => {
       const user = getCurrentUser();
       if (user && user.id) {
-        const remote = await fetchFavoritesFromApi(user.id);
-        // If backend returns ids only, try to preserve existing event objects in local state
+        const remote = await fetchFavoritesFromApi();
         setFavorites(remote || []);
         try {
           localStorage.setItem("favorites", JSON.stringify(remote || []));
@@ -51,10 +58,12 @@ export const FavoritesProvider = ({ children }) => {
 
     // Persist to backend if logged in
     const user = getCurrentUser();
-    if (user && user.id) {
-      addFavoriteApi(user.id, event).catch((err) => {
-        console.error("Failed to persist favorite to API:", err);
-      });
+    if (user && user.id && isBackendEvent(event.id)) {
+      addFavoriteApi(event)
+        .then((res) => res && setCount(event.id, res.favoritesCount))
+        .catch((err) => {
+          console.error("Failed to persist favorite to API:", err);
+        });
     }
   };
 
@@ -69,10 +78,12 @@ export const FavoritesProvider = ({ children }) => {
     });
 
     const user = getCurrentUser();
-    if (user && user.id) {
-      removeFavoriteApi(user.id, id).catch((err) => {
-        console.error("Failed to remove favorite from API:", err);
-      });
+    if (user && user.id && isBackendEvent(id)) {
+      removeFavoriteApi(id)
+        .then((res) => res && setCount(id, res.favoritesCount))
+        .catch((err) => {
+          console.error("Failed to remove favorite from API:", err);
+        });
     }
   };
 
@@ -85,6 +96,24 @@ export const FavoritesProvider = ({ children }) => {
     else addFavorite(event);
   };
 
+  // Zähler (und Status) für viele angezeigte Events mit einer Anfrage pro 200 IDs laden
+  const loadFavoriteStatus = useCallback(async (ids) => {
+    const user = getCurrentUser();
+    const backendIds = ids.filter(isBackendEvent);
+    if (!user || !user.id || backendIds.length === 0) return;
+
+    const statuses = await fetchFavoriteStatusFromApi(backendIds);
+    setFavoriteCounts((prev) => {
+      const next = { ...prev };
+      statuses.forEach((s) => {
+        next[s.eventId] = s.favoritesCount;
+      });
+      return next;
+    });
+  }, []);
+
+  const getFavoriteCount = (id) => favoriteCounts[id];
+
   return (
     <FavoritesContext.Provider
       value={{
@@ -93,6 +122,8 @@ export const FavoritesProvider = ({ children }) => {
         removeFavorite,
         isFavorite,
         toggleFavorite,
+        loadFavoriteStatus,
+        getFavoriteCount,
       }}
     >
       {children}
@@ -60,6 +60,22 @@ export const getAllEvents = async () => {
     }
 };
 
+// Vorschläge für Titel und Kategorien (Autovervollständigung im Formular)
+export const getSuggestions = async (prefix, limit = 5) => {
+    try {
+        const params = new URLSearchParams({ prefix, limit });
+        const path = `${API_EVENTS_BASE}/suggest?${params.toString()}`;
+        const response = await apiClient.get(path);
+        return response.data;
+    } catch (error) {
+        if (process.env.NODE_ENV !== 'production') {
+            console.error("Fehler beim Laden der Vorschläge:", error);
+            console.error("Error Details:", error.message);
+        }
+        return [];
+    }
+};
+
 export const createEvent = async (eventData) => {
     try {
         const path = `${API_EVENTS_BASE}/create`;
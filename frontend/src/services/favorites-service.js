@@ -1,11 +1,11 @@
 import apiClient from "./api-client";
 
-const API_BASE = "/users";
+// Maximale Anzahl IDs pro Statusabfrage (siehe EventFavoriteService.MAX_STATUS_IDS)
+const STATUS_BATCH_SIZE = 200;
 
-export const getFavorites = async (userId) => {
+export const getFavorites = async () => {
   try {
-    const path = `${API_BASE}/${userId}/favorites`;
-    const response = await apiClient.get(path);
+    const response = await apiClient.get("/users/me/favorites");
     return response.data || [];
   } catch (error) {
     if (process.env.NODE_ENV !== "production")
@@ -14,13 +14,19 @@ export const getFavorites = async (userId) => {
   }
 };
 
-export const addFavorite = async (userId, event) => {
+// PUT setzt, DELETE entfernt den Favoriten; beide sind idempotent,
+// Doppelklicks und Retries ändern den Status nicht mehr
+const setFavorite = async (eventId, favorite) => {
+  const path = `/events/${eventId}/favorite`;
+  const response = favorite
+    ? await apiClient.put(path)
+    : await apiClient.delete(path);
+  return response.data;
+};
+
+export const addFavorite = async (event) => {
   try {
-    const path = `${API_BASE}/${userId}/favorites`;
-    // Send minimal payload; backend may accept eventId or full event
-    const payload = { eventId: event.id };
-    const response = await apiClient.post(path, payload);
-    return response.data;
+    return await setFavorite(event.id, true);
   } catch (error) {
     if (process.env.NODE_ENV !== "production")
       console.error(
@@ -31,11 +37,9 @@ export const addFavorite = async (userId, event) => {
   }
 };
 
-export const removeFavorite = async (userId, eventId) => {
+export const removeFavorite = async (eventId) => {
   try {
-    const path = `${API_BASE}/${userId}/favorites/${eventId}`;
-    const response = await apiClient.delete(path);
-    return response.data;
+    return await setFavorite(eventId, false);
   } catch (error) {
     if (process.env.NODE_ENV !== "production")
       console.error(
@@ -45,3 +49,25 @@ export const removeFavorite = async (userId, eventId) => {
     throw error;
   }
 };
+
+// Status und Zähler vieler Events, in Blöcken zu STATUS_BATCH_SIZE IDs
+export const getFavoriteStatus = async (ids) => {
+  const unique = [...new Set(ids.filter((id) => id != null))];
+  const results = [];
+  try {
+    for (let i = 0; i < unique.length; i += STATUS_BATCH_SIZE) {
+      const batch = unique.slice(i, i + STATUS_BATCH_SIZE);
+      const response = await apiClient.get("/events/favorites/status", {
+        params: { ids: batch.join(",") },
+      });
+      results.push(...(response.data || []));
+    }
+  } catch (error) {
+    if (process.env.NODE_ENV !== "production")
+      console.error(
+        "Fehler beim Laden des Favoritenstatus:",
+        error.message || error
+      );
+  }
+  return results;
+};
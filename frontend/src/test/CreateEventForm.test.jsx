@@ -2,9 +2,15 @@ import { describe, it, expect, vi } from 'vitest';
 import { render, screen } from '@testing-library/react';
 import userEvent from '@testing-library/user-event';
 import CustomEventForm from '../components/create-event-form.jsx';
+import { getSuggestions } from '../services/events-service';
+
+vi.mock('../services/events-service', () => ({
+  getSuggestions: vi.fn(),
+}));
 
 describe('CustomEventForm', () => {
   it('validates required fields and calls onEventSubmit with event data', async () => {
+    getSuggestions.mockResolvedValue([]);
     const user = userEvent.setup();
     const onEventSubmit = vi.fn();
     render(<CustomEventForm onEventSubmit={onEventSubmit} />);
@@ -37,4 +43,24 @@ describe('CustomEventForm', () => {
       status: 'open',
     });
   });
+
+  it('shows suggestions while typing and applies title and category', async () => {
+    getSuggestions.mockResolvedValue([
+      { text: 'Waldbrand Kalifornien', type: 'title', category: 'wildfires', weight: 7 },
+      { text: 'volcanoes', type: 'category', category: 'volcanoes', weight: 3 },
+    ]);
+    const user = userEvent.setup();
+    render(<CustomEventForm onEventSubmit={vi.fn()} />);
+
+    await user.type(screen.getByLabelText(/Title/i), 'Wa');
+    await user.click(await screen.findByText('volcanoes'));
+    expect(screen.getByLabelText(/Category/i)).toHaveValue('volcanoes');
+
+    await user.type(screen.getByLabelText(/Title/i), 'l');
+    await user.click(await screen.findByText('Waldbrand Kalifornien'));
+    expect(screen.getByLabelText(/Title/i)).toHaveValue('Waldbrand Kalifornien');
+    expect(screen.getByLabelText(/Category/i)).toHaveValue('wildfires');
+    expect(screen.queryByRole('listbox')).not.toBeInTheDocument();
+    expect(getSuggestions).toHaveBeenCalledWith('Wal');
+  });
 });